@@ -0,0 +1,150 @@
+package ru.mudan.benchmarks;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import ru.mudan.dto.auth.AccessSet;
+import ru.mudan.dto.auth.StudentAccessDTO;
+import ru.mudan.dto.auth.UserPrincipal;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.repositories.ClassRepository;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.HomeworkRepository;
+import ru.mudan.domain.repositories.StudentRepository;
+import ru.mudan.domain.repositories.SubjectsRepository;
+import ru.mudan.services.auth.AccessSetCache;
+import ru.mudan.services.auth.AuthService;
+import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.util.enums.Role;
+
+/**
+ * Бенчмарк проверок доступа AuthService, которые выполняются перед каждым запросом
+ * к оценкам, предметам и расписанию. AuthService, MyUserDetailsService и AccessSetCache создаются
+ * в BenchmarkContext, данные пользователей заранее лежат в кэше, права загружаются из заглушек
+ * при первом вызове и дальше берутся из кэша, поэтому замер показывает стоимость проверки
+ * по закэшированным UserPrincipal и AccessSet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthServiceBenchmark {
+
+    private static final int STUDENT_COUNT = 30;
+
+    @Param({"5", "50"})
+    private int subjectCount;
+
+    private AuthService authService;
+    private Authentication admin;
+    private Authentication teacher;
+    private Authentication student;
+    private Authentication parent;
+    private Long classId;
+    private Long subjectId;
+    private Long gradeId;
+    private Long homeworkId;
+    private Long studentId;
+
+    @Setup
+    public void setUp() {
+        var school = new SchoolFixtures(subjectCount, STUDENT_COUNT, subjectCount);
+        var lastSubject = school.subjects.getLast();
+        var grade = school.grades.getLast();
+        var homework = school.homework;
+
+        Cache<String, UserPrincipal> userDetailsCache = Caffeine.newBuilder().build();
+        userDetailsCache.putAll(Map.of(
+                school.teacher.getEmail(), principal(school.teacher.getEmail(), Role.ROLE_TEACHER),
+                school.student.getEmail(), principal(school.student.getEmail(), Role.ROLE_STUDENT),
+                school.parent.getEmail(), principal(school.parent.getEmail(), Role.ROLE_PARENT)));
+        var studentAccess = school.subjects.stream()
+                .map(subject -> new StudentAccessDTO(school.student.getId(), school.classEntity.getId(),
+                        subject.getId()))
+                .toList();
+        var subjectIds = school.subjects.stream().map(Subject::getId).toList();
+        authService = new BenchmarkContext()
+                .stub(GradeRepository.class, Map.of("findSubjectIdById", Optional.of(lastSubject.getId())))
+                .stub(SubjectsRepository.class, Map.of("findIdsByTeacherId", subjectIds))
+                .stub(HomeworkRepository.class, Map.of("findSubjectIdById", Optional.of(lastSubject.getId())))
+                .stub(ClassRepository.class, Map.of())
+                .stub(StudentRepository.class, Map.of(
+                        "findAccessByStudentId", studentAccess,
+                        "findAccessByParentId", studentAccess))
+                .bean(ResolvableType.forClassWithGenerics(Cache.class, String.class, UserPrincipal.class),
+                        userDetailsCache)
+                .bean(ResolvableType.forClassWithGenerics(Cache.class, String.class, AccessSet.class),
+                        Caffeine.newBuilder().<String, AccessSet>build())
+                .bean(MyUserDetailsService.class)
+                .bean(AccessSetCache.class)
+                .build(AuthService.class);
+
+        admin = authentication("admin@mail.ru", "ROLE_ADMIN");
+        teacher = authentication(school.teacher.getEmail(), "ROLE_TEACHER");
+        student = authentication(school.student.getEmail(), "ROLE_STUDENT");
+        parent = authentication(school.parent.getEmail(), "ROLE_PARENT");
+        classId = school.classEntity.getId();
+        subjectId = lastSubject.getId();
+        gradeId = grade.getId();
+        homeworkId = homework.getId();
+        studentId = school.student.getId();
+    }
+
+    @Benchmark
+    public void adminHasSubject() {
+        authService.teacherHasSubjectOrRoleIsAdmin(subjectId, admin);
+    }
+
+    @Benchmark
+    public void teacherHasSubject() {
+        authService.teacherHasSubjectOrRoleIsAdmin(subjectId, teacher);
+    }
+
+    @Benchmark
+    public void teacherHasGrade() {
+        authService.teacherHasGradeOrRoleIsAdmin(gradeId, teacher);
+    }
+
+    @Benchmark
+    public void teacherHasHomework() {
+        authService.teacherHasHomeworkOrRoleIsAdmin(homeworkId, teacher);
+    }
+
+    @Benchmark
+    public void studentFromClass() {
+        authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(classId, student);
+    }
+
+    @Benchmark
+    public void parentHasStudentInClass() {
+        authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(classId, parent);
+    }
+
+    @Benchmark
+    public void studentInClassWithSubject() {
+        authService.hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(studentId, subjectId, student);
+    }
+
+    @Benchmark
+    public void parentHasStudentInClassWithSubject() {
+        authService.hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(studentId, subjectId, parent);
+    }
+
+    private static UserPrincipal principal(String email, Role role) {
+        return new UserPrincipal(email, "hash", role, 1L);
+    }
+
+    private static Authentication authentication(String email, String role) {
+        return new UsernamePasswordAuthenticationToken(email, null, List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -0,0 +1,103 @@
+package ru.mudan.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Небольшой Spring-контекст для бенчмарков сервисов: сервис создаёт сам Spring по его конструктору,
+ * репозитории заменяются заглушками Stubs, значения @Value берутся из заданных свойств.
+ * Вместо зависимостей, для которых бин не зарегистрирован, внедряются ленивые прокси: такие зависимости
+ * не участвуют в замеряемом пути и при первом обращении выбрасывают NoSuchBeanDefinitionException,
+ * поэтому новая зависимость сервиса не требует правки бенчмарков
+ */
+final class BenchmarkContext {
+
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private final Map<String, Object> properties = new HashMap<>();
+
+    BenchmarkContext() {
+        AnnotationConfigUtils.registerAnnotationConfigProcessors(context);
+        context.getDefaultListableBeanFactory().setAutowireCandidateResolver(
+                new ContextAnnotationAutowireCandidateResolver() {
+                    @Override
+                    protected boolean isLazy(DependencyDescriptor descriptor) {
+                        return getSuggestedValue(descriptor) == null
+                                && context.getBeanNamesForType(descriptor.getDependencyType()).length == 0;
+                    }
+                });
+    }
+
+    /**
+     * Метод для регистрации заглушки репозитория
+     *
+     * @param type    - интерфейс репозитория
+     * @param results - значения или их Supplier, возвращаемые методами, по имени метода
+     */
+    <T> BenchmarkContext stub(Class<T> type, Map<String, Object> results) {
+        return bean(type, Stubs.of(type, results));
+    }
+
+    /**
+     * Метод для регистрации готового объекта
+     *
+     * @param type     - тип, под которым объект внедряется
+     * @param instance - объект
+     */
+    <T> BenchmarkContext bean(Class<T> type, T instance) {
+        context.registerBean(type.getName(), type, () -> instance);
+        return this;
+    }
+
+    /**
+     * Метод для регистрации готового объекта параметризованного типа, например кэша Caffeine
+     *
+     * @param type     - параметризованный тип, под которым объект внедряется
+     * @param instance - объект
+     */
+    @SuppressWarnings("unchecked")
+    <T> BenchmarkContext bean(ResolvableType type, T instance) {
+        context.registerBean(type.toString(), (Class<T>) type.toClass(), () -> instance,
+                definition -> ((RootBeanDefinition) definition).setTargetType(type));
+        return this;
+    }
+
+    /**
+     * Метод для регистрации класса приложения, который Spring создаст по его конструктору
+     *
+     * @param type - класс
+     */
+    BenchmarkContext bean(Class<?> type) {
+        context.registerBean(type);
+        return this;
+    }
+
+    /**
+     * Метод для задания свойства, которое внедряется через @Value
+     *
+     * @param name  - имя свойства
+     * @param value - значение
+     */
+    BenchmarkContext property(String name, Object value) {
+        properties.put(name, value);
+        return this;
+    }
+
+    /**
+     * Метод для запуска контекста и получения из него сервиса, который замеряет бенчмарк
+     *
+     * @param type - класс сервиса
+     */
+    <T> T build(Class<T> type) {
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        context.registerBean(type);
+        context.refresh();
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,90 @@
+package ru.mudan.benchmarks;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+import ru.mudan.controller.ExceptionHandlerController;
+import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
+
+/**
+ * Бенчмарк обработки ошибок в ExceptionHandlerController: получение текста ошибки приложения
+ * по ключу из messages.properties и сбор текстов ошибок валидации формы.
+ * Источник сообщений настроен так же, как в Spring Boot по умолчанию
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private static final String OBJECT_NAME = "subjectCreateDTO";
+    private static final Locale LOCALE = Locale.forLanguageTag("ru");
+
+    private ExceptionHandlerController exceptionHandlerController;
+    private SubjectNotFoundException notFoundException;
+    private BindException bindException;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        var messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+
+        exceptionHandlerController = new ExceptionHandlerController(messageSource);
+        ReflectionTestUtils.setField(exceptionHandlerController, "nameOfAttributeForErrors", "errors");
+
+        notFoundException = new SubjectNotFoundException(1L);
+
+        var bindingResult = new MapBindingResult(new HashMap<>(), OBJECT_NAME);
+        bindingResult.addError(fieldError("name", "", "NotBlank",
+                "Название предмета не должно быть пустым или состоять из пробела"));
+        bindingResult.addError(fieldError("type", "", "NotBlank",
+                "Тип предмета не должно быть пустым или состоять из пробела"));
+        bindingResult.addError(fieldError("weeklyHours", 11, "Range",
+                "Количество уроков в неделю должно быть в диапазоне от 0 до 10"));
+        bindException = new BindException(bindingResult);
+
+        request = new MockHttpServletRequest("POST", "/subjects");
+        request.addHeader("Referer", "/subjects/add");
+    }
+
+    @Benchmark
+    public String applicationException() {
+        return exceptionHandlerController.appRuntimeException(notFoundException,
+                new RedirectAttributesModelMap(), new ExtendedModelMap(), LOCALE);
+    }
+
+    @Benchmark
+    public String bindException() {
+        return exceptionHandlerController.handleBindException(bindException,
+                new RedirectAttributesModelMap(), new ExtendedModelMap(), LOCALE, request);
+    }
+
+    /**
+     * Ошибка поля с кодами, которые генерирует валидация Spring, и уже подставленным
+     * текстом по умолчанию, как после проверки аннотаций DTO
+     */
+    private static FieldError fieldError(String field, Object value, String constraint, String defaultMessage) {
+        return new FieldError(OBJECT_NAME, field, value, false,
+                new String[]{
+                        constraint + "." + OBJECT_NAME + "." + field,
+                        constraint + "." + field,
+                        constraint
+                },
+                null,
+                defaultMessage);
+    }
+}
@@ -0,0 +1,103 @@
+package ru.mudan.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.dto.grades.GradeDTO;
+import ru.mudan.dto.homework.HomeworkDTO;
+import ru.mudan.dto.parent.ParentDTO;
+import ru.mudan.dto.schedule.ScheduleDTO;
+import ru.mudan.dto.schedule.WeekTimetable;
+import ru.mudan.dto.student.StudentDTO;
+import ru.mudan.dto.subjects.SubjectDTO;
+import ru.mudan.dto.teacher.TeacherDTO;
+import ru.mudan.facade.classes.ClassFacade;
+import ru.mudan.facade.grades.GradeFacade;
+import ru.mudan.facade.homework.HomeworkFacade;
+import ru.mudan.facade.parent.ParentFacade;
+import ru.mudan.facade.schedule.ScheduleFacade;
+import ru.mudan.facade.student.StudentFacade;
+import ru.mudan.facade.subjects.SubjectFacade;
+import ru.mudan.facade.teacher.TeacherFacade;
+
+/**
+ * Бенчмарк конвертации сущностей в DTO всеми реализациями BaseFacade,
+ * а также построения недельного расписания класса из отсортированных ячеек
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FacadeBenchmark {
+
+    private final GradeFacade gradeFacade = new GradeFacade();
+    private final ClassFacade classFacade = new ClassFacade();
+    private final SubjectFacade subjectFacade = new SubjectFacade();
+    private final StudentFacade studentFacade = new StudentFacade();
+    private final TeacherFacade teacherFacade = new TeacherFacade();
+    private final ParentFacade parentFacade = new ParentFacade();
+    private final HomeworkFacade homeworkFacade = new HomeworkFacade();
+    private final ScheduleFacade scheduleFacade = new ScheduleFacade();
+
+    private SchoolFixtures school;
+
+    @Setup
+    public void setUp() {
+        school = new SchoolFixtures(15, 30, 100);
+    }
+
+    @Benchmark
+    public GradeDTO grade() {
+        return gradeFacade.convertEntityToDTO(school.grades.getFirst());
+    }
+
+    @Benchmark
+    public List<GradeDTO> gradesOfStudent() {
+        return school.grades.stream()
+                .map(gradeFacade::convertEntityToDTO)
+                .toList();
+    }
+
+    @Benchmark
+    public ClassDTO classEntity() {
+        return classFacade.convertEntityToDTO(school.classEntity);
+    }
+
+    @Benchmark
+    public SubjectDTO subject() {
+        return subjectFacade.convertEntityToDTO(school.subjects.getFirst());
+    }
+
+    @Benchmark
+    public StudentDTO student() {
+        return studentFacade.convertEntityToDTO(school.student);
+    }
+
+    @Benchmark
+    public TeacherDTO teacher() {
+        return teacherFacade.convertEntityToDTO(school.teacher);
+    }
+
+    @Benchmark
+    public ParentDTO parent() {
+        return parentFacade.convertEntityToDTO(school.parent);
+    }
+
+    @Benchmark
+    public HomeworkDTO homework() {
+        return homeworkFacade.convertEntityToDTO(school.homework);
+    }
+
+    @Benchmark
+    public ScheduleDTO schedule() {
+        return scheduleFacade.convertEntityToDTO(school.schedules.getFirst());
+    }
+
+    @Benchmark
+    public WeekTimetable weekTimetable() {
+        return scheduleFacade.convertEntitiesToWeekTimetable(school.schedules);
+    }
+}
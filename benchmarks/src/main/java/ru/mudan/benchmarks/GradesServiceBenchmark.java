@@ -0,0 +1,92 @@
+package ru.mudan.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.StudentRepository;
+import ru.mudan.domain.repositories.SubjectsRepository;
+import ru.mudan.dto.grades.GradeCursor;
+import ru.mudan.dto.grades.GradeDTO;
+import ru.mudan.dto.grades.GradePageDTO;
+import ru.mudan.facade.grades.GradeFacade;
+import ru.mudan.services.grades.GradesService;
+
+/**
+ * Бенчмарк путей GradesService, собирающих оценки ученика: весь дневник,
+ * оценки по предмету и страницы дневника по курсору. Сервис создаётся в BenchmarkContext,
+ * репозитории заменены заглушками, возвращающими заранее загруженные данные, поэтому замер включает
+ * только работу сервиса и конвертацию в DTO, без БД и без транзакционного прокси
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradesServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Param({"20", "200", "2000"})
+    private int gradeCount;
+
+    private GradesService gradesService;
+    private Long studentId;
+    private Long subjectId;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        var school = new SchoolFixtures(10, 30, gradeCount);
+        var student = school.student;
+        var subject = school.subjects.getFirst();
+        var gradeFacade = new GradeFacade();
+        List<GradeDTO> page = school.grades.stream()
+                .limit(PAGE_SIZE + 1)
+                .map(gradeFacade::convertEntityToDTO)
+                .toList();
+        gradesService = new BenchmarkContext()
+                .stub(GradeRepository.class, Map.of(
+                        "findAllByStudentAndSubjectBetween", school.grades.stream()
+                                .filter(grade -> grade.getSubject().equals(subject))
+                                .toList(),
+                        "findFirstPageForStudent", page,
+                        "findPageForStudentAfter", page))
+                .stub(StudentRepository.class, Map.of(
+                        "findById", Optional.of(student),
+                        "existsById", true))
+                .stub(SubjectsRepository.class, Map.of("findById", Optional.of(subject)))
+                .bean(GradeFacade.class, gradeFacade)
+                .property("grades.page.default-size", PAGE_SIZE)
+                .property("grades.page.max-size", MAX_PAGE_SIZE)
+                .build(GradesService.class);
+
+        studentId = student.getId();
+        subjectId = subject.getId();
+        cursor = new GradeCursor(page.getFirst().dateOfMark(), page.getFirst().id()).encode();
+    }
+
+    @Benchmark
+    public List<GradeDTO> allGradesForStudent() {
+        return gradesService.findAllGradesForStudent(studentId);
+    }
+
+    @Benchmark
+    public List<GradeDTO> gradesForStudentWithSubject() {
+        return gradesService.findAllGradesForStudentWithSubject(studentId, subjectId);
+    }
+
+    @Benchmark
+    public GradePageDTO firstGradesPage() {
+        return gradesService.findGradesPageForStudent(studentId, null, null, null, null);
+    }
+
+    @Benchmark
+    public GradePageDTO gradesPageAfterCursor() {
+        return gradesService.findGradesPageForStudent(studentId, cursor, PAGE_SIZE, null, null);
+    }
+}
@@ -0,0 +1,126 @@
+package ru.mudan.benchmarks;
+
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+import ru.mudan.domain.entity.Grade;
+import ru.mudan.domain.repositories.ClassRepository;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.StudentRepository;
+import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.dto.reports.ReportCardBatchDTO;
+import ru.mudan.services.reports.ReportCardRenderer;
+import ru.mudan.services.reports.ReportCardService;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Бенчмарк выгрузки табелей класса в zip-архив. Заглушка репозитория отдаёт оценки
+ * ленивым потоком, создавая сущности по мере чтения, как курсор БД, архив пишется в пустой поток.
+ * Форк запускается с маленькой кучей, после прогона печатается максимум кучи, оставшейся
+ * после сборок мусора во время записи: для класса из 40 и из 200 учеников он должен быть одинаковым
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+public class ReportCardBenchmark {
+
+    private static final int SUBJECT_COUNT = 10;
+    private static final int GRADES_PER_STUDENT = 80;
+    private static final int THREADS = 4;
+    private static final int WINDOW = 8;
+    private static final int BYTES_PER_MB = 1024 * 1024;
+    private static final int LOWEST_MARK = 2;
+    private static final int MARKS = 4;
+
+    @Param({"40", "200"})
+    private int classSize;
+
+    private ReportCardService reportCardService;
+    private ReportCardBatchDTO batch;
+    private ExecutorService executor;
+    private volatile long peakLiveHeap;
+
+    @Setup
+    public void setUp() {
+        var school = new SchoolFixtures(SUBJECT_COUNT, classSize, 0);
+        var term = SchoolTerm.of(LocalDate.of(2024, 10, 1));
+        Supplier<Stream<Grade>> grades = () -> school.students.stream()
+                .flatMap(student -> IntStream.range(0, GRADES_PER_STUDENT).mapToObj(i -> {
+                    var grade = new Grade(i % MARKS + LOWEST_MARK, term.start().plusDays(i / 2), null);
+                    grade.setStudent(student);
+                    grade.setSubject(school.subjects.get(i % SUBJECT_COUNT));
+                    return grade;
+                }));
+
+        executor = Executors.newFixedThreadPool(THREADS);
+        reportCardService = new BenchmarkContext()
+                .stub(GradeRepository.class, Map.of("streamAllForClass", grades))
+                .stub(ClassRepository.class, Map.of("findById", Optional.of(school.classEntity)))
+                .stub(StudentRepository.class, Map.of("findAllByClassEntity", school.students))
+                .stub(EntityManager.class, Map.of("detach", true))
+                .bean(ExecutorService.class, executor)
+                .bean(ReportCardRenderer.class)
+                .property("reports.report-cards.window", WINDOW)
+                .build(ReportCardService.class);
+
+        batch = ReportCardBatchDTO.builder()
+                .classDTO(ClassDTO.builder()
+                        .id(school.classEntity.getId())
+                        .number(school.classEntity.getNumber())
+                        .letter(school.classEntity.getLetter())
+                        .build())
+                .term(term)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        System.out.printf("%nPeak live heap for class of %d students: %d MB%n",
+                classSize, peakLiveHeap / BYTES_PER_MB);
+    }
+
+    @Benchmark
+    public int writeClassReportCards() throws IOException {
+        return reportCardService.writeReportCards(batch, new HeapSamplingOutputStream());
+    }
+
+    /**
+     * Поток, отбрасывающий архив и замеряющий кучу, оставшуюся после последней сборки мусора,
+     * после записи каждого табеля
+     */
+    private final class HeapSamplingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+
+        @Override
+        public void flush() {
+            var live = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null)
+                    .mapToLong(pool -> pool.getCollectionUsage().getUsed())
+                    .sum();
+            peakLiveHeap = Math.max(peakLiveHeap, live);
+        }
+    }
+}
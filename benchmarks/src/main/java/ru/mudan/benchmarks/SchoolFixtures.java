@@ -0,0 +1,98 @@
+package ru.mudan.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.entity.Grade;
+import ru.mudan.domain.entity.Homework;
+import ru.mudan.domain.entity.Schedule;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.entity.users.Parent;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.entity.users.Teacher;
+
+/**
+ * Сущности школы в памяти для бенчмарков: класс, его предметы и ученики,
+ * учитель, родитель и оценки ученика. Связи заполнены в обе стороны, как после загрузки из БД
+ */
+final class SchoolFixtures {
+
+    private static final LocalDate FIRST_DATE_OF_MARK = LocalDate.of(2024, 9, 2);
+    private static final LocalTime FIRST_LESSON_START = LocalTime.of(8, 30);
+    private static final int DAYS = 5;
+    private static final int LESSON_STEP_MINUTES = 55;
+
+    final ClassEntity classEntity;
+    final Teacher teacher;
+    final Parent parent;
+    final Student student;
+    final List<Subject> subjects;
+    final List<Student> students;
+    final List<Grade> grades;
+    final List<Schedule> schedules;
+    final Homework homework;
+
+    SchoolFixtures(int subjectCount, int studentCount, int gradeCount) {
+        classEntity = new ClassEntity("А", 6, "Класс с углублённым изучением математики");
+        classEntity.setId(1L);
+
+        teacher = new Teacher("Иван", "Петров", "Сергеевич", "teacher@mail.ru", "hash");
+        teacher.setId(1L);
+        parent = new Parent("Анна", "Иванова", "Петровна", "parent@mail.ru", "hash");
+        parent.setId(1L);
+
+        subjects = new ArrayList<>(subjectCount);
+        for (long i = 1; i <= subjectCount; i++) {
+            var subject = new Subject("Предмет " + i, "Базовый", "SUBJ-" + i, "Описание предмета " + i);
+            subject.setId(i);
+            subject.setWeeklyHours(2);
+            subject.setClassEntity(classEntity);
+            subject.setTeacher(teacher);
+            subjects.add(subject);
+        }
+        classEntity.setSubjects(subjects);
+        teacher.setSubjects(subjects);
+
+        students = new ArrayList<>(studentCount);
+        for (long i = 1; i <= studentCount; i++) {
+            var student = new Student("Ученик", "Фамилия" + i, "Отчество", "student" + i + "@mail.ru", "hash");
+            student.setId(i);
+            student.setClassEntity(classEntity);
+            student.setParent(parent);
+            students.add(student);
+        }
+        classEntity.setStudents(students);
+        parent.setStudents(List.of(students.getLast()));
+        student = students.getLast();
+
+        grades = new ArrayList<>(gradeCount);
+        for (long i = 1; i <= gradeCount; i++) {
+            var grade = new Grade((int) (i % 4) + 2, FIRST_DATE_OF_MARK.plusDays(i / 3), "Комментарий к оценке");
+            grade.setId(i);
+            grade.setStudent(student);
+            grade.setSubject(subjects.get((int) (i % subjectCount)));
+            grades.add(grade);
+        }
+        student.setGrades(grades);
+
+        schedules = new ArrayList<>();
+        for (int i = 0; i < subjectCount * 2; i++) {
+            var schedule = new Schedule(i % DAYS + 1,
+                    FIRST_LESSON_START.plusMinutes((long) (i / DAYS) * LESSON_STEP_MINUTES),
+                    i + 1);
+            schedule.setId((long) i + 1);
+            schedule.setClassEntity(classEntity);
+            schedule.setSubject(subjects.get(i % subjectCount));
+            schedules.add(schedule);
+        }
+        schedules.sort(Comparator.comparing(Schedule::getDayOfWeek).thenComparing(Schedule::getStartTime));
+
+        homework = new Homework("Параграф 12", "Решить задачи 1-10", FIRST_DATE_OF_MARK.plusDays(7));
+        homework.setId(1L);
+        homework.setClassEntity(classEntity);
+        homework.setSubject(subjects.getFirst());
+    }
+}
@@ -0,0 +1,41 @@
+package ru.mudan.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Заглушки репозиториев на динамических прокси: метод возвращает заранее заданное значение
+ * по имени без разбора аргументов. В отличие от Mockito заглушка не записывает вызовы,
+ * поэтому её стоимость - десятки наносекунд и она не искажает замер кода сервиса.
+ * Значение-Supplier вычисляется при каждом вызове, так заглушка может возвращать новый Stream
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Метод для создания заглушки интерфейса
+     *
+     * @param type    - интерфейс репозитория
+     * @param results - значения или их Supplier, возвращаемые методами, по имени метода
+     */
+    static <T> T of(Class<T> type, Map<String, Object> results) {
+        var stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            if (!results.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            var result = results.get(method.getName());
+            return result instanceof Supplier<?> supplier ? supplier.get() : result;
+        });
+        return type.cast(stub);
+    }
+}
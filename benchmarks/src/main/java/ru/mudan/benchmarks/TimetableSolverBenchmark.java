@@ -0,0 +1,66 @@
+package ru.mudan.benchmarks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import ru.mudan.services.schedule.generator.TimetableLesson;
+import ru.mudan.services.schedule.generator.TimetableProblem;
+import ru.mudan.services.schedule.generator.TimetableSolution;
+import ru.mudan.services.schedule.generator.TimetableSolver;
+
+/**
+ * Бенчмарк построения расписания синтетической школы из 60 классов:
+ * у каждого класса 10 предметов и 30 уроков в неделю, 5 дней по 7 уроков,
+ * учитель ведёт свой предмет в трёх классах, кабинетов столько же, сколько классов.
+ * Решатель останавливается, как только найдено расписание без нарушений,
+ * поэтому время замера - это время построения
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TimetableSolverBenchmark {
+
+    private static final int CLASS_COUNT = 60;
+    private static final int CLASSES_PER_TEACHER = 3;
+    private static final int[] SUBJECT_HOURS = {5, 4, 4, 3, 3, 3, 2, 2, 2, 2};
+    private static final Duration TIME_BUDGET = Duration.ofSeconds(60);
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private TimetableProblem problem;
+    private TimetableSolver timetableSolver;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        List<TimetableLesson> lessons = new ArrayList<>();
+
+        for (long classId = 0; classId < CLASS_COUNT; classId++) {
+            for (int subject = 0; subject < SUBJECT_HOURS.length; subject++) {
+                var subjectId = classId * SUBJECT_HOURS.length + subject;
+                var teacherId = (long) subject * CLASS_COUNT + classId / CLASSES_PER_TEACHER;
+                for (int hour = 0; hour < SUBJECT_HOURS[subject]; hour++) {
+                    lessons.add(new TimetableLesson(subjectId, classId, teacherId));
+                }
+            }
+        }
+
+        problem = new TimetableProblem(lessons, 5, 7, CLASS_COUNT);
+        timetableSolver = new TimetableSolver(parallelism);
+    }
+
+    @Benchmark
+    public TimetableSolution solve() {
+        var solution = timetableSolver.solve(problem, TIME_BUDGET, seed++);
+        if (!solution.isFeasible()) {
+            throw new IllegalStateException("Timetable is infeasible: " + solution.hardViolations());
+        }
+        return solution;
+    }
+}
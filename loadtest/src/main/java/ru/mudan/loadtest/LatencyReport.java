@@ -0,0 +1,166 @@
+package ru.mudan.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Сборщик времени ответов по шагам сценариев. Хранит все замеры, а не гистограмму:
+ * за прогон набирается порядка сотни тысяч запросов, перцентили по ним считаются точно
+ */
+final class LatencyReport {
+
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+    private static final double P50 = 0.50;
+    private static final double P95 = 0.95;
+    private static final double P99 = 0.99;
+    private static final String TOTAL = "total";
+
+    private final Map<String, Samples> steps = new ConcurrentHashMap<>();
+
+    /**
+     * Метод для записи одного запроса
+     *
+     * @param step       - название шага сценария
+     * @param nanos      - время ответа
+     * @param successful - ответ 200 без страницы ошибки
+     */
+    void record(String step, long nanos, boolean successful) {
+        steps.computeIfAbsent(step, ignored -> new Samples()).add(nanos, successful);
+    }
+
+    /**
+     * Метод для подсчёта итогов по всем шагам и по всем запросам вместе
+     *
+     * @param window       - длительность измеряемого интервала, без разгона
+     * @param virtualUsers - количество одновременных пользователей
+     */
+    Result summarize(Duration window, int virtualUsers) {
+        var total = new Samples();
+        var rows = steps.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    total.addAll(entry.getValue());
+                    return entry.getValue().summarize(entry.getKey(), window);
+                })
+                .toList();
+
+        var all = new ArrayList<>(rows);
+        all.add(total.summarize(TOTAL, window));
+        return new Result(virtualUsers, window.toSeconds(), all);
+    }
+
+    /**
+     * Итоги прогона
+     *
+     * @param virtualUsers  - количество одновременных пользователей
+     * @param windowSeconds - длительность измеряемого интервала в секундах
+     * @param steps         - итоги по шагам, последняя строка - по всем запросам
+     */
+    record Result(int virtualUsers, long windowSeconds, List<StepResult> steps) {
+
+        void print(PrintStream out) {
+            out.printf("%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "step", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+            steps.forEach(step -> out.printf("%-28s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    step.step(), step.count(), step.errors(), step.throughput(),
+                    step.p50Millis(), step.p95Millis(), step.p99Millis(), step.maxMillis()));
+        }
+
+        static Result read(Path path) throws IOException {
+            return new ObjectMapper().readValue(path.toFile(), Result.class);
+        }
+
+        void write(Path path) throws IOException {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            new ObjectMapper()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(path.toFile(), this);
+        }
+    }
+
+    /**
+     * Итоги одного шага сценария
+     *
+     * @param step       - название шага
+     * @param count      - количество запросов
+     * @param errors     - количество неуспешных запросов
+     * @param throughput - запросов в секунду
+     * @param p50Millis  - медиана времени ответа
+     * @param p95Millis  - 95-й перцентиль времени ответа
+     * @param p99Millis  - 99-й перцентиль времени ответа
+     * @param maxMillis  - максимальное время ответа
+     */
+    record StepResult(
+            String step,
+            int count,
+            int errors,
+            double throughput,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+    }
+
+    private static final class Samples {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] nanos = new long[INITIAL_CAPACITY];
+        private int count;
+        private int errors;
+
+        synchronized void add(long value, boolean successful) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!successful) {
+                errors++;
+            }
+        }
+
+        synchronized void addAll(Samples other) {
+            synchronized (other) {
+                for (int i = 0; i < other.count; i++) {
+                    add(other.nanos[i], true);
+                }
+                errors += other.errors;
+            }
+        }
+
+        synchronized StepResult summarize(String step, Duration window) {
+            var sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new StepResult(
+                    step,
+                    count,
+                    errors,
+                    count / Math.max(window.toMillis() / 1000.0, 1e-3),
+                    percentile(sorted, P50),
+                    percentile(sorted, P95),
+                    percentile(sorted, P99),
+                    count == 0 ? 0 : sorted[count - 1] / NANOS_IN_MILLI);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            var index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / NANOS_IN_MILLI;
+        }
+    }
+}
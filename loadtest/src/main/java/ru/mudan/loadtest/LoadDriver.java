@@ -0,0 +1,261 @@
+package ru.mudan.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Нагрузка на запущенное приложение: каждый виртуальный пользователь в своём виртуальном
+ * потоке входит под случайным пользователем из списка генератора, проходит сценарий своей роли
+ * и начинает заново с новой сессией. Запросы, начатые во время разгона, в отчёт не попадают
+ */
+final class LoadDriver {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final String ERROR_PAGE_TITLE = "<title>Ошибка";
+    private static final String SET_COOKIE = "Set-Cookie";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_FOUND = 302;
+
+    private final LoadOptions options;
+    private final Map<String, List<SeededUser>> usersByRole;
+    private final LatencyReport report = new LatencyReport();
+    private final HttpClient client;
+    private long measureFromNanos;
+    private long deadlineNanos;
+
+    LoadDriver(LoadOptions options, List<SeededUser> users) {
+        this.options = options;
+        this.usersByRole = users.stream().collect(Collectors.groupingBy(SeededUser::role));
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(options.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Параметры нагрузки
+     *
+     * @param baseUrl      - адрес приложения
+     * @param virtualUsers - количество одновременных пользователей
+     * @param rampUp       - время, за которое стартуют все пользователи
+     * @param duration     - время замера после разгона
+     * @param thinkTime    - средняя пауза между запросами пользователя
+     * @param studentShare - доля учеников в процентах
+     * @param parentShare  - доля родителей в процентах, остальные - учителя
+     * @param password     - пароль пользователей, заданный при генерации
+     * @param timeout      - таймаут одного запроса
+     */
+    record LoadOptions(
+            String baseUrl,
+            int virtualUsers,
+            Duration rampUp,
+            Duration duration,
+            Duration thinkTime,
+            int studentShare,
+            int parentShare,
+            String password,
+            Duration timeout
+    ) {
+    }
+
+    /**
+     * Метод для запуска нагрузки, возвращается после окончания замера
+     */
+    LatencyReport.Result run() throws InterruptedException {
+        var start = System.nanoTime();
+        measureFromNanos = start + options.rampUp().toNanos();
+        deadlineNanos = measureFromNanos + options.duration().toNanos();
+        var startStep = options.rampUp().toNanos() / Math.max(options.virtualUsers(), 1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.virtualUsers(); i++) {
+                var delay = Duration.ofNanos(startStep * i);
+                executor.submit(() -> {
+                    Thread.sleep(delay);
+                    while (System.nanoTime() < deadlineNanos) {
+                        runJourney(pickUser());
+                    }
+                    return null;
+                });
+            }
+        }
+        return report.summarize(options.duration(), options.virtualUsers());
+    }
+
+    private SeededUser pickUser() {
+        var random = ThreadLocalRandom.current();
+        var roll = random.nextInt(100);
+        String role;
+        if (roll < options.studentShare()) {
+            role = SeededUser.STUDENT;
+        } else if (roll < options.studentShare() + options.parentShare()) {
+            role = SeededUser.PARENT;
+        } else {
+            role = SeededUser.TEACHER;
+        }
+
+        var users = usersByRole.getOrDefault(role, usersByRole.get(SeededUser.STUDENT));
+        return users.get(random.nextInt(users.size()));
+    }
+
+    private void runJourney(SeededUser user) throws InterruptedException {
+        var session = new Session();
+        try {
+            if (!session.login(user)) {
+                return;
+            }
+            for (var page : pagesOf(user)) {
+                think();
+                if (System.nanoTime() >= deadlineNanos) {
+                    return;
+                }
+                session.get(page[0], page[1]);
+            }
+        } catch (IOException e) {
+            // ошибка соединения уже учтена в отчёте, пользователь начинает новую сессию
+        }
+        think();
+    }
+
+    /**
+     * Страницы сценария роли: пары (название шага, путь)
+     */
+    private static List<String[]> pagesOf(SeededUser user) {
+        List<String[]> pages = new ArrayList<>();
+        switch (user.role()) {
+            case SeededUser.TEACHER -> {
+                pages.add(new String[]{"teacher account", "/teacher/account"});
+                pages.add(new String[]{"teacher schedule", "/teacher/schedule"});
+                pages.add(new String[]{"teacher subject grades", "/teacher/grades/subject/" + user.subjectId()});
+            }
+            case SeededUser.PARENT -> {
+                pages.add(new String[]{"parent account", "/parent/account"});
+                addDiaryPages(pages, user);
+            }
+            default -> {
+                pages.add(new String[]{"student account", "/student/account"});
+                addDiaryPages(pages, user);
+            }
+        }
+        return pages;
+    }
+
+    private static void addDiaryPages(List<String[]> pages, SeededUser user) {
+        pages.add(new String[]{"grades", "/grades/all/" + user.studentId()});
+        pages.add(new String[]{"homeworks", "/homeworks/all/" + user.classId()});
+        pages.add(new String[]{"schedule", "/schedules/all/" + user.classId()});
+    }
+
+    private void think() throws InterruptedException {
+        var mean = options.thinkTime().toMillis();
+        if (mean > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(mean / 2, mean * 3 / 2 + 1));
+        }
+    }
+
+    /**
+     * Сессия одного входа: куки ведутся вручную, чтобы не создавать HttpClient на каждую сессию
+     */
+    private final class Session {
+
+        private final Map<String, String> cookies = new HashMap<>();
+
+        boolean login(SeededUser user) throws IOException, InterruptedException {
+            var loginPage = send("login page", HttpRequest.newBuilder(uri("/login")).GET(), LoadDriver::isPage);
+            var csrf = CSRF.matcher(loginPage.body());
+            if (!isPage(loginPage) || !csrf.find()) {
+                return false;
+            }
+
+            var form = "username=" + encode(user.email())
+                    + "&password=" + encode(options.password())
+                    + "&_csrf=" + encode(csrf.group(1));
+            var response = send("login", HttpRequest.newBuilder(uri("/login"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form)), LoadDriver::isLoggedIn);
+            return isLoggedIn(response);
+        }
+
+        void get(String step, String path) throws IOException, InterruptedException {
+            send(step, HttpRequest.newBuilder(uri(path)).GET(), LoadDriver::isPage);
+        }
+
+        private HttpResponse<String> send(String step, HttpRequest.Builder builder,
+                                          Predicate<HttpResponse<String>> successful)
+                throws IOException, InterruptedException {
+            var started = System.nanoTime();
+            try {
+                var response = client.send(request(builder), HttpResponse.BodyHandlers.ofString());
+                storeCookies(response);
+                record(step, started, successful.test(response));
+                return response;
+            } catch (IOException e) {
+                record(step, started, false);
+                throw e;
+            }
+        }
+
+        private HttpRequest request(HttpRequest.Builder builder) {
+            builder.timeout(options.timeout());
+            if (!cookies.isEmpty()) {
+                builder.header("Cookie", cookies.entrySet().stream()
+                        .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                        .collect(Collectors.joining("; ")));
+            }
+            return builder.build();
+        }
+
+        private void storeCookies(HttpResponse<?> response) {
+            response.headers().allValues(SET_COOKIE).forEach(header -> {
+                var pair = header.split(";", 2)[0];
+                var separator = pair.indexOf('=');
+                if (separator > 0) {
+                    cookies.put(pair.substring(0, separator), pair.substring(separator + 1));
+                }
+            });
+        }
+    }
+
+    /**
+     * Страница считается успешной, если это 200 и не страница ошибки:
+     * обработчик исключений приложения отдаёт страницы ошибок со статусом 200
+     */
+    private static boolean isPage(HttpResponse<String> response) {
+        return response.statusCode() == HTTP_OK && !response.body().contains(ERROR_PAGE_TITLE);
+    }
+
+    private static boolean isLoggedIn(HttpResponse<String> response) {
+        return response.statusCode() == HTTP_FOUND
+                && !response.headers().firstValue("Location").orElse("").contains("error");
+    }
+
+    private void record(String step, long startedNanos, boolean successful) {
+        if (startedNanos >= measureFromNanos && startedNanos < deadlineNanos) {
+            report.record(step, System.nanoTime() - startedNanos, successful);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(options.baseUrl() + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
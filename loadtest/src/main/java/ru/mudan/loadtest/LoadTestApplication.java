@@ -0,0 +1,112 @@
+package ru.mudan.loadtest;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Точка входа нагрузочного теста.
+ * <pre>
+ * seed - заполнить базу школой и записать список пользователей:
+ *     java -jar target/loadtest.jar seed --testcontainers
+ *     java -jar target/loadtest.jar seed --url=jdbc:postgresql://localhost:5432/postgres --clean
+ * run  - прогнать сценарии против запущенного приложения:
+ *     java -jar target/loadtest.jar run --base-url=http://localhost:8080 --users=200 --duration=2m
+ * compare - сравнить два прогона, например с потоками ОС и с виртуальными потоками:
+ *     java -jar target/loadtest.jar compare --baseline=results/platform.json --candidate=results/virtual.json
+ * </pre>
+ */
+public final class LoadTestApplication {
+
+    private static final String DEFAULT_PASSWORD = "loadtest";
+    private static final String DEFAULT_MANIFEST = "results/users.csv";
+    private static final long DEFAULT_SEED = 42;
+    private static final int STUDENT_SHARE = 70;
+    private static final int PARENT_SHARE = 20;
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: loadtest.jar seed|run|compare [--option=value ...]");
+            System.exit(1);
+        }
+
+        var options = new Options(args, 1);
+        switch (args[0]) {
+            case "seed" -> seed(options);
+            case "run" -> run(options);
+            case "compare" -> compare(options);
+            default -> throw new IllegalArgumentException("Unknown command " + args[0]);
+        }
+    }
+
+    private static void seed(Options options) throws Exception {
+        var seedOptions = new SchoolSeeder.SeedOptions(
+                options.getInt("classes", 60),
+                options.getInt("students-per-class", 25),
+                options.getInt("years", 5),
+                options.getInt("grades-per-week", 8),
+                options.get("user-password", DEFAULT_PASSWORD),
+                options.getInt("seed", (int) DEFAULT_SEED),
+                options.has("clean"));
+        var manifest = Path.of(options.get("manifest", DEFAULT_MANIFEST));
+
+        try (var database = TestDatabase.open(options);
+             var connection = database.connect()) {
+            var started = System.nanoTime();
+            var users = new SchoolSeeder(connection, seedOptions).seed();
+            UserManifest.write(manifest, users);
+            System.out.printf("Seeded in %d s, %d users written to %s%n",
+                    (System.nanoTime() - started) / 1_000_000_000L, users.size(), manifest);
+
+            if (database.isContainer()) {
+                System.out.println("Database is running, start the application with:");
+                System.out.println("  SPRING_DATASOURCE_URL=" + database.url());
+                System.out.println("  SPRING_DATASOURCE_USERNAME=" + database.user());
+                System.out.println("  SPRING_DATASOURCE_PASSWORD=" + database.password());
+                System.out.println("Press Ctrl+C to stop the container");
+                waitForShutdown();
+            }
+        }
+    }
+
+    private static void run(Options options) throws Exception {
+        var loadOptions = new LoadDriver.LoadOptions(
+                options.get("base-url", "http://localhost:8080"),
+                options.getInt("users", 100),
+                options.getDuration("ramp-up", "30s"),
+                options.getDuration("duration", "2m"),
+                options.getDuration("think-time", "500ms"),
+                options.getInt("students", STUDENT_SHARE),
+                options.getInt("parents", PARENT_SHARE),
+                options.get("user-password", DEFAULT_PASSWORD),
+                options.getDuration("timeout", "30s"));
+        var users = UserManifest.read(Path.of(options.get("manifest", DEFAULT_MANIFEST)));
+
+        System.out.printf("Running %d virtual users against %s: ramp-up %s, measuring %s%n",
+                loadOptions.virtualUsers(), loadOptions.baseUrl(), loadOptions.rampUp(), loadOptions.duration());
+        var result = new LoadDriver(loadOptions, users).run();
+        result.print(System.out);
+
+        var output = Path.of(options.get("output", "results/run-" + Instant.now().getEpochSecond() + ".json"));
+        result.write(output);
+        System.out.println("Results written to " + output);
+    }
+
+    private static void compare(Options options) throws Exception {
+        var baseline = Path.of(options.get("baseline", "results/platform.json"));
+        var candidate = Path.of(options.get("candidate", "results/virtual.json"));
+
+        System.out.printf("Comparing %s (baseline) with %s%n", baseline, candidate);
+        new RunComparison(LatencyReport.Result.read(baseline), LatencyReport.Result.read(candidate))
+                .print(System.out);
+    }
+
+    private static void waitForShutdown() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(latch::countDown));
+        latch.await();
+    }
+}
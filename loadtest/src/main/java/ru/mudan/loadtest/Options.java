@@ -0,0 +1,47 @@
+package ru.mudan.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Параметры командной строки вида --name=value, флаги без значения записываются как true.
+ * Длительности задаются так же, как в application.yml: 500ms, 30s, 2m
+ */
+final class Options {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    Options(String[] args, int from) {
+        for (int i = from; i < args.length; i++) {
+            var arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            var separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        var value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    Duration getDuration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(get(name, defaultValue));
+    }
+
+    boolean has(String name) {
+        return Boolean.parseBoolean(values.get(name));
+    }
+}
@@ -0,0 +1,60 @@
+package ru.mudan.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Сравнение двух прогонов по шагам сценариев: пропускная способность, p95 и p99 каждого прогона
+ * и изменение второго прогона относительно первого в процентах.
+ * Прогоны сравнимы, только если они сделаны с одинаковыми --users, --think-time и на одной базе
+ */
+final class RunComparison {
+
+    private static final double PERCENT = 100.0;
+
+    private final LatencyReport.Result baseline;
+    private final LatencyReport.Result candidate;
+
+    RunComparison(LatencyReport.Result baseline, LatencyReport.Result candidate) {
+        this.baseline = baseline;
+        this.candidate = candidate;
+    }
+
+    void print(PrintStream out) {
+        if (baseline.virtualUsers() != candidate.virtualUsers()) {
+            out.printf("Warning: runs have different number of virtual users: %d and %d%n",
+                    baseline.virtualUsers(), candidate.virtualUsers());
+        }
+
+        var candidateSteps = candidate.steps().stream()
+                .collect(Collectors.toMap(LatencyReport.StepResult::step, Function.identity()));
+        out.println("Each metric: baseline, candidate, change of candidate relative to baseline");
+        out.printf("%-28s %9s %9s %8s %9s %9s %8s %9s %9s %8s %7s %7s%n",
+                "step", "req/s", "req/s", "diff", "p95 ms", "p95 ms", "diff", "p99 ms", "p99 ms", "diff",
+                "errors", "errors");
+        baseline.steps().forEach(step -> printStep(out, step, candidateSteps));
+    }
+
+    private void printStep(PrintStream out,
+                           LatencyReport.StepResult step,
+                           Map<String, LatencyReport.StepResult> candidateSteps) {
+        var other = candidateSteps.get(step.step());
+        if (other == null) {
+            out.printf("%-28s missing in candidate run%n", step.step());
+            return;
+        }
+
+        out.printf("%-28s %9.1f %9.1f %7.1f%% %9.1f %9.1f %7.1f%% %9.1f %9.1f %7.1f%% %7d %7d%n",
+                step.step(),
+                step.throughput(), other.throughput(), change(step.throughput(), other.throughput()),
+                step.p95Millis(), other.p95Millis(), change(step.p95Millis(), other.p95Millis()),
+                step.p99Millis(), other.p99Millis(), change(step.p99Millis(), other.p99Millis()),
+                step.errors(), other.errors());
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * PERCENT;
+    }
+}
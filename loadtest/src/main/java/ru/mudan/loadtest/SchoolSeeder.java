@@ -0,0 +1,497 @@
+package ru.mudan.loadtest;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.postgresql.PGConnection;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import ru.mudan.services.schedule.generator.TimetableLesson;
+import ru.mudan.services.schedule.generator.TimetableProblem;
+import ru.mudan.services.schedule.generator.TimetableSolver;
+
+/**
+ * Генератор данных школы для нагрузочного тестирования: классы, учителя, предметы,
+ * ученики с родителями, расписание без пересечений и оценки с ДЗ за несколько учебных лет.
+ * Строки пишутся через COPY с явными id, после чего последовательности сдвигаются
+ * за максимальный id, поэтому приложение продолжает работать с базой как обычно
+ */
+final class SchoolSeeder {
+
+    private static final String[] LETTERS = {"А", "Б", "В", "Г", "Д", "Е"};
+    private static final String[] SUBJECT_NAMES = {
+            "Математика", "Русский язык", "Литература", "Английский язык", "Физика",
+            "История", "Биология", "География", "Информатика", "Физкультура"
+    };
+    private static final int[] SUBJECT_HOURS = {5, 4, 3, 3, 3, 2, 2, 2, 2, 4};
+    private static final String[] FIRST_NAMES = {"Александр", "Мария", "Иван", "Анна", "Дмитрий", "Елена",
+            "Сергей", "Ольга", "Андрей", "Татьяна", "Михаил", "Наталья"};
+    private static final String[] LAST_NAMES = {"Иванов", "Смирнов", "Кузнецов", "Попов", "Васильев",
+            "Петров", "Соколов", "Михайлов", "Новиков", "Фёдоров", "Морозов", "Волков"};
+    private static final String[] PATRONYMICS = {"Александрович", "Иванович", "Сергеевич", "Андреевич",
+            "Дмитриевич", "Михайлович"};
+    private static final String[] COMMENTS = {"", "", "", "Работа на уроке", "Контрольная работа",
+            "Самостоятельная работа", "Домашнее задание"};
+    private static final int[] MARK_PERCENTILES = {5, 25, 70, 100};
+    private static final int CLASSES_PER_TEACHER = 4;
+    private static final int LESSONS_PER_DAY = 7;
+    private static final int SCHOOL_DAYS = 5;
+    private static final int COPY_BATCH_ROWS = 50_000;
+    private static final int FIRST_MONTH_OF_YEAR = 9;
+    private static final int LAST_MONTH_OF_YEAR = 5;
+    private static final LocalTime FIRST_LESSON_START = LocalTime.of(8, 30);
+    private static final Duration LESSON_STEP = Duration.ofMinutes(55);
+    private static final Duration SOLVER_BUDGET = Duration.ofSeconds(30);
+    private static final String EMAIL_DOMAIN = "@school.test";
+
+    private final Connection connection;
+    private final SeedOptions options;
+    private final SplittableRandom random;
+    private final String hashedPassword;
+
+    SchoolSeeder(Connection connection, SeedOptions options) {
+        this.connection = connection;
+        this.options = options;
+        this.random = new SplittableRandom(options.randomSeed());
+        this.hashedPassword = new BCryptPasswordEncoder().encode(options.password());
+    }
+
+    /**
+     * Параметры генерации
+     *
+     * @param classCount       - количество классов
+     * @param studentsPerClass - количество учеников в классе
+     * @param years            - количество учебных лет с оценками и ДЗ
+     * @param gradesPerWeek    - количество оценок ученика в неделю
+     * @param password         - пароль всех созданных пользователей
+     * @param randomSeed       - зерно случайных чисел, одинаковое зерно даёт одинаковые данные
+     * @param clean            - удалить существующие данные школы перед генерацией
+     */
+    record SeedOptions(
+            int classCount,
+            int studentsPerClass,
+            int years,
+            int gradesPerWeek,
+            String password,
+            long randomSeed,
+            boolean clean
+    ) {
+    }
+
+    /**
+     * Метод для генерации данных в одной транзакции
+     */
+    List<SeededUser> seed() throws SQLException, IOException {
+        connection.setAutoCommit(false);
+        prepareDatabase();
+
+        var classCount = options.classCount();
+        var studentCount = classCount * options.studentsPerClass();
+        var parentCount = (studentCount + 1) / 2;
+        var teacherCount = SUBJECT_NAMES.length * ((classCount + CLASSES_PER_TEACHER - 1) / CLASSES_PER_TEACHER);
+
+        System.out.printf("Seeding %d classes, %d students, %d parents, %d teachers%n",
+                classCount, studentCount, parentCount, teacherCount);
+        seedClasses(classCount);
+        seedTeachers(teacherCount);
+        seedSubjects(classCount);
+        seedParents(parentCount);
+        seedStudents(studentCount, parentCount);
+        var users = seedAppUsers(studentCount, parentCount, teacherCount);
+        seedSchedules(classCount);
+        seedHomeworks(classCount);
+        createGradePartitions();
+        seedGrades(studentCount);
+        seedGradeStatistics();
+        seedGradeAggregates();
+        moveSequences();
+
+        connection.commit();
+        try (var statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("ANALYZE");
+        }
+        System.out.println("Seeding finished");
+        return users;
+    }
+
+    private void prepareDatabase() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            if (options.clean()) {
+                statement.execute("TRUNCATE grades, homeworks, schedules, subjects, students, parents, teachers, "
+                        + "classes RESTART IDENTITY CASCADE");
+                statement.execute("DELETE FROM app_users WHERE role_name <> 'ROLE_ADMIN'");
+                return;
+            }
+
+            try (var result = statement.executeQuery("SELECT count(*) FROM students")) {
+                result.next();
+                if (result.getLong(1) > 0) {
+                    throw new IllegalStateException("Database already contains students, run seed with --clean");
+                }
+            }
+        }
+    }
+
+    private void seedClasses(int classCount) throws SQLException, IOException {
+        var copy = new CopyBuffer("classes (id, letter, number, description)");
+        for (int i = 0; i < classCount; i++) {
+            copy.row(i + 1, letterOf(i), numberOf(i), "Класс " + numberOf(i) + letterOf(i));
+        }
+        copy.flush();
+    }
+
+    private void seedTeachers(int teacherCount) throws SQLException, IOException {
+        var copy = new CopyBuffer("teachers (id, firstname, lastname, patronymic, email, hashed_password)");
+        for (int i = 1; i <= teacherCount; i++) {
+            copy.row(i, pick(FIRST_NAMES), pick(LAST_NAMES), pick(PATRONYMICS), teacherEmail(i), hashedPassword);
+        }
+        copy.flush();
+    }
+
+    private void seedSubjects(int classCount) throws SQLException, IOException {
+        var copy = new CopyBuffer("subjects (id, name, type, code, description, class_id, teacher_id, weekly_hours)");
+        for (int c = 0; c < classCount; c++) {
+            for (int s = 0; s < SUBJECT_NAMES.length; s++) {
+                copy.row(subjectId(c, s),
+                        SUBJECT_NAMES[s],
+                        "Базовый",
+                        SUBJECT_NAMES[s].substring(0, 4).toUpperCase() + "-" + numberOf(c) + letterOf(c),
+                        SUBJECT_NAMES[s] + " для " + numberOf(c) + " класса",
+                        c + 1,
+                        teacherId(c, s),
+                        SUBJECT_HOURS[s]);
+            }
+        }
+        copy.flush();
+    }
+
+    private void seedParents(int parentCount) throws SQLException, IOException {
+        var copy = new CopyBuffer("parents (id, firstname, lastname, email, patronymic, hashed_password)");
+        for (int i = 1; i <= parentCount; i++) {
+            copy.row(i, pick(FIRST_NAMES), pick(LAST_NAMES), parentEmail(i), pick(PATRONYMICS), hashedPassword);
+        }
+        copy.flush();
+    }
+
+    /**
+     * Ученики i и i + studentCount / 2 - дети одного родителя, поэтому у родителя
+     * обычно двое детей в разных классах
+     */
+    private void seedStudents(int studentCount, int parentCount) throws SQLException, IOException {
+        var copy = new CopyBuffer(
+                "students (id, firstname, lastname, patronymic, email, hashed_password, class_id, parent_id)");
+        for (int i = 0; i < studentCount; i++) {
+            copy.row(i + 1, pick(FIRST_NAMES), pick(LAST_NAMES), pick(PATRONYMICS), studentEmail(i + 1),
+                    hashedPassword, classOfStudent(i), i % parentCount + 1);
+        }
+        copy.flush();
+    }
+
+    private List<SeededUser> seedAppUsers(int studentCount, int parentCount, int teacherCount)
+            throws SQLException, IOException {
+        List<SeededUser> users = new ArrayList<>(studentCount + parentCount + teacherCount);
+        var copy = new CopyBuffer("app_users (id, user_id, role_name, email)");
+        var id = maxId("app_users");
+
+        for (int i = 0; i < studentCount; i++) {
+            var classId = classOfStudent(i);
+            copy.row(++id, i + 1, "ROLE_STUDENT", studentEmail(i + 1));
+            users.add(new SeededUser(SeededUser.STUDENT, studentEmail(i + 1), i + 1, i + 1, classId,
+                    subjectId(classId - 1, random.nextInt(SUBJECT_NAMES.length))));
+        }
+        for (int i = 0; i < parentCount; i++) {
+            var classId = classOfStudent(i);
+            copy.row(++id, i + 1, "ROLE_PARENT", parentEmail(i + 1));
+            users.add(new SeededUser(SeededUser.PARENT, parentEmail(i + 1), i + 1, i + 1, classId,
+                    subjectId(classId - 1, random.nextInt(SUBJECT_NAMES.length))));
+        }
+        for (int i = 1; i <= teacherCount; i++) {
+            copy.row(++id, i, "ROLE_TEACHER", teacherEmail(i));
+            var subject = (i - 1) % SUBJECT_NAMES.length;
+            var firstClass = (i - 1) / SUBJECT_NAMES.length * CLASSES_PER_TEACHER;
+            users.add(new SeededUser(SeededUser.TEACHER, teacherEmail(i), i, 0, 0, subjectId(firstClass, subject)));
+        }
+        copy.flush();
+        return users;
+    }
+
+    /**
+     * Расписание строится решателем приложения, как при автоматическом построении в админке
+     */
+    private void seedSchedules(int classCount) throws SQLException, IOException {
+        List<TimetableLesson> lessons = new ArrayList<>();
+        for (int c = 0; c < classCount; c++) {
+            for (int s = 0; s < SUBJECT_NAMES.length; s++) {
+                for (int hour = 0; hour < SUBJECT_HOURS[s]; hour++) {
+                    lessons.add(new TimetableLesson(subjectId(c, s), (long) c + 1, teacherId(c, s)));
+                }
+            }
+        }
+
+        var solution = new TimetableSolver(0).solve(
+                new TimetableProblem(lessons, SCHOOL_DAYS, LESSONS_PER_DAY, classCount),
+                SOLVER_BUDGET,
+                options.randomSeed());
+        if (!solution.isFeasible()) {
+            throw new IllegalStateException("Timetable is infeasible: " + solution.hardViolations());
+        }
+
+        var copy = new CopyBuffer("schedules (id, day_of_week, start_time, number_of_classroom, class_id, subject_id)");
+        var id = 0;
+        for (var assignment : solution.assignments()) {
+            copy.row(++id,
+                    assignment.dayOfWeek(),
+                    FIRST_LESSON_START.plus(LESSON_STEP.multipliedBy(assignment.period())),
+                    assignment.classroomNumber(),
+                    assignment.lesson().classId(),
+                    assignment.lesson().subjectId());
+        }
+        copy.flush();
+    }
+
+    /**
+     * По каждому предмету задаётся одно ДЗ в неделю со сроком сдачи в пятницу
+     */
+    private void seedHomeworks(int classCount) throws SQLException, IOException {
+        var copy = new CopyBuffer("homeworks (id, title, description, deadline, class_id, subject_id)");
+        var weeks = schoolWeeks();
+        var id = 0;
+
+        for (int c = 0; c < classCount; c++) {
+            for (int s = 0; s < SUBJECT_NAMES.length; s++) {
+                for (int w = 0; w < weeks.size(); w++) {
+                    copy.row(++id,
+                            "Домашнее задание №" + (w + 1),
+                            SUBJECT_NAMES[s] + ": параграф " + (w % 40 + 1) + ", задания " + (w % 10 + 1)
+                                    + "-" + (w % 10 + 5),
+                            weeks.get(w).plusDays(SCHOOL_DAYS - 1),
+                            c + 1,
+                            subjectId(c, s));
+                }
+            }
+        }
+        copy.flush();
+    }
+
+    private void seedGrades(int studentCount) throws SQLException, IOException {
+        var copy = new CopyBuffer("grades (id, mark, date_of_mark, comment, student_id, subject_id)");
+        var weeks = schoolWeeks();
+        long id = 0;
+
+        for (int i = 0; i < studentCount; i++) {
+            var classIndex = classOfStudent(i) - 1;
+            for (var monday : weeks) {
+                for (int g = 0; g < options.gradesPerWeek(); g++) {
+                    copy.row(++id,
+                            randomMark(),
+                            monday.plusDays(random.nextInt(SCHOOL_DAYS)),
+                            pick(COMMENTS),
+                            i + 1,
+                            subjectId(classIndex, random.nextInt(SUBJECT_NAMES.length)));
+                }
+            }
+        }
+        copy.flush();
+        System.out.printf("Seeded %d grades%n", id);
+    }
+
+    /**
+     * Оценки загружаются в обход приложения, поэтому накопительные суммы аналитики
+     * пересчитываются тем же запросом, что и в миграции db.changelog-7.0.sql
+     */
+    private void seedGradeStatistics() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            var rows = statement.executeUpdate("""
+                    INSERT INTO grade_statistics (student_id, subject_id, term_start, grades_count, marks_sum,
+                                                  mark2_count, mark3_count, mark4_count, mark5_count,
+                                                  days_sum, days_sq_sum, days_marks_sum)
+                    SELECT student_id, subject_id, term_start, count(*), sum(mark),
+                           count(*) FILTER (WHERE mark = 2), count(*) FILTER (WHERE mark = 3),
+                           count(*) FILTER (WHERE mark = 4), count(*) FILTER (WHERE mark = 5),
+                           sum(day), sum(day * day), sum(day * mark)
+                    FROM (SELECT student_id, subject_id, mark, term_start, date_of_mark - term_start AS day
+                          FROM (SELECT student_id, subject_id, mark, date_of_mark,
+                                       CASE
+                                           WHEN extract(MONTH FROM date_of_mark) IN (9, 10)
+                                               THEN make_date(extract(YEAR FROM date_of_mark)::INTEGER, 9, 1)
+                                           WHEN extract(MONTH FROM date_of_mark) IN (11, 12)
+                                               THEN make_date(extract(YEAR FROM date_of_mark)::INTEGER, 11, 1)
+                                           WHEN extract(MONTH FROM date_of_mark) IN (1, 2, 3)
+                                               THEN make_date(extract(YEAR FROM date_of_mark)::INTEGER, 1, 1)
+                                           ELSE make_date(extract(YEAR FROM date_of_mark)::INTEGER, 4, 1)
+                                           END AS term_start
+                                FROM grades) dated) with_days
+                    GROUP BY student_id, subject_id, term_start
+                    """);
+            System.out.printf("Seeded %d grade statistics rows%n", rows);
+        }
+    }
+
+    /**
+     * Суммы оценок для отчётов пересчитываются тем же запросом, что и в миграции db.changelog-8.0.sql
+     */
+    private void seedGradeAggregates() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            var rows = statement.executeUpdate("""
+                    INSERT INTO grade_aggregates (class_id, month, subject_id, student_id, grades_count, marks_sum)
+                    SELECT s.class_id, date_trunc('month', g.date_of_mark)::DATE, g.subject_id, g.student_id,
+                           count(*), sum(g.mark)
+                    FROM grades g
+                             JOIN subjects s ON s.id = g.subject_id
+                    WHERE s.class_id IS NOT NULL
+                    GROUP BY s.class_id, date_trunc('month', g.date_of_mark)::DATE, g.subject_id, g.student_id
+                    """);
+            System.out.printf("Seeded %d grade aggregates rows%n", rows);
+        }
+    }
+
+    private void moveSequences() throws SQLException {
+        var tables = new String[]{"classes", "teachers", "subjects", "parents", "students", "app_users",
+                "schedules", "homeworks", "grades"};
+        try (var statement = connection.createStatement()) {
+            for (var table : tables) {
+                statement.execute("SELECT setval('" + table + "_id_seq', (SELECT coalesce(max(id), 1) FROM "
+                        + table + "))");
+            }
+        }
+    }
+
+    /**
+     * Понедельники всех учебных недель (сентябрь - май) за последние годы, не позже текущей недели
+     */
+    /**
+     * Миграция создаёт секции оценок только текущего и следующего учебного года,
+     * секции прошлых лет создаются до загрузки, чтобы оценки не попали в grades_default
+     */
+    private void createGradePartitions() throws SQLException {
+        var currentYearStart = currentYearStart();
+        try (var statement = connection.prepareStatement("SELECT create_grades_partition(?)")) {
+            for (int year = currentYearStart - options.years() + 1; year <= currentYearStart; year++) {
+                statement.setInt(1, year);
+                statement.execute();
+            }
+        }
+    }
+
+    private int currentYearStart() {
+        var today = LocalDate.now();
+        return today.getMonthValue() >= FIRST_MONTH_OF_YEAR ? today.getYear() : today.getYear() - 1;
+    }
+
+    private List<LocalDate> schoolWeeks() {
+        var today = LocalDate.now();
+        var currentYearStart = currentYearStart();
+        List<LocalDate> weeks = new ArrayList<>();
+
+        for (int year = currentYearStart - options.years() + 1; year <= currentYearStart; year++) {
+            var monday = LocalDate.of(year, FIRST_MONTH_OF_YEAR, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+            var yearEnd = LocalDate.of(year + 1, LAST_MONTH_OF_YEAR, 31);
+            for (; !monday.isAfter(yearEnd) && !monday.isAfter(today); monday = monday.plusWeeks(1)) {
+                weeks.add(monday);
+            }
+        }
+        return weeks;
+    }
+
+    private int randomMark() {
+        var value = random.nextInt(100);
+        for (int i = 0; i < MARK_PERCENTILES.length; i++) {
+            if (value < MARK_PERCENTILES[i]) {
+                return i + 2;
+            }
+        }
+        return MARK_PERCENTILES.length + 1;
+    }
+
+    private long maxId(String table) throws SQLException {
+        try (var statement = connection.createStatement();
+             var result = statement.executeQuery("SELECT coalesce(max(id), 0) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private int classOfStudent(int studentIndex) {
+        return studentIndex / options.studentsPerClass() + 1;
+    }
+
+    private static long subjectId(int classIndex, int subject) {
+        return (long) classIndex * SUBJECT_NAMES.length + subject + 1;
+    }
+
+    private static long teacherId(int classIndex, int subject) {
+        return (long) classIndex / CLASSES_PER_TEACHER * SUBJECT_NAMES.length + subject + 1;
+    }
+
+    private static String letterOf(int classIndex) {
+        return LETTERS[classIndex % LETTERS.length];
+    }
+
+    private static int numberOf(int classIndex) {
+        return classIndex / LETTERS.length + 1;
+    }
+
+    private static String studentEmail(long id) {
+        return "student" + id + EMAIL_DOMAIN;
+    }
+
+    private static String parentEmail(long id) {
+        return "parent" + id + EMAIL_DOMAIN;
+    }
+
+    private static String teacherEmail(long id) {
+        return "teacher" + id + EMAIL_DOMAIN;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Буфер строк CSV для COPY, отправляется в БД пачками, чтобы миллионы оценок
+     * не держать в памяти целиком
+     */
+    private final class CopyBuffer {
+
+        private final String target;
+        private final StringBuilder rows = new StringBuilder();
+        private int rowCount;
+
+        CopyBuffer(String target) {
+            this.target = target;
+        }
+
+        void row(Object... values) throws SQLException, IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    rows.append(',');
+                }
+                rows.append('"').append(String.valueOf(values[i]).replace("\"", "\"\"")).append('"');
+            }
+            rows.append('\n');
+
+            if (++rowCount >= COPY_BATCH_ROWS) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException, IOException {
+            if (rowCount == 0) {
+                return;
+            }
+            connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + target + " FROM STDIN WITH (FORMAT csv)", new StringReader(rows.toString()));
+            rows.setLength(0);
+            rowCount = 0;
+        }
+    }
+}
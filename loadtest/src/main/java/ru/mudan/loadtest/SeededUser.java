@@ -0,0 +1,25 @@
+package ru.mudan.loadtest;
+
+/**
+ * Пользователь, созданный генератором данных, от имени которого проходят сценарии нагрузки
+ *
+ * @param role      - роль: STUDENT, PARENT или TEACHER
+ * @param email     - email для входа
+ * @param userId    - id пользователя в таблице своей роли
+ * @param studentId - id ученика, дневник которого открывается (для учителя 0)
+ * @param classId   - id класса ученика (для учителя 0)
+ * @param subjectId - id предмета класса или предмета учителя
+ */
+record SeededUser(
+        String role,
+        String email,
+        long userId,
+        long studentId,
+        long classId,
+        long subjectId
+) {
+
+    static final String STUDENT = "STUDENT";
+    static final String PARENT = "PARENT";
+    static final String TEACHER = "TEACHER";
+}
@@ -0,0 +1,91 @@
+package ru.mudan.loadtest;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import liquibase.Liquibase;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.DirectoryResourceAccessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * База данных для нагрузочного теста: либо существующая PostgreSQL (--url, --user, --password),
+ * либо временный контейнер Testcontainers (--testcontainers), на который накатываются
+ * миграции приложения из migrations/db/changelog
+ */
+final class TestDatabase implements AutoCloseable {
+
+    private static final String POSTGRES_IMAGE = "postgres:16";
+    private static final String MASTER_CHANGELOG = "db.changelog-master.yml";
+
+    private final PostgreSQLContainer<?> container;
+    private final String url;
+    private final String user;
+    private final String password;
+
+    private TestDatabase(PostgreSQLContainer<?> container, String url, String user, String password) {
+        this.container = container;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    /**
+     * Метод для подключения к базе по параметрам командной строки
+     *
+     * @param options - параметры командной строки
+     */
+    static TestDatabase open(Options options) throws Exception {
+        if (!options.has("testcontainers")) {
+            return new TestDatabase(null,
+                    options.get("url", "jdbc:postgresql://localhost:5432/postgres"),
+                    options.get("user", "postgres"),
+                    options.get("password", "postgres"));
+        }
+
+        var container = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+        container.start();
+        var database = new TestDatabase(container, container.getJdbcUrl(), container.getUsername(),
+                container.getPassword());
+        database.migrate(Path.of(options.get("changelog-dir", "../migrations/db/changelog")));
+        return database;
+    }
+
+    Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    boolean isContainer() {
+        return container != null;
+    }
+
+    String url() {
+        return url;
+    }
+
+    String user() {
+        return user;
+    }
+
+    String password() {
+        return password;
+    }
+
+    private void migrate(Path changelogDir) throws Exception {
+        try (var connection = connect();
+             var accessor = new DirectoryResourceAccessor(changelogDir)) {
+            var database = DatabaseFactory.getInstance()
+                    .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            new Liquibase(MASTER_CHANGELOG, accessor, database).update();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
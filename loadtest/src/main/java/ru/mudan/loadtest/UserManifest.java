@@ -0,0 +1,52 @@
+package ru.mudan.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Файл со списком созданных пользователей в формате CSV, который генератор данных
+ * записывает, а нагрузочный тест читает, чтобы ходить по существующим id
+ */
+final class UserManifest {
+
+    private static final String HEADER = "role,email,userId,studentId,classId,subjectId";
+
+    private UserManifest() {
+    }
+
+    static void write(Path path, List<SeededUser> users) throws IOException {
+        var lines = new ArrayList<String>(users.size() + 1);
+        lines.add(HEADER);
+        users.forEach(user -> lines.add(String.join(",",
+                user.role(),
+                user.email(),
+                String.valueOf(user.userId()),
+                String.valueOf(user.studentId()),
+                String.valueOf(user.classId()),
+                String.valueOf(user.subjectId()))));
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, lines);
+    }
+
+    static List<SeededUser> read(Path path) throws IOException {
+        try (var lines = Files.lines(path)) {
+            return lines.skip(1)
+                    .filter(line -> !line.isBlank())
+                    .map(line -> line.split(","))
+                    .map(parts -> new SeededUser(
+                            parts[0],
+                            parts[1],
+                            Long.parseLong(parts[2]),
+                            Long.parseLong(parts[3]),
+                            Long.parseLong(parts[4]),
+                            Long.parseLong(parts[5])))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- События для ежедневной сводки родителю: новые оценки и ДЗ его детей.
+-- Событие ДЗ записывается каждому родителю учеников класса, поэтому сводка семьи
+-- читается и удаляется по parent_id без соединения с классами
+CREATE SEQUENCE IF NOT EXISTS parent_digest_events_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS parent_digest_events
+(
+    id           BIGINT      NOT NULL DEFAULT nextval('parent_digest_events_id_seq') PRIMARY KEY,
+    parent_id    BIGINT      NOT NULL,
+    student_id   BIGINT      NOT NULL,
+    kind         VARCHAR(20) NOT NULL,
+    subject_name VARCHAR     NOT NULL,
+    mark         INTEGER,
+    title        VARCHAR,
+    event_date   DATE,
+    created_at   TIMESTAMP   NOT NULL DEFAULT now(),
+    FOREIGN KEY (parent_id) REFERENCES parents (id) ON DELETE CASCADE,
+    FOREIGN KEY (student_id) REFERENCES students (id) ON DELETE CASCADE
+);
+
+ALTER SEQUENCE parent_digest_events_id_seq OWNED BY parent_digest_events.id;
+
+CREATE INDEX IF NOT EXISTS parent_digest_events_parent_idx ON parent_digest_events (parent_id, id);
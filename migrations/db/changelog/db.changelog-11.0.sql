@@ -0,0 +1,26 @@
+-- Поиск пользователей в списках администратора по ФИО и почте. Строка поиска по ФИО
+-- вычисляется БД при записи, триграммные индексы ускоряют LIKE по префиксу и по подстроке,
+-- индексы по фамилии и имени отдают первые страницы списков без сортировки всей таблицы
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE students
+    ADD COLUMN IF NOT EXISTS search_name VARCHAR
+        GENERATED ALWAYS AS (lower(coalesce(lastname, '') || ' ' || coalesce(firstname, '') || ' ' || coalesce(patronymic, ''))) STORED;
+ALTER TABLE teachers
+    ADD COLUMN IF NOT EXISTS search_name VARCHAR
+        GENERATED ALWAYS AS (lower(coalesce(lastname, '') || ' ' || coalesce(firstname, '') || ' ' || coalesce(patronymic, ''))) STORED;
+ALTER TABLE parents
+    ADD COLUMN IF NOT EXISTS search_name VARCHAR
+        GENERATED ALWAYS AS (lower(coalesce(lastname, '') || ' ' || coalesce(firstname, '') || ' ' || coalesce(patronymic, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS students_search_name_trgm_idx ON students USING gin (search_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS students_email_trgm_idx ON students USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS students_name_idx ON students (lastname, firstname, id);
+
+CREATE INDEX IF NOT EXISTS teachers_search_name_trgm_idx ON teachers USING gin (search_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS teachers_email_trgm_idx ON teachers USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS teachers_name_idx ON teachers (lastname, firstname, id);
+
+CREATE INDEX IF NOT EXISTS parents_search_name_trgm_idx ON parents USING gin (search_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS parents_email_trgm_idx ON parents USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS parents_name_idx ON parents (lastname, firstname, id);
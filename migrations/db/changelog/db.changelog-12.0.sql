@@ -0,0 +1,8 @@
+-- Полнотекстовый поиск ДЗ по названию и описанию. Вектор поиска вычисляется БД при записи
+-- со стеммингом русского языка, совпадения в названии весят больше совпадений в описании
+ALTER TABLE homeworks
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (setweight(to_tsvector('russian', coalesce(title, '')), 'A')
+                             || setweight(to_tsvector('russian', coalesce(description, '')), 'B')) STORED;
+
+CREATE INDEX IF NOT EXISTS homeworks_search_vector_idx ON homeworks USING gin (search_vector);
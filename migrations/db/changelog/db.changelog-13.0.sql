@@ -0,0 +1,26 @@
+-- Текст отправленных и неотправляемых писем больше не хранится, старые записи удаляются задачей очистки
+ALTER TABLE email_outbox
+    ALTER COLUMN text DROP NOT NULL;
+
+UPDATE email_outbox
+SET text = NULL
+WHERE status IN ('SENT', 'DEAD');
+
+CREATE INDEX IF NOT EXISTS email_outbox_finished_idx ON email_outbox (created_at) WHERE status IN ('SENT', 'DEAD');
+
+-- Одноразовые ссылки для установки пароля, в БД хранится только SHA-256 хэш токена из ссылки
+CREATE SEQUENCE IF NOT EXISTS password_setup_tokens_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS password_setup_tokens
+(
+    id         BIGINT      NOT NULL DEFAULT nextval('password_setup_tokens_id_seq') PRIMARY KEY,
+    email      VARCHAR     NOT NULL,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    expires_at TIMESTAMP   NOT NULL,
+    used_at    TIMESTAMP,
+    created_at TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+ALTER SEQUENCE password_setup_tokens_id_seq OWNED BY password_setup_tokens.id;
+
+CREATE INDEX IF NOT EXISTS password_setup_tokens_expires_idx ON password_setup_tokens (expires_at);
@@ -0,0 +1,6 @@
+-- Письма захватываются на отправку короткой транзакцией со статусом SENDING до lease_until,
+-- письма экземпляра, упавшего во время отправки, снова становятся доступны после истечения срока захвата
+ALTER TABLE email_outbox
+    ADD COLUMN IF NOT EXISTS lease_until TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS email_outbox_sending_idx ON email_outbox (lease_until) WHERE status = 'SENDING';
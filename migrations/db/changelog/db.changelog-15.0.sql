@@ -0,0 +1,12 @@
+-- События сводки родителям ссылаются на исходную оценку или ДЗ, чтобы изменение и удаление
+-- оценки или ДЗ до отправки сводки меняли и удаляли их события.
+-- Таблица grades секционирована и не позволяет внешний ключ по id, события оценок удаляет приложение
+ALTER TABLE parent_digest_events
+    ADD COLUMN IF NOT EXISTS grade_id    BIGINT,
+    ADD COLUMN IF NOT EXISTS homework_id BIGINT REFERENCES homeworks (id) ON DELETE CASCADE;
+
+CREATE INDEX IF NOT EXISTS parent_digest_events_grade_idx ON parent_digest_events (grade_id)
+    WHERE grade_id IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS parent_digest_events_homework_idx ON parent_digest_events (homework_id)
+    WHERE homework_id IS NOT NULL;
@@ -0,0 +1,19 @@
+-- Индексы для частых запросов по внешним ключам
+CREATE INDEX IF NOT EXISTS grades_student_subject_date_idx ON grades (student_id, subject_id, date_of_mark);
+CREATE INDEX IF NOT EXISTS grades_student_date_id_idx ON grades (student_id, date_of_mark, id);
+CREATE INDEX IF NOT EXISTS grades_subject_date_id_idx ON grades (subject_id, date_of_mark, id);
+
+CREATE INDEX IF NOT EXISTS homeworks_class_subject_deadline_idx ON homeworks (class_id, subject_id, deadline);
+CREATE INDEX IF NOT EXISTS homeworks_subject_idx ON homeworks (subject_id);
+
+CREATE INDEX IF NOT EXISTS schedules_class_day_time_idx ON schedules (class_id, day_of_week, start_time);
+CREATE INDEX IF NOT EXISTS schedules_subject_idx ON schedules (subject_id);
+
+CREATE INDEX IF NOT EXISTS students_class_idx ON students (class_id);
+CREATE INDEX IF NOT EXISTS students_parent_idx ON students (parent_id);
+
+CREATE INDEX IF NOT EXISTS subjects_class_idx ON subjects (class_id);
+CREATE INDEX IF NOT EXISTS subjects_teacher_idx ON subjects (teacher_id);
+
+-- Уникальность email пользователя
+CREATE UNIQUE INDEX IF NOT EXISTS app_users_email_uidx ON app_users (email);
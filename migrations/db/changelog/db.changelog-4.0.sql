@@ -0,0 +1,17 @@
+-- Очередь писем для отправки на почту
+CREATE TABLE IF NOT EXISTS email_outbox
+(
+    id              BIGSERIAL PRIMARY KEY,
+    recipient       VARCHAR      NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    text            VARCHAR      NOT NULL,
+    attachments     VARCHAR,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT now(),
+    last_error      VARCHAR,
+    created_at      TIMESTAMP    NOT NULL DEFAULT now(),
+    sent_at         TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS email_outbox_pending_idx ON email_outbox (next_attempt_at, id) WHERE status = 'PENDING';
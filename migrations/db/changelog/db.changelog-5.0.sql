@@ -0,0 +1,5 @@
+-- Последовательности с шагом 50 для пакетной вставки пользователей и писем (allocationSize в сущностях)
+ALTER SEQUENCE students_id_seq INCREMENT BY 50;
+ALTER SEQUENCE parents_id_seq INCREMENT BY 50;
+ALTER SEQUENCE app_users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE email_outbox_id_seq INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- Количество уроков предмета в неделю для автоматического построения расписания
+ALTER TABLE subjects ADD COLUMN weekly_hours INTEGER NOT NULL DEFAULT 0;
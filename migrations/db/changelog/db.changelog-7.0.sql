@@ -0,0 +1,59 @@
+-- Накопительные суммы оценок по ученику, предмету и четверти для аналитики успеваемости.
+-- day - номер дня оценки от начала четверти, суммы по нему нужны для наклона тренда.
+-- Границы четвертей совпадают с ru.mudan.util.SchoolTerm
+CREATE TABLE IF NOT EXISTS grade_statistics
+(
+    student_id     BIGINT  NOT NULL,
+    subject_id     BIGINT  NOT NULL,
+    term_start     DATE    NOT NULL,
+    grades_count   INTEGER NOT NULL DEFAULT 0,
+    marks_sum      BIGINT  NOT NULL DEFAULT 0,
+    mark2_count    INTEGER NOT NULL DEFAULT 0,
+    mark3_count    INTEGER NOT NULL DEFAULT 0,
+    mark4_count    INTEGER NOT NULL DEFAULT 0,
+    mark5_count    INTEGER NOT NULL DEFAULT 0,
+    days_sum       BIGINT  NOT NULL DEFAULT 0,
+    days_sq_sum    BIGINT  NOT NULL DEFAULT 0,
+    days_marks_sum BIGINT  NOT NULL DEFAULT 0,
+    PRIMARY KEY (student_id, subject_id, term_start),
+    FOREIGN KEY (student_id) REFERENCES students (id) ON DELETE CASCADE,
+    FOREIGN KEY (subject_id) REFERENCES subjects (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS grade_statistics_subject_term_idx ON grade_statistics (subject_id, term_start);
+
+INSERT INTO grade_statistics (student_id, subject_id, term_start, grades_count, marks_sum,
+                              mark2_count, mark3_count, mark4_count, mark5_count,
+                              days_sum, days_sq_sum, days_marks_sum)
+SELECT student_id,
+       subject_id,
+       term_start,
+       count(*),
+       sum(mark),
+       count(*) FILTER (WHERE mark = 2),
+       count(*) FILTER (WHERE mark = 3),
+       count(*) FILTER (WHERE mark = 4),
+       count(*) FILTER (WHERE mark = 5),
+       sum(day),
+       sum(day * day),
+       sum(day * mark)
+FROM (SELECT student_id, subject_id, mark, term_start, date_of_mark - term_start AS day
+      FROM (SELECT student_id,
+                   subject_id,
+                   mark,
+                   date_of_mark,
+                   CASE
+                       WHEN extract(MONTH FROM date_of_mark) IN (9, 10)
+                           THEN make_date(extract(YEAR FROM date_of_mark)::INTEGER, 9, 1)
+                       WHEN extract(MONTH FROM date_of_mark) IN (11, 12)
+                           THEN make_date(extract(YEAR FROM date_of_mark)::INTEGER, 11, 1)
+                       WHEN extract(MONTH FROM date_of_mark) IN (1, 2, 3)
+                           THEN make_date(extract(YEAR FROM date_of_mark)::INTEGER, 1, 1)
+                       ELSE make_date(extract(YEAR FROM date_of_mark)::INTEGER, 4, 1)
+                       END AS term_start
+            FROM grades
+            WHERE student_id IS NOT NULL
+              AND subject_id IS NOT NULL
+              AND mark IS NOT NULL
+              AND date_of_mark IS NOT NULL) dated) with_days
+GROUP BY student_id, subject_id, term_start;
@@ -0,0 +1,42 @@
+-- Суммы оценок по классу, месяцу, предмету и ученику для отчётов по школе.
+-- Класс оценки - класс её предмета, оценки предметов без класса в отчёты не входят
+CREATE TABLE IF NOT EXISTS grade_aggregates
+(
+    class_id     BIGINT  NOT NULL,
+    month        DATE    NOT NULL,
+    subject_id   BIGINT  NOT NULL,
+    student_id   BIGINT  NOT NULL,
+    grades_count INTEGER NOT NULL DEFAULT 0,
+    marks_sum    BIGINT  NOT NULL DEFAULT 0,
+    PRIMARY KEY (class_id, month, subject_id, student_id),
+    FOREIGN KEY (class_id) REFERENCES classes (id) ON DELETE CASCADE,
+    FOREIGN KEY (subject_id) REFERENCES subjects (id) ON DELETE CASCADE,
+    FOREIGN KEY (student_id) REFERENCES students (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS grade_aggregates_subject_month_idx ON grade_aggregates (subject_id, month);
+
+-- Пересчёт месяца читает оценки по диапазону дат
+CREATE INDEX IF NOT EXISTS grades_date_of_mark_idx ON grades (date_of_mark);
+
+-- Месяцы, суммы которых могли разойтись с оценками и должны быть пересчитаны целиком
+CREATE TABLE IF NOT EXISTS grade_aggregate_dirty_months
+(
+    month     DATE      NOT NULL PRIMARY KEY,
+    marked_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+INSERT INTO grade_aggregates (class_id, month, subject_id, student_id, grades_count, marks_sum)
+SELECT s.class_id,
+       date_trunc('month', g.date_of_mark)::DATE,
+       g.subject_id,
+       g.student_id,
+       count(*),
+       sum(g.mark)
+FROM grades g
+         JOIN subjects s ON s.id = g.subject_id
+WHERE s.class_id IS NOT NULL
+  AND g.student_id IS NOT NULL
+  AND g.mark IS NOT NULL
+  AND g.date_of_mark IS NOT NULL
+GROUP BY s.class_id, date_trunc('month', g.date_of_mark)::DATE, g.subject_id, g.student_id;
@@ -0,0 +1,130 @@
+-- Оценки разбиты на секции по учебным годам с 1 сентября по 31 августа по дате оценки,
+-- запросы с условием на дату читают только секции нужных лет. Оценки без секции своего года
+-- попадают в grades_default, оттуда их переносит create_grades_partition.
+-- Границы учебного года совпадают с ru.mudan.util.SchoolTerm
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1 FROM grades WHERE date_of_mark IS NULL) THEN
+            RAISE EXCEPTION 'Grades without date_of_mark must be fixed before partitioning';
+        END IF;
+    END
+$$;
+
+ALTER TABLE grades RENAME TO grades_unpartitioned;
+ALTER TABLE grades_unpartitioned RENAME CONSTRAINT grades_pkey TO grades_unpartitioned_pkey;
+DROP INDEX IF EXISTS grades_student_subject_date_idx;
+DROP INDEX IF EXISTS grades_student_date_id_idx;
+DROP INDEX IF EXISTS grades_subject_date_id_idx;
+DROP INDEX IF EXISTS grades_date_of_mark_idx;
+
+-- Первичный ключ секционированной таблицы должен включать ключ секционирования,
+-- уникальность id обеспечивает последовательность grades_id_seq
+CREATE TABLE grades
+(
+    id           BIGINT NOT NULL DEFAULT nextval('grades_id_seq'),
+    mark         INTEGER,
+    date_of_mark DATE   NOT NULL,
+    comment      VARCHAR,
+    student_id   BIGINT DEFAULT NULL,
+    subject_id   BIGINT DEFAULT NULL,
+    PRIMARY KEY (id, date_of_mark),
+    FOREIGN KEY (student_id) REFERENCES students (id) ON DELETE CASCADE,
+    FOREIGN KEY (subject_id) REFERENCES subjects (id) ON DELETE CASCADE
+) PARTITION BY RANGE (date_of_mark);
+
+CREATE INDEX IF NOT EXISTS grades_student_subject_date_idx ON grades (student_id, subject_id, date_of_mark);
+CREATE INDEX IF NOT EXISTS grades_student_date_id_idx ON grades (student_id, date_of_mark, id);
+CREATE INDEX IF NOT EXISTS grades_subject_date_id_idx ON grades (subject_id, date_of_mark, id);
+CREATE INDEX IF NOT EXISTS grades_date_of_mark_idx ON grades (date_of_mark);
+
+CREATE TABLE IF NOT EXISTS grades_default PARTITION OF grades DEFAULT;
+
+-- Создание секции учебного года, начинающегося 1 сентября start_year.
+-- Оценки этого года из grades_default переносятся в новую секцию до её подключения.
+-- Возвращает false, если секция уже есть
+CREATE OR REPLACE FUNCTION create_grades_partition(start_year INTEGER) RETURNS BOOLEAN AS
+$$
+DECLARE
+    partition_name TEXT := format('grades_y%s', start_year);
+    from_date      DATE := make_date(start_year, 9, 1);
+    to_date        DATE := make_date(start_year + 1, 9, 1);
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL
+        OR to_regclass(format('grades_archive_y%s', start_year)) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    LOCK TABLE grades_default IN EXCLUSIVE MODE;
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE grades INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM grades_default WHERE date_of_mark >= %L AND date_of_mark < %L RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved', from_date, to_date, partition_name);
+    EXECUTE format('ALTER TABLE grades ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_date, to_date);
+    RETURN TRUE;
+END
+$$ LANGUAGE plpgsql;
+
+-- Отсоединение секции прошедшего учебного года в отдельную таблицу grades_archive_y<start_year>,
+-- при указании target_tablespace таблица и её индексы переносятся в это табличное пространство.
+-- Уже отсоединённая таблица только переносится. Возвращает название архивной таблицы
+CREATE OR REPLACE FUNCTION archive_grades_partition(start_year INTEGER,
+                                                    target_tablespace TEXT DEFAULT NULL) RETURNS TEXT AS
+$$
+DECLARE
+    partition_name TEXT := format('grades_y%s', start_year);
+    archive_name   TEXT := format('grades_archive_y%s', start_year);
+    index_name     TEXT;
+BEGIN
+    IF make_date(start_year + 1, 9, 1) > current_date THEN
+        RAISE EXCEPTION 'School year % is not finished yet', start_year;
+    END IF;
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE grades DETACH PARTITION %I', partition_name);
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', partition_name, archive_name);
+    ELSIF to_regclass(archive_name) IS NULL THEN
+        RAISE EXCEPTION 'Partition % does not exist', partition_name;
+    END IF;
+
+    IF target_tablespace IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE %I SET TABLESPACE %I', archive_name, target_tablespace);
+        FOR index_name IN SELECT indexrelid::REGCLASS::TEXT FROM pg_index WHERE indrelid = archive_name::REGCLASS
+            LOOP
+                EXECUTE format('ALTER INDEX %s SET TABLESPACE %I', index_name, target_tablespace);
+            END LOOP;
+    END IF;
+
+    RETURN archive_name;
+END
+$$ LANGUAGE plpgsql;
+
+-- Секции всех лет, за которые есть оценки, и следующего учебного года
+DO
+$$
+    DECLARE
+        current_year INTEGER := extract(YEAR FROM current_date - INTERVAL '8 months')::INTEGER;
+        first_year   INTEGER;
+    BEGIN
+        SELECT extract(YEAR FROM min(date_of_mark) - INTERVAL '8 months')::INTEGER
+        INTO first_year
+        FROM grades_unpartitioned;
+
+        FOR start_year IN coalesce(least(first_year, current_year), current_year)..current_year + 1
+            LOOP
+                PERFORM create_grades_partition(start_year);
+            END LOOP;
+    END
+$$;
+
+INSERT INTO grades (id, mark, date_of_mark, comment, student_id, subject_id)
+SELECT id, mark, date_of_mark, comment, student_id, subject_id
+FROM grades_unpartitioned;
+
+ALTER SEQUENCE grades_id_seq OWNED BY NONE;
+DROP TABLE grades_unpartitioned;
+ALTER SEQUENCE grades_id_seq OWNED BY grades.id;
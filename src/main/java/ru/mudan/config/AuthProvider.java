@@ -1,39 +1,44 @@
 package ru.mudan.config;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import ru.mudan.exceptions.PasswordHashingUnavailableException;
 import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.services.auth.PasswordHashingService;
 
 /**
  * Класс для настройки авторизации
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AuthProvider implements AuthenticationProvider {
 
     private final MyUserDetailsService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
         String email = authentication.getPrincipal().toString();
         String password = authentication.getCredentials().toString();
 
-        UserDetails userFromDB = userService.loadUserByUsername(email);
+        UserDetails userFromDB = userService.loadPrincipalByEmail(email);
 
         var passwordDB = userFromDB.getPassword();
 
-        if (!passwordEncoder.matches(password, passwordDB)) {
+        if (!matches(password, passwordDB)) {
             throw new AuthenticationServiceException("Пароль неверный!");
         }
 
+        upgradePasswordIfNeeded(email, password, passwordDB);
+
         return new UsernamePasswordAuthenticationToken(userFromDB.getUsername(),
                 userFromDB.getPassword(), userFromDB.getAuthorities());
 
@@ -43,4 +48,37 @@ public class AuthProvider implements AuthenticationProvider {
     public boolean supports(Class<?> authentication) {
         return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
     }
+
+    /**
+     * Метод для проверки пароля в пуле хэширования
+     *
+     * @param password   - введённый пароль
+     * @param passwordDB - хэш пароля из БД
+     */
+    private boolean matches(String password, String passwordDB) {
+        try {
+            return passwordHashingService.matches(password, passwordDB);
+        } catch (PasswordHashingUnavailableException e) {
+            throw new AuthenticationServiceException("Сервер перегружен, повторите попытку позже", e);
+        }
+    }
+
+    /**
+     * Метод для пересчёта хэша пароля, созданного устаревшим алгоритмом или с устаревшей стоимостью
+     *
+     * @param email      - email пользователя
+     * @param password   - введённый пароль
+     * @param passwordDB - хэш пароля из БД
+     */
+    private void upgradePasswordIfNeeded(String email, String password, String passwordDB) {
+        if (!passwordHashingService.upgradeEncoding(passwordDB)) {
+            return;
+        }
+
+        try {
+            userService.updatePassword(email, passwordHashingService.encode(password));
+        } catch (PasswordHashingUnavailableException e) {
+            log.warn("Password hash for user with email {} was not upgraded", email);
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package ru.mudan.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+import ru.mudan.dto.auth.AccessSet;
+import ru.mudan.dto.auth.UserPrincipal;
+import ru.mudan.dto.parent.ParentOverviewDTO;
+import ru.mudan.dto.schedule.WeekTimetable;
+
+/**
+ * Класс, содержащий бины кэшей приложения
+ */
+@Component
+public class CacheTools {
+
+    @Value("${cache.user-details.max-size}")
+    private long userDetailsMaxSize;
+    @Value("${cache.user-details.ttl}")
+    private Duration userDetailsTtl;
+    @Value("${cache.timetable.max-size}")
+    private long timetableMaxSize;
+    @Value("${cache.timetable.ttl}")
+    private Duration timetableTtl;
+    @Value("${cache.access-set.max-size}")
+    private long accessSetMaxSize;
+    @Value("${cache.access-set.ttl}")
+    private Duration accessSetTtl;
+    @Value("${cache.parent-overview.max-size}")
+    private long parentOverviewMaxSize;
+    @Value("${cache.parent-overview.ttl}")
+    private Duration parentOverviewTtl;
+
+    /**
+     * Бин кэша данных пользователей по email, метрики кэша публикуются под именем user-details
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean
+    public Cache<String, UserPrincipal> userDetailsCache(MeterRegistry meterRegistry) {
+        Cache<String, UserPrincipal> cache = Caffeine.newBuilder()
+                .maximumSize(userDetailsMaxSize)
+                .expireAfterWrite(userDetailsTtl)
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-details");
+    }
+
+    /**
+     * Бин кэша прав пользователей по email, метрики кэша публикуются под именем access-set
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean
+    public Cache<String, AccessSet> userAccessSetCache(MeterRegistry meterRegistry) {
+        Cache<String, AccessSet> cache = Caffeine.newBuilder()
+                .maximumSize(accessSetMaxSize)
+                .expireAfterWrite(accessSetTtl)
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "access-set");
+    }
+
+    /**
+     * Бин кэша недельного расписания по id класса, метрики кэша публикуются под именем class-timetable
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean
+    public Cache<Long, WeekTimetable> classTimetableCache(MeterRegistry meterRegistry) {
+        return timetableCache(meterRegistry, "class-timetable");
+    }
+
+    /**
+     * Бин кэша недельного расписания по id учителя, метрики кэша публикуются под именем teacher-timetable
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean
+    public Cache<Long, WeekTimetable> teacherTimetableCache(MeterRegistry meterRegistry) {
+        return timetableCache(meterRegistry, "teacher-timetable");
+    }
+
+    /**
+     * Бин кэша главной страницы родителя по id родителя, метрики кэша публикуются под именем parent-overview
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean
+    public Cache<Long, ParentOverviewDTO> parentOverviewCache(MeterRegistry meterRegistry) {
+        Cache<Long, ParentOverviewDTO> cache = Caffeine.newBuilder()
+                .maximumSize(parentOverviewMaxSize)
+                .expireAfterWrite(parentOverviewTtl)
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "parent-overview");
+    }
+
+    private Cache<Long, WeekTimetable> timetableCache(MeterRegistry meterRegistry, String name) {
+        Cache<Long, WeekTimetable> cache = Caffeine.newBuilder()
+                .maximumSize(timetableMaxSize)
+                .expireAfterWrite(timetableTtl)
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
@@ -0,0 +1,127 @@
+package ru.mudan.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Источник соединений, пропускающий к пулу не больше потоков, чем в нём соединений.
+ * С виртуальными потоками количество одновременных запросов к приложению больше не ограничено
+ * пулом потоков Tomcat, поэтому лишние потоки ждут своей очереди на справедливом семафоре,
+ * а не внутри пула соединений и драйвера БД. Разрешение возвращается при закрытии соединения
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private static final String CLOSE_METHOD = "close";
+    private static final String EQUALS_METHOD = "equals";
+    private static final String HASH_CODE_METHOD = "hashCode";
+
+    private final Semaphore connectionPermits;
+    private final Duration acquireTimeout;
+
+    /**
+     * Конструктор источника соединений с ограничением
+     *
+     * @param targetDataSource - пул соединений
+     * @param maxConnections   - количество соединений в пуле
+     * @param acquireTimeout   - максимальное время ожидания свободного соединения
+     */
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.connectionPermits = new Semaphore(maxConnections, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * Метод для получения количества потоков, ожидающих свободного соединения
+     */
+    public int getWaitingThreads() {
+        return connectionPermits.getQueueLength();
+    }
+
+    /**
+     * Метод для получения количества свободных разрешений на соединение
+     */
+    public int getAvailablePermits() {
+        return connectionPermits.availablePermits();
+    }
+
+    /**
+     * Метод для ожидания разрешения на соединение
+     */
+    private void acquire() throws SQLException {
+        try {
+            if (!connectionPermits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Connection is not available, request timed out after "
+                        + acquireTimeout.toMillis() + "ms, waiting threads " + connectionPermits.getQueueLength());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for connection", e);
+        }
+    }
+
+    /**
+     * Метод для получения соединения из пула, закрытие которого возвращает разрешение.
+     * Если пул не выдал соединение, разрешение возвращается сразу
+     *
+     * @param connectionSupplier - получение соединения из пула
+     */
+    private Connection limited(ConnectionSupplier connectionSupplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = connectionSupplier.get();
+        } catch (SQLException | RuntimeException e) {
+            connectionPermits.release();
+            throw e;
+        }
+
+        var released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (EQUALS_METHOD.equals(method.getName()) && args != null && args.length == 1) {
+                        return proxy == args[0];
+                    }
+                    if (HASH_CODE_METHOD.equals(method.getName()) && args == null) {
+                        return System.identityHashCode(proxy);
+                    }
+
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if (CLOSE_METHOD.equals(method.getName()) && released.compareAndSet(false, true)) {
+                            connectionPermits.release();
+                        }
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,57 @@
+package ru.mudan.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Класс, содержащий бины для сборки главных страниц пользователей
+ */
+@Component
+public class DashboardTools {
+
+    /**
+     * Бин виртуальных потоков для параллельных запросов главной страницы учителя.
+     * Поток только ждёт ответа БД, поэтому пул платформенных потоков не нужен
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService teacherDashboardThreads(MeterRegistry meterRegistry) {
+        var executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("teacher-dashboard-", 0).factory());
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "teacher-dashboard");
+    }
+
+    /**
+     * Бин исполнителя для параллельных запросов главной страницы учителя. Одновременно выполняется
+     * не больше max-concurrent-queries запросов всех сборок вместе: остальные ждут в очереди на семафоре,
+     * не занимая соединений, поэтому сборки главных страниц не забирают весь пул соединений с БД.
+     * Значение больше maximum-pool-size - 1 уменьшается до него
+     *
+     * @param teacherDashboardThreads - виртуальные потоки для запросов
+     * @param maxConcurrentQueries    - максимальное количество одновременных запросов
+     * @param poolSize                - количество соединений в пуле
+     */
+    @Bean
+    public Executor teacherDashboardExecutor(
+            ExecutorService teacherDashboardThreads,
+            @Value("${dashboard.teacher.max-concurrent-queries}") int maxConcurrentQueries,
+            @Value("${spring.datasource.hikari.maximum-pool-size}") int poolSize) {
+        var queryPermits = new Semaphore(Math.max(1, Math.min(maxConcurrentQueries, poolSize - 1)), true);
+        return query -> teacherDashboardThreads.execute(() -> {
+            queryPermits.acquireUninterruptibly();
+            try {
+                query.run();
+            } finally {
+                queryPermits.release();
+            }
+        });
+    }
+}
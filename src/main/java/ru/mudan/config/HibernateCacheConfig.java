@@ -0,0 +1,107 @@
+package ru.mudan.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.mudan.domain.entity.CacheRegions;
+
+/**
+ * Класс с конфигурацией второго уровня кэша Hibernate на Caffeine через JCache.
+ * Регионы создаются здесь с явными размерами, Hibernate настроен не создавать недостающие регионы,
+ * метрики каждого региона публикуются под его названием
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * Счётчик менеджеров кэша: у каждого контекста приложения свой менеджер со своими JMX-именами,
+     * иначе несколько контекстов в одной JVM (например, в тестах) делили бы общие регионы
+     */
+    private static final AtomicInteger CACHE_MANAGER_COUNTER = new AtomicInteger();
+
+    @Value("${cache.hibernate.ttl}")
+    private Duration ttl;
+    @Value("${cache.hibernate.reference.max-size}")
+    private long referenceMaxSize;
+    @Value("${cache.hibernate.schedules.max-size}")
+    private long schedulesMaxSize;
+    @Value("${cache.hibernate.students.max-size}")
+    private long studentsMaxSize;
+    @Value("${cache.hibernate.collections.max-size}")
+    private long collectionsMaxSize;
+    @Value("${cache.hibernate.queries.max-size}")
+    private long queriesMaxSize;
+
+    /**
+     * Бин менеджера кэша со всеми регионами второго уровня кэша Hibernate
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(MeterRegistry meterRegistry) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        var cacheManager = provider.getCacheManager(
+                URI.create("hibernate:" + CACHE_MANAGER_COUNTER.incrementAndGet()),
+                getClass().getClassLoader());
+
+        regionSizes().forEach((region, maxSize) -> JCacheMetrics.monitor(meterRegistry,
+                cacheManager.createCache(region, regionConfiguration(OptionalLong.of(maxSize),
+                        OptionalLong.of(ttl.toNanos())))));
+
+        // Метки времени изменения таблиц не должны вытесняться раньше результатов запросов,
+        // иначе кэш запросов может вернуть устаревший результат
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS,
+                regionConfiguration(OptionalLong.empty(), OptionalLong.empty())));
+
+        return cacheManager;
+    }
+
+    /**
+     * Бин, передающий менеджер кэша в настройки Hibernate
+     *
+     * @param hibernateCacheManager - менеджер кэша с регионами Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private Map<String, Long> regionSizes() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        sizes.put(CacheRegions.CLASSES, referenceMaxSize);
+        sizes.put(CacheRegions.SUBJECTS, referenceMaxSize);
+        sizes.put(CacheRegions.TEACHERS, referenceMaxSize);
+        sizes.put(CacheRegions.SCHEDULES, schedulesMaxSize);
+        sizes.put(CacheRegions.STUDENTS, studentsMaxSize);
+        sizes.put(CacheRegions.CLASS_SUBJECTS, collectionsMaxSize);
+        sizes.put(CacheRegions.CLASS_STUDENTS, collectionsMaxSize);
+        sizes.put(CacheRegions.SUBJECT_SCHEDULES, collectionsMaxSize);
+        sizes.put(CacheRegions.REFERENCE_QUERIES, queriesMaxSize);
+        sizes.put(CacheRegions.DEFAULT_QUERY_RESULTS, queriesMaxSize);
+        return sizes;
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maxSize,
+                                                                             OptionalLong ttlNanos) {
+        var configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxSize);
+        configuration.setExpireAfterWrite(ttlNanos);
+        configuration.setStatisticsEnabled(true);
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
@@ -0,0 +1,45 @@
+package ru.mudan.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Класс, содержащий бины для формирования отчётов
+ */
+@Component
+public class ReportTools {
+
+    @Value("${reports.report-cards.threads}")
+    private int reportCardThreads;
+    @Value("${reports.report-cards.queue-capacity}")
+    private int reportCardQueueCapacity;
+
+    /**
+     * Бин пула потоков для отрисовки табелей успеваемости. При заполненной очереди
+     * табель отрисовывается в потоке выгрузки, поэтому выгрузки замедляются, а не завершаются ошибкой
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService reportCardExecutor(MeterRegistry meterRegistry) {
+        var executor = new ThreadPoolExecutor(
+                reportCardThreads,
+                reportCardThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(reportCardQueueCapacity),
+                new CustomizableThreadFactory("report-card-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "report-card");
+    }
+}
@@ -25,11 +25,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests(matcherRegistry ->
 
                         matcherRegistry
-                                .requestMatchers("/login").permitAll()
+                                .requestMatchers("/login", "/set-password").permitAll()
                                 .requestMatchers("/registration/**",
                                         "/subjects/**",
                                         "/classes/**",
                                         "/monitoring",
+                                        "/reports/**",
                                         "/users/**").hasAnyRole("ADMIN")
                                 .requestMatchers("/schedules/**",
                                         "/grades/**",
@@ -1,8 +1,20 @@
 package ru.mudan.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 /**
@@ -11,11 +23,56 @@ import org.springframework.stereotype.Component;
 @Component
 public class SecurityTools {
 
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+    private static final String PBKDF2 = "pbkdf2";
+
+    @Value("${security.password.encoder}")
+    private String encoderId;
+    @Value("${security.password.bcrypt-strength}")
+    private int bcryptStrength;
+    @Value("${security.password.hashing.concurrency}")
+    private int hashingConcurrency;
+    @Value("${security.password.hashing.queue-capacity}")
+    private int hashingQueueCapacity;
+
     /**
-     * Бин кодировщика паролей
+     * Бин кодировщика паролей. Новые пароли хэшируются алгоритмом из настроек,
+     * хэши без префикса алгоритма проверяются как BCrypt
      */
     @Bean
     public PasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+        var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+                PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        );
+
+        var passwordEncoder = new DelegatingPasswordEncoder(encoderId, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return passwordEncoder;
+    }
+
+    /**
+     * Бин пула потоков для хэширования и проверки паролей
+     * с ограниченным числом потоков и ограниченной очередью
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(MeterRegistry meterRegistry) {
+        var executor = new ThreadPoolExecutor(
+                hashingConcurrency,
+                hashingConcurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashingQueueCapacity),
+                new CustomizableThreadFactory("password-hashing-")
+        );
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
     }
 }
@@ -0,0 +1,77 @@
+package ru.mudan.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Класс для отслеживания закрепления виртуальных потоков за потоками ОС.
+ * Виртуальный поток, заблокированный внутри synchronized или нативного вызова, не освобождает
+ * поток ОС, и при нескольких таких блокировках все запросы приложения встают в очередь.
+ * Закрепления дольше порога читаются из событий JFR jdk.VirtualThreadPinned,
+ * пишутся в метрику jvm.threads.virtual.pinned и в лог вместе со стеком
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 10;
+
+    private final RecordingStream recordingStream;
+    private final Timer pinnedTimer;
+
+    /**
+     * Конструктор, запускающий чтение событий JFR в фоновом потоке
+     *
+     * @param meterRegistry - реестр метрик
+     * @param threshold     - минимальное время закрепления, которое попадает в метрику и лог
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Время, на которое виртуальные потоки закреплялись за потоками ОС")
+                .register(meterRegistry);
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Started monitoring virtual thread pinning longer than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+
+    /**
+     * Метод для обработки события закрепления виртуального потока
+     *
+     * @param event - событие JFR
+     */
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("Virtual thread pinned for {} ms at:\n{}", event.getDuration().toMillis(), formatStackTrace(event));
+    }
+
+    /**
+     * Метод для получения верхних кадров стека события
+     *
+     * @param event - событие JFR
+     */
+    private String formatStackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\tstack trace is not available";
+        }
+
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\t" + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,70 @@
+package ru.mudan.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Класс с конфигурацией режима виртуальных потоков, включается настройкой spring.threads.virtual.enabled.
+ * Запросы Tomcat, задачи @Async и @Scheduled в этом режиме Spring Boot сам выполняет в виртуальных потоках,
+ * здесь пул соединений ограничивается семафором по своему размеру и включается отслеживание
+ * закрепления виртуальных потоков
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    /**
+     * Бин, оборачивающий пул соединений Hikari в ConnectionLimitingDataSource с количеством разрешений,
+     * равным maximum-pool-size, и временем ожидания connection-timeout.
+     * Количество ожидающих потоков и свободных разрешений публикуется в метриках db.connections.limiter.*
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+
+                var dataSource = new ConnectionLimitingDataSource(hikariDataSource,
+                        hikariDataSource.getMaximumPoolSize(),
+                        Duration.ofMillis(hikariDataSource.getConnectionTimeout()));
+                meterRegistry.ifAvailable(registry -> {
+                    Gauge.builder("db.connections.limiter.waiting", dataSource,
+                                    ConnectionLimitingDataSource::getWaitingThreads)
+                            .description("Количество потоков, ожидающих свободного соединения с БД")
+                            .register(registry);
+                    Gauge.builder("db.connections.limiter.available", dataSource,
+                                    ConnectionLimitingDataSource::getAvailablePermits)
+                            .description("Количество свободных разрешений на соединение с БД")
+                            .register(registry);
+                });
+                return dataSource;
+            }
+        };
+    }
+
+    /**
+     * Бин для отслеживания закрепления виртуальных потоков за потоками ОС
+     *
+     * @param meterRegistry - реестр метрик
+     * @param threshold     - минимальное время закрепления, которое попадает в метрику и лог
+     */
+    @Bean(destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning-threshold}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
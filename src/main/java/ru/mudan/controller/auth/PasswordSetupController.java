@@ -0,0 +1,46 @@
+package ru.mudan.controller.auth;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import ru.mudan.dto.auth.SetPasswordDTO;
+import ru.mudan.services.auth.PasswordSetupService;
+
+/**
+ * Контроллер, принимающий запросы
+ * на установку пароля по одноразовой ссылке из письма о регистрации
+ */
+@Controller
+@RequestMapping("/set-password")
+@RequiredArgsConstructor
+public class PasswordSetupController {
+
+    private final PasswordSetupService passwordSetupService;
+
+    /**
+     * Эндпоинт для получения шаблона установки пароля
+     *
+     * @param token - токен из ссылки
+     */
+    @GetMapping
+    public String getPageForSettingPassword(@RequestParam String token, Model model) {
+        model.addAttribute("token", token);
+        return "set-password";
+    }
+
+    /**
+     * Эндпоинт для установки пароля
+     *
+     * @param setPasswordDTO - токен из ссылки и новый пароль
+     */
+    @PostMapping
+    public String setPassword(@Valid SetPasswordDTO setPasswordDTO) {
+        passwordSetupService.setPassword(setPasswordDTO.token(), setPasswordDTO.password());
+        return "redirect:/login?passwordSet";
+    }
+}
@@ -2,11 +2,14 @@ package ru.mudan.controller.auth;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import ru.mudan.dto.auth.RegisterUserDTO;
+import ru.mudan.exceptions.ImportFileInvalidException;
 import ru.mudan.services.students.StudentService;
 import ru.mudan.services.users.RegistrationService;
 import static ru.mudan.controller.Util.doRedirect;
@@ -20,6 +23,8 @@ import static ru.mudan.controller.Util.doRedirect;
 @RequiredArgsConstructor
 public class RegistrationController {
 
+    private static final String IMPORT_VIEW = "registration/registration-import";
+
     private final RegistrationService registrationService;
     private final StudentService studentService;
 
@@ -100,4 +105,26 @@ public class RegistrationController {
         return "registration/registration-student";
     }
 
+    /**
+     * Эндпоинт для получения шаблона массового импорта пользователей
+     */
+    @GetMapping("/import")
+    public String getPageForImportingUsers() {
+        return IMPORT_VIEW;
+    }
+
+    /**
+     * Эндпоинт для массового импорта учеников и родителей из файла CSV или XLSX
+     *
+     * @param file - файл с пользователями
+     */
+    @PostMapping("/import")
+    public String importUsers(@RequestParam("file") MultipartFile file, Model model) {
+        try (var inputStream = file.getInputStream()) {
+            model.addAttribute("report", registrationService.importUsers(inputStream, file.getOriginalFilename()));
+        } catch (IOException e) {
+            throw new ImportFileInvalidException(file.getOriginalFilename());
+        }
+        return IMPORT_VIEW;
+    }
 }
@@ -2,7 +2,9 @@ package ru.mudan.controller.grades;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -30,24 +32,41 @@ public class GradeController {
     private final AuthService authService;
 
     /**
-     * Эндпоинт для получения оценок ученика
+     * Эндпоинт для получения оценок ученика.
+     * Без указания предмета оценки возвращаются постранично
      *
      * @param studentId - id ученика
      * @param subjectId - id предмета
+     * @param after     - курсор последней показанной оценки
+     * @param size      - размер страницы
+     * @param from      - начало периода
+     * @param to        - конец периода
      */
     @GetMapping("/all/{studentId}")
+    @SuppressWarnings("ParameterNumber")
     public String getPageWithInfoAboutAllGrades(Model model, @PathVariable Long studentId,
                                                 @RequestParam(value = "subjectId", required = false) Long subjectId,
+                                                @RequestParam(value = "after", required = false) String after,
+                                                @RequestParam(value = "size", required = false) Integer size,
+                                                @RequestParam(value = "from", required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                @RequestParam(value = "to", required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
                                                 Authentication auth) {
         authService.hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(
                 studentId, subjectId, auth);
+        model.addAttribute("student", studentService.findById(studentId));
         if (subjectId != null) {
             model.addAttribute("subject", subjectService.findById(subjectId));
             model.addAttribute("grades", gradesService.findAllGradesForStudentWithSubject(studentId, subjectId));
         } else {
-            model.addAttribute("grades", gradesService.findAllGradesForStudent(studentId));
+            var page = gradesService.findGradesPageForStudent(studentId, after, size, from, to);
+            model.addAttribute("grades", page.grades());
+            model.addAttribute("nextCursor", page.nextCursor());
+            model.addAttribute("size", size);
+            model.addAttribute("from", from);
+            model.addAttribute("to", to);
         }
-        model.addAttribute("student", studentService.findById(studentId));
         return "grades/grades-index";
     }
 
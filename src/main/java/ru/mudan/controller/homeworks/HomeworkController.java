@@ -3,6 +3,8 @@ package ru.mudan.controller.homeworks;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -25,6 +27,8 @@ import static ru.mudan.controller.Util.doRedirect;
 @RequiredArgsConstructor
 public class HomeworkController {
 
+    private static final int PAGE_SIZE = 20;
+
     private final HomeworkService homeworkService;
     private final ClassService classService;
     private final SubjectService subjectService;
@@ -55,6 +59,23 @@ public class HomeworkController {
         return "admin/homeworks/homeworks-index";
     }
 
+    /**
+     * Эндпоинт для полнотекстового поиска по доступным пользователю ДЗ
+     *
+     * @param query    - поисковый запрос
+     * @param pageable - страница
+     */
+    @GetMapping("/search")
+    public String searchHomeworks(@RequestParam(value = "q", required = false) String query,
+                                  @PageableDefault(size = PAGE_SIZE) Pageable pageable,
+                                  Model model,
+                                  Authentication authentication) {
+        var scope = authService.homeworkSearchScope(authentication);
+        model.addAttribute("homeworks", homeworkService.search(query, scope, pageable));
+        model.addAttribute("query", query);
+        return "admin/homeworks/homeworks-search";
+    }
+
     /**
      * Эндпоинт для создания ДЗ
      *
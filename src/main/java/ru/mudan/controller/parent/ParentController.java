@@ -1,13 +1,14 @@
 package ru.mudan.controller.parent;
 
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import ru.mudan.services.parent.ParentOverviewService;
 import ru.mudan.services.parent.ParentService;
-import ru.mudan.services.students.StudentService;
 
 /**
  * Контроллер, принимающий запросы
@@ -19,16 +20,19 @@ import ru.mudan.services.students.StudentService;
 public class ParentController {
 
     private final ParentService parentService;
-    private final StudentService studentService;
+    private final ParentOverviewService parentOverviewService;
 
     /**
-     * Эндпоинт для получения шаблона аккаунта родителя
+     * Эндпоинт для получения шаблона аккаунта родителя со сводкой по всем детям
      */
     @GetMapping("/account")
     public String account(Model model, Authentication authentication) {
         var parent = parentService.findParentByAuth(authentication);
+        var overview = parentOverviewService.findOverview(parent, LocalDate.now());
         model.addAttribute("parent", parent);
-        model.addAttribute("students", studentService.getAllStudentsForParent(parent.id()));
+        model.addAttribute("students", overview.students());
+        model.addAttribute("childrenStats", overview.childrenStats());
+        model.addAttribute("overview", overview);
         return "parent/parent-main-page";
     }
 }
@@ -0,0 +1,111 @@
+package ru.mudan.controller.reports;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.services.classes.ClassService;
+import ru.mudan.services.reports.GradeReportService;
+import ru.mudan.services.reports.ReportCardService;
+
+/**
+ * Контроллер, принимающий запросы
+ * для получения отчётов по успеваемости в школе
+ */
+@Controller
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private static final MediaType ZIP = MediaType.parseMediaType("application/zip");
+
+    private final GradeReportService gradeReportService;
+    private final ReportCardService reportCardService;
+    private final ClassService classService;
+
+    /**
+     * Эндпоинт для получения списка классов и параллелей, по которым строятся отчёты
+     */
+    @GetMapping
+    public String getPageWithReports(Model model) {
+        var classes = classService.findAll();
+        model.addAttribute("classes", classes);
+        model.addAttribute("parallels", classes.stream()
+                .map(ClassDTO::number)
+                .distinct()
+                .sorted()
+                .toList());
+        return "admin/reports/reports-index";
+    }
+
+    /**
+     * Эндпоинт для получения рейтинга учеников класса по среднему баллу
+     *
+     * @param classId - id класса
+     * @param from    - начало периода
+     * @param to      - конец периода
+     */
+    @GetMapping("/classes/{classId}")
+    public String getPageWithClassRanking(Model model, @PathVariable Long classId,
+                                          @RequestParam(value = "from", required = false)
+                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                          @RequestParam(value = "to", required = false)
+                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        model.addAttribute("ranking", gradeReportService.findClassRanking(classId, from, to));
+        return "admin/reports/class-ranking";
+    }
+
+    /**
+     * Эндпоинт для скачивания zip-архива с табелями успеваемости всех учеников класса за четверть.
+     * Архив формируется по мере чтения оценок и отправляется частями, не собираясь в памяти целиком
+     *
+     * @param classId - id класса
+     * @param date    - дата внутри четверти, по умолчанию текущая четверть
+     */
+    @GetMapping("/classes/{classId}/report-cards")
+    public ResponseEntity<StreamingResponseBody> getClassReportCards(@PathVariable Long classId,
+                                                                     @RequestParam(value = "date", required = false)
+                                                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                     LocalDate date) {
+        var batch = reportCardService.findReportCardBatch(classId, date);
+        var fileName = String.format("Табели %d%s, %d четверть.zip",
+                batch.classDTO().number(), batch.classDTO().letter(), batch.term().number());
+
+        return ResponseEntity.ok()
+                .contentType(ZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName, StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(out -> reportCardService.writeReportCards(batch, out));
+    }
+
+    /**
+     * Эндпоинт для получения средних баллов по предметам в параллели классов
+     *
+     * @param number - номер классов параллели
+     * @param from   - начало периода
+     * @param to     - конец периода
+     */
+    @GetMapping("/parallels/{number}")
+    public String getPageWithParallelReport(Model model, @PathVariable Integer number,
+                                            @RequestParam(value = "from", required = false)
+                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(value = "to", required = false)
+                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        model.addAttribute("report", gradeReportService.findParallelReport(number, from, to));
+        return "admin/reports/parallel-subjects";
+    }
+}
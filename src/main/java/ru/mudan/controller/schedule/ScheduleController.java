@@ -8,6 +8,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import ru.mudan.dto.schedule.ScheduleCreateDTO;
 import ru.mudan.dto.schedule.ScheduleUpdateDTO;
+import ru.mudan.dto.schedule.TimetableGenerateDTO;
 import ru.mudan.services.auth.AuthService;
 import ru.mudan.services.schedule.ScheduleService;
 
@@ -39,6 +40,39 @@ public class ScheduleController {
         return "schedule/schedule-class-index";
     }
 
+    /**
+     * Эндпоинт для проверки всего расписания школы на пересечения уроков
+     */
+    @GetMapping("/validate")
+    public String getPageWithTimetableConflicts(Model model, Authentication authentication) {
+        authService.hasRoleAdmin(authentication);
+        model.addAttribute("conflicts", scheduleService.validateTimetable());
+        return "schedule/schedule-validate";
+    }
+
+    /**
+     * Эндпоинт для получения шаблона для автоматического построения расписания школы
+     */
+    @GetMapping("/generate")
+    public String getPageForGeneratingTimetable(Authentication authentication) {
+        authService.hasRoleAdmin(authentication);
+        return "schedule/schedule-generate";
+    }
+
+    /**
+     * Эндпоинт для автоматического построения расписания школы по недельной нагрузке предметов
+     *
+     * @param timetableGenerateDTO - параметры учебного дня
+     */
+    @PostMapping("/generate")
+    public String generateTimetable(@Valid TimetableGenerateDTO timetableGenerateDTO,
+                                    Model model,
+                                    Authentication authentication) {
+        authService.hasRoleAdmin(authentication);
+        model.addAttribute("report", scheduleService.generateTimetable(timetableGenerateDTO));
+        return "schedule/schedule-generate";
+    }
+
     /**
      * Эндпоинт для получения ячейки расписания по id
      *
@@ -1,11 +1,13 @@
 package ru.mudan.controller.student;
 
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import ru.mudan.services.grades.GradeAnalyticsService;
 import ru.mudan.services.students.StudentService;
 import ru.mudan.services.subjects.SubjectService;
 
@@ -20,6 +22,7 @@ public class StudentController {
 
     private final StudentService studentService;
     private final SubjectService subjectService;
+    private final GradeAnalyticsService gradeAnalyticsService;
 
     /**
      * Эндпоинт для получения шаблона аккаунта ученика
@@ -28,6 +31,7 @@ public class StudentController {
     public String account(Model model, Authentication authentication) {
         var student = studentService.findStudentByAuth(authentication);
         model.addAttribute("student", student);
+        model.addAttribute("analytics", gradeAnalyticsService.findStudentAnalytics(student.id(), LocalDate.now()));
         if (student.classId() != null) {
             model.addAttribute("subjects", subjectService.findAllSubjectsForClass(student.classId()));
         }
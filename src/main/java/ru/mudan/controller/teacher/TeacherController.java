@@ -1,5 +1,6 @@
 package ru.mudan.controller.teacher;
 
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -8,11 +9,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import ru.mudan.services.auth.AuthService;
+import ru.mudan.services.grades.GradeAnalyticsService;
 import ru.mudan.services.grades.GradesService;
 import ru.mudan.services.homework.HomeworkService;
 import ru.mudan.services.schedule.ScheduleService;
 import ru.mudan.services.students.StudentService;
 import ru.mudan.services.subjects.SubjectService;
+import ru.mudan.services.teachers.TeacherDashboardService;
 import ru.mudan.services.teachers.TeacherService;
 
 /**
@@ -31,15 +34,20 @@ public class TeacherController {
     private final GradesService gradesService;
     private final StudentService studentService;
     private final AuthService authService;
+    private final GradeAnalyticsService gradeAnalyticsService;
+    private final TeacherDashboardService teacherDashboardService;
 
     /**
-     * Эндпоинт для получения шаблона аккаунта учителя
+     * Эндпоинт для получения главной страницы учителя: уроки на сегодня,
+     * предметы, ближайшие ДЗ и недавние оценки по всем предметам
      */
     @GetMapping("/account")
     public String getTeacherMainPage(Authentication authentication, Model model) {
         var teacher = teacherService.findTeacherByAuth(authentication);
+        var dashboard = teacherDashboardService.buildDashboard(teacher, LocalDate.now());
         model.addAttribute("teacher", teacher);
-        model.addAttribute("subjects", subjectService.getSubjectsForTeacher(teacher.id()));
+        model.addAttribute("subjects", dashboard.subjects());
+        model.addAttribute("dashboard", dashboard);
         return "teacher/teacher-main-page";
     }
 
@@ -59,6 +67,17 @@ public class TeacherController {
         return "teacher/homework/homeworks-show";
     }
 
+    /**
+     * Эндпоинт для получения недельного расписания учителя по всем его предметам
+     */
+    @GetMapping("/schedule")
+    public String weekScheduleTeacher(Model model, Authentication authentication) {
+        var teacher = teacherService.findTeacherByAuth(authentication);
+
+        model.addAttribute("timetable", scheduleService.findTimetableForTeacher(teacher.id()));
+        return "teacher/schedule/schedule-teacher-week";
+    }
+
     /**
      * Эндпоинт для получения расписания учителя по предмету
      * !Только по предмету, который учитель ведёт
@@ -90,6 +109,7 @@ public class TeacherController {
         model.addAttribute("subject", subjectService.findById(subjectId));
         model.addAttribute("grades", gradesService.findAllBySubjectId(subjectId));
         model.addAttribute("students", studentService.findAllStudentsBySubjectId(subjectId));
+        model.addAttribute("analytics", gradeAnalyticsService.findSubjectAnalytics(subjectId, LocalDate.now()));
         return "teacher/grades/grades-index";
     }
 }
@@ -3,6 +3,8 @@ package ru.mudan.controller.users;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -23,17 +25,25 @@ import static ru.mudan.controller.Util.doRedirect;
 @RequiredArgsConstructor
 public class UsersController {
 
+    private static final int PAGE_SIZE = 20;
+
     private final TeacherService teacherService;
     private final MyUserDetailsService myUserDetailsService;
     private final ParentService parentService;
     private final StudentService studentService;
 
     /**
-     * Эндпоинт для получения всех учителей
+     * Эндпоинт для получения страницы учителей с поиском по ФИО и почте
+     *
+     * @param query    - поисковый запрос
+     * @param pageable - страница и сортировка
      */
     @GetMapping("/teachers/all")
-    public String getAllTeachers(Model model) {
-        model.addAttribute("teachers", teacherService.findAll());
+    public String getAllTeachers(@RequestParam(value = "q", required = false) String query,
+                                 @PageableDefault(size = PAGE_SIZE) Pageable pageable,
+                                 Model model) {
+        model.addAttribute("teachers", teacherService.findPage(query, pageable));
+        model.addAttribute("query", query);
         return "admin/users/teacher/teacher-index";
     }
 
@@ -60,11 +70,17 @@ public class UsersController {
     }
 
     /**
-     * Эндпоинт для получения всех родителей
+     * Эндпоинт для получения страницы родителей с поиском по ФИО и почте
+     *
+     * @param query    - поисковый запрос
+     * @param pageable - страница и сортировка
      */
     @GetMapping("/parents/all")
-    public String getAllParents(Model model) {
-        model.addAttribute("parents", parentService.findAllParents());
+    public String getAllParents(@RequestParam(value = "q", required = false) String query,
+                                @PageableDefault(size = PAGE_SIZE) Pageable pageable,
+                                Model model) {
+        model.addAttribute("parents", parentService.findPage(query, pageable));
+        model.addAttribute("query", query);
         return "admin/users/parent/parent-index";
     }
 
@@ -91,11 +107,17 @@ public class UsersController {
     }
 
     /**
-     * Эндпоинт для получения всех учеников
+     * Эндпоинт для получения страницы учеников с поиском по ФИО и почте
+     *
+     * @param query    - поисковый запрос
+     * @param pageable - страница и сортировка
      */
     @GetMapping("/students/all")
-    public String getAllStudents(Model model) {
-        model.addAttribute("students", studentService.findAll());
+    public String getAllStudents(@RequestParam(value = "q", required = false) String query,
+                                 @PageableDefault(size = PAGE_SIZE) Pageable pageable,
+                                 Model model) {
+        model.addAttribute("students", studentService.findPage(query, pageable));
+        model.addAttribute("query", query);
         return "admin/users/student/student-index";
     }
 
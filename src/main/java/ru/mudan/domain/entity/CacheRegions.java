@@ -0,0 +1,23 @@
+package ru.mudan.domain.entity;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Названия регионов второго уровня кэша Hibernate. Все регионы создаются заранее
+ * в HibernateCacheConfig, регион с другим названием приведёт к ошибке при запуске
+ */
+@UtilityClass
+public class CacheRegions {
+
+    public static final String CLASSES = "classes";
+    public static final String SUBJECTS = "subjects";
+    public static final String TEACHERS = "teachers";
+    public static final String SCHEDULES = "schedules";
+    public static final String STUDENTS = "students";
+    public static final String CLASS_SUBJECTS = "classes.subjects";
+    public static final String CLASS_STUDENTS = "classes.students";
+    public static final String SUBJECT_SCHEDULES = "subjects.schedules";
+    public static final String REFERENCE_QUERIES = "reference-queries";
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+}
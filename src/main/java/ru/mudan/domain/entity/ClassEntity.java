@@ -3,6 +3,8 @@ package ru.mudan.domain.entity;
 import jakarta.persistence.*;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.mudan.domain.entity.users.Student;
 
 /**
@@ -13,6 +15,8 @@ import ru.mudan.domain.entity.users.Student;
 @ToString
 @NoArgsConstructor
 @EqualsAndHashCode(exclude = {"students", "subjects", "homeworks", "schedules"})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLASSES)
 @Entity
 @Table(name = "classes")
 public class ClassEntity {
@@ -26,8 +30,10 @@ public class ClassEntity {
     private Integer number;
     @Column(name = "description")
     private String description;
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLASS_SUBJECTS)
     @OneToMany(mappedBy = "classEntity")
     private List<Subject> subjects;
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLASS_STUDENTS)
     @OneToMany(mappedBy = "classEntity")
     private List<Student> students;
     @OneToMany(mappedBy = "classEntity")
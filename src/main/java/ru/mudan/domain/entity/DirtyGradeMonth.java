@@ -0,0 +1,28 @@
+package ru.mudan.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Сущность для работы с таблицей grade_aggregate_dirty_months в БД:
+ * месяц, суммы оценок которого нужно пересчитать
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(name = "grade_aggregate_dirty_months")
+public class DirtyGradeMonth {
+    @Id
+    @Column(name = "month", columnDefinition = "DATE")
+    private LocalDate month;
+    @Column(name = "marked_at")
+    private LocalDateTime markedAt;
+}
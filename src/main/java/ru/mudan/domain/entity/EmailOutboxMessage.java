@@ -0,0 +1,60 @@
+package ru.mudan.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import ru.mudan.util.enums.OutboxStatus;
+
+/**
+ * Сущность для работы с таблицей email_outbox в БД
+ */
+@Getter
+@Setter
+@ToString(exclude = "text")
+@NoArgsConstructor
+@Entity
+@Table(name = "email_outbox")
+public class EmailOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_outbox_id_seq")
+    @SequenceGenerator(name = "email_outbox_id_seq", sequenceName = "email_outbox_id_seq", allocationSize = 50)
+    private Long id;
+    @Column(name = "recipient")
+    private String recipient;
+    @Column(name = "subject")
+    private String subject;
+    @Column(name = "text")
+    private String text;
+    @Column(name = "attachments")
+    private String attachments;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private OutboxStatus status;
+    @Column(name = "attempts")
+    private int attempts;
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+    @Column(name = "last_error")
+    private String lastError;
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public EmailOutboxMessage(String recipient, String subject, String text, String attachments,
+                              LocalDateTime createdAt) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.text = text;
+        this.attachments = attachments;
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+}
@@ -9,7 +9,8 @@ import lombok.ToString;
 import ru.mudan.domain.entity.users.Student;
 
 /**
- * Сущность для работы с таблицей grades в БД
+ * Сущность для работы с таблицей grades в БД.
+ * Таблица секционирована по дате оценки, поэтому дата обязательна
  */
 @Getter
 @Setter
@@ -23,7 +24,7 @@ public class Grade {
     private Long id;
     @Column(name = "mark")
     private Integer mark;
-    @Column(name = "date_of_mark", columnDefinition = "DATE")
+    @Column(name = "date_of_mark", columnDefinition = "DATE", nullable = false)
     private LocalDate dateOfMark;
     @Column(name = "comment")
     private String comment;
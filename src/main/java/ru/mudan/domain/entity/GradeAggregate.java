@@ -0,0 +1,30 @@
+package ru.mudan.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Сущность для чтения таблицы grade_aggregates в БД: количество и сумма оценок ученика
+ * по предмету класса за месяц. Строки изменяются запросом GradeAggregateRepository.addGrade
+ * при записи оценок и пересчитываются целиком для месяцев из grade_aggregate_dirty_months
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@Immutable
+@Entity
+@Table(name = "grade_aggregates")
+public class GradeAggregate {
+    @EmbeddedId
+    private GradeAggregateId id;
+    @Column(name = "grades_count")
+    private int gradesCount;
+    @Column(name = "marks_sum")
+    private long marksSum;
+}
@@ -0,0 +1,29 @@
+package ru.mudan.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Составной ключ сумм оценок для отчётов: класс, первый день месяца, предмет и ученик
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@Embeddable
+public class GradeAggregateId implements Serializable {
+    @Column(name = "class_id")
+    private Long classId;
+    @Column(name = "month", columnDefinition = "DATE")
+    private LocalDate month;
+    @Column(name = "subject_id")
+    private Long subjectId;
+    @Column(name = "student_id")
+    private Long studentId;
+}
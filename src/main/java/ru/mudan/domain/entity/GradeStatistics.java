@@ -0,0 +1,44 @@
+package ru.mudan.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Сущность для чтения таблицы grade_statistics в БД: накопительные суммы оценок ученика
+ * по предмету за четверть. Строки изменяются только запросом
+ * GradeStatisticsRepository.addGrade при сохранении, изменении и удалении оценок
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@Immutable
+@Entity
+@Table(name = "grade_statistics")
+public class GradeStatistics {
+    @EmbeddedId
+    private GradeStatisticsId id;
+    @Column(name = "grades_count")
+    private int gradesCount;
+    @Column(name = "marks_sum")
+    private long marksSum;
+    @Column(name = "mark2_count")
+    private int mark2Count;
+    @Column(name = "mark3_count")
+    private int mark3Count;
+    @Column(name = "mark4_count")
+    private int mark4Count;
+    @Column(name = "mark5_count")
+    private int mark5Count;
+    @Column(name = "days_sum")
+    private long daysSum;
+    @Column(name = "days_sq_sum")
+    private long daysSqSum;
+    @Column(name = "days_marks_sum")
+    private long daysMarksSum;
+}
@@ -0,0 +1,27 @@
+package ru.mudan.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Составной ключ накопительных сумм оценок: ученик, предмет и первый день четверти
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@Embeddable
+public class GradeStatisticsId implements Serializable {
+    @Column(name = "student_id")
+    private Long studentId;
+    @Column(name = "subject_id")
+    private Long subjectId;
+    @Column(name = "term_start", columnDefinition = "DATE")
+    private LocalDate termStart;
+}
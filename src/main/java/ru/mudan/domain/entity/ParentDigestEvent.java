@@ -0,0 +1,49 @@
+package ru.mudan.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import ru.mudan.domain.entity.users.Parent;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.util.enums.DigestEventKind;
+
+/**
+ * Сущность для работы с таблицей parent_digest_events в БД:
+ * новая оценка или ДЗ ребёнка, ещё не вошедшие в сводку родителю.
+ * Записи создаются запросами ParentDigestEventRepository и удаляются после постановки сводки в очередь
+ */
+@Getter
+@ToString(exclude = {"parent", "student"})
+@NoArgsConstructor
+@Entity
+@Table(name = "parent_digest_events")
+public class ParentDigestEvent {
+    @Id
+    private Long id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Parent parent;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id")
+    private Student student;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind")
+    private DigestEventKind kind;
+    @Column(name = "subject_name")
+    private String subjectName;
+    @Column(name = "mark")
+    private Integer mark;
+    @Column(name = "title")
+    private String title;
+    @Column(name = "event_date", columnDefinition = "DATE")
+    private LocalDate eventDate;
+    @Column(name = "grade_id")
+    private Long gradeId;
+    @Column(name = "homework_id")
+    private Long homeworkId;
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package ru.mudan.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Сущность для работы с таблицей password_setup_tokens в БД:
+ * одноразовая ссылка для установки пароля, отправленная пользователю после регистрации
+ */
+@Getter
+@Setter
+@ToString(exclude = "tokenHash")
+@NoArgsConstructor
+@Entity
+@Table(name = "password_setup_tokens")
+public class PasswordSetupToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "password_setup_tokens_id_seq")
+    @SequenceGenerator(name = "password_setup_tokens_id_seq", sequenceName = "password_setup_tokens_id_seq",
+            allocationSize = 50)
+    private Long id;
+    @Column(name = "email")
+    private String email;
+    @Column(name = "token_hash")
+    private String tokenHash;
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public PasswordSetupToken(String email, String tokenHash, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.email = email;
+        this.tokenHash = tokenHash;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+}
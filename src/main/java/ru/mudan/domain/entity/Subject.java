@@ -3,6 +3,8 @@ package ru.mudan.domain.entity;
 import jakarta.persistence.*;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.mudan.domain.entity.users.Teacher;
 
 /**
@@ -13,6 +15,8 @@ import ru.mudan.domain.entity.users.Teacher;
 @ToString
 @NoArgsConstructor
 @EqualsAndHashCode(exclude = {"grades", "homeworks", "schedules"})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SUBJECTS)
 @Entity
 @Table(name = "subjects")
 public class Subject {
@@ -28,6 +32,8 @@ public class Subject {
     private String code;
     @Column(name = "description")
     private String description;
+    @Column(name = "weekly_hours")
+    private int weeklyHours;
     @ManyToOne
     @JoinColumn(name = "class_id")
     private ClassEntity classEntity;
@@ -38,6 +44,7 @@ public class Subject {
     private List<Grade> grades;
     @OneToMany(mappedBy = "subject")
     private List<Homework> homeworks;
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SUBJECT_SCHEDULES)
     @OneToMany(mappedBy = "subject")
     private List<Schedule> schedules;
 
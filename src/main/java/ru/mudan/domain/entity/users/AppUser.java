@@ -19,7 +19,8 @@ import ru.mudan.util.enums.Role;
 public class AppUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_users_id_seq")
+    @SequenceGenerator(name = "app_users_id_seq", sequenceName = "app_users_id_seq", allocationSize = 50)
     private Long id;
     @Column(name = "user_id")
     private Long userId;
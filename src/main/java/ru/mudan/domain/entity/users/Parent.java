@@ -22,7 +22,8 @@ import ru.mudan.util.enums.Role;
 public class Parent implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parents_id_seq")
+    @SequenceGenerator(name = "parents_id_seq", sequenceName = "parents_id_seq", allocationSize = 50)
     private Long id;
     @Column(name = "firstname")
     private String firstname;
@@ -5,8 +5,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import ru.mudan.domain.entity.CacheRegions;
 import ru.mudan.domain.entity.ClassEntity;
 import ru.mudan.domain.entity.Grade;
 import ru.mudan.util.enums.Role;
@@ -19,12 +22,15 @@ import ru.mudan.util.enums.Role;
 @ToString
 @NoArgsConstructor
 @EqualsAndHashCode(exclude = "grades")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.STUDENTS)
 @Entity
 @Table(name = "students")
 public class Student implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_id_seq")
+    @SequenceGenerator(name = "students_id_seq", sequenceName = "students_id_seq", allocationSize = 50)
     private Long id;
     @Column(name = "firstname")
     private String firstname;
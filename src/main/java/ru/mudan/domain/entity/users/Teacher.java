@@ -5,8 +5,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import ru.mudan.domain.entity.CacheRegions;
 import ru.mudan.domain.entity.Subject;
 import ru.mudan.util.enums.Role;
 
@@ -18,6 +21,8 @@ import ru.mudan.util.enums.Role;
 @ToString
 @NoArgsConstructor
 @EqualsAndHashCode(exclude = "subjects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TEACHERS)
 @Entity
 @Table(name = "teachers")
 public class Teacher implements UserDetails {
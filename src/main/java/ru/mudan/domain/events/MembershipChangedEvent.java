@@ -0,0 +1,8 @@
+package ru.mudan.domain.events;
+
+/**
+ * Событие изменения состава классов, предметов классов или привязки детей к родителям,
+ * публикуется в транзакции изменения
+ */
+public record MembershipChangedEvent() {
+}
@@ -0,0 +1,20 @@
+package ru.mudan.domain.events;
+
+import ru.mudan.util.enums.Role;
+
+/**
+ * Событие удаления пользователя, публикуется в транзакции удаления
+ *
+ * @param email - email удалённого пользователя
+ * @param role  - роль удалённого пользователя
+ */
+public record UserDeletedEvent(String email, Role role) {
+
+    /**
+     * Метод для проверки, удалила ли БД вместе с пользователем связанные строки через ON DELETE:
+     * предметы и расписание учителя или ссылки учеников на родителя
+     */
+    public boolean cascades() {
+        return role == Role.ROLE_TEACHER || role == Role.ROLE_PARENT;
+    }
+}
@@ -1,5 +1,7 @@
 package ru.mudan.domain.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -11,4 +13,6 @@ import ru.mudan.domain.entity.users.AppUser;
 @Repository
 public interface AppUserRepository extends JpaRepository<AppUser, Long> {
     Optional<AppUser> findByEmail(String email);
+
+    List<AppUser> findAllByEmailIn(Collection<String> emails);
 }
@@ -1,8 +1,13 @@
 package ru.mudan.domain.repositories;
 
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.mudan.domain.entity.CacheRegions;
 import ru.mudan.domain.entity.ClassEntity;
 
 /**
@@ -11,4 +16,14 @@ import ru.mudan.domain.entity.ClassEntity;
 @Repository
 public interface ClassRepository extends JpaRepository<ClassEntity, Long> {
     Optional<ClassEntity> findByLetterAndNumber(String letter, Integer number);
+
+    /**
+     * Метод для получения всех классов, результат хранится в кэше запросов до изменения таблицы classes
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
+    List<ClassEntity> findAll();
 }
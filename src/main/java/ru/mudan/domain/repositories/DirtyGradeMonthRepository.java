@@ -0,0 +1,50 @@
+package ru.mudan.domain.repositories;
+
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import ru.mudan.domain.entity.DirtyGradeMonth;
+
+/**
+ * Репозиторий для работы с сущностью DirtyGradeMonth
+ */
+@Repository
+public interface DirtyGradeMonthRepository extends JpaRepository<DirtyGradeMonth, LocalDate> {
+
+    /**
+     * Метод для пометки всех месяцев с оценками по предметам как требующих пересчёта.
+     * Если месяц сейчас пересчитывается, запрос ждёт окончания пересчёта и помечает месяц заново
+     *
+     * @param subjectIds - id предметов
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grade_aggregate_dirty_months"))
+    @Query(nativeQuery = true, value = """
+            insert into grade_aggregate_dirty_months (month, marked_at)
+            select distinct date_trunc('month', g.date_of_mark)::date, now()
+            from grades g
+            where g.subject_id in :subjectIds
+              and g.date_of_mark is not null
+            on conflict (month) do update set marked_at = excluded.marked_at
+            """)
+    int markSubjectsDirty(Collection<Long> subjectIds);
+
+    /**
+     * Метод для блокировки самого раннего месяца, требующего пересчёта.
+     * Месяцы, заблокированные другим экземпляром приложения, пропускаются
+     */
+    @Query(nativeQuery = true, value = """
+            select * from grade_aggregate_dirty_months
+            order by month
+            limit 1
+            for update skip locked
+            """)
+    Optional<DirtyGradeMonth> lockNext();
+}
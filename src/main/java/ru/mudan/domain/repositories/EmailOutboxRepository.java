@@ -0,0 +1,51 @@
+package ru.mudan.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.mudan.domain.entity.EmailOutboxMessage;
+import ru.mudan.util.enums.OutboxStatus;
+
+/**
+ * Репозиторий для работы с сущностью EmailOutboxMessage
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /**
+     * Метод для блокировки очередной пачки писем, готовых к отправке: ожидающих очередной попытки
+     * и захваченных экземпляром, который не записал результат отправки до истечения срока захвата.
+     * Письма, заблокированные другим экземпляром приложения, пропускаются
+     *
+     * @param now   - текущее время
+     * @param limit - размер пачки
+     */
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+               OR (status = 'SENDING' AND lease_until <= :now)
+            ORDER BY next_attempt_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutboxMessage> lockBatchForDispatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * Метод для удаления отправленных и неотправляемых писем, поставленных в очередь раньше указанного времени,
+     * возвращает количество удалённых писем
+     *
+     * @param createdBefore - время, раньше которого письма удаляются
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM email_outbox
+            WHERE status IN ('SENT', 'DEAD') AND created_at < :createdBefore
+            """, nativeQuery = true)
+    int deleteFinishedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -0,0 +1,126 @@
+package ru.mudan.domain.repositories;
+
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import ru.mudan.domain.entity.GradeAggregate;
+import ru.mudan.domain.entity.GradeAggregateId;
+import ru.mudan.dto.reports.ClassSubjectMarksDTO;
+import ru.mudan.dto.reports.StudentMarksDTO;
+
+/**
+ * Репозиторий для работы с сущностью GradeAggregate.
+ * Таблица изменяющих запросов указана явно, иначе Hibernate сбрасывал бы весь второй уровень кэша
+ */
+@Repository
+public interface GradeAggregateRepository extends JpaRepository<GradeAggregate, GradeAggregateId> {
+
+    /**
+     * Метод для добавления оценки в суммы месяца или её вычитания из них одним запросом
+     *
+     * @param classId   - id класса предмета
+     * @param month     - первый день месяца оценки
+     * @param subjectId - id предмета
+     * @param studentId - id ученика
+     * @param mark      - оценка
+     * @param sign      - 1 для добавления оценки, -1 для вычитания
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grade_aggregates"))
+    @Query(nativeQuery = true, value = """
+            insert into grade_aggregates as ga (class_id, month, subject_id, student_id, grades_count, marks_sum)
+            values (:classId, :month, :subjectId, :studentId, :sign, :sign * :mark)
+            on conflict (class_id, month, subject_id, student_id) do update set
+                grades_count = ga.grades_count + excluded.grades_count,
+                marks_sum = ga.marks_sum + excluded.marks_sum
+            """)
+    void addGrade(Long classId, LocalDate month, Long subjectId, Long studentId, int mark, int sign);
+
+    /**
+     * Метод для блокировки сумм на время пересчёта месяца. Блокировка не пускает параллельные
+     * addGrade до конца транзакции пересчёта, а сам пересчёт ждёт завершения уже начатых записей,
+     * поэтому каждая оценка попадает в суммы ровно один раз
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grade_aggregates"))
+    @Query(nativeQuery = true, value = "lock table grade_aggregates in share row exclusive mode")
+    void lockForRebuild();
+
+    /**
+     * Метод для удаления всех сумм за месяц
+     *
+     * @param month - первый день месяца
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grade_aggregates"))
+    @Query(nativeQuery = true, value = "delete from grade_aggregates where month = :month")
+    int deleteMonth(LocalDate month);
+
+    /**
+     * Метод для вычисления сумм за месяц по оценкам
+     *
+     * @param month     - первый день месяца
+     * @param nextMonth - первый день следующего месяца
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grade_aggregates"))
+    @Query(nativeQuery = true, value = """
+            insert into grade_aggregates (class_id, month, subject_id, student_id, grades_count, marks_sum)
+            select s.class_id, :month, g.subject_id, g.student_id, count(*), sum(g.mark)
+            from grades g
+                     join subjects s on s.id = g.subject_id
+            where g.date_of_mark >= :month
+              and g.date_of_mark < :nextMonth
+              and s.class_id is not null
+              and g.student_id is not null
+              and g.mark is not null
+            group by s.class_id, g.subject_id, g.student_id
+            """)
+    int rebuildMonth(LocalDate month, LocalDate nextMonth);
+
+    /**
+     * Метод для получения количества и суммы оценок каждого ученика по всем предметам класса за период
+     *
+     * @param classId - id класса
+     * @param from    - первый день первого месяца периода
+     * @param to      - первый день последнего месяца периода
+     */
+    @Query("""
+            select new ru.mudan.dto.reports.StudentMarksDTO(st.id, st.firstname, st.lastname,
+                                                           sum(ga.gradesCount), sum(ga.marksSum))
+            from GradeAggregate ga
+                     join Student st on st.id = ga.id.studentId
+            where ga.id.classId = :classId
+              and ga.id.month between :from and :to
+            group by st.id, st.firstname, st.lastname
+            having sum(ga.gradesCount) > 0
+            """)
+    List<StudentMarksDTO> findStudentMarksForClass(Long classId, LocalDate from, LocalDate to);
+
+    /**
+     * Метод для получения количества и суммы оценок по каждому предмету каждого класса параллели за период.
+     * Предметы разных классов объединяются по названию
+     *
+     * @param number - номер классов параллели
+     * @param from   - первый день первого месяца периода
+     * @param to     - первый день последнего месяца периода
+     */
+    @Query("""
+            select new ru.mudan.dto.reports.ClassSubjectMarksDTO(c.id, c.number, c.letter, s.name,
+                                                                sum(ga.gradesCount), sum(ga.marksSum))
+            from GradeAggregate ga
+                     join ClassEntity c on c.id = ga.id.classId
+                     join Subject s on s.id = ga.id.subjectId
+            where c.number = :number
+              and ga.id.month between :from and :to
+            group by c.id, c.number, c.letter, s.name
+            having sum(ga.gradesCount) > 0
+            """)
+    List<ClassSubjectMarksDTO> findClassSubjectMarksForParallel(Integer number, LocalDate from, LocalDate to);
+}
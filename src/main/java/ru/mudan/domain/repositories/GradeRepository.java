@@ -1,16 +1,210 @@
 package ru.mudan.domain.repositories;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.mudan.domain.entity.Grade;
-import ru.mudan.domain.entity.Subject;
-import ru.mudan.domain.entity.users.Student;
+import ru.mudan.dto.grades.GradeDTO;
+import ru.mudan.dto.grades.GradeDTOResponse;
+import ru.mudan.dto.parent.ChildGradeDTO;
+import ru.mudan.dto.teacher.DashboardGradeDTO;
 
 /**
- * Репозиторий для работы с сущностью Grade
+ * Репозиторий для работы с сущностью Grade.
+ * Таблица grades секционирована по учебным годам, запросы списков оценок ограничены периодом,
+ * чтобы БД читала только секции этого периода
  */
 @Repository
 public interface GradeRepository extends JpaRepository<Grade, Long> {
-    List<Grade> findAllByStudentAndSubject(Student student, Subject subject);
+
+    /**
+     * Метод для получения оценки по id с блокировкой строки. Изменение и удаление оценки
+     * вычитают её старые значения из накопительных сумм, поэтому параллельные изменения
+     * одной оценки выполняются по очереди и читают уже записанные значения
+     *
+     * @param id - id оценки
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Grade g where g.id = :id")
+    Optional<Grade> findByIdForUpdate(Long id);
+
+    /**
+     * Метод для получения оценок ученика по предмету за период
+     *
+     * @param studentId - id ученика
+     * @param subjectId - id предмета
+     * @param from      - начало периода (включительно)
+     * @param to        - конец периода (включительно)
+     */
+    @Query("""
+            select g
+            from Grade g
+            where g.student.id = :studentId
+              and g.subject.id = :subjectId
+              and g.dateOfMark between :from and :to
+            order by g.dateOfMark, g.id
+            """)
+    List<Grade> findAllByStudentAndSubjectBetween(Long studentId, Long subjectId, LocalDate from, LocalDate to);
+
+    /**
+     * Метод для получения оценок по предмету за период вместе с именами учеников
+     * одним запросом к БД
+     *
+     * @param subjectId - id предмета
+     * @param from      - начало периода (включительно)
+     * @param to        - конец периода (включительно)
+     */
+    @Query("""
+            select new ru.mudan.dto.grades.GradeDTOResponse(
+                g.id, g.mark, g.dateOfMark, g.comment, st.firstname, st.lastname)
+            from Grade g
+            join g.student st
+            where g.subject.id = :subjectId
+              and g.dateOfMark between :from and :to
+            order by g.dateOfMark, g.id
+            """)
+    List<GradeDTOResponse> findAllResponsesBySubjectId(Long subjectId, LocalDate from, LocalDate to);
+
+    /**
+     * Метод для потокового чтения оценок учеников класса за период в порядке id учеников.
+     * Оценки читаются из БД порциями по мере обхода потока и загружаются только для чтения
+     *
+     * @param classId - id класса
+     * @param from    - начало периода (включительно)
+     * @param to      - конец периода (включительно)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select g
+            from Grade g
+            join fetch g.student st
+            join fetch g.subject
+            where st.classEntity.id = :classId
+              and g.dateOfMark between :from and :to
+            order by st.id, g.dateOfMark, g.id
+            """)
+    Stream<Grade> streamAllForClass(Long classId, LocalDate from, LocalDate to);
+
+    /**
+     * Метод для получения первой страницы оценок ученика за период
+     *
+     * @param studentId - id ученика
+     * @param from      - начало периода (включительно)
+     * @param to        - конец периода (включительно)
+     * @param pageable  - размер страницы
+     */
+    @Query("""
+            select new ru.mudan.dto.grades.GradeDTO(
+                g.id, g.mark, g.dateOfMark, g.comment, g.student.id, g.subject.id)
+            from Grade g
+            where g.student.id = :studentId
+              and g.dateOfMark between :from and :to
+            order by g.dateOfMark, g.id
+            """)
+    List<GradeDTO> findFirstPageForStudent(Long studentId, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Метод для получения страницы оценок ученика за период,
+     * следующих после оценки с датой afterDate и id afterId
+     *
+     * @param studentId - id ученика
+     * @param from      - начало периода (включительно)
+     * @param to        - конец периода (включительно)
+     * @param afterDate - дата последней показанной оценки
+     * @param afterId   - id последней показанной оценки
+     * @param pageable  - размер страницы
+     */
+    @Query("""
+            select new ru.mudan.dto.grades.GradeDTO(
+                g.id, g.mark, g.dateOfMark, g.comment, g.student.id, g.subject.id)
+            from Grade g
+            where g.student.id = :studentId
+              and g.dateOfMark between :from and :to
+              and g.dateOfMark >= :afterDate
+              and (g.dateOfMark > :afterDate or g.id > :afterId)
+            order by g.dateOfMark, g.id
+            """)
+    List<GradeDTO> findPageForStudentAfter(Long studentId,
+                                           LocalDate from,
+                                           LocalDate to,
+                                           LocalDate afterDate,
+                                           Long afterId,
+                                           Pageable pageable);
+
+    /**
+     * Метод для получения id предмета оценки без загрузки самой оценки
+     *
+     * @param id - id оценки
+     */
+    @Query("select g.subject.id from Grade g where g.id = :id")
+    Optional<Long> findSubjectIdById(Long id);
+
+    /**
+     * Метод для создания секции оценок учебного года, если её ещё нет.
+     * Возвращает true, если секция была создана
+     *
+     * @param startYear - год начала учебного года
+     */
+    @Query(value = "select create_grades_partition(:startYear)", nativeQuery = true)
+    boolean createSchoolYearPartition(int startYear);
+
+    /**
+     * Метод для отсоединения секции оценок прошедшего учебного года в архивную таблицу.
+     * Возвращает название архивной таблицы
+     *
+     * @param startYear  - год начала учебного года
+     * @param tablespace - табличное пространство для архивной таблицы, null - оставить текущее
+     */
+    @Query(value = "select archive_grades_partition(:startYear, cast(:tablespace as text))", nativeQuery = true)
+    String archiveSchoolYearPartition(int startYear, String tablespace);
+
+    /**
+     * Метод для получения последних оценок по предметам учителя с даты
+     *
+     * @param teacherId - id учителя
+     * @param from      - начало периода (включительно)
+     * @param pageable  - количество оценок
+     */
+    @Query("""
+            select new ru.mudan.dto.teacher.DashboardGradeDTO(
+                g.id, g.mark, g.dateOfMark, s.id, st.lastname, st.firstname)
+            from Grade g
+            join g.subject s
+            join g.student st
+            where s.teacher.id = :teacherId
+              and g.dateOfMark >= :from
+            order by g.dateOfMark desc, g.id desc
+            """)
+    List<DashboardGradeDTO> findRecentForTeacher(Long teacherId, LocalDate from, Pageable pageable);
+
+    /**
+     * Метод для получения оценок нескольких учеников с даты одним запросом, новые оценки первыми
+     *
+     * @param studentIds - id учеников
+     * @param from       - начало периода (включительно)
+     */
+    @Query("""
+            select new ru.mudan.dto.parent.ChildGradeDTO(
+                g.id, g.mark, g.dateOfMark, g.student.id, s.name)
+            from Grade g
+            join g.subject s
+            where g.student.id in :studentIds
+              and g.dateOfMark >= :from
+            order by g.dateOfMark desc, g.id desc
+            """)
+    List<ChildGradeDTO> findLatestForStudents(Collection<Long> studentIds, LocalDate from);
 }
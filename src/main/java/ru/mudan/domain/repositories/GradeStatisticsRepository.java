@@ -0,0 +1,114 @@
+package ru.mudan.domain.repositories;
+
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import ru.mudan.domain.entity.GradeStatistics;
+import ru.mudan.domain.entity.GradeStatisticsId;
+
+/**
+ * Репозиторий для работы с сущностью GradeStatistics
+ */
+@Repository
+public interface GradeStatisticsRepository extends JpaRepository<GradeStatistics, GradeStatisticsId> {
+
+    /**
+     * Метод для добавления оценки в накопительные суммы или её вычитания из них одним запросом.
+     * Таблица запроса указана явно, иначе Hibernate сбрасывал бы весь второй уровень кэша
+     *
+     * @param studentId - id ученика
+     * @param subjectId - id предмета
+     * @param termStart - первый день четверти оценки
+     * @param mark      - оценка
+     * @param day       - номер дня оценки от начала четверти
+     * @param sign      - 1 для добавления оценки, -1 для вычитания
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grade_statistics"))
+    @Query(nativeQuery = true, value = """
+            insert into grade_statistics as gs (student_id, subject_id, term_start, grades_count, marks_sum,
+                                                mark2_count, mark3_count, mark4_count, mark5_count,
+                                                days_sum, days_sq_sum, days_marks_sum)
+            values (:studentId, :subjectId, :termStart, :sign, :sign * :mark,
+                    case when :mark = 2 then :sign else 0 end,
+                    case when :mark = 3 then :sign else 0 end,
+                    case when :mark = 4 then :sign else 0 end,
+                    case when :mark = 5 then :sign else 0 end,
+                    :sign * :day, :sign * :day * :day, :sign * :day * :mark)
+            on conflict (student_id, subject_id, term_start) do update set
+                grades_count = gs.grades_count + excluded.grades_count,
+                marks_sum = gs.marks_sum + excluded.marks_sum,
+                mark2_count = gs.mark2_count + excluded.mark2_count,
+                mark3_count = gs.mark3_count + excluded.mark3_count,
+                mark4_count = gs.mark4_count + excluded.mark4_count,
+                mark5_count = gs.mark5_count + excluded.mark5_count,
+                days_sum = gs.days_sum + excluded.days_sum,
+                days_sq_sum = gs.days_sq_sum + excluded.days_sq_sum,
+                days_marks_sum = gs.days_marks_sum + excluded.days_marks_sum
+            """)
+    void addGrade(Long studentId, Long subjectId, LocalDate termStart, int mark, int day, int sign);
+
+    /**
+     * Метод для получения сумм ученика по всем предметам за период четвертей
+     *
+     * @param studentId - id ученика
+     * @param from      - первый день первой четверти периода
+     * @param to        - первый день последней четверти периода
+     */
+    @Query("""
+            select gs from GradeStatistics gs
+            where gs.id.studentId = :studentId
+              and gs.id.termStart between :from and :to
+              and gs.gradesCount > 0
+            """)
+    List<GradeStatistics> findAllForStudent(Long studentId, LocalDate from, LocalDate to);
+
+    /**
+     * Метод для получения сумм нескольких учеников за четверть
+     *
+     * @param studentIds - id учеников
+     * @param termStart  - первый день четверти
+     */
+    @Query("""
+            select gs from GradeStatistics gs
+            where gs.id.studentId in :studentIds
+              and gs.id.termStart = :termStart
+              and gs.gradesCount > 0
+            """)
+    List<GradeStatistics> findAllForStudents(Collection<Long> studentIds, LocalDate termStart);
+
+    /**
+     * Метод для получения сумм всех учеников по предмету за четверть
+     *
+     * @param subjectId - id предмета
+     * @param termStart - первый день четверти
+     */
+    @Query("""
+            select gs from GradeStatistics gs
+            where gs.id.subjectId = :subjectId
+              and gs.id.termStart = :termStart
+              and gs.gradesCount > 0
+            """)
+    List<GradeStatistics> findAllForSubject(Long subjectId, LocalDate termStart);
+
+    /**
+     * Метод для получения сумм по всем предметам класса за четверть
+     *
+     * @param classId   - id класса
+     * @param termStart - первый день четверти
+     */
+    @Query("""
+            select gs from GradeStatistics gs
+            where gs.id.subjectId in (select s.id from Subject s where s.classEntity.id = :classId)
+              and gs.id.termStart = :termStart
+              and gs.gradesCount > 0
+            """)
+    List<GradeStatistics> findAllForClass(Long classId, LocalDate termStart);
+}
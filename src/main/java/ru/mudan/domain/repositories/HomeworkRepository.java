@@ -1,11 +1,20 @@
 package ru.mudan.domain.repositories;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.mudan.domain.entity.ClassEntity;
 import ru.mudan.domain.entity.Homework;
 import ru.mudan.domain.entity.Subject;
+import ru.mudan.dto.homework.HomeworkSearchResultDTO;
+import ru.mudan.dto.parent.ChildHomeworkDTO;
+import ru.mudan.dto.teacher.DashboardHomeworkDTO;
 
 /**
  * Репозиторий для работы с сущностью Homework
@@ -13,4 +22,131 @@ import ru.mudan.domain.entity.Subject;
 @Repository
 public interface HomeworkRepository extends JpaRepository<Homework, Long> {
     List<Homework> findByClassEntityAndSubject(ClassEntity classEntity, Subject subject);
+
+    /**
+     * Метод для получения id предмета ДЗ без загрузки самого ДЗ
+     *
+     * @param id - id ДЗ
+     */
+    @Query("select h.subject.id from Homework h where h.id = :id")
+    Optional<Long> findSubjectIdById(Long id);
+
+    /**
+     * Метод для получения страницы id ДЗ, подходящих под поисковый запрос,
+     * от самых релевантных к менее релевантным
+     *
+     * @param query    - поисковый запрос в формате websearch_to_tsquery
+     * @param pageable - страница без сортировки
+     */
+    @Query(nativeQuery = true,
+            value = """
+                    select h.id from homeworks h
+                    where h.search_vector @@ websearch_to_tsquery('russian', :query)
+                    order by ts_rank(h.search_vector, websearch_to_tsquery('russian', :query)) desc,
+                             h.deadline desc, h.id desc
+                    """,
+            countQuery = """
+                    select count(*) from homeworks h
+                    where h.search_vector @@ websearch_to_tsquery('russian', :query)
+                    """)
+    Page<Long> searchIds(String query, Pageable pageable);
+
+    /**
+     * Метод для получения страницы id ДЗ классов, подходящих под поисковый запрос,
+     * от самых релевантных к менее релевантным
+     *
+     * @param query    - поисковый запрос в формате websearch_to_tsquery
+     * @param classIds - id классов
+     * @param pageable - страница без сортировки
+     */
+    @Query(nativeQuery = true,
+            value = """
+                    select h.id from homeworks h
+                    where h.search_vector @@ websearch_to_tsquery('russian', :query)
+                    and h.class_id in (:classIds)
+                    order by ts_rank(h.search_vector, websearch_to_tsquery('russian', :query)) desc,
+                             h.deadline desc, h.id desc
+                    """,
+            countQuery = """
+                    select count(*) from homeworks h
+                    where h.search_vector @@ websearch_to_tsquery('russian', :query)
+                    and h.class_id in (:classIds)
+                    """)
+    Page<Long> searchIdsInClasses(String query, Collection<Long> classIds, Pageable pageable);
+
+    /**
+     * Метод для получения страницы id ДЗ по предметам, подходящих под поисковый запрос,
+     * от самых релевантных к менее релевантным
+     *
+     * @param query      - поисковый запрос в формате websearch_to_tsquery
+     * @param subjectIds - id предметов
+     * @param pageable   - страница без сортировки
+     */
+    @Query(nativeQuery = true,
+            value = """
+                    select h.id from homeworks h
+                    where h.search_vector @@ websearch_to_tsquery('russian', :query)
+                    and h.subject_id in (:subjectIds)
+                    order by ts_rank(h.search_vector, websearch_to_tsquery('russian', :query)) desc,
+                             h.deadline desc, h.id desc
+                    """,
+            countQuery = """
+                    select count(*) from homeworks h
+                    where h.search_vector @@ websearch_to_tsquery('russian', :query)
+                    and h.subject_id in (:subjectIds)
+                    """)
+    Page<Long> searchIdsInSubjects(String query, Collection<Long> subjectIds, Pageable pageable);
+
+    /**
+     * Метод для получения найденных ДЗ вместе с названием предмета и классом,
+     * ДЗ без класса или предмета тоже возвращаются
+     *
+     * @param ids - id ДЗ
+     */
+    @Query("""
+            select new ru.mudan.dto.homework.HomeworkSearchResultDTO(
+                h.id, h.title, h.description, h.deadline, s.name, c.number, c.letter)
+            from Homework h
+            left join h.subject s
+            left join h.classEntity c
+            where h.id in :ids
+            """)
+    List<HomeworkSearchResultDTO> findSearchResultsByIdIn(Collection<Long> ids);
+
+    /**
+     * Метод для получения ближайших ДЗ по предметам учителя, срок сдачи которых ещё не прошёл
+     *
+     * @param teacherId - id учителя
+     * @param today     - текущая дата
+     * @param pageable  - количество ДЗ
+     */
+    @Query("""
+            select new ru.mudan.dto.teacher.DashboardHomeworkDTO(
+                h.id, h.title, h.deadline, s.name, c.number, c.letter)
+            from Homework h
+            join h.subject s
+            join h.classEntity c
+            where s.teacher.id = :teacherId
+              and h.deadline >= :today
+            order by h.deadline, h.id
+            """)
+    List<DashboardHomeworkDTO> findPendingForTeacher(Long teacherId, LocalDate today, Pageable pageable);
+
+    /**
+     * Метод для получения ДЗ нескольких классов со сроком сдачи в периоде одним запросом
+     *
+     * @param classIds - id классов
+     * @param from     - начало периода (включительно)
+     * @param to       - конец периода (включительно)
+     */
+    @Query("""
+            select new ru.mudan.dto.parent.ChildHomeworkDTO(
+                h.id, h.title, h.deadline, h.classEntity.id, s.name)
+            from Homework h
+            join h.subject s
+            where h.classEntity.id in :classIds
+              and h.deadline between :from and :to
+            order by h.deadline, h.id
+            """)
+    List<ChildHomeworkDTO> findUpcomingForClasses(Collection<Long> classIds, LocalDate from, LocalDate to);
 }
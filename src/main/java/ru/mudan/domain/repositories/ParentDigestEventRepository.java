@@ -0,0 +1,153 @@
+package ru.mudan.domain.repositories;
+
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import ru.mudan.domain.entity.ParentDigestEvent;
+
+/**
+ * Репозиторий для работы с сущностью ParentDigestEvent.
+ * Таблица изменяющих запросов указана явно, иначе Hibernate сбрасывал бы весь второй уровень кэша
+ */
+@Repository
+public interface ParentDigestEventRepository extends JpaRepository<ParentDigestEvent, Long> {
+
+    /**
+     * Метод для записи события новой оценки родителю ученика.
+     * Для ученика без родителя событие не записывается
+     *
+     * @param gradeId     - id оценки
+     * @param studentId   - id ученика
+     * @param subjectName - название предмета
+     * @param mark        - оценка
+     * @param dateOfMark  - дата оценки
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "parent_digest_events"))
+    @Query(nativeQuery = true, value = """
+            insert into parent_digest_events (parent_id, student_id, kind, subject_name, mark, event_date, grade_id)
+            select s.parent_id, s.id, 'GRADE', :subjectName, :mark, :dateOfMark, :gradeId
+            from students s
+            where s.id = :studentId
+              and s.parent_id is not null
+            """)
+    int addGradeEvent(Long gradeId, Long studentId, String subjectName, Integer mark, LocalDate dateOfMark);
+
+    /**
+     * Метод для записи события нового ДЗ родителям всех учеников класса
+     *
+     * @param homeworkId  - id ДЗ
+     * @param classId     - id класса
+     * @param subjectName - название предмета
+     * @param title       - название ДЗ
+     * @param deadline    - срок сдачи ДЗ
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "parent_digest_events"))
+    @Query(nativeQuery = true, value = """
+            insert into parent_digest_events (parent_id, student_id, kind, subject_name, title, event_date, homework_id)
+            select s.parent_id, s.id, 'HOMEWORK', :subjectName, :title, :deadline, :homeworkId
+            from students s
+            where s.class_id = :classId
+              and s.parent_id is not null
+            """)
+    int addHomeworkEvents(Long homeworkId, Long classId, String subjectName, String title, LocalDate deadline);
+
+    /**
+     * Метод для изменения ещё не отправленного события оценки
+     *
+     * @param gradeId    - id оценки
+     * @param mark       - новая оценка
+     * @param dateOfMark - новая дата оценки
+     */
+    @Modifying
+    @Query("update ParentDigestEvent e set e.mark = :mark, e.eventDate = :dateOfMark where e.gradeId = :gradeId")
+    int updateGradeEvents(Long gradeId, Integer mark, LocalDate dateOfMark);
+
+    /**
+     * Метод для удаления ещё не отправленного события оценки
+     *
+     * @param gradeId - id оценки
+     */
+    @Modifying
+    @Query("delete from ParentDigestEvent e where e.gradeId = :gradeId")
+    int deleteGradeEvents(Long gradeId);
+
+    /**
+     * Метод для изменения ещё не отправленных событий ДЗ
+     *
+     * @param homeworkId - id ДЗ
+     * @param title      - новое название ДЗ
+     * @param deadline   - новый срок сдачи ДЗ
+     */
+    @Modifying
+    @Query("update ParentDigestEvent e set e.title = :title, e.eventDate = :deadline where e.homeworkId = :homeworkId")
+    int updateHomeworkEvents(Long homeworkId, String title, LocalDate deadline);
+
+    /**
+     * Метод для удаления ещё не отправленных событий ДЗ
+     *
+     * @param homeworkId - id ДЗ
+     */
+    @Modifying
+    @Query("delete from ParentDigestEvent e where e.homeworkId = :homeworkId")
+    int deleteHomeworkEvents(Long homeworkId);
+
+    /**
+     * Метод для получения id последнего записанного события, события после него войдут в следующую сводку
+     */
+    @Query("select coalesce(max(e.id), 0) from ParentDigestEvent e")
+    long findLastEventId();
+
+    /**
+     * Метод для блокировки очередной пачки родителей, у которых есть события для сводки.
+     * Родители, заблокированные другим экземпляром приложения, пропускаются
+     *
+     * @param afterParentId - id последнего обработанного родителя
+     * @param lastEventId   - id последнего события, входящего в сводку
+     * @param limit         - размер пачки
+     */
+    @Query(nativeQuery = true, value = """
+            select p.id from parents p
+            where p.id > :afterParentId
+              and exists(select 1 from parent_digest_events e where e.parent_id = p.id and e.id <= :lastEventId)
+            order by p.id
+            limit :limit
+            for update of p skip locked
+            """)
+    List<Long> lockParentsWithEvents(Long afterParentId, long lastEventId, int limit);
+
+    /**
+     * Метод для получения событий сводки родителей вместе с родителями и учениками,
+     * упорядоченных по родителю, ученику и виду события
+     *
+     * @param parentIds   - id родителей
+     * @param lastEventId - id последнего события, входящего в сводку
+     */
+    @Query("""
+            select e from ParentDigestEvent e
+                     join fetch e.parent
+                     join fetch e.student
+            where e.parent.id in :parentIds
+              and e.id <= :lastEventId
+            order by e.parent.id, e.student.id, e.kind, e.id
+            """)
+    List<ParentDigestEvent> findAllForDigest(Collection<Long> parentIds, long lastEventId);
+
+    /**
+     * Метод для удаления событий, вошедших в сводки родителей
+     *
+     * @param parentIds   - id родителей
+     * @param lastEventId - id последнего события, входящего в сводку
+     */
+    @Modifying
+    @Query("delete from ParentDigestEvent e where e.parent.id in :parentIds and e.id <= :lastEventId")
+    int deleteAllForDigest(Collection<Long> parentIds, long lastEventId);
+}
@@ -1,6 +1,11 @@
 package ru.mudan.domain.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.mudan.domain.entity.users.Parent;
 
@@ -9,4 +14,16 @@ import ru.mudan.domain.entity.users.Parent;
  */
 @Repository
 public interface ParentRepository extends JpaRepository<Parent, Long> {
+    List<Parent> findAllByEmailIn(Collection<String> emails);
+
+    /**
+     * Метод для получения страницы родителей, у которых ФИО или почта подходят под шаблон LIKE
+     *
+     * @param pattern  - шаблон в нижнем регистре
+     * @param pageable - страница и сортировка
+     */
+    @Query(nativeQuery = true,
+            value = "select * from parents where search_name like :pattern or lower(email) like :pattern",
+            countQuery = "select count(*) from parents where search_name like :pattern or lower(email) like :pattern")
+    Page<Parent> search(String pattern, Pageable pageable);
 }
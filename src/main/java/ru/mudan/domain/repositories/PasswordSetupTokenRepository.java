@@ -0,0 +1,37 @@
+package ru.mudan.domain.repositories;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.mudan.domain.entity.PasswordSetupToken;
+
+/**
+ * Репозиторий для работы с сущностью PasswordSetupToken
+ */
+@Repository
+public interface PasswordSetupTokenRepository extends JpaRepository<PasswordSetupToken, Long> {
+
+    /**
+     * Метод для получения ссылки по хэшу токена с блокировкой строки,
+     * чтобы одна ссылка не была использована дважды параллельными запросами
+     *
+     * @param tokenHash - SHA-256 хэш токена
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PasswordSetupToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Метод для удаления ссылок, срок действия которых истёк, возвращает количество удалённых ссылок
+     *
+     * @param now - текущее время
+     */
+    @Modifying
+    @Query("delete from PasswordSetupToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,12 +1,125 @@
 package ru.mudan.domain.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.mudan.domain.entity.Schedule;
+import ru.mudan.dto.parent.ChildLessonDTO;
+import ru.mudan.dto.schedule.ScheduleSlotDTO;
+import ru.mudan.dto.teacher.DashboardLessonDTO;
 
 /**
  * Репозиторий для работы с сущностью Schedule
  */
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+
+    /**
+     * Метод для получения расписания класса одним запросом вместе с предметами
+     *
+     * @param classId - id класса
+     */
+    @Query("""
+            select s from Schedule s
+            join fetch s.subject
+            join fetch s.classEntity c
+            where c.id = :classId
+            order by s.dayOfWeek, s.startTime
+            """)
+    List<Schedule> findAllForClassTimetable(@Param("classId") Long classId);
+
+    /**
+     * Метод для получения расписания учителя по всем его предметам одним запросом
+     *
+     * @param teacherId - id учителя
+     */
+    @Query("""
+            select s from Schedule s
+            join fetch s.subject sb
+            join fetch s.classEntity
+            where sb.teacher.id = :teacherId
+            order by s.dayOfWeek, s.startTime
+            """)
+    List<Schedule> findAllForTeacherTimetable(@Param("teacherId") Long teacherId);
+
+    /**
+     * Метод для получения всех уроков школы одним запросом для поиска пересечений
+     */
+    @Query("""
+            select new ru.mudan.dto.schedule.ScheduleSlotDTO(
+                s.id, s.dayOfWeek, s.startTime, s.numberOfClassroom, c.id, t.id)
+            from Schedule s
+            join s.classEntity c
+            join s.subject sb
+            left join sb.teacher t
+            """)
+    List<ScheduleSlotDTO> findAllSlots();
+
+    /**
+     * Метод для получения уроков школы в день недели одним запросом для поиска пересечений
+     *
+     * @param dayOfWeek - номер дня недели
+     */
+    @Query("""
+            select new ru.mudan.dto.schedule.ScheduleSlotDTO(
+                s.id, s.dayOfWeek, s.startTime, s.numberOfClassroom, c.id, t.id)
+            from Schedule s
+            join s.classEntity c
+            join s.subject sb
+            left join sb.teacher t
+            where s.dayOfWeek = :dayOfWeek
+            """)
+    List<ScheduleSlotDTO> findSlotsOnDay(@Param("dayOfWeek") Integer dayOfWeek);
+
+    /**
+     * Метод для блокировки изменений расписания в день недели до завершения текущей транзакции.
+     * Пока блокировка удерживается, другие транзакции любого экземпляра приложения ждут её
+     * перед проверкой уроков этого дня
+     *
+     * @param dayOfWeek - номер дня недели
+     */
+    @Query(value = """
+            SELECT count(*) FROM (SELECT pg_advisory_xact_lock(hashtext('schedules'), :dayOfWeek)) AS day_lock
+            """, nativeQuery = true)
+    long lockDayOfWeek(@Param("dayOfWeek") Integer dayOfWeek);
+
+    /**
+     * Метод для получения уроков учителя в день недели одним запросом вместе с предметом и классом
+     *
+     * @param teacherId - id учителя
+     * @param dayOfWeek - номер дня недели
+     */
+    @Query("""
+            select new ru.mudan.dto.teacher.DashboardLessonDTO(
+                s.startTime, s.numberOfClassroom, sb.id, sb.name, c.number, c.letter)
+            from Schedule s
+            join s.subject sb
+            join s.classEntity c
+            where sb.teacher.id = :teacherId
+              and s.dayOfWeek = :dayOfWeek
+            order by s.startTime
+            """)
+    List<DashboardLessonDTO> findTeacherLessonsOnDay(@Param("teacherId") Long teacherId,
+                                                     @Param("dayOfWeek") Integer dayOfWeek);
+
+    /**
+     * Метод для получения уроков нескольких классов в день недели одним запросом
+     *
+     * @param classIds  - id классов
+     * @param dayOfWeek - номер дня недели
+     */
+    @Query("""
+            select new ru.mudan.dto.parent.ChildLessonDTO(
+                s.startTime, s.numberOfClassroom, s.classEntity.id, sb.name)
+            from Schedule s
+            join s.subject sb
+            where s.classEntity.id in :classIds
+              and s.dayOfWeek = :dayOfWeek
+            order by s.startTime
+            """)
+    List<ChildLessonDTO> findLessonsForClassesOnDay(@Param("classIds") Collection<Long> classIds,
+                                                    @Param("dayOfWeek") Integer dayOfWeek);
 }
@@ -1,11 +1,18 @@
 package ru.mudan.domain.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.mudan.domain.entity.ClassEntity;
 import ru.mudan.domain.entity.users.Parent;
 import ru.mudan.domain.entity.users.Student;
+import ru.mudan.dto.auth.StudentAccessDTO;
 
 /**
  * Репозиторий для работы с сущностью Student
@@ -15,4 +22,53 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     List<Student> findAllByClassEntity(ClassEntity classEntity);
 
     List<Student> findAllByParent(Parent parent);
+
+    /**
+     * Метод для перевода учеников в класс одним запросом
+     *
+     * @param classId - id класса
+     * @param ids     - id учеников
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Student s set s.classEntity.id = :classId where s.id in :ids")
+    int updateClassForStudents(@Param("classId") Long classId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Метод для получения прав ученика: его класс и предметы класса одним запросом
+     *
+     * @param studentId - id ученика
+     */
+    @Query("""
+            select new ru.mudan.dto.auth.StudentAccessDTO(s.id, c.id, sb.id)
+            from Student s
+            left join s.classEntity c
+            left join c.subjects sb
+            where s.id = :studentId
+            """)
+    List<StudentAccessDTO> findAccessByStudentId(Long studentId);
+
+    /**
+     * Метод для получения прав родителя: дети, их классы и предметы классов одним запросом
+     *
+     * @param parentId - id родителя
+     */
+    @Query("""
+            select new ru.mudan.dto.auth.StudentAccessDTO(s.id, c.id, sb.id)
+            from Student s
+            left join s.classEntity c
+            left join c.subjects sb
+            where s.parent.id = :parentId
+            """)
+    List<StudentAccessDTO> findAccessByParentId(Long parentId);
+
+    /**
+     * Метод для получения страницы учеников, у которых ФИО или почта подходят под шаблон LIKE
+     *
+     * @param pattern  - шаблон в нижнем регистре
+     * @param pageable - страница и сортировка
+     */
+    @Query(nativeQuery = true,
+            value = "select * from students where search_name like :pattern or lower(email) like :pattern",
+            countQuery = "select count(*) from students where search_name like :pattern or lower(email) like :pattern")
+    Page<Student> search(String pattern, Pageable pageable);
 }
@@ -1,10 +1,16 @@
 package ru.mudan.domain.repositories;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.mudan.domain.entity.ClassEntity;
 import ru.mudan.domain.entity.Subject;
+import ru.mudan.dto.teacher.DashboardSubjectDTO;
 
 /**
  * Репозиторий для работы с сущностью Subject
@@ -13,4 +19,55 @@ public interface SubjectsRepository extends JpaRepository<Subject, Long> {
     Optional<Subject> findByCode(String code);
 
     List<Subject> findAllByClassEntity(ClassEntity classEntity);
+
+    /**
+     * Метод для получения предметов с недельной нагрузкой одним запросом вместе с классом и учителем
+     */
+    @Query("""
+            select s from Subject s
+            join fetch s.classEntity
+            left join fetch s.teacher
+            where s.weeklyHours > 0
+            order by s.id
+            """)
+    List<Subject> findAllForTimetableGeneration();
+
+    /**
+     * Метод для привязки предметов к классу одним запросом
+     *
+     * @param classId - id класса
+     * @param ids     - id предметов
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Subject s set s.classEntity.id = :classId where s.id in :ids")
+    int updateClassForSubjects(@Param("classId") Long classId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Метод для получения id предметов, которые ведёт учитель
+     *
+     * @param teacherId - id учителя
+     */
+    @Query("select s.id from Subject s where s.teacher.id = :teacherId")
+    List<Long> findIdsByTeacherId(Long teacherId);
+
+    /**
+     * Метод для получения предметов учителя для главной страницы вместе с классом
+     * и счётчиками учеников, актуальных ДЗ и недавних оценок одним запросом
+     *
+     * @param teacherId  - id учителя
+     * @param today      - текущая дата
+     * @param gradesFrom - дата, с которой оценки считаются недавними
+     */
+    @Query("""
+            select new ru.mudan.dto.teacher.DashboardSubjectDTO(
+                s.id, s.name, c.number, c.letter,
+                (select count(st) from Student st where st.classEntity = c),
+                (select count(h) from Homework h where h.subject = s and h.deadline >= :today),
+                (select count(g) from Grade g where g.subject = s and g.dateOfMark >= :gradesFrom))
+            from Subject s
+            left join s.classEntity c
+            where s.teacher.id = :teacherId
+            order by s.name, s.id
+            """)
+    List<DashboardSubjectDTO> findDashboardSubjects(Long teacherId, LocalDate today, LocalDate gradesFrom);
 }
@@ -1,7 +1,15 @@
 package ru.mudan.domain.repositories;
 
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.mudan.domain.entity.CacheRegions;
 import ru.mudan.domain.entity.users.Teacher;
 
 /**
@@ -9,4 +17,25 @@ import ru.mudan.domain.entity.users.Teacher;
  */
 @Repository
 public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+
+    /**
+     * Метод для получения всех учителей, результат хранится в кэше запросов до изменения таблицы teachers
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
+    List<Teacher> findAll();
+
+    /**
+     * Метод для получения страницы учителей, у которых ФИО или почта подходят под шаблон LIKE
+     *
+     * @param pattern  - шаблон в нижнем регистре
+     * @param pageable - страница и сортировка
+     */
+    @Query(nativeQuery = true,
+            value = "select * from teachers where search_name like :pattern or lower(email) like :pattern",
+            countQuery = "select count(*) from teachers where search_name like :pattern or lower(email) like :pattern")
+    Page<Teacher> search(String pattern, Pageable pageable);
 }
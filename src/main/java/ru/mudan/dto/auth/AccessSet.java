@@ -0,0 +1,107 @@
+package ru.mudan.dto.auth;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Заранее собранные права пользователя на чтение данных. Загружаются один раз при первом
+ * обращении после входа, после чего проверки доступа сводятся к поиску в множествах
+ *
+ * @param studentIds       - id доступных учеников: сам ученик или дети родителя
+ * @param classOfStudent   - id класса для каждого доступного ученика, который состоит в классе
+ * @param classIds         - id классов доступных учеников
+ * @param classOfSubject   - id класса для каждого предмета из классов доступных учеников
+ * @param taughtSubjectIds - id предметов, которые ведёт учитель
+ */
+public record AccessSet(
+        Set<Long> studentIds,
+        Map<Long, Long> classOfStudent,
+        Set<Long> classIds,
+        Map<Long, Long> classOfSubject,
+        Set<Long> taughtSubjectIds
+) {
+
+    public static final AccessSet EMPTY = new AccessSet(Set.of(), Map.of(), Set.of(), Map.of(), Set.of());
+
+    /**
+     * Метод для сборки прав ученика или родителя из строк выборки
+     *
+     * @param rows - строки вида (ученик, класс, предмет класса)
+     */
+    public static AccessSet ofStudents(Collection<StudentAccessDTO> rows) {
+        Set<Long> studentIds = new HashSet<>();
+        Map<Long, Long> classOfStudent = new HashMap<>();
+        Map<Long, Long> classOfSubject = new HashMap<>();
+
+        rows.forEach(row -> {
+            studentIds.add(row.studentId());
+            if (row.classId() != null) {
+                classOfStudent.put(row.studentId(), row.classId());
+                if (row.subjectId() != null) {
+                    classOfSubject.put(row.subjectId(), row.classId());
+                }
+            }
+        });
+
+        return new AccessSet(Set.copyOf(studentIds), Map.copyOf(classOfStudent),
+                Set.copyOf(classOfStudent.values()), Map.copyOf(classOfSubject), Set.of());
+    }
+
+    /**
+     * Метод для сборки прав учителя
+     *
+     * @param subjectIds - id предметов учителя
+     */
+    public static AccessSet ofTeacher(Collection<Long> subjectIds) {
+        return new AccessSet(Set.of(), Map.of(), Set.of(), Map.of(), Set.copyOf(subjectIds));
+    }
+
+    /**
+     * Метод для проверки доступа к ученику
+     *
+     * @param studentId - id ученика
+     */
+    public boolean hasStudent(Long studentId) {
+        return studentIds.contains(studentId);
+    }
+
+    /**
+     * Метод для проверки доступа к классу
+     *
+     * @param classId - id класса
+     */
+    public boolean hasClass(Long classId) {
+        return classIds.contains(classId);
+    }
+
+    /**
+     * Метод для получения id класса доступного ученика
+     *
+     * @param studentId - id ученика
+     */
+    public Long classOfStudent(Long studentId) {
+        return classOfStudent.get(studentId);
+    }
+
+    /**
+     * Метод для проверки, что предмет относится к классу
+     *
+     * @param classId   - id класса
+     * @param subjectId - id предмета
+     */
+    public boolean classContainsSubject(Long classId, Long subjectId) {
+        return classId.equals(classOfSubject.get(subjectId));
+    }
+
+    /**
+     * Метод для проверки, что учитель ведёт предмет
+     *
+     * @param subjectId - id предмета
+     */
+    public boolean teachesSubject(Long subjectId) {
+        return taughtSubjectIds.contains(subjectId);
+    }
+}
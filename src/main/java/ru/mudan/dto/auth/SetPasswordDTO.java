@@ -0,0 +1,21 @@
+package ru.mudan.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+/**
+ * Входные данные для установки пароля по одноразовой ссылке
+ *
+ * @param token    - токен из ссылки
+ * @param password - новый пароль пользователя
+ */
+@Builder
+public record SetPasswordDTO(
+        @NotBlank(message = "{password.setup.token.invalid}")
+        String token,
+        @Size(min = 8, max = 20, message = "{password.invalid_size}")
+        @NotBlank(message = "{password.is_blank}")
+        String password
+) {
+}
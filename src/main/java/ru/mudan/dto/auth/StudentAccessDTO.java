@@ -0,0 +1,15 @@
+package ru.mudan.dto.auth;
+
+/**
+ * Строка выборки прав ученика или родителя: ученик, его класс и один предмет класса
+ *
+ * @param studentId - id ученика
+ * @param classId   - id класса ученика, null если ученик не состоит в классе
+ * @param subjectId - id предмета класса, null если у класса нет предметов
+ */
+public record StudentAccessDTO(
+        Long studentId,
+        Long classId,
+        Long subjectId
+) {
+}
@@ -0,0 +1,21 @@
+package ru.mudan.dto.auth;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Отчёт о массовом импорте пользователей
+ *
+ * @param total    - количество строк в файле
+ * @param imported - количество импортированных пользователей
+ * @param rejected - количество отклонённых строк
+ * @param rows     - результаты по каждой строке
+ */
+@Builder
+public record UserImportReportDTO(
+        int total,
+        int imported,
+        int rejected,
+        List<UserImportRowResultDTO> rows
+) {
+}
@@ -0,0 +1,27 @@
+package ru.mudan.dto.auth;
+
+/**
+ * Строка файла массового импорта пользователей
+ *
+ * @param rowNumber   - номер строки в файле
+ * @param role        - роль пользователя: STUDENT или PARENT
+ * @param lastname    - фамилия пользователя
+ * @param firstname   - имя пользователя
+ * @param patronymic  - отчество пользователя
+ * @param email       - адрес электронной почты пользователя
+ * @param password    - пароль пользователя
+ * @param classId     - id класса ученика
+ * @param parentEmail - адрес электронной почты родителя ученика
+ */
+public record UserImportRow(
+        int rowNumber,
+        String role,
+        String lastname,
+        String firstname,
+        String patronymic,
+        String email,
+        String password,
+        String classId,
+        String parentEmail
+) {
+}
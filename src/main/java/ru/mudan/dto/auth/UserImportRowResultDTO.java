@@ -0,0 +1,21 @@
+package ru.mudan.dto.auth;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Результат импорта одной строки файла
+ *
+ * @param rowNumber - номер строки в файле
+ * @param email     - адрес электронной почты пользователя
+ * @param imported  - признак успешного импорта
+ * @param errors    - список ошибок, из-за которых строка не импортирована
+ */
+@Builder
+public record UserImportRowResultDTO(
+        int rowNumber,
+        String email,
+        boolean imported,
+        List<String> errors
+) {
+}
@@ -0,0 +1,38 @@
+package ru.mudan.dto.auth;
+
+import java.util.Collection;
+import java.util.Collections;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import ru.mudan.util.enums.Role;
+
+/**
+ * Неизменяемые данные пользователя, хранящиеся в кэше аутентификации
+ *
+ * @param email          - адрес электронной почты пользователя
+ * @param hashedPassword - хэш пароля пользователя
+ * @param role           - роль пользователя
+ * @param userId         - id пользователя в таблице его роли
+ */
+public record UserPrincipal(
+        String email,
+        String hashedPassword,
+        Role role,
+        Long userId
+) implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList((GrantedAuthority) role::toString);
+    }
+
+    @Override
+    public String getPassword() {
+        return hashedPassword;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
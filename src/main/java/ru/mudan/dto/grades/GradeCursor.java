@@ -0,0 +1,46 @@
+package ru.mudan.dto.grades;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import ru.mudan.exceptions.InvalidCursorException;
+
+/**
+ * Курсор для постраничного получения оценок,
+ * указывающий на последнюю показанную оценку
+ *
+ * @param dateOfMark - дата последней показанной оценки
+ * @param id         - id последней показанной оценки
+ */
+public record GradeCursor(
+        LocalDate dateOfMark,
+        Long id
+) {
+
+    private static final String SEPARATOR = "_";
+
+    /**
+     * Метод для получения курсора из строкового представления вида 2024-09-01_15
+     *
+     * @param value - строковое представление курсора
+     */
+    public static GradeCursor parse(String value) {
+        var parts = value.split(SEPARATOR);
+
+        if (parts.length != 2) {
+            throw new InvalidCursorException(value);
+        }
+
+        try {
+            return new GradeCursor(LocalDate.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    /**
+     * Метод для получения строкового представления курсора
+     */
+    public String encode() {
+        return dateOfMark + SEPARATOR + id;
+    }
+}
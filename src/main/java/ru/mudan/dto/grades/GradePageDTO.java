@@ -0,0 +1,17 @@
+package ru.mudan.dto.grades;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Страница оценок ученика
+ *
+ * @param grades     - оценки на странице
+ * @param nextCursor - курсор для получения следующей страницы (null, если страница последняя)
+ */
+@Builder
+public record GradePageDTO(
+        List<GradeDTO> grades,
+        String nextCursor
+) {
+}
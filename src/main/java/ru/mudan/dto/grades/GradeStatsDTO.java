@@ -0,0 +1,25 @@
+package ru.mudan.dto.grades;
+
+import java.util.Map;
+import lombok.Builder;
+
+/**
+ * Показатели успеваемости за четверть
+ *
+ * @param count        - количество оценок
+ * @param average      - средний балл, каждая оценка входит с весом 1 (null, если оценок нет)
+ * @param median       - медиана оценок (null, если оценок нет)
+ * @param distribution - количество оценок по каждому баллу
+ * @param trendPerWeek - изменение балла за неделю по линейному тренду (null, если оценки за один день)
+ * @param termMark     - оценка за четверть, средний балл с округлением (null, если оценок нет)
+ */
+@Builder
+public record GradeStatsDTO(
+        long count,
+        Double average,
+        Double median,
+        Map<Integer, Long> distribution,
+        Double trendPerWeek,
+        Integer termMark
+) {
+}
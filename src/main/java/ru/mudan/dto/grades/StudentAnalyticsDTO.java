@@ -0,0 +1,22 @@
+package ru.mudan.dto.grades;
+
+import java.util.List;
+import lombok.Builder;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Успеваемость ученика за четверть
+ *
+ * @param term     - четверть
+ * @param terms    - все четверти учебного года, в порядке оценок за четверть в subjects
+ * @param summary  - показатели по всем предметам
+ * @param subjects - показатели по каждому предмету
+ */
+@Builder
+public record StudentAnalyticsDTO(
+        SchoolTerm term,
+        List<SchoolTerm> terms,
+        GradeStatsDTO summary,
+        List<SubjectGradeStatsDTO> subjects
+) {
+}
@@ -0,0 +1,20 @@
+package ru.mudan.dto.grades;
+
+import lombok.Builder;
+
+/**
+ * Успеваемость ученика по предмету за четверть для журнала учителя
+ *
+ * @param studentId - id ученика
+ * @param firstname - имя ученика
+ * @param lastname  - фамилия ученика
+ * @param stats     - показатели за четверть
+ */
+@Builder
+public record StudentGradeStatsDTO(
+        Long studentId,
+        String firstname,
+        String lastname,
+        GradeStatsDTO stats
+) {
+}
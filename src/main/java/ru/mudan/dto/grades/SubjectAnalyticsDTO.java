@@ -0,0 +1,22 @@
+package ru.mudan.dto.grades;
+
+import java.util.List;
+import lombok.Builder;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Успеваемость по предмету за четверть
+ *
+ * @param term         - четверть
+ * @param summary      - показатели всех учеников по предмету
+ * @param classSummary - показатели класса предмета по всем его предметам
+ * @param students     - показатели каждого ученика по предмету
+ */
+@Builder
+public record SubjectAnalyticsDTO(
+        SchoolTerm term,
+        GradeStatsDTO summary,
+        GradeStatsDTO classSummary,
+        List<StudentGradeStatsDTO> students
+) {
+}
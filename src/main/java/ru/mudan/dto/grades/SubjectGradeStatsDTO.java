@@ -0,0 +1,21 @@
+package ru.mudan.dto.grades;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Успеваемость ученика по предмету
+ *
+ * @param subjectId   - id предмета
+ * @param subjectName - название предмета
+ * @param stats       - показатели за текущую четверть (null, если оценок в четверти нет)
+ * @param termMarks   - оценки за каждую четверть учебного года (null для четвертей без оценок)
+ */
+@Builder
+public record SubjectGradeStatsDTO(
+        Long subjectId,
+        String subjectName,
+        GradeStatsDTO stats,
+        List<Integer> termMarks
+) {
+}
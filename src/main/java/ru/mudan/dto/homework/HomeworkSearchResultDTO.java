@@ -0,0 +1,25 @@
+package ru.mudan.dto.homework;
+
+import java.time.LocalDate;
+
+/**
+ * DTO для найденного ДЗ вместе с предметом и классом
+ *
+ * @param id          - id ДЗ
+ * @param title       - название ДЗ
+ * @param description - описание ДЗ
+ * @param deadline    - срок сдачи
+ * @param subjectName - название предмета, null для ДЗ без предмета
+ * @param classNumber - номер класса, null для ДЗ без класса
+ * @param classLetter - буква класса, null для ДЗ без класса
+ */
+public record HomeworkSearchResultDTO(
+        Long id,
+        String title,
+        String description,
+        LocalDate deadline,
+        String subjectName,
+        Integer classNumber,
+        String classLetter
+) {
+}
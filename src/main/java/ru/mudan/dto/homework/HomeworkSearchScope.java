@@ -0,0 +1,27 @@
+package ru.mudan.dto.homework;
+
+import java.util.Set;
+
+/**
+ * Область поиска ДЗ для текущего пользователя: администратор ищет по всем ДЗ,
+ * ученик и родитель - по ДЗ классов учеников, учитель - по ДЗ своих предметов
+ *
+ * @param all        - поиск по всем ДЗ
+ * @param classIds   - id классов, ДЗ которых доступны пользователю
+ * @param subjectIds - id предметов, ДЗ которых доступны пользователю
+ */
+public record HomeworkSearchScope(
+        boolean all,
+        Set<Long> classIds,
+        Set<Long> subjectIds
+) {
+
+    public static final HomeworkSearchScope ALL = new HomeworkSearchScope(true, Set.of(), Set.of());
+
+    /**
+     * Метод для проверки, что пользователю не доступно ни одно ДЗ
+     */
+    public boolean isEmpty() {
+        return !all && classIds.isEmpty() && subjectIds.isEmpty();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.mudan.dto.parent;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Новые оценки и ДЗ одного ребёнка в сводке родителю
+ *
+ * @param studentId - id ученика
+ * @param firstname - имя ученика
+ * @param lastname  - фамилия ученика
+ * @param grades    - новые оценки
+ * @param homeworks - новые ДЗ
+ */
+@Builder
+public record ChildDigestDTO(
+        Long studentId,
+        String firstname,
+        String lastname,
+        List<DigestItemDTO> grades,
+        List<DigestItemDTO> homeworks
+) {
+}
@@ -0,0 +1,21 @@
+package ru.mudan.dto.parent;
+
+import java.time.LocalDate;
+
+/**
+ * DTO для последней оценки ребёнка на главной странице родителя
+ *
+ * @param id          - id оценки
+ * @param mark        - оценка
+ * @param dateOfMark  - дата оценки
+ * @param studentId   - id ученика
+ * @param subjectName - название предмета
+ */
+public record ChildGradeDTO(
+        Long id,
+        Integer mark,
+        LocalDate dateOfMark,
+        Long studentId,
+        String subjectName
+) {
+}
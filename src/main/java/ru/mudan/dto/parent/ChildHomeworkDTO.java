@@ -0,0 +1,21 @@
+package ru.mudan.dto.parent;
+
+import java.time.LocalDate;
+
+/**
+ * DTO для ближайшего ДЗ класса ребёнка на главной странице родителя
+ *
+ * @param id          - id ДЗ
+ * @param title       - заголовок ДЗ
+ * @param deadline    - срок сдачи
+ * @param classId     - id класса
+ * @param subjectName - название предмета
+ */
+public record ChildHomeworkDTO(
+        Long id,
+        String title,
+        LocalDate deadline,
+        Long classId,
+        String subjectName
+) {
+}
@@ -0,0 +1,19 @@
+package ru.mudan.dto.parent;
+
+import java.time.LocalTime;
+
+/**
+ * DTO для урока класса ребёнка на сегодня на главной странице родителя
+ *
+ * @param startTime         - время начала урока
+ * @param numberOfClassroom - номер кабинета
+ * @param classId           - id класса
+ * @param subjectName       - название предмета
+ */
+public record ChildLessonDTO(
+        LocalTime startTime,
+        Integer numberOfClassroom,
+        Long classId,
+        String subjectName
+) {
+}
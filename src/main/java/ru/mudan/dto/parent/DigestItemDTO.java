@@ -0,0 +1,21 @@
+package ru.mudan.dto.parent;
+
+import java.time.LocalDate;
+import lombok.Builder;
+
+/**
+ * Оценка или ДЗ в сводке родителю
+ *
+ * @param subjectName - название предмета
+ * @param mark        - оценка, null для ДЗ
+ * @param title       - название ДЗ, null для оценки
+ * @param date        - дата оценки или срок сдачи ДЗ
+ */
+@Builder
+public record DigestItemDTO(
+        String subjectName,
+        Integer mark,
+        String title,
+        LocalDate date
+) {
+}
@@ -0,0 +1,24 @@
+package ru.mudan.dto.parent;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Ежедневная сводка родителю по всем его детям
+ *
+ * @param parentId  - id родителя
+ * @param email     - почта родителя
+ * @param firstname - имя родителя
+ * @param date      - день сводки
+ * @param children  - события по каждому ребёнку
+ */
+@Builder
+public record ParentDigestDTO(
+        Long parentId,
+        String email,
+        String firstname,
+        LocalDate date,
+        List<ChildDigestDTO> children
+) {
+}
@@ -0,0 +1,28 @@
+package ru.mudan.dto.parent;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import ru.mudan.dto.grades.GradeStatsDTO;
+import ru.mudan.dto.student.StudentDTO;
+
+/**
+ * DTO для главной страницы родителя со сводкой по всем детям
+ *
+ * @param parent            - родитель
+ * @param students          - дети родителя
+ * @param childrenStats     - успеваемость за четверть по id ученика
+ * @param latestGrades      - последние оценки по id ученика
+ * @param upcomingHomeworks - ближайшие ДЗ по id класса
+ * @param todayLessons      - уроки на сегодня по id класса
+ */
+@Builder
+public record ParentOverviewDTO(
+        ParentDTO parent,
+        List<StudentDTO> students,
+        Map<Long, GradeStatsDTO> childrenStats,
+        Map<Long, List<ChildGradeDTO>> latestGrades,
+        Map<Long, List<ChildHomeworkDTO>> upcomingHomeworks,
+        Map<Long, List<ChildLessonDTO>> todayLessons
+) {
+}
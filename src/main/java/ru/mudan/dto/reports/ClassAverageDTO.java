@@ -0,0 +1,22 @@
+package ru.mudan.dto.reports;
+
+import lombok.Builder;
+
+/**
+ * Средний балл класса за период
+ *
+ * @param classId     - id класса
+ * @param classNumber - номер класса
+ * @param classLetter - буква класса
+ * @param gradesCount - количество оценок
+ * @param average     - средний балл
+ */
+@Builder
+public record ClassAverageDTO(
+        Long classId,
+        Integer classNumber,
+        String classLetter,
+        long gradesCount,
+        double average
+) {
+}
@@ -0,0 +1,23 @@
+package ru.mudan.dto.reports;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import ru.mudan.dto.classes.ClassDTO;
+
+/**
+ * Рейтинг учеников класса по среднему баллу за период
+ *
+ * @param classDTO - класс
+ * @param from     - первый день первого месяца периода
+ * @param to       - первый день последнего месяца периода
+ * @param students - ученики в порядке рейтинга
+ */
+@Builder
+public record ClassRankingDTO(
+        ClassDTO classDTO,
+        LocalDate from,
+        LocalDate to,
+        List<StudentRankDTO> students
+) {
+}
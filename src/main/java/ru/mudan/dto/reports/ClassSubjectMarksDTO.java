@@ -0,0 +1,21 @@
+package ru.mudan.dto.reports;
+
+/**
+ * Строка выборки сумм оценок класса по предмету за период
+ *
+ * @param classId     - id класса
+ * @param classNumber - номер класса
+ * @param classLetter - буква класса
+ * @param subjectName - название предмета
+ * @param gradesCount - количество оценок
+ * @param marksSum    - сумма оценок
+ */
+public record ClassSubjectMarksDTO(
+        Long classId,
+        Integer classNumber,
+        String classLetter,
+        String subjectName,
+        Long gradesCount,
+        Long marksSum
+) {
+}
@@ -0,0 +1,24 @@
+package ru.mudan.dto.reports;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Средние баллы по предметам в параллели классов за период
+ *
+ * @param number   - номер классов параллели
+ * @param from     - первый день первого месяца периода
+ * @param to       - первый день последнего месяца периода
+ * @param classes  - средний балл каждого класса по всем предметам, в порядке букв
+ * @param subjects - средние баллы по предметам в порядке названий
+ */
+@Builder
+public record ParallelReportDTO(
+        Integer number,
+        LocalDate from,
+        LocalDate to,
+        List<ClassAverageDTO> classes,
+        List<ParallelSubjectDTO> subjects
+) {
+}
@@ -0,0 +1,21 @@
+package ru.mudan.dto.reports;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Средний балл по предмету в параллели
+ *
+ * @param subjectName - название предмета
+ * @param gradesCount - количество оценок во всей параллели
+ * @param average     - средний балл во всей параллели
+ * @param classes     - средний балл каждого класса в порядке классов отчёта, null если у класса нет оценок
+ */
+@Builder
+public record ParallelSubjectDTO(
+        String subjectName,
+        long gradesCount,
+        double average,
+        List<ClassAverageDTO> classes
+) {
+}
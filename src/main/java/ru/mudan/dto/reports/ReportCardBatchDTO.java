@@ -0,0 +1,18 @@
+package ru.mudan.dto.reports;
+
+import lombok.Builder;
+import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Табели успеваемости всех учеников класса за четверть
+ *
+ * @param classDTO - класс
+ * @param term     - четверть
+ */
+@Builder
+public record ReportCardBatchDTO(
+        ClassDTO classDTO,
+        SchoolTerm term
+) {
+}
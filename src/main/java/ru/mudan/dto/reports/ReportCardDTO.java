@@ -0,0 +1,28 @@
+package ru.mudan.dto.reports;
+
+import java.util.List;
+import lombok.Builder;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Табель успеваемости ученика за четверть
+ *
+ * @param studentId  - id ученика
+ * @param firstname  - имя ученика
+ * @param lastname   - фамилия ученика
+ * @param patronymic - отчество ученика
+ * @param className  - класс ученика, например 6А
+ * @param term       - четверть
+ * @param subjects   - строки табеля по предметам в порядке названий
+ */
+@Builder
+public record ReportCardDTO(
+        Long studentId,
+        String firstname,
+        String lastname,
+        String patronymic,
+        String className,
+        SchoolTerm term,
+        List<ReportCardSubjectDTO> subjects
+) {
+}
@@ -0,0 +1,21 @@
+package ru.mudan.dto.reports;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Строка табеля успеваемости по одному предмету
+ *
+ * @param subjectName - название предмета
+ * @param marks       - оценки за четверть в порядке дат
+ * @param average     - средний балл за четверть, null если оценок нет
+ * @param termMark    - итоговая оценка за четверть, null если оценок нет
+ */
+@Builder
+public record ReportCardSubjectDTO(
+        String subjectName,
+        List<Integer> marks,
+        Double average,
+        Integer termMark
+) {
+}
@@ -0,0 +1,26 @@
+package ru.mudan.dto.reports;
+
+/**
+ * Строка выборки сумм оценок ученика по всем предметам класса за период
+ *
+ * @param studentId   - id ученика
+ * @param firstname   - имя ученика
+ * @param lastname    - фамилия ученика
+ * @param gradesCount - количество оценок
+ * @param marksSum    - сумма оценок
+ */
+public record StudentMarksDTO(
+        Long studentId,
+        String firstname,
+        String lastname,
+        Long gradesCount,
+        Long marksSum
+) {
+
+    /**
+     * Метод для получения среднего балла, в выборку попадают только ученики с оценками
+     */
+    public double average() {
+        return (double) marksSum / gradesCount;
+    }
+}
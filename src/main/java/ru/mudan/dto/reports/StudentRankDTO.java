@@ -0,0 +1,24 @@
+package ru.mudan.dto.reports;
+
+import lombok.Builder;
+
+/**
+ * Место ученика в рейтинге класса
+ *
+ * @param rank        - место, ученики с равным средним баллом делят одно место
+ * @param studentId   - id ученика
+ * @param firstname   - имя ученика
+ * @param lastname    - фамилия ученика
+ * @param gradesCount - количество оценок за период
+ * @param average     - средний балл за период
+ */
+@Builder
+public record StudentRankDTO(
+        int rank,
+        Long studentId,
+        String firstname,
+        String lastname,
+        long gradesCount,
+        double average
+) {
+}
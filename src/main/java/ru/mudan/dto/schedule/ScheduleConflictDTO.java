@@ -0,0 +1,25 @@
+package ru.mudan.dto.schedule;
+
+import java.time.LocalTime;
+import lombok.Builder;
+
+/**
+ * DTO для пересечения двух уроков в расписании
+ *
+ * @param type                  - вид пересечения
+ * @param scheduleId            - id ячейки расписания
+ * @param conflictingScheduleId - id ячейки, с которой пересекается урок
+ * @param dayOfWeek             - день недели
+ * @param startTime             - время начала урока
+ * @param description           - описание пересечения
+ */
+@Builder
+public record ScheduleConflictDTO(
+        String type,
+        Long scheduleId,
+        Long conflictingScheduleId,
+        String dayOfWeek,
+        LocalTime startTime,
+        String description
+) {
+}
@@ -12,6 +12,8 @@ public record ScheduleDTO(
         String dayOfWeek,
         LocalTime startTime,
         Integer numberOfClassRoom,
-        String subjectName
+        String subjectName,
+        Long subjectId,
+        String className
 ) {
 }
@@ -0,0 +1,23 @@
+package ru.mudan.dto.schedule;
+
+import java.time.LocalTime;
+
+/**
+ * Ячейка расписания с данными, необходимыми для поиска пересечений уроков
+ *
+ * @param scheduleId        - id ячейки расписания
+ * @param dayOfWeek         - день недели
+ * @param startTime         - время начала урока
+ * @param numberOfClassroom - номер кабинета
+ * @param classId           - id класса
+ * @param teacherId         - id учителя предмета, может отсутствовать
+ */
+public record ScheduleSlotDTO(
+        Long scheduleId,
+        Integer dayOfWeek,
+        LocalTime startTime,
+        Integer numberOfClassroom,
+        Long classId,
+        Long teacherId
+) {
+}
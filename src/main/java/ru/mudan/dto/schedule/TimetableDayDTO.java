@@ -0,0 +1,13 @@
+package ru.mudan.dto.schedule;
+
+import java.util.List;
+
+/**
+ * DTO для одного дня недельного расписания,
+ * уроки отсортированы по времени начала
+ */
+public record TimetableDayDTO(
+        String dayOfWeek,
+        List<ScheduleDTO> lessons
+) {
+}
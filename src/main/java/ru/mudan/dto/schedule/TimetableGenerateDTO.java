@@ -0,0 +1,34 @@
+package ru.mudan.dto.schedule;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalTime;
+import lombok.Builder;
+import org.hibernate.validator.constraints.Range;
+
+/**
+ * Входные данные для автоматического построения расписания школы
+ *
+ * @param firstLessonStart  - время начала первого урока
+ * @param lessonsPerDay     - максимальное количество уроков в дне
+ * @param breakMinutes      - длительность перемены в минутах
+ * @param classroomCount    - количество кабинетов, кабинеты нумеруются с 1
+ * @param timeBudgetSeconds - максимальное время построения в секундах
+ */
+@Builder
+public record TimetableGenerateDTO(
+        @NotNull(message = "{schedule.generate.first.lesson.start.is_null}")
+        LocalTime firstLessonStart,
+        @NotNull(message = "{schedule.generate.lessons.per.day.range}")
+        @Range(min = 1, max = 10, message = "{schedule.generate.lessons.per.day.range}")
+        Integer lessonsPerDay,
+        @NotNull(message = "{schedule.generate.break.minutes.range}")
+        @Range(min = 0, max = 60, message = "{schedule.generate.break.minutes.range}")
+        Integer breakMinutes,
+        @NotNull(message = "{schedule.number.if.classroom.range}")
+        @Range(min = 1, max = 300, message = "{schedule.number.if.classroom.range}")
+        Integer classroomCount,
+        @NotNull(message = "{schedule.generate.time.budget.range}")
+        @Range(min = 1, max = 120, message = "{schedule.generate.time.budget.range}")
+        Integer timeBudgetSeconds
+) {
+}
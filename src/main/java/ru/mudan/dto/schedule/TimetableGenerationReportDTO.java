@@ -0,0 +1,20 @@
+package ru.mudan.dto.schedule;
+
+import lombok.Builder;
+
+/**
+ * DTO для отчёта об автоматическом построении расписания
+ *
+ * @param classCount      - количество классов в расписании
+ * @param lessonCount     - количество поставленных уроков
+ * @param sameDayRepeats  - количество повторов предмета в один день
+ * @param solveTimeMillis - время построения в миллисекундах
+ */
+@Builder
+public record TimetableGenerationReportDTO(
+        int classCount,
+        int lessonCount,
+        int sameDayRepeats,
+        long solveTimeMillis
+) {
+}
@@ -0,0 +1,20 @@
+package ru.mudan.dto.schedule;
+
+import java.util.List;
+
+/**
+ * Недельное расписание класса или учителя: уроки, сгруппированные по дням недели,
+ * и тот же набор уроков одним списком в порядке дня недели и времени начала
+ */
+public record WeekTimetable(
+        List<TimetableDayDTO> days,
+        List<ScheduleDTO> lessons
+) {
+
+    /**
+     * Метод для проверки, что в расписании нет уроков
+     */
+    public boolean isEmpty() {
+        return lessons.isEmpty();
+    }
+}
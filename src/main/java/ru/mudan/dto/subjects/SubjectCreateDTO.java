@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
+import org.hibernate.validator.constraints.Range;
 
 /**
  * Входные данные для создания предмета
@@ -14,6 +15,7 @@ import lombok.Builder;
  * @param description - описание предмета
  * @param classId     - id класса, для которого создаётся предмет
  * @param teacherId   - id учителя, который будет вести предмет
+ * @param weeklyHours - количество уроков в неделю, по умолчанию 0
  */
 @Builder
 public record SubjectCreateDTO(
@@ -27,6 +29,8 @@ public record SubjectCreateDTO(
         @NotNull(message = "{subject.class.id.is_blank}")
         Long classId,
         @NotNull(message = "{subject.teacher.id.is_blank}")
-        Long teacherId
+        Long teacherId,
+        @Range(min = 0, max = 10, message = "{subject.weekly.hours.range}")
+        Integer weeklyHours
 ) {
 }
\ No newline at end of file
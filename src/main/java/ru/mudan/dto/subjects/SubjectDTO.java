@@ -12,6 +12,7 @@ public record SubjectDTO(
         String code,
         String type,
         String description,
-        Long classId
+        Long classId,
+        Integer weeklyHours
 ) {
 }
@@ -2,17 +2,21 @@ package ru.mudan.dto.subjects;
 
 import jakarta.validation.constraints.NotBlank;
 import lombok.Builder;
+import org.hibernate.validator.constraints.Range;
 
 /**
  * Входные данные для обновления предмета
  *
  * @param type        - тип предмета
  * @param description - описание предмета
+ * @param weeklyHours - количество уроков в неделю, по умолчанию 0
  */
 @Builder
 public record SubjectUpdateDTO(
         @NotBlank(message = "{subject.type.is_blank}")
         String type,
-        String description
+        String description,
+        @Range(min = 0, max = 10, message = "{subject.weekly.hours.range}")
+        Integer weeklyHours
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package ru.mudan.dto.teacher;
+
+import java.time.LocalDate;
+
+/**
+ * DTO для недавно поставленной учителем оценки
+ *
+ * @param id               - id оценки
+ * @param mark             - оценка
+ * @param dateOfMark       - дата оценки
+ * @param subjectId        - id предмета
+ * @param studentLastname  - фамилия ученика
+ * @param studentFirstname - имя ученика
+ */
+public record DashboardGradeDTO(
+        Long id,
+        Integer mark,
+        LocalDate dateOfMark,
+        Long subjectId,
+        String studentLastname,
+        String studentFirstname
+) {
+}
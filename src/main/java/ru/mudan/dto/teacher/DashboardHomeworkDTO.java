@@ -0,0 +1,23 @@
+package ru.mudan.dto.teacher;
+
+import java.time.LocalDate;
+
+/**
+ * DTO для ДЗ учителя, срок сдачи которого ещё не прошёл
+ *
+ * @param id          - id ДЗ
+ * @param title       - название ДЗ
+ * @param deadline    - срок сдачи
+ * @param subjectName - название предмета
+ * @param classNumber - номер класса
+ * @param classLetter - буква класса
+ */
+public record DashboardHomeworkDTO(
+        Long id,
+        String title,
+        LocalDate deadline,
+        String subjectName,
+        Integer classNumber,
+        String classLetter
+) {
+}
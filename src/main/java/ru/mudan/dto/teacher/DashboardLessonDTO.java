@@ -0,0 +1,23 @@
+package ru.mudan.dto.teacher;
+
+import java.time.LocalTime;
+
+/**
+ * DTO для урока учителя на сегодня
+ *
+ * @param startTime         - время начала урока
+ * @param numberOfClassroom - номер кабинета
+ * @param subjectId         - id предмета
+ * @param subjectName       - название предмета
+ * @param classNumber       - номер класса
+ * @param classLetter       - буква класса
+ */
+public record DashboardLessonDTO(
+        LocalTime startTime,
+        Integer numberOfClassroom,
+        Long subjectId,
+        String subjectName,
+        Integer classNumber,
+        String classLetter
+) {
+}
@@ -0,0 +1,23 @@
+package ru.mudan.dto.teacher;
+
+/**
+ * DTO для предмета на главной странице учителя вместе со счётчиками
+ *
+ * @param id                   - id предмета
+ * @param name                 - название предмета
+ * @param classNumber          - номер класса, null если предмет не привязан к классу
+ * @param classLetter          - буква класса
+ * @param studentCount         - количество учеников класса
+ * @param pendingHomeworkCount - количество ДЗ со сроком сдачи не раньше сегодняшнего дня
+ * @param recentGradeCount     - количество оценок за последние дни
+ */
+public record DashboardSubjectDTO(
+        Long id,
+        String name,
+        Integer classNumber,
+        String classLetter,
+        Long studentCount,
+        Long pendingHomeworkCount,
+        Long recentGradeCount
+) {
+}
@@ -0,0 +1,24 @@
+package ru.mudan.dto.teacher;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+
+/**
+ * DTO для главной страницы учителя
+ *
+ * @param teacher          - учитель
+ * @param subjects         - предметы учителя со счётчиками
+ * @param todayLessons     - уроки учителя на сегодня
+ * @param pendingHomeworks - ближайшие ДЗ, срок сдачи которых ещё не прошёл
+ * @param recentGrades     - недавние оценки по id предмета
+ */
+@Builder
+public record TeacherDashboardDTO(
+        TeacherDTO teacher,
+        List<DashboardSubjectDTO> subjects,
+        List<DashboardLessonDTO> todayLessons,
+        List<DashboardHomeworkDTO> pendingHomeworks,
+        Map<Long, List<DashboardGradeDTO>> recentGrades
+) {
+}
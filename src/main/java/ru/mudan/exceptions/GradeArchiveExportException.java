@@ -0,0 +1,16 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых когда оценки учебного года не удалось выгрузить в файл архива
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class GradeArchiveExportException extends ApplicationInternalServerErrorException {
+
+    public GradeArchiveExportException(String file, Throwable cause) {
+        super("grades.archive.export.failed", new Object[]{file});
+        initCause(cause);
+    }
+}
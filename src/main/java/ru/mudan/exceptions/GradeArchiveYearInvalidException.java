@@ -0,0 +1,16 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+import ru.mudan.exceptions.base.ApplicationBadRequestException;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых при попытке архивировать оценки учебного года, который ещё не закончился
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class GradeArchiveYearInvalidException extends ApplicationBadRequestException {
+
+    public GradeArchiveYearInvalidException(int startYear) {
+        super("grades.archive.year.invalid", new Object[]{startYear});
+    }
+}
@@ -0,0 +1,16 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+import ru.mudan.exceptions.base.ApplicationBadRequestException;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых когда файл импорта пользователей не удалось прочитать
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class ImportFileInvalidException extends ApplicationBadRequestException {
+
+    public ImportFileInvalidException(String filename) {
+        super("import.file.invalid", new Object[]{filename});
+    }
+}
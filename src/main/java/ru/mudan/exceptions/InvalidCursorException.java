@@ -0,0 +1,16 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+import ru.mudan.exceptions.base.ApplicationBadRequestException;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых когда передан некорректный курсор страницы
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class InvalidCursorException extends ApplicationBadRequestException {
+
+    public InvalidCursorException(String cursor) {
+        super("cursor.invalid", new Object[]{cursor});
+    }
+}
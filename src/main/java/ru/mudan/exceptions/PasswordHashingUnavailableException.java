@@ -0,0 +1,15 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых когда пул хэширования паролей перегружен
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class PasswordHashingUnavailableException extends ApplicationInternalServerErrorException {
+
+    public PasswordHashingUnavailableException() {
+        super("password.hashing.unavailable", new Object[]{});
+    }
+}
@@ -0,0 +1,16 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+import ru.mudan.exceptions.base.ApplicationBadRequestException;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых когда ссылка для установки пароля не найдена, уже использована или устарела
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class PasswordSetupTokenInvalidException extends ApplicationBadRequestException {
+
+    public PasswordSetupTokenInvalidException() {
+        super("password.setup.token.invalid", new Object[]{});
+    }
+}
@@ -0,0 +1,16 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых когда табель успеваемости ученика не удалось отрисовать
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class ReportCardRenderingException extends ApplicationInternalServerErrorException {
+
+    public ReportCardRenderingException(Long studentId, Throwable cause) {
+        super("report.card.rendering.failed", new Object[]{studentId});
+        initCause(cause);
+    }
+}
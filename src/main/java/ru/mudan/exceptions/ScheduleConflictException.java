@@ -0,0 +1,17 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+import ru.mudan.exceptions.base.ApplicationConflictException;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых когда урок пересекается с другим уроком
+ * того же кабинета, учителя или класса
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class ScheduleConflictException extends ApplicationConflictException {
+
+    public ScheduleConflictException(String messageKey, Object[] args) {
+        super(messageKey, args);
+    }
+}
@@ -0,0 +1,17 @@
+package ru.mudan.exceptions;
+
+import lombok.EqualsAndHashCode;
+import ru.mudan.exceptions.base.ApplicationConflictException;
+
+/**
+ * Класс для исключений,
+ * выбрасываемых когда расписание без пересечений
+ * не удалось построить с заданными параметрами
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class TimetableGenerationException extends ApplicationConflictException {
+
+    public TimetableGenerationException(String messageKey, Object[] args) {
+        super(messageKey, args);
+    }
+}
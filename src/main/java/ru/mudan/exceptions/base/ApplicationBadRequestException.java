@@ -0,0 +1,15 @@
+package ru.mudan.exceptions.base;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * Абстрактный класс для исключений, которые
+ * означают, что входные данные запроса некорректны
+ */
+@EqualsAndHashCode(callSuper = true)
+public abstract class ApplicationBadRequestException extends ApplicationRuntimeException {
+
+    public ApplicationBadRequestException(String message, Object[] args) {
+        super(message, args);
+    }
+}
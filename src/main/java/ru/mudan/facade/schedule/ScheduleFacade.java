@@ -1,8 +1,14 @@
 package ru.mudan.facade.schedule;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import org.springframework.stereotype.Component;
 import ru.mudan.domain.entity.Schedule;
 import ru.mudan.dto.schedule.ScheduleDTO;
+import ru.mudan.dto.schedule.TimetableDayDTO;
+import ru.mudan.dto.schedule.WeekTimetable;
 import ru.mudan.facade.BaseFacade;
 import ru.mudan.util.enums.DayOfWeek;
 
@@ -25,7 +31,35 @@ public class ScheduleFacade implements BaseFacade<Schedule, ScheduleDTO> {
                 .numberOfClassRoom(entity.getNumberOfClassroom())
                 .dayOfWeek(DayOfWeek.getDayOfWeekByNumber(entity.getDayOfWeek()).getName())
                 .subjectName(entity.getSubject().getName())
+                .subjectId(entity.getSubject().getId())
+                .className(entity.getClassEntity().getNumber() + entity.getClassEntity().getLetter())
                 .startTime(entity.getStartTime())
                 .build();
     }
+
+    /**
+     * Метод для построения недельного расписания из ячеек,
+     * отсортированных по дню недели и времени начала
+     *
+     * @param sortedSchedules - отсортированные ячейки расписания
+     */
+    public WeekTimetable convertEntitiesToWeekTimetable(List<Schedule> sortedSchedules) {
+        var lessons = sortedSchedules.stream()
+                .map(this::convertEntityToDTO)
+                .toList();
+        Map<Integer, List<ScheduleDTO>> lessonsByDay = new TreeMap<>();
+
+        for (int i = 0; i < sortedSchedules.size(); i++) {
+            lessonsByDay.computeIfAbsent(sortedSchedules.get(i).getDayOfWeek(), day -> new ArrayList<>())
+                    .add(lessons.get(i));
+        }
+
+        var days = lessonsByDay.entrySet().stream()
+                .map(entry -> new TimetableDayDTO(
+                        DayOfWeek.getDayOfWeekByNumber(entry.getKey()).getName(),
+                        List.copyOf(entry.getValue())))
+                .toList();
+
+        return new WeekTimetable(days, lessons);
+    }
 }
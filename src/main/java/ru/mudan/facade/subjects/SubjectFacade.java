@@ -25,6 +25,7 @@ public class SubjectFacade implements BaseFacade<Subject, SubjectDTO> {
                 .name(entity.getName())
                 .description(entity.getDescription())
                 .type(entity.getType())
+                .weeklyHours(entity.getWeeklyHours())
                 .build();
     }
 }
@@ -0,0 +1,63 @@
+package ru.mudan.services.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.mudan.domain.events.MembershipChangedEvent;
+import ru.mudan.domain.events.UserDeletedEvent;
+import ru.mudan.dto.auth.AccessSet;
+
+/**
+ * Класс для работы с кэшем прав пользователей по email.
+ * Права зависят от состава классов, предметов классов и привязки детей к родителям, поэтому
+ * MembershipChangedEvent и UserDeletedEvent сбрасывают весь кэш после фиксации транзакции: изменения редки,
+ * а права каждого пользователя собираются заново одним запросом
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessSetCache {
+
+    private final Cache<String, AccessSet> userAccessSetCache;
+
+    /**
+     * Метод для получения прав пользователя из кэша с загрузкой при промахе
+     *
+     * @param email  - email пользователя
+     * @param loader - функция загрузки прав из БД
+     */
+    public AccessSet get(String email, Function<String, AccessSet> loader) {
+        return userAccessSetCache.get(email, loader);
+    }
+
+    /**
+     * Метод для сброса прав всех пользователей после фиксации транзакции, изменившей состав
+     *
+     * @param event - событие изменения состава
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Метод для сброса прав всех пользователей после фиксации удаления пользователя
+     *
+     * @param event - событие удаления пользователя
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Метод для сброса прав всех пользователей
+     */
+    public void invalidateAll() {
+        userAccessSetCache.invalidateAll();
+        log.info("Access set cache cleared");
+    }
+}
@@ -1,20 +1,20 @@
 package ru.mudan.services.auth;
 
-import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-import ru.mudan.domain.entity.users.Parent;
-import ru.mudan.domain.entity.users.Student;
-import ru.mudan.domain.entity.users.Teacher;
 import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.AccessSet;
+import ru.mudan.dto.homework.HomeworkSearchScope;
 import ru.mudan.exceptions.base.ApplicationForbiddenException;
 import ru.mudan.exceptions.entity.not_found.*;
 
 /**
  * Класс с описанием бизнес-логики
- * проверки доступа к ресурсу
+ * проверки доступа к ресурсу.
+ * Права пользователя собираются один раз в AccessSet и берутся из кэша, к БД проверка
+ * обращается только при отказе, чтобы отличить несуществующую сущность от чужой
  */
 @Slf4j
 @SuppressWarnings("MultipleStringLiterals")
@@ -23,6 +23,7 @@ import ru.mudan.exceptions.entity.not_found.*;
 public class AuthService {
 
     private final MyUserDetailsService myUserDetailsService;
+    private final AccessSetCache accessSetCache;
     private final GradeRepository gradeRepository;
     private final SubjectsRepository subjectsRepository;
     private final HomeworkRepository homeworkRepository;
@@ -158,20 +159,16 @@ public class AuthService {
     private void checkParentHasStudentInClassContainsSubject(Long studentId,
                                                              Long subjectId,
                                                              Authentication authentication) {
-        var parent = (Parent) myUserDetailsService.loadUserByUsername(authentication.getName());
+        var accessSet = getAccessSet(authentication);
 
-        var foundStudent = studentRepository.findById(studentId)
-                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        checkHasStudent(accessSet, studentId);
 
-        var studentsForParent = parent.getStudents();
-
-        if (!studentsForParent.contains(foundStudent)) {
-            throw new ApplicationForbiddenException();
+        if (subjectId != null && accessSet.classOfStudent(studentId) == null
+                && !subjectsRepository.existsById(subjectId)) {
+            throw new SubjectNotFoundException(subjectId);
         }
 
-        if (subjectId != null) {
-            checkClassContainsSubject(subjectId, foundStudent);
-        }
+        checkClassContainsSubject(accessSet, studentId, subjectId);
     }
 
     /**
@@ -183,46 +180,62 @@ public class AuthService {
      * @param authentication - текущая аутентификация
      **/
     private void checkStudentFromClassContainsSubject(Long studentId, Long subjectId, Authentication authentication) {
-        var student = (Student) myUserDetailsService.loadUserByUsername(authentication.getName());
-        var studentById = studentRepository.findById(studentId)
-                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        var accessSet = getAccessSet(authentication);
 
-        if (!studentById.getId().equals(student.getId())) {
-            throw new ApplicationForbiddenException();
+        checkHasStudent(accessSet, studentId);
+        checkClassContainsSubject(accessSet, studentId, subjectId);
+    }
+
+    /**
+     * Метод для проверки доступен ли ученик текущему пользователю
+     *
+     * @param accessSet - права текущего пользователя
+     * @param studentId - id ученика
+     **/
+    private void checkHasStudent(AccessSet accessSet, Long studentId) {
+        if (accessSet.hasStudent(studentId)) {
+            return;
         }
 
-        var classForStudent = studentById.getClassEntity();
+        if (!studentRepository.existsById(studentId)) {
+            throw new StudentNotFoundException(studentId);
+        }
+        throw new ApplicationForbiddenException();
+    }
 
-        if (subjectId != null && classForStudent != null) {
-            var subjectForStudent = subjectsRepository.findById(subjectId)
-                    .orElseThrow(() -> new SubjectNotFoundException(subjectId));
+    /**
+     * Метод для проверки содержит ли класс ученика предмет,
+     * ученик без класса проверку проходит
+     *
+     * @param accessSet - права текущего пользователя
+     * @param studentId - id ученика
+     * @param subjectId - id предмета
+     **/
+    private void checkClassContainsSubject(AccessSet accessSet, Long studentId, Long subjectId) {
+        var classId = accessSet.classOfStudent(studentId);
 
-            var subjectsFromClass = classForStudent.getSubjects();
+        if (subjectId == null || classId == null || accessSet.classContainsSubject(classId, subjectId)) {
+            return;
+        }
 
-            if (!subjectsFromClass.contains(subjectForStudent)) {
-                throw new ApplicationForbiddenException();
-            }
+        if (!subjectsRepository.existsById(subjectId)) {
+            throw new SubjectNotFoundException(subjectId);
         }
+        throw new ApplicationForbiddenException();
     }
 
     /**
-     * Метод для проверки содержит ли класс предмет
+     * Метод для получения области поиска ДЗ текущего пользователя
      *
-     * @param foundStudent - ученик
-     * @param subjectId    - id предмета
+     * @param authentication - текущая аутентификация
      **/
-    private void checkClassContainsSubject(Long subjectId, Student foundStudent) {
-        var foundSubject = subjectsRepository.findById(subjectId)
-                .orElseThrow(() -> new SubjectNotFoundException(subjectId));
-
-        var classForStudent = foundStudent.getClassEntity();
-
-        if (classForStudent != null) {
-            var subjectsForClass = classForStudent.getSubjects();
-            if (!subjectsForClass.contains(foundSubject)) {
-                throw new ApplicationForbiddenException();
-            }
+    public HomeworkSearchScope homeworkSearchScope(Authentication authentication) {
+        if (getAuthority(authentication).equals("ROLE_ADMIN")) {
+            return HomeworkSearchScope.ALL;
         }
+
+        var accessSet = getAccessSet(authentication);
+        return new HomeworkSearchScope(false, accessSet.classIds(), accessSet.taughtSubjectIds());
     }
 
     /**
@@ -256,15 +269,15 @@ public class AuthService {
      * @param authentication - текущая аутентификация
      **/
     public void teacherContainSubject(Long subjectId, Authentication authentication) {
-        var foundSubject = subjectsRepository.findById(subjectId)
-                .orElseThrow(() -> new SubjectNotFoundException(subjectId));
-
-        var teacher = (Teacher) myUserDetailsService.loadUserByUsername(authentication.getName());
+        if (getAccessSet(authentication).teachesSubject(subjectId)) {
+            return;
+        }
 
-        if (!teacher.getSubjects().contains(foundSubject)) {
-            log.info("Teacher not contains subject with id={}", subjectId);
-            throw new ApplicationForbiddenException();
+        if (!subjectsRepository.existsById(subjectId)) {
+            throw new SubjectNotFoundException(subjectId);
         }
+        log.info("Teacher not contains subject with id={}", subjectId);
+        throw new ApplicationForbiddenException();
     }
 
     /**
@@ -275,17 +288,13 @@ public class AuthService {
      * @param authentication - текущая аутентификация
      **/
     private void checkStudentFromClass(Long classId, Authentication authentication) {
-        var student = (Student) myUserDetailsService.loadUserByUsername(authentication.getName());
-
-        var foundClass = classRepository.findById(classId)
-                .orElseThrow(() -> new ClassEntityNotFoundException(classId));
-
-        var studentsForClass = foundClass.getStudents();
-
-        if (!studentsForClass.contains(student)) {
-            log.info("Student with not from class with id={}", classId);
-            throw new ApplicationForbiddenException();
+        if (getAccessSet(authentication).hasClass(classId)) {
+            return;
         }
+
+        checkClassExists(classId);
+        log.info("Student with not from class with id={}", classId);
+        throw new ApplicationForbiddenException();
     }
 
     /**
@@ -296,27 +305,23 @@ public class AuthService {
      * @param authentication - текущая аутентификация
      **/
     private void checkParentHasStudentInClass(Long classId, Authentication authentication) {
-        var parent = (Parent) myUserDetailsService.loadUserByUsername(authentication.getName());
-
-        var foundClass = classRepository.findById(classId)
-                .orElseThrow(() -> new ClassEntityNotFoundException(classId));
-
-        var studentsForParent = parent.getStudents();
-
-        AtomicBoolean has = new AtomicBoolean(false);
+        if (getAccessSet(authentication).hasClass(classId)) {
+            return;
+        }
 
-        studentsForParent.forEach(st -> {
-            var classEntity = st.getClassEntity();
-            if (classEntity != null) {
-                if (classEntity.getId().equals(foundClass.getId())) {
-                    has.set(true);
-                }
-            }
-        });
+        checkClassExists(classId);
+        log.info("Teacher has not students in class with id={}", classId);
+        throw new ApplicationForbiddenException();
+    }
 
-        if (!has.get()) {
-            log.info("Teacher has not students in class with id={}", classId);
-            throw new ApplicationForbiddenException();
+    /**
+     * Метод для проверки существования класса
+     *
+     * @param classId - id класса
+     **/
+    private void checkClassExists(Long classId) {
+        if (!classRepository.existsById(classId)) {
+            throw new ClassEntityNotFoundException(classId);
         }
     }
 
@@ -328,17 +333,17 @@ public class AuthService {
      * @param authentication - текущая аутентификация
      **/
     private void checkTeacherHasGrade(Long gradeId, Authentication authentication) {
-        var teacher = (Teacher) myUserDetailsService.loadUserByUsername(authentication.getName());
+        var subjectId = gradeRepository.findSubjectIdById(gradeId);
 
-        var grade = gradeRepository.findById(gradeId)
-                .orElseThrow(() -> new GradeNotFoundException(gradeId));
-
-        var subjectForGrade = grade.getSubject();
+        if (subjectId.isPresent() && getAccessSet(authentication).teachesSubject(subjectId.get())) {
+            return;
+        }
 
-        if (!teacher.getSubjects().contains(subjectForGrade)) {
-            log.info("Teacher has not grade with id={}", gradeId);
-            throw new ApplicationForbiddenException();
+        if (!gradeRepository.existsById(gradeId)) {
+            throw new GradeNotFoundException(gradeId);
         }
+        log.info("Teacher has not grade with id={}", gradeId);
+        throw new ApplicationForbiddenException();
     }
 
     /**
@@ -349,16 +354,41 @@ public class AuthService {
      * @param authentication - текущая аутентификация
      **/
     private void checkTeacherHasHW(Long hwId, Authentication authentication) {
-        var teacher = (Teacher) myUserDetailsService.loadUserByUsername(authentication.getName());
+        var subjectId = homeworkRepository.findSubjectIdById(hwId);
 
-        var hw = homeworkRepository.findById(hwId)
-                .orElseThrow(() -> new HomeworkNotFoundException(hwId));
-
-        var subjectForHW = hw.getSubject();
+        if (subjectId.isPresent() && getAccessSet(authentication).teachesSubject(subjectId.get())) {
+            return;
+        }
 
-        if (!teacher.getSubjects().contains(subjectForHW)) {
-            log.info("Teacher has not homework with id={}", hwId);
-            throw new ApplicationForbiddenException();
+        if (!homeworkRepository.existsById(hwId)) {
+            throw new HomeworkNotFoundException(hwId);
         }
+        log.info("Teacher has not homework with id={}", hwId);
+        throw new ApplicationForbiddenException();
+    }
+
+    /**
+     * Метод для получения прав текущего пользователя из кэша
+     *
+     * @param authentication - текущая аутентификация
+     **/
+    private AccessSet getAccessSet(Authentication authentication) {
+        return accessSetCache.get(authentication.getName(), this::loadAccessSet);
+    }
+
+    /**
+     * Метод для загрузки прав пользователя из БД одним запросом
+     *
+     * @param email - email пользователя
+     **/
+    private AccessSet loadAccessSet(String email) {
+        var principal = myUserDetailsService.loadPrincipalByEmail(email);
+
+        return switch (principal.role()) {
+            case ROLE_STUDENT -> AccessSet.ofStudents(studentRepository.findAccessByStudentId(principal.userId()));
+            case ROLE_PARENT -> AccessSet.ofStudents(studentRepository.findAccessByParentId(principal.userId()));
+            case ROLE_TEACHER -> AccessSet.ofTeacher(subjectsRepository.findIdsByTeacherId(principal.userId()));
+            default -> AccessSet.EMPTY;
+        };
     }
 }
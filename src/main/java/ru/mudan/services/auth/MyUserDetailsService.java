@@ -1,15 +1,22 @@
 package ru.mudan.services.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import ru.mudan.domain.entity.users.AppUser;
+import ru.mudan.domain.events.UserDeletedEvent;
 import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.UserPrincipal;
 import ru.mudan.dto.users.UserUpdateDTO;
 import ru.mudan.exceptions.entity.not_found.UserNotFoundException;
+import ru.mudan.util.enums.Role;
 
 @Slf4j
 @Service
@@ -21,30 +28,65 @@ public class MyUserDetailsService implements UserDetailsService {
     private final StudentRepository studentRepository;
     private final TeacherRepository teacherRepository;
     private final AppUserRepository appUserRepository;
+    private final Cache<String, UserPrincipal> userDetailsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var appUser = appUserRepository.findByEmail(username)
-                .orElseThrow(() -> new UserNotFoundException(username));
+        var principal = loadPrincipalByEmail(username);
 
-        switch (appUser.getRoleName()) {
+        return findUserByRole(principal.role(), principal.userId(), username);
+    }
+
+    /**
+     * Метод для получения данных пользователя по email с использованием кэша
+     *
+     * @param email - email пользователя
+     **/
+    public UserPrincipal loadPrincipalByEmail(String email) {
+        return userDetailsCache.get(email, this::loadPrincipalFromDatabase);
+    }
+
+    /**
+     * Метод для получения данных пользователя по email из БД
+     *
+     * @param email - email пользователя
+     **/
+    private UserPrincipal loadPrincipalFromDatabase(String email) {
+        var appUser = appUserRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException(email));
+
+        var user = findUserByRole(appUser.getRoleName(), appUser.getUserId(), email);
+
+        return new UserPrincipal(email, user.getPassword(), appUser.getRoleName(), appUser.getUserId());
+    }
+
+    /**
+     * Метод для получения пользователя из таблицы его роли
+     *
+     * @param role   - роль пользователя
+     * @param userId - id пользователя в таблице его роли
+     * @param email  - email пользователя
+     **/
+    private UserDetails findUserByRole(Role role, Long userId, String email) {
+        switch (role) {
             case ROLE_ADMIN -> {
-                return adminRepository.findById(appUser.getUserId())
-                        .orElseThrow(() -> new UsernameNotFoundException(username));
+                return adminRepository.findById(userId)
+                        .orElseThrow(() -> new UsernameNotFoundException(email));
             }
             case ROLE_PARENT -> {
-                return parentRepository.findById(appUser.getUserId())
-                        .orElseThrow(() -> new UsernameNotFoundException(username));
+                return parentRepository.findById(userId)
+                        .orElseThrow(() -> new UsernameNotFoundException(email));
             }
             case ROLE_STUDENT -> {
-                return studentRepository.findById(appUser.getUserId())
-                        .orElseThrow(() -> new UsernameNotFoundException(username));
+                return studentRepository.findById(userId)
+                        .orElseThrow(() -> new UsernameNotFoundException(email));
             }
             case ROLE_TEACHER -> {
-                return teacherRepository.findById(appUser.getUserId())
-                        .orElseThrow(() -> new UsernameNotFoundException(username));
+                return teacherRepository.findById(userId)
+                        .orElseThrow(() -> new UsernameNotFoundException(email));
             }
-            default -> throw new UsernameNotFoundException(username);
+            default -> throw new UsernameNotFoundException(email);
         }
     }
 
@@ -72,13 +114,51 @@ public class MyUserDetailsService implements UserDetailsService {
             }
             default -> throw new UsernameNotFoundException(userUpdateDTO.email());
         }
+
+        userDetailsCache.invalidate(userUpdateDTO.email());
     }
 
     /**
-     * Метод для удаления данных пользователя по email
+     * Метод для замены хэша пароля пользователя по email
+     *
+     * @param email          - email пользователя
+     * @param hashedPassword - новый хэш пароля
+     **/
+    public void updatePassword(String email, String hashedPassword) {
+        log.info("Started updating password hash for user with email {}", email);
+        var principal = loadPrincipalByEmail(email);
+
+        switch (principal.role()) {
+            case ROLE_ADMIN -> adminRepository.findById(principal.userId()).ifPresent(admin -> {
+                admin.setHashedPassword(hashedPassword);
+                adminRepository.save(admin);
+            });
+            case ROLE_PARENT -> parentRepository.findById(principal.userId()).ifPresent(parent -> {
+                parent.setHashedPassword(hashedPassword);
+                parentRepository.save(parent);
+            });
+            case ROLE_STUDENT -> studentRepository.findById(principal.userId()).ifPresent(student -> {
+                student.setHashedPassword(hashedPassword);
+                studentRepository.save(student);
+            });
+            case ROLE_TEACHER -> teacherRepository.findById(principal.userId()).ifPresent(teacher -> {
+                teacher.setHashedPassword(hashedPassword);
+                teacherRepository.save(teacher);
+            });
+            default -> throw new UsernameNotFoundException(email);
+        }
+
+        userDetailsCache.invalidate(email);
+        log.info("Finished updating password hash for user with email {}", email);
+    }
+
+    /**
+     * Метод для удаления данных пользователя по email. Кэши, которые зависят от пользователя,
+     * сбрасываются по UserDeletedEvent после фиксации транзакции
      *
      * @param email - email пользователя
      **/
+    @Transactional
     public void deleteUserByEmail(String email) {
         var appUser = appUserRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email));
@@ -104,6 +184,18 @@ public class MyUserDetailsService implements UserDetailsService {
             }
             default -> throw new UsernameNotFoundException(email);
         }
+
+        eventPublisher.publishEvent(new UserDeletedEvent(email, appUser.getRoleName()));
+    }
+
+    /**
+     * Метод для сброса данных удалённого пользователя в кэше после фиксации транзакции
+     *
+     * @param event - событие удаления пользователя
+     **/
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        userDetailsCache.invalidate(event.email());
     }
 
     /**
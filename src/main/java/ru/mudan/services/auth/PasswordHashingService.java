@@ -0,0 +1,144 @@
+package ru.mudan.services.auth;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import ru.mudan.exceptions.PasswordHashingUnavailableException;
+
+/**
+ * Класс для хэширования и проверки паролей в отдельном ограниченном пуле потоков,
+ * чтобы массовые входы не занимали все ядра процессора
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private static final String QUEUE_FULL_MESSAGE = "Password hashing queue is full";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService passwordHashingExecutor;
+    @Value("${security.password.hashing.timeout}")
+    private Duration timeout;
+    @Value("${security.password.hashing.concurrency}")
+    private int concurrency;
+
+    /**
+     * Метод для хэширования пароля
+     *
+     * @param rawPassword - пароль пользователя
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Метод для хэширования списка паролей на всех потоках пула. Одновременно в пуле
+     * находится не больше concurrency задач импорта, поэтому проверки паролей при входе
+     * продолжают выполняться между ними
+     *
+     * @param rawPasswords - пароли пользователей
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        var slots = new Semaphore(concurrency);
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+
+        try {
+            for (var rawPassword : rawPasswords) {
+                slots.acquire();
+                futures.add(passwordHashingExecutor.submit(() -> {
+                    try {
+                        return passwordEncoder.encode(rawPassword);
+                    } finally {
+                        slots.release();
+                    }
+                }));
+            }
+
+            List<String> encodedPasswords = new ArrayList<>(futures.size());
+            for (var future : futures) {
+                encodedPasswords.add(future.get());
+            }
+            return encodedPasswords;
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            log.warn(QUEUE_FULL_MESSAGE);
+            throw new PasswordHashingUnavailableException();
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Метод для проверки совпадения пароля с хэшем
+     *
+     * @param rawPassword     - пароль пользователя
+     * @param encodedPassword - хэш пароля из БД
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Метод для проверки, что хэш пароля создан устаревшим алгоритмом или с устаревшей стоимостью
+     *
+     * @param encodedPassword - хэш пароля из БД
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Метод для выполнения задачи в пуле хэширования с ожиданием не дольше timeout
+     *
+     * @param task - задача хэширования
+     */
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = passwordHashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn(QUEUE_FULL_MESSAGE);
+            throw new PasswordHashingUnavailableException();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hashing timed out after {}", timeout);
+            throw new PasswordHashingUnavailableException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+}
@@ -0,0 +1,135 @@
+package ru.mudan.services.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mudan.domain.entity.PasswordSetupToken;
+import ru.mudan.domain.repositories.PasswordSetupTokenRepository;
+import ru.mudan.exceptions.PasswordSetupTokenInvalidException;
+
+/**
+ * Класс для работы с одноразовыми ссылками установки пароля.
+ * Пароль пользователя не отправляется в письме: письмо содержит ссылку со случайным токеном,
+ * а в БД хранится только SHA-256 хэш токена, поэтому ни очередь писем, ни таблица ссылок
+ * не позволяют войти в чужой аккаунт
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordSetupService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final String SETUP_PATH = "/set-password?token=";
+
+    private final PasswordSetupTokenRepository passwordSetupTokenRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final MyUserDetailsService myUserDetailsService;
+    private final TransactionTemplate transactionTemplate;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${security.password.setup.base-url}")
+    private String baseUrl;
+    @Value("${security.password.setup.token-ttl}")
+    private Duration tokenTtl;
+
+    /**
+     * Метод для создания одноразовой ссылки установки пароля
+     *
+     * @param email - email пользователя
+     */
+    public String createSetupLink(String email) {
+        return createSetupLinks(List.of(email)).getFirst();
+    }
+
+    /**
+     * Метод для создания одноразовых ссылок установки пароля одной пакетной вставкой.
+     * Ссылки сохраняются в транзакции вызывающего кода и возвращаются в порядке адресов
+     *
+     * @param emails - email пользователей
+     */
+    public List<String> createSetupLinks(List<String> emails) {
+        var now = LocalDateTime.now();
+        List<PasswordSetupToken> tokens = new ArrayList<>(emails.size());
+        List<String> links = new ArrayList<>(emails.size());
+
+        for (var email : emails) {
+            var token = generateToken();
+            tokens.add(new PasswordSetupToken(email, hashToken(token), now, now.plus(tokenTtl)));
+            links.add(baseUrl + SETUP_PATH + token);
+        }
+
+        passwordSetupTokenRepository.saveAll(tokens);
+        return links;
+    }
+
+    /**
+     * Метод для установки пароля по токену из ссылки. Пароль хэшируется до начала транзакции,
+     * а ссылка блокируется и помечается использованной в одной транзакции с заменой пароля
+     *
+     * @param token    - токен из ссылки
+     * @param password - новый пароль
+     */
+    public void setPassword(String token, String password) {
+        var hashedPassword = passwordHashingService.encode(password);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var now = LocalDateTime.now();
+            var setupToken = passwordSetupTokenRepository.findByTokenHash(hashToken(token))
+                    .filter(found -> found.getUsedAt() == null && found.getExpiresAt().isAfter(now))
+                    .orElseThrow(PasswordSetupTokenInvalidException::new);
+
+            log.info("Started setting password for user with email {}", setupToken.getEmail());
+            myUserDetailsService.updatePassword(setupToken.getEmail(), hashedPassword);
+            setupToken.setUsedAt(now);
+            passwordSetupTokenRepository.save(setupToken);
+            log.info("Finished setting password for user with email {}", setupToken.getEmail());
+        });
+    }
+
+    /**
+     * Метод для удаления ссылок, срок действия которых истёк
+     */
+    @Scheduled(cron = "${security.password.setup.cleanup-cron}")
+    public void deleteExpiredTokens() {
+        log.info("Started deleting expired password setup tokens");
+        var deleted = transactionTemplate.execute(status ->
+                passwordSetupTokenRepository.deleteExpired(LocalDateTime.now()));
+        log.info("Finished deleting expired password setup tokens, deleted {}", deleted);
+    }
+
+    /**
+     * Метод для получения случайного токена для ссылки
+     */
+    private String generateToken() {
+        var bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Метод для получения SHA-256 хэша токена, под которым ссылка хранится в БД
+     *
+     * @param token - токен из ссылки
+     */
+    private static String hashToken(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package ru.mudan.services.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.entity.Schedule;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.events.UserDeletedEvent;
+import static ru.mudan.util.TransactionUtils.afterCommit;
+
+/**
+ * Класс для сброса второго уровня кэша Hibernate после изменений, которые выполняет сама БД.
+ * Удаление класса, предмета, учителя или родителя каскадно удаляет предметы и расписание
+ * или обнуляет ссылки у учеников через ON DELETE в схеме, и Hibernate об этих строках не знает
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private static final String[] CASCADED_COLLECTIONS = {
+            ClassEntity.class.getName() + ".subjects",
+            ClassEntity.class.getName() + ".students",
+            Subject.class.getName() + ".schedules"
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Метод для сброса предметов, расписания, учеников, их коллекций и кэша запросов
+     * после фиксации транзакции с каскадным удалением
+     */
+    public void evictCascadedAfterCommit() {
+        afterCommit(this::evictCascaded);
+    }
+
+    /**
+     * Метод для сброса кэша после фиксации удаления учителя или родителя
+     *
+     * @param event - событие удаления пользователя
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (event.cascades()) {
+            evictCascaded();
+        }
+    }
+
+    private void evictCascaded() {
+        var cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(Subject.class);
+        cache.evictEntityData(Schedule.class);
+        cache.evictEntityData(Student.class);
+        for (var role : CASCADED_COLLECTIONS) {
+            cache.evictCollectionData(role);
+        }
+        cache.evictQueryRegions();
+        log.info("Second-level cache cleared after cascade delete");
+    }
+}
@@ -1,11 +1,19 @@
 package ru.mudan.services.classes;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.events.MembershipChangedEvent;
 import ru.mudan.domain.repositories.ClassRepository;
 import ru.mudan.domain.repositories.StudentRepository;
 import ru.mudan.domain.repositories.SubjectsRepository;
@@ -15,6 +23,9 @@ import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.StudentNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
 import ru.mudan.facade.classes.ClassFacade;
+import ru.mudan.services.cache.EntityCacheEvictor;
+import ru.mudan.services.grades.GradeAggregateService;
+import ru.mudan.services.schedule.TimetableCache;
 
 /**
  * Класс с описанием бизнес-логики
@@ -30,6 +41,10 @@ public class ClassService {
     private final ClassRepository classRepository;
     private final StudentRepository studentRepository;
     private final SubjectsRepository subjectsRepository;
+    private final TimetableCache timetableCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GradeAggregateService gradeAggregateService;
 
     /**
      * Метод для получения списка всех классов
@@ -72,14 +87,9 @@ public class ClassService {
 
         var savedClassEntity = classRepository.save(classEntity);
 
-        if (request.studentsIds() != null) {
-            request.studentsIds().forEach(id -> {
-                studentRepository.findById(id).ifPresent(st -> {
-                            st.setClassEntity(savedClassEntity);
-                            studentRepository.save(st);
-                        }
-                );
-            });
+        if (request.studentsIds() != null && !request.studentsIds().isEmpty()) {
+            studentRepository.updateClassForStudents(savedClassEntity.getId(), Set.copyOf(request.studentsIds()));
+            eventPublisher.publishEvent(new MembershipChangedEvent());
         }
         log.info("Finished creating new class {}{}", request.number(), request.letter());
     }
@@ -111,6 +121,7 @@ public class ClassService {
         });
 
         classRepository.save(foundClass);
+        timetableCache.evictAll();
         log.info("Finished updating class with id={}", id);
     }
 
@@ -124,6 +135,9 @@ public class ClassService {
         findClassEntityById(id);
 
         classRepository.deleteById(id);
+        timetableCache.evictAll();
+        entityCacheEvictor.evictCascadedAfterCommit();
+        eventPublisher.publishEvent(new MembershipChangedEvent());
         log.info("Finished deleting class with id={}", id);
     }
 
@@ -172,16 +186,17 @@ public class ClassService {
      */
     public void addStudentsToClass(Long classId, List<Long> studentsForAddingIds) {
         log.info("Started adding students to class with id={}", classId);
-        var foundClass = findClassEntityById(classId);
-
-        if (studentsForAddingIds != null) {
-            studentsForAddingIds
-                    .forEach(id -> {
-                        var student = studentRepository.findById(id)
-                                .orElseThrow(() -> new StudentNotFoundException(id));
-                        student.setClassEntity(foundClass);
-                        studentRepository.save(student);
-                    });
+        findClassEntityById(classId);
+
+        if (studentsForAddingIds != null && !studentsForAddingIds.isEmpty()) {
+            var ids = Set.copyOf(studentsForAddingIds);
+            var missingId = findMissingId(ids, studentRepository.findAllById(ids), Student::getId);
+            missingId.ifPresent(id -> {
+                throw new StudentNotFoundException(id);
+            });
+
+            studentRepository.updateClassForStudents(classId, ids);
+            eventPublisher.publishEvent(new MembershipChangedEvent());
             log.info("Finished adding students to class with id={}", classId);
         }
     }
@@ -194,20 +209,44 @@ public class ClassService {
      */
     public void addSubjectsToClass(Long classId, List<Long> subjectsForAddingIds) {
         log.info("Started adding subjects to class with id={}", classId);
-        var foundClass = findClassEntityById(classId);
-
-        if (subjectsForAddingIds != null) {
-            subjectsForAddingIds
-                    .forEach(id -> {
-                        var subject = subjectsRepository.findById(id)
-                                .orElseThrow(() -> new SubjectNotFoundException(id));
-                        subject.setClassEntity(foundClass);
-                        subjectsRepository.save(subject);
-                    });
+        findClassEntityById(classId);
+
+        if (subjectsForAddingIds != null && !subjectsForAddingIds.isEmpty()) {
+            var ids = Set.copyOf(subjectsForAddingIds);
+            var missingId = findMissingId(ids, subjectsRepository.findAllById(ids), Subject::getId);
+            missingId.ifPresent(id -> {
+                throw new SubjectNotFoundException(id);
+            });
+
+            subjectsRepository.updateClassForSubjects(classId, ids);
+            gradeAggregateService.markSubjectsDirty(ids);
+            eventPublisher.publishEvent(new MembershipChangedEvent());
             log.info("Finished adding subjects to class with id={}", classId);
         }
     }
 
+    /**
+     * Метод для поиска id, которых нет среди найденных сущностей
+     *
+     * @param ids         - запрошенные id
+     * @param found       - сущности, найденные по id
+     * @param idExtractor - функция получения id сущности
+     */
+    private <T> Optional<Long> findMissingId(Set<Long> ids, List<T> found, Function<T, Long> idExtractor) {
+        if (found.size() == ids.size()) {
+            return Optional.empty();
+        }
+
+        var foundIds = found.stream()
+                .map(idExtractor)
+                .collect(Collectors.toSet());
+
+        return ids.stream()
+                .filter(id -> !foundIds.contains(id))
+                .sorted()
+                .findFirst();
+    }
+
     /**
      * Метод для поиска класса по id
      *
@@ -0,0 +1,34 @@
+package ru.mudan.services.grades;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Класс для фонового пересчёта сумм оценок за помеченные месяцы.
+ * Каждый месяц пересчитывается в своей транзакции, несколько экземпляров приложения
+ * делят помеченные месяцы между собой
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GradeAggregateReconciler {
+
+    private final GradeAggregateService gradeAggregateService;
+
+    /**
+     * Метод для пересчёта всех помеченных месяцев
+     */
+    @Scheduled(fixedDelayString = "${reports.grade-aggregates.reconcile-interval}")
+    public void reconcileDirtyMonths() {
+        int rebuilt = 0;
+        while (gradeAggregateService.rebuildNextDirtyMonth().isPresent()) {
+            rebuilt++;
+        }
+
+        if (rebuilt > 0) {
+            log.info("Grade aggregates rebuilt for {} months", rebuilt);
+        }
+    }
+}
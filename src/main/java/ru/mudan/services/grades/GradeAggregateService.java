@@ -0,0 +1,103 @@
+package ru.mudan.services.grades;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mudan.domain.entity.Grade;
+import ru.mudan.domain.repositories.DirtyGradeMonthRepository;
+import ru.mudan.domain.repositories.GradeAggregateRepository;
+
+/**
+ * Класс с описанием бизнес-логики сумм оценок для отчётов по школе.
+ * Суммы по классу, месяцу, предмету и ученику изменяются одним запросом при записи оценки.
+ * Изменения, после которых суммы нельзя поправить на одну оценку (перенос предмета в другой класс),
+ * помечают затронутые месяцы, и GradeAggregateReconciler пересчитывает их целиком.
+ * Изменённая или удалённая оценка вычитается по старым значениям, поэтому GradesService вызывает
+ * методы под той же блокировкой строки оценки, что и для статистики успеваемости
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class GradeAggregateService {
+
+    private final GradeAggregateRepository gradeAggregateRepository;
+    private final DirtyGradeMonthRepository dirtyGradeMonthRepository;
+
+    /**
+     * Метод для добавления оценки в суммы месяца
+     *
+     * @param grade - сохранённая оценка
+     */
+    public void addGrade(Grade grade) {
+        applyGrade(grade, 1);
+    }
+
+    /**
+     * Метод для вычитания оценки из сумм месяца,
+     * при изменении оценки вызывается до изменения полей.
+     * Оценка должна быть получена через GradeRepository.findByIdForUpdate
+     *
+     * @param grade - удаляемая или изменяемая оценка
+     */
+    public void removeGrade(Grade grade) {
+        applyGrade(grade, -1);
+    }
+
+    /**
+     * Метод для пометки всех месяцев с оценками по предметам как требующих пересчёта
+     *
+     * @param subjectIds - id предметов, у которых изменился класс
+     */
+    public void markSubjectsDirty(Collection<Long> subjectIds) {
+        if (subjectIds.isEmpty()) {
+            return;
+        }
+
+        var months = dirtyGradeMonthRepository.markSubjectsDirty(subjectIds);
+        log.info("Marked {} months of grade aggregates for rebuild", months);
+    }
+
+    /**
+     * Метод для пересчёта самого раннего помеченного месяца,
+     * возвращает пересчитанный месяц или пустой результат, если помеченных месяцев нет
+     */
+    public Optional<LocalDate> rebuildNextDirtyMonth() {
+        var dirtyMonth = dirtyGradeMonthRepository.lockNext();
+        if (dirtyMonth.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var month = dirtyMonth.get().getMonth();
+        log.info("Started rebuilding grade aggregates for month {}", month);
+        gradeAggregateRepository.lockForRebuild();
+        gradeAggregateRepository.deleteMonth(month);
+        var rows = gradeAggregateRepository.rebuildMonth(month, month.plusMonths(1));
+        dirtyGradeMonthRepository.delete(dirtyMonth.get());
+        log.info("Finished rebuilding grade aggregates for month {}, rows {}", month, rows);
+
+        return Optional.of(month);
+    }
+
+    /**
+     * Метод для изменения сумм месяца на одну оценку, оценки без ученика, балла, даты
+     * или предмета с классом в отчёты не входят
+     *
+     * @param grade - оценка
+     * @param sign  - 1 для добавления оценки, -1 для вычитания
+     */
+    private void applyGrade(Grade grade, int sign) {
+        var subject = grade.getSubject();
+        if (grade.getStudent() == null || subject == null || subject.getClassEntity() == null
+                || grade.getMark() == null || grade.getDateOfMark() == null) {
+            return;
+        }
+
+        gradeAggregateRepository.addGrade(subject.getClassEntity().getId(), grade.getDateOfMark().withDayOfMonth(1),
+                subject.getId(), grade.getStudent().getId(), grade.getMark(), sign);
+    }
+}
@@ -0,0 +1,204 @@
+package ru.mudan.services.grades;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mudan.domain.entity.Grade;
+import ru.mudan.domain.entity.GradeStatistics;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.repositories.GradeStatisticsRepository;
+import ru.mudan.domain.repositories.StudentRepository;
+import ru.mudan.domain.repositories.SubjectsRepository;
+import ru.mudan.dto.grades.GradeStatsDTO;
+import ru.mudan.dto.grades.StudentAnalyticsDTO;
+import ru.mudan.dto.grades.StudentGradeStatsDTO;
+import ru.mudan.dto.grades.SubjectAnalyticsDTO;
+import ru.mudan.dto.grades.SubjectGradeStatsDTO;
+import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Класс с описанием бизнес-логики аналитики успеваемости.
+ * Для каждого ученика, предмета и четверти хранятся накопительные суммы оценок, которые
+ * изменяются одним запросом при сохранении, изменении и удалении оценки. Показатели предмета,
+ * класса и ученика по всем предметам складываются из этих сумм без чтения самих оценок
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class GradeAnalyticsService {
+
+    private final GradeStatisticsRepository gradeStatisticsRepository;
+    private final StudentRepository studentRepository;
+    private final SubjectsRepository subjectsRepository;
+
+    /**
+     * Метод для добавления оценки в накопительные суммы
+     *
+     * @param grade - сохранённая оценка
+     */
+    public void addGrade(Grade grade) {
+        applyGrade(grade, 1);
+    }
+
+    /**
+     * Метод для вычитания оценки из накопительных сумм,
+     * при изменении оценки вызывается до изменения полей
+     *
+     * @param grade - удаляемая или изменяемая оценка
+     */
+    public void removeGrade(Grade grade) {
+        applyGrade(grade, -1);
+    }
+
+    /**
+     * Метод для получения успеваемости ученика за четверть по всем предметам
+     * вместе с оценками за все четверти учебного года
+     *
+     * @param studentId - id ученика
+     * @param date      - дата внутри четверти
+     */
+    @Transactional(readOnly = true)
+    public StudentAnalyticsDTO findStudentAnalytics(Long studentId, LocalDate date) {
+        log.info("Started getting grade analytics for student with id={}", studentId);
+        var term = SchoolTerm.of(date);
+        var terms = SchoolTerm.ofSchoolYear(date);
+        var statistics = gradeStatisticsRepository.findAllForStudent(
+                studentId, terms.getFirst().start(), terms.getLast().start());
+
+        Map<Long, Map<LocalDate, GradeStatistics>> bySubject = new HashMap<>();
+        statistics.forEach(row -> bySubject
+                .computeIfAbsent(row.getId().getSubjectId(), id -> new HashMap<>())
+                .put(row.getId().getTermStart(), row));
+        var subjectNames = subjectsRepository.findAllById(bySubject.keySet()).stream()
+                .collect(Collectors.toMap(Subject::getId, Subject::getName));
+
+        List<SubjectGradeStatsDTO> subjects = new ArrayList<>(bySubject.size());
+        List<GradeStatistics> currentTerm = new ArrayList<>(bySubject.size());
+        bySubject.forEach((subjectId, byTerm) -> {
+            var current = byTerm.get(term.start());
+            if (current != null) {
+                currentTerm.add(current);
+            }
+            subjects.add(SubjectGradeStatsDTO.builder()
+                    .subjectId(subjectId)
+                    .subjectName(subjectNames.get(subjectId))
+                    .stats(current == null ? null : GradeSums.of(current).toDTO())
+                    .termMarks(terms.stream()
+                            .map(t -> byTerm.get(t.start()))
+                            .map(row -> row == null ? null : GradeSums.of(row).toDTO().termMark())
+                            .toList())
+                    .build());
+        });
+        subjects.sort(Comparator.comparing(SubjectGradeStatsDTO::subjectName,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        log.info("Finished getting grade analytics for student with id={}", studentId);
+
+        return StudentAnalyticsDTO.builder()
+                .term(term)
+                .terms(terms)
+                .summary(GradeSums.sum(currentTerm).toDTO())
+                .subjects(subjects)
+                .build();
+    }
+
+    /**
+     * Метод для получения успеваемости нескольких учеников по всем предметам за четверть
+     *
+     * @param studentIds - id учеников
+     * @param date       - дата внутри четверти
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, GradeStatsDTO> findSummaryForStudents(Collection<Long> studentIds, LocalDate date) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, GradeSums> byStudent = new HashMap<>();
+        gradeStatisticsRepository.findAllForStudents(studentIds, SchoolTerm.of(date).start())
+                .forEach(row -> byStudent.computeIfAbsent(row.getId().getStudentId(), id -> new GradeSums())
+                        .add(GradeSums.of(row)));
+
+        return byStudent.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().toDTO()));
+    }
+
+    /**
+     * Метод для получения успеваемости по предмету за четверть: по каждому ученику,
+     * по предмету в целом и по классу предмета по всем его предметам
+     *
+     * @param subjectId - id предмета
+     * @param date      - дата внутри четверти
+     */
+    @Transactional(readOnly = true)
+    public SubjectAnalyticsDTO findSubjectAnalytics(Long subjectId, LocalDate date) {
+        log.info("Started getting grade analytics for subject with id={}", subjectId);
+        var subject = subjectsRepository.findById(subjectId)
+                .orElseThrow(() -> new SubjectNotFoundException(subjectId));
+        var term = SchoolTerm.of(date);
+
+        var statistics = gradeStatisticsRepository.findAllForSubject(subjectId, term.start());
+        var students = studentRepository.findAllById(statistics.stream()
+                        .map(row -> row.getId().getStudentId())
+                        .toList()).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        var studentStats = statistics.stream()
+                .filter(row -> students.containsKey(row.getId().getStudentId()))
+                .map(row -> {
+                    var student = students.get(row.getId().getStudentId());
+                    return StudentGradeStatsDTO.builder()
+                            .studentId(student.getId())
+                            .firstname(student.getFirstname())
+                            .lastname(student.getLastname())
+                            .stats(GradeSums.of(row).toDTO())
+                            .build();
+                })
+                .sorted(Comparator.comparing(StudentGradeStatsDTO::lastname)
+                        .thenComparing(StudentGradeStatsDTO::firstname))
+                .toList();
+
+        var classSummary = subject.getClassEntity() == null
+                ? null
+                : GradeSums.sum(gradeStatisticsRepository.findAllForClass(subject.getClassEntity().getId(),
+                term.start())).toDTO();
+        log.info("Finished getting grade analytics for subject with id={}", subjectId);
+
+        return SubjectAnalyticsDTO.builder()
+                .term(term)
+                .summary(GradeSums.sum(statistics).toDTO())
+                .classSummary(classSummary)
+                .students(studentStats)
+                .build();
+    }
+
+    /**
+     * Метод для изменения накопительных сумм на одну оценку,
+     * оценки без ученика, предмета, балла или даты в аналитику не входят
+     *
+     * @param grade - оценка
+     * @param sign  - 1 для добавления оценки, -1 для вычитания
+     */
+    private void applyGrade(Grade grade, int sign) {
+        if (grade.getStudent() == null || grade.getSubject() == null
+                || grade.getMark() == null || grade.getDateOfMark() == null) {
+            return;
+        }
+
+        var term = SchoolTerm.of(grade.getDateOfMark());
+        gradeStatisticsRepository.addGrade(grade.getStudent().getId(), grade.getSubject().getId(),
+                term.start(), grade.getMark(), term.dayOf(grade.getDateOfMark()), sign);
+    }
+}
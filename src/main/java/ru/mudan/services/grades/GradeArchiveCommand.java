@@ -0,0 +1,54 @@
+package ru.mudan.services.grades;
+
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Класс команды архивации оценок прошедшего учебного года, запускается указанием grades.archive.year.
+ * При указанном grades.archive.export-dir оценки выгружаются в файл и удаляются из БД,
+ * иначе секция отсоединяется в архивную таблицу и переносится в табличное пространство
+ * grades.archive.tablespace, если оно указано. После архивации приложение завершается
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "grades.archive.year")
+public class GradeArchiveCommand implements ApplicationRunner {
+
+    private final GradePartitionService gradePartitionService;
+    private final ConfigurableApplicationContext context;
+    @Value("${grades.archive.year}")
+    private int startYear;
+    @Value("${grades.archive.tablespace:#{null}}")
+    private String tablespace;
+    @Value("${grades.archive.export-dir:#{null}}")
+    private Path exportDir;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var exitCode = archive();
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    private int archive() {
+        try {
+            if (exportDir != null) {
+                gradePartitionService.exportSchoolYear(startYear, exportDir);
+            } else {
+                gradePartitionService.archiveSchoolYear(startYear, tablespace);
+            }
+            return 0;
+        } catch (RuntimeException e) {
+            log.error("Archiving grades of school year {} failed", startYear, e);
+            return 1;
+        }
+    }
+}
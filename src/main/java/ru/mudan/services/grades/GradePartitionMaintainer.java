@@ -0,0 +1,31 @@
+package ru.mudan.services.grades;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Класс для фонового создания секций оценок текущего и следующего учебного года,
+ * чтобы новые оценки не попадали в секцию grades_default
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GradePartitionMaintainer {
+
+    private final GradePartitionService gradePartitionService;
+
+    /**
+     * Метод для создания недостающих секций оценок
+     */
+    @Scheduled(fixedDelayString = "${grades.partitions.maintenance-interval}")
+    public void createMissingPartitions() {
+        var created = gradePartitionService.createMissingPartitions(LocalDate.now());
+
+        if (!created.isEmpty()) {
+            log.info("Grade partitions created for school years {}", created);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package ru.mudan.services.grades;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.exceptions.GradeArchiveExportException;
+import ru.mudan.exceptions.GradeArchiveYearInvalidException;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Класс с описанием бизнес-логики
+ * для работы с секциями таблицы grades по учебным годам
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class GradePartitionService {
+
+    private static final String ARCHIVE_TABLE_PREFIX = "grades_archive_y";
+    private static final String EXPORT_FILE_SUFFIX = ".csv.gz";
+
+    private final GradeRepository gradeRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Метод для создания недостающих секций оценок учебного года даты и следующего за ним.
+     * Возвращает годы начала учебных годов, секции которых были созданы
+     *
+     * @param date - дата
+     */
+    public List<Integer> createMissingPartitions(LocalDate date) {
+        var schoolYear = SchoolTerm.schoolYearOf(date);
+        List<Integer> created = new ArrayList<>();
+        for (var startYear = schoolYear; startYear <= schoolYear + 1; startYear++) {
+            if (gradeRepository.createSchoolYearPartition(startYear)) {
+                created.add(startYear);
+            }
+        }
+
+        return created;
+    }
+
+    /**
+     * Метод для отсоединения оценок прошедшего учебного года в архивную таблицу.
+     * Оценки архивной таблицы не показываются в дневнике, их суммы остаются в статистике и отчётах
+     *
+     * @param startYear  - год начала учебного года
+     * @param tablespace - табличное пространство для архивной таблицы, null - оставить текущее
+     */
+    public String archiveSchoolYear(int startYear, String tablespace) {
+        log.info("Started archiving grades of school year {}", startYear);
+        checkSchoolYearFinished(startYear);
+
+        var archiveTable = gradeRepository.archiveSchoolYearPartition(startYear, tablespace);
+        log.info("Finished archiving grades of school year {} to table {}", startYear, archiveTable);
+
+        return archiveTable;
+    }
+
+    /**
+     * Метод для выгрузки оценок прошедшего учебного года в сжатый CSV-файл и удаления их из БД.
+     * Секция отсоединяется в архивную таблицу отдельной короткой транзакцией, поэтому таблица grades
+     * блокируется только на время отсоединения. Выгрузка и удаление архивной таблицы выполняются
+     * без транзакции отдельными шагами: при ошибке выгрузки оценки остаются в архивной таблице,
+     * и повторный запуск выгружает её
+     *
+     * @param startYear - год начала учебного года
+     * @param directory - директория для файла архива
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Path exportSchoolYear(int startYear, Path directory) {
+        log.info("Started exporting grades of school year {} to {}", startYear, directory);
+        checkSchoolYearFinished(startYear);
+
+        var file = directory.resolve(ARCHIVE_TABLE_PREFIX + startYear + EXPORT_FILE_SUFFIX);
+        try (var out = new GZIPOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE_NEW))) {
+            var archiveTable = transactionTemplate.execute(status ->
+                    gradeRepository.archiveSchoolYearPartition(startYear, null));
+            var copied = copyOut(archiveTable, out);
+            out.finish();
+            dropArchiveTable(archiveTable);
+            log.info("Finished exporting {} grades of school year {} to {}", copied, startYear, file);
+        } catch (FileAlreadyExistsException e) {
+            throw new GradeArchiveExportException(file.toString(), e);
+        } catch (IOException | SQLException | RuntimeException e) {
+            deleteIncompleteFile(file);
+            throw new GradeArchiveExportException(file.toString(), e);
+        }
+
+        return file;
+    }
+
+    /**
+     * Метод для выгрузки архивной таблицы в CSV, возвращает количество выгруженных строк
+     *
+     * @param archiveTable - название архивной таблицы
+     * @param out          - поток для CSV
+     */
+    private long copyOut(String archiveTable, OutputStream out) throws SQLException, IOException {
+        try (var connection = dataSource.getConnection()) {
+            return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyOut("COPY " + archiveTable + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+        }
+    }
+
+    /**
+     * Метод для удаления выгруженной архивной таблицы
+     *
+     * @param archiveTable - название архивной таблицы
+     */
+    private void dropArchiveTable(String archiveTable) throws SQLException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + archiveTable);
+        }
+    }
+
+    private static void deleteIncompleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Incomplete grades archive {} was not deleted", file, e);
+        }
+    }
+
+    private static void checkSchoolYearFinished(int startYear) {
+        if (startYear >= SchoolTerm.schoolYearOf(LocalDate.now())) {
+            throw new GradeArchiveYearInvalidException(startYear);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package ru.mudan.services.grades;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import ru.mudan.domain.entity.GradeStatistics;
+import ru.mudan.dto.grades.GradeStatsDTO;
+
+/**
+ * Накопительные суммы оценок, из которых без обращения к самим оценкам получаются средний балл,
+ * медиана, распределение и наклон тренда. Суммы разных учеников и предметов одной четверти
+ * складываются, поэтому показатели класса собираются из строк учеников за O(количества строк)
+ */
+public final class GradeSums {
+
+    public static final int MIN_MARK = 2;
+    public static final int MAX_MARK = 5;
+    private static final int DAYS_IN_WEEK = 7;
+
+    private final long[] markCounts = new long[MAX_MARK - MIN_MARK + 1];
+    private long count;
+    private long marksSum;
+    private long daysSum;
+    private long daysSqSum;
+    private long daysMarksSum;
+
+    /**
+     * Метод для получения сумм из строки таблицы grade_statistics
+     *
+     * @param statistics - накопительные суммы ученика по предмету за четверть
+     */
+    public static GradeSums of(GradeStatistics statistics) {
+        var sums = new GradeSums();
+        sums.count = statistics.getGradesCount();
+        sums.marksSum = statistics.getMarksSum();
+        sums.markCounts[0] = statistics.getMark2Count();
+        sums.markCounts[1] = statistics.getMark3Count();
+        sums.markCounts[2] = statistics.getMark4Count();
+        sums.markCounts[MAX_MARK - MIN_MARK] = statistics.getMark5Count();
+        sums.daysSum = statistics.getDaysSum();
+        sums.daysSqSum = statistics.getDaysSqSum();
+        sums.daysMarksSum = statistics.getDaysMarksSum();
+        return sums;
+    }
+
+    /**
+     * Метод для сложения сумм нескольких строк таблицы grade_statistics одной четверти
+     *
+     * @param statistics - накопительные суммы
+     */
+    public static GradeSums sum(Collection<GradeStatistics> statistics) {
+        var sums = new GradeSums();
+        statistics.forEach(row -> sums.add(of(row)));
+        return sums;
+    }
+
+    /**
+     * Метод для добавления других сумм той же четверти
+     *
+     * @param other - суммы для добавления
+     */
+    public GradeSums add(GradeSums other) {
+        count += other.count;
+        marksSum += other.marksSum;
+        for (int i = 0; i < markCounts.length; i++) {
+            markCounts[i] += other.markCounts[i];
+        }
+        daysSum += other.daysSum;
+        daysSqSum += other.daysSqSum;
+        daysMarksSum += other.daysMarksSum;
+        return this;
+    }
+
+    /**
+     * Метод для проверки, что в суммы не вошло ни одной оценки
+     */
+    public boolean isEmpty() {
+        return count <= 0;
+    }
+
+    /**
+     * Метод для вычисления показателей успеваемости
+     */
+    public GradeStatsDTO toDTO() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < markCounts.length; i++) {
+            distribution.put(MIN_MARK + i, markCounts[i]);
+        }
+
+        if (isEmpty()) {
+            return GradeStatsDTO.builder()
+                    .count(0)
+                    .distribution(distribution)
+                    .build();
+        }
+
+        var average = (double) marksSum / count;
+
+        return GradeStatsDTO.builder()
+                .count(count)
+                .average(average)
+                .median(median())
+                .distribution(distribution)
+                .trendPerWeek(trendPerWeek())
+                .termMark((int) Math.round(average))
+                .build();
+    }
+
+    /**
+     * Метод для вычисления медианы по распределению оценок
+     */
+    private Double median() {
+        long total = 0;
+        for (var markCount : markCounts) {
+            total += markCount;
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        return (markAt((total - 1) / 2) + markAt(total / 2)) / 2.0;
+    }
+
+    /**
+     * Метод для получения оценки на позиции в упорядоченном списке оценок
+     *
+     * @param position - позиция, начиная с 0
+     */
+    private int markAt(long position) {
+        long seen = 0;
+        for (int i = 0; i < markCounts.length; i++) {
+            seen += markCounts[i];
+            if (position < seen) {
+                return MIN_MARK + i;
+            }
+        }
+        return MAX_MARK;
+    }
+
+    /**
+     * Метод для вычисления наклона линейного тренда оценок методом наименьших квадратов
+     */
+    private Double trendPerWeek() {
+        var denominator = count * daysSqSum - daysSum * daysSum;
+        if (denominator == 0) {
+            return null;
+        }
+
+        return (double) (count * daysMarksSum - daysSum * marksSum) / denominator * DAYS_IN_WEEK;
+    }
+}
@@ -1,19 +1,28 @@
 package ru.mudan.services.grades;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.mudan.domain.entity.Grade;
 import ru.mudan.domain.repositories.GradeRepository;
 import ru.mudan.domain.repositories.StudentRepository;
 import ru.mudan.domain.repositories.SubjectsRepository;
+import ru.mudan.dto.grades.GradeCursor;
 import ru.mudan.dto.grades.GradeDTO;
 import ru.mudan.dto.grades.GradeDTOResponse;
+import ru.mudan.dto.grades.GradePageDTO;
 import ru.mudan.exceptions.entity.not_found.GradeNotFoundException;
 import ru.mudan.exceptions.entity.not_found.StudentNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
 import ru.mudan.facade.grades.GradeFacade;
+import ru.mudan.services.notification.digest.ParentDigestService;
+import ru.mudan.util.SchoolTerm;
 
 /**
  * Класс с описанием бизнес-логики
@@ -21,13 +30,24 @@ import ru.mudan.facade.grades.GradeFacade;
  */
 @Slf4j
 @Service
+@Transactional
 @RequiredArgsConstructor
 public class GradesService {
 
+    private static final LocalDate MIN_DATE_OF_MARK = LocalDate.EPOCH;
+    private static final LocalDate MAX_DATE_OF_MARK = LocalDate.of(9999, 12, 31);
+
     private final GradeRepository gradeRepository;
     private final StudentRepository studentRepository;
     private final SubjectsRepository subjectsRepository;
     private final GradeFacade gradeFacade;
+    private final GradeAnalyticsService gradeAnalyticsService;
+    private final GradeAggregateService gradeAggregateService;
+    private final ParentDigestService parentDigestService;
+    @Value("${grades.page.default-size}")
+    private int defaultPageSize;
+    @Value("${grades.page.max-size}")
+    private int maxPageSize;
 
     /**
      * Метод для получения списка оценок для ученика
@@ -49,7 +69,53 @@ public class GradesService {
     }
 
     /**
-     * Метод для получения списка оценок для ученика по предмету
+     * Метод для получения страницы оценок ученика за период.
+     * Страницы упорядочены по дате и id оценки, следующая страница
+     * запрашивается по курсору последней показанной оценки
+     *
+     * @param studentId - id ученика
+     * @param after     - курсор последней показанной оценки (null для первой страницы)
+     * @param size      - размер страницы (null для размера по умолчанию)
+     * @param from      - начало периода (null, если не ограничено)
+     * @param to        - конец периода (null, если не ограничено)
+     */
+    public GradePageDTO findGradesPageForStudent(Long studentId,
+                                                 String after,
+                                                 Integer size,
+                                                 LocalDate from,
+                                                 LocalDate to) {
+        log.info("Started getting grades page for student with id={} after {}", studentId, after);
+        if (!studentRepository.existsById(studentId)) {
+            throw new StudentNotFoundException(studentId);
+        }
+
+        var pageSize = resolvePageSize(size);
+        var pageable = PageRequest.of(0, pageSize + 1);
+        var dateFrom = from != null ? from : MIN_DATE_OF_MARK;
+        var dateTo = to != null ? to : MAX_DATE_OF_MARK;
+
+        List<GradeDTO> grades;
+        if (after == null || after.isBlank()) {
+            grades = gradeRepository.findFirstPageForStudent(studentId, dateFrom, dateTo, pageable);
+        } else {
+            var cursor = GradeCursor.parse(after);
+            grades = gradeRepository.findPageForStudentAfter(
+                    studentId, dateFrom, dateTo, cursor.dateOfMark(), cursor.id(), pageable);
+        }
+        log.info("Finished getting grades page for student with id={} after {}", studentId, after);
+
+        if (grades.size() <= pageSize) {
+            return new GradePageDTO(grades, null);
+        }
+
+        var pageGrades = grades.subList(0, pageSize);
+        var lastGrade = pageGrades.getLast();
+
+        return new GradePageDTO(pageGrades, new GradeCursor(lastGrade.dateOfMark(), lastGrade.id()).encode());
+    }
+
+    /**
+     * Метод для получения списка оценок для ученика по предмету за текущий учебный год
      *
      * @param studentId - id ученика
      * @param subjectId - id предмета
@@ -62,7 +128,11 @@ public class GradesService {
         var foundSubject = subjectsRepository.findById(subjectId)
                 .orElseThrow(() -> new SubjectNotFoundException(subjectId));
 
-        var grades = gradeRepository.findAllByStudentAndSubject(foundStudent, foundSubject);
+        var schoolYear = SchoolTerm.ofSchoolYear(LocalDate.now());
+        var grades = gradeRepository.findAllByStudentAndSubjectBetween(foundStudent.getId(),
+                foundSubject.getId(),
+                schoolYear.getFirst().start(),
+                schoolYear.getLast().end());
         log.info("Finished getting all grades for student with id={} and subject with id={}", studentId, subjectId);
 
         return grades.stream()
@@ -106,35 +176,32 @@ public class GradesService {
         grade.setSubject(foundSubject);
 
         gradeRepository.save(grade);
+        gradeAnalyticsService.addGrade(grade);
+        gradeAggregateService.addGrade(grade);
+        parentDigestService.addGrade(grade);
         log.info("Finished creating grade for student with id={} and subject with id={}",
                 request.studentId(),
                 request.subjectId());
     }
 
     /**
-     * Метод для получения списка оценок по предмету
+     * Метод для получения списка оценок по предмету за текущий учебный год
      *
      * @param subjectId      - id предмета
      */
     public List<GradeDTOResponse> findAllBySubjectId(Long subjectId) {
         log.info("Started getting all grades for subject with id={}", subjectId);
-        var foundSubject = subjectsRepository.findById(subjectId)
-                .orElseThrow(() -> new SubjectNotFoundException(subjectId));
+        if (!subjectsRepository.existsById(subjectId)) {
+            throw new SubjectNotFoundException(subjectId);
+        }
 
-        var grades = foundSubject.getGrades();
+        var schoolYear = SchoolTerm.ofSchoolYear(LocalDate.now());
+        var grades = gradeRepository.findAllResponsesBySubjectId(subjectId,
+                schoolYear.getFirst().start(),
+                schoolYear.getLast().end());
         log.info("Finished getting all grades for subject with id={}", subjectId);
 
-        return grades.stream()
-                .map(grade -> GradeDTOResponse
-                        .builder()
-                        .id(grade.getId())
-                        .mark(grade.getMark())
-                        .dateOfMark(grade.getDateOfMark())
-                        .comment(grade.getComment())
-                        .studentFirstname(grade.getStudent().getFirstname())
-                        .studentLastname(grade.getStudent().getLastname())
-                        .build())
-                .toList();
+        return grades;
     }
 
     /**
@@ -145,16 +212,42 @@ public class GradesService {
      */
     public void update(GradeDTO request, Long id) {
         log.info("Started updating grade with id={}", id);
-        var foundGrade = gradeRepository.findById(id)
+        var foundGrade = gradeRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new GradeNotFoundException(id));
 
+        var analyticsChanged = !Objects.equals(foundGrade.getMark(), request.mark())
+                || !Objects.equals(foundGrade.getDateOfMark(), request.dateOfMark());
+        if (analyticsChanged) {
+            gradeAnalyticsService.removeGrade(foundGrade);
+            gradeAggregateService.removeGrade(foundGrade);
+        }
+
         foundGrade.setMark(request.mark());
         foundGrade.setDateOfMark(request.dateOfMark());
         foundGrade.setComment(request.comment());
         gradeRepository.save(foundGrade);
+
+        if (analyticsChanged) {
+            gradeAnalyticsService.addGrade(foundGrade);
+            gradeAggregateService.addGrade(foundGrade);
+            parentDigestService.updateGrade(foundGrade);
+        }
         log.info("Finished updating grade with id={}", id);
     }
 
+    /**
+     * Метод для получения допустимого размера страницы
+     *
+     * @param size - запрошенный размер страницы
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
+        }
+
+        return Math.min(size, maxPageSize);
+    }
+
     /**
      * Метод для удаления оценки по id
      *
@@ -162,9 +255,12 @@ public class GradesService {
      */
     public void deleteById(Long id) {
         log.info("Started deleting grade with id={}", id);
-        var foundGrade = gradeRepository.findById(id)
+        var foundGrade = gradeRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new GradeNotFoundException(id));
 
+        gradeAnalyticsService.removeGrade(foundGrade);
+        gradeAggregateService.removeGrade(foundGrade);
+        parentDigestService.removeGrade(foundGrade);
         gradeRepository.delete(foundGrade);
         log.info("Finished deleting grade with id={}", id);
     }
@@ -1,8 +1,14 @@
 package ru.mudan.services.homework;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.mudan.domain.entity.Homework;
@@ -11,10 +17,13 @@ import ru.mudan.domain.repositories.HomeworkRepository;
 import ru.mudan.domain.repositories.SubjectsRepository;
 import ru.mudan.dto.homework.HomeworkCreateDTO;
 import ru.mudan.dto.homework.HomeworkDTO;
+import ru.mudan.dto.homework.HomeworkSearchResultDTO;
+import ru.mudan.dto.homework.HomeworkSearchScope;
 import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.HomeworkNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
 import ru.mudan.facade.homework.HomeworkFacade;
+import ru.mudan.services.notification.digest.ParentDigestService;
 
 /**
  * Класс с описанием бизнес-логики
@@ -30,6 +39,7 @@ public class HomeworkService {
     private final ClassRepository classRepository;
     private final SubjectsRepository subjectsRepository;
     private final HomeworkFacade homeworkFacade;
+    private final ParentDigestService parentDigestService;
 
     /**
      * Метод для получения списка ДЗ класса
@@ -68,6 +78,7 @@ public class HomeworkService {
         homework.setSubject(foundSubject);
 
         homeworkRepository.save(homework);
+        parentDigestService.addHomework(homework);
     }
 
     /**
@@ -85,6 +96,40 @@ public class HomeworkService {
                 .toList();
     }
 
+    /**
+     * Метод для полнотекстового поиска ДЗ по названию и описанию в пределах доступных пользователю ДЗ.
+     * Результаты упорядочены по релевантности, затем по сроку сдачи от новых к старым
+     *
+     * @param query    - поисковый запрос
+     * @param scope    - область поиска текущего пользователя
+     * @param pageable - страница
+     */
+    @Transactional(readOnly = true)
+    public Page<HomeworkSearchResultDTO> search(String query, HomeworkSearchScope scope, Pageable pageable) {
+        var page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        if (query == null || query.isBlank() || scope.isEmpty()) {
+            return Page.empty(page);
+        }
+
+        log.info("Started searching homeworks by query={}", query);
+        Page<Long> ids;
+        if (scope.all()) {
+            ids = homeworkRepository.searchIds(query, page);
+        } else if (!scope.classIds().isEmpty()) {
+            ids = homeworkRepository.searchIdsInClasses(query, scope.classIds(), page);
+        } else {
+            ids = homeworkRepository.searchIdsInSubjects(query, scope.subjectIds(), page);
+        }
+
+        var found = ids.isEmpty()
+                ? Map.<Long, HomeworkSearchResultDTO>of()
+                : homeworkRepository.findSearchResultsByIdIn(ids.getContent()).stream()
+                        .collect(Collectors.toMap(HomeworkSearchResultDTO::id, Function.identity()));
+        log.info("Finished searching homeworks by query={}, found {}", query, ids.getTotalElements());
+
+        return ids.map(found::get);
+    }
+
     /**
      * Метод для получения ДЗ по id
      *
@@ -106,6 +151,7 @@ public class HomeworkService {
         log.info("Started deleting homework for with id={}", id);
         var foundHomework = homeworkRepository.findById(id)
                 .orElseThrow(() -> new HomeworkNotFoundException(id));
+        parentDigestService.removeHomework(foundHomework);
         homeworkRepository.delete(foundHomework);
         log.info("Finished deleting homework for with id={}", id);
     }
@@ -142,5 +188,6 @@ public class HomeworkService {
         foundHomework.setDescription(homeworkDTO.description());
         foundHomework.setDeadline(homeworkDTO.deadline());
         homeworkRepository.save(foundHomework);
+        parentDigestService.updateHomework(foundHomework);
     }
 }
@@ -0,0 +1,42 @@
+package ru.mudan.services.notification.digest;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Класс для ежедневной рассылки сводок родителям.
+ * Сводки ставятся в очередь email_outbox пачками родителей, каждая пачка в своей транзакции,
+ * и отправляются EmailOutboxDispatcher с ограничением скорости через одно SMTP-соединение на пачку писем.
+ * События, записанные во время рассылки, войдут в следующую сводку
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParentDigestSender {
+
+    private final ParentDigestService parentDigestService;
+
+    /**
+     * Метод для постановки в очередь сводок всем родителям с новыми событиями
+     */
+    @Scheduled(cron = "${notifications.parent-digest.cron}")
+    public void sendDigests() {
+        var lastEventId = parentDigestService.findLastEventId();
+        var date = LocalDate.now();
+        log.info("Started enqueueing parent digests for {} up to event with id={}", date, lastEventId);
+
+        var digests = 0;
+        var afterParentId = 0L;
+        var parentIds = parentDigestService.enqueueNextBatch(afterParentId, lastEventId, date);
+        while (!parentIds.isEmpty()) {
+            digests += parentIds.size();
+            afterParentId = parentIds.getLast();
+            parentIds = parentDigestService.enqueueNextBatch(afterParentId, lastEventId, date);
+        }
+
+        log.info("Finished enqueueing {} parent digests for {}", digests, date);
+    }
+}
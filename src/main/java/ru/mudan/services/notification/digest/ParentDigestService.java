@@ -0,0 +1,225 @@
+package ru.mudan.services.notification.digest;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import ru.mudan.domain.entity.Grade;
+import ru.mudan.domain.entity.Homework;
+import ru.mudan.domain.entity.ParentDigestEvent;
+import ru.mudan.domain.repositories.ParentDigestEventRepository;
+import ru.mudan.dto.parent.ChildDigestDTO;
+import ru.mudan.dto.parent.DigestItemDTO;
+import ru.mudan.dto.parent.ParentDigestDTO;
+import ru.mudan.services.notification.email.EmailNotificationDetails;
+import ru.mudan.services.notification.email.EmailService;
+import ru.mudan.util.enums.DigestEventKind;
+
+/**
+ * Класс с описанием бизнес-логики ежедневных сводок родителям.
+ * Новые оценки и ДЗ записываются событиями родителям в транзакции изменения, изменение и удаление
+ * оценки или ДЗ до отправки сводки меняют и удаляют их события. Раз в день события
+ * группируются по родителю и его детям, и на семью ставится в очередь одно письмо.
+ * Письма пачки и удаление её событий выполняются в одной транзакции, поэтому событие
+ * попадает ровно в одну сводку
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ParentDigestService {
+
+    private static final String TEMPLATE = "email/parent-digest";
+    private static final String SUBJECT = "Сводка электронного дневника за %s";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final Locale LOCALE = Locale.forLanguageTag("ru");
+
+    private final ParentDigestEventRepository parentDigestEventRepository;
+    private final EmailService emailService;
+    private final ITemplateEngine templateEngine;
+    @Value("${notifications.parent-digest.batch-size}")
+    private int batchSize;
+
+    /**
+     * Метод для записи новой оценки в сводку родителя ученика
+     *
+     * @param grade - сохранённая оценка
+     */
+    public void addGrade(Grade grade) {
+        parentDigestEventRepository.addGradeEvent(grade.getId(),
+                grade.getStudent().getId(),
+                grade.getSubject().getName(),
+                grade.getMark(),
+                grade.getDateOfMark());
+    }
+
+    /**
+     * Метод для записи нового ДЗ в сводки родителей учеников класса
+     *
+     * @param homework - сохранённое ДЗ
+     */
+    public void addHomework(Homework homework) {
+        if (homework.getClassEntity() == null) {
+            return;
+        }
+
+        parentDigestEventRepository.addHomeworkEvents(homework.getId(),
+                homework.getClassEntity().getId(),
+                homework.getSubject().getName(),
+                homework.getTitle(),
+                homework.getDeadline());
+    }
+
+    /**
+     * Метод для изменения оценки в ещё не отправленной сводке родителя
+     *
+     * @param grade - изменённая оценка
+     */
+    public void updateGrade(Grade grade) {
+        parentDigestEventRepository.updateGradeEvents(grade.getId(), grade.getMark(), grade.getDateOfMark());
+    }
+
+    /**
+     * Метод для удаления оценки из ещё не отправленной сводки родителя
+     *
+     * @param grade - удаляемая оценка
+     */
+    public void removeGrade(Grade grade) {
+        parentDigestEventRepository.deleteGradeEvents(grade.getId());
+    }
+
+    /**
+     * Метод для изменения ДЗ в ещё не отправленных сводках родителей
+     *
+     * @param homework - изменённое ДЗ
+     */
+    public void updateHomework(Homework homework) {
+        parentDigestEventRepository.updateHomeworkEvents(homework.getId(), homework.getTitle(), homework.getDeadline());
+    }
+
+    /**
+     * Метод для удаления ДЗ из ещё не отправленных сводок родителей
+     *
+     * @param homework - удаляемое ДЗ
+     */
+    public void removeHomework(Homework homework) {
+        parentDigestEventRepository.deleteHomeworkEvents(homework.getId());
+    }
+
+    /**
+     * Метод для получения id последнего события, входящего в сводки текущей рассылки
+     */
+    @Transactional(readOnly = true)
+    public long findLastEventId() {
+        return parentDigestEventRepository.findLastEventId();
+    }
+
+    /**
+     * Метод для постановки в очередь сводок очередной пачки родителей,
+     * возвращает id обработанных родителей по возрастанию или пустой список, если родителей не осталось
+     *
+     * @param afterParentId - id последнего обработанного родителя
+     * @param lastEventId   - id последнего события, входящего в сводки
+     * @param date          - день сводки
+     */
+    public List<Long> enqueueNextBatch(long afterParentId, long lastEventId, LocalDate date) {
+        var parentIds = parentDigestEventRepository.lockParentsWithEvents(afterParentId, lastEventId, batchSize);
+        if (parentIds.isEmpty()) {
+            return parentIds;
+        }
+
+        log.info("Started enqueueing digests for {} parents after parent with id={}", parentIds.size(), afterParentId);
+        var events = parentDigestEventRepository.findAllForDigest(parentIds, lastEventId);
+        var emails = toDigests(events, date).stream()
+                .map(this::toEmail)
+                .toList();
+
+        emailService.sendNotifications(emails);
+        parentDigestEventRepository.deleteAllForDigest(parentIds, lastEventId);
+        log.info("Finished enqueueing {} digests from {} events", emails.size(), events.size());
+
+        return parentIds;
+    }
+
+    /**
+     * Метод для группировки событий по родителям и их детям с сохранением порядка событий
+     *
+     * @param events - события, упорядоченные по родителю и ученику
+     * @param date   - день сводки
+     */
+    static List<ParentDigestDTO> toDigests(List<ParentDigestEvent> events, LocalDate date) {
+        Map<Long, List<ParentDigestEvent>> byParent = events.stream()
+                .collect(Collectors.groupingBy(event -> event.getParent().getId(),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        return byParent.values().stream()
+                .map(parentEvents -> {
+                    var parent = parentEvents.getFirst().getParent();
+                    return ParentDigestDTO.builder()
+                            .parentId(parent.getId())
+                            .email(parent.getEmail())
+                            .firstname(parent.getFirstname())
+                            .date(date)
+                            .children(toChildren(parentEvents))
+                            .build();
+                })
+                .toList();
+    }
+
+    private static List<ChildDigestDTO> toChildren(List<ParentDigestEvent> parentEvents) {
+        Map<Long, List<ParentDigestEvent>> byStudent = parentEvents.stream()
+                .collect(Collectors.groupingBy(event -> event.getStudent().getId(),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        return byStudent.values().stream()
+                .map(studentEvents -> {
+                    var student = studentEvents.getFirst().getStudent();
+                    return ChildDigestDTO.builder()
+                            .studentId(student.getId())
+                            .firstname(student.getFirstname())
+                            .lastname(student.getLastname())
+                            .grades(toItems(studentEvents, DigestEventKind.GRADE))
+                            .homeworks(toItems(studentEvents, DigestEventKind.HOMEWORK))
+                            .build();
+                })
+                .toList();
+    }
+
+    private static List<DigestItemDTO> toItems(List<ParentDigestEvent> studentEvents, DigestEventKind kind) {
+        return studentEvents.stream()
+                .filter(event -> event.getKind() == kind)
+                .map(event -> DigestItemDTO.builder()
+                        .subjectName(event.getSubjectName())
+                        .mark(event.getMark())
+                        .title(event.getTitle())
+                        .date(event.getEventDate())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Метод для отрисовки письма сводки по шаблону
+     *
+     * @param digest - сводка родителю
+     */
+    private EmailNotificationDetails toEmail(ParentDigestDTO digest) {
+        var context = new Context(LOCALE, Map.of("digest", digest));
+
+        return EmailNotificationDetails.builder()
+                .recipient(digest.email())
+                .subject(SUBJECT.formatted(DATE_FORMAT.format(digest.date())))
+                .text(templateEngine.process(TEMPLATE, context))
+                .attachments(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package ru.mudan.services.notification.email;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mudan.domain.repositories.EmailOutboxRepository;
+
+/**
+ * Класс для фонового удаления из очереди email_outbox отправленных и неотправляемых писем
+ * старше outbox.email.retention, чтобы таблица не росла с каждой рассылкой
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxCleaner {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${outbox.email.retention}")
+    private Duration retention;
+
+    /**
+     * Метод для удаления старых писем в статусах SENT и DEAD
+     */
+    @Transactional
+    @Scheduled(cron = "${outbox.email.cleanup-cron}")
+    public void deleteFinished() {
+        log.info("Started deleting finished emails older than {} from outbox", retention);
+        var deleted = emailOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+        log.info("Finished deleting finished emails from outbox, deleted {}", deleted);
+    }
+}
@@ -0,0 +1,354 @@
+package ru.mudan.services.notification.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.io.File;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mudan.domain.entity.EmailOutboxMessage;
+import ru.mudan.domain.repositories.EmailOutboxRepository;
+import ru.mudan.util.enums.OutboxStatus;
+
+/**
+ * Класс для фоновой отправки писем из очереди email_outbox.
+ * Письма отправляются пачками через одно SMTP-соединение, неотправленные
+ * письма повторяются с экспоненциальной задержкой, а после max-attempts попыток
+ * помечаются как DEAD. Между пачками выдерживается пауза, чтобы скорость отправки
+ * не превышала max-per-second и почтовый сервер не отклонял массовые рассылки.
+ * SMTP-сеанс идёт вне транзакции: письма, результат отправки которых не записан
+ * за время outbox.email.lease, отправляются повторно
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter failureCounter;
+    private final Counter deadCounter;
+
+    @Value("${outbox.email.batch-size}")
+    private int batchSize;
+    @Value("${outbox.email.max-attempts}")
+    private int maxAttempts;
+    @Value("${outbox.email.retry-delay}")
+    private Duration retryDelay;
+    @Value("${outbox.email.max-retry-delay}")
+    private Duration maxRetryDelay;
+    @Value("${outbox.email.max-per-second}")
+    private int maxPerSecond;
+    @Value("${outbox.email.lease}")
+    private Duration lease;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 JavaMailSender javaMailSender,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sendTimer = Timer.builder("email.outbox.send.latency")
+                .description("Время отправки пачки писем")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("email.outbox.sent");
+        this.failureCounter = meterRegistry.counter("email.outbox.failures");
+        this.deadCounter = meterRegistry.counter("email.outbox.dead");
+        Gauge.builder("email.outbox.queue.depth", queueDepth, AtomicLong::get)
+                .description("Количество писем, ожидающих отправки")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Метод для отправки всех писем, готовых к отправке
+     */
+    @Scheduled(fixedDelayString = "${outbox.email.dispatch-interval}")
+    public void dispatchPending() {
+        int processed;
+        do {
+            var startedAt = System.nanoTime();
+            processed = dispatchBatch();
+            if (processed == batchSize) {
+                throttle(processed, startedAt);
+            }
+        } while (processed == batchSize);
+
+        queueDepth.set(emailOutboxRepository.countByStatus(OutboxStatus.PENDING));
+    }
+
+    /**
+     * Метод для отправки одной пачки писем, возвращает количество обработанных писем.
+     * Пачка захватывается короткой транзакцией, письма отправляются без открытой транзакции
+     * и соединения с БД, а результаты записываются второй короткой транзакцией
+     */
+    public int dispatchBatch() {
+        var leaseUntil = LocalDateTime.now().plus(lease).truncatedTo(ChronoUnit.MICROS);
+        var batch = transactionTemplate.execute(status -> claimBatch(leaseUntil));
+
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        log.info("Started dispatching {} emails from outbox", batch.size());
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, EmailOutboxMessage> prepared = new LinkedHashMap<>();
+
+        for (var outboxMessage : batch) {
+            try {
+                prepared.put(createMimeMessage(outboxMessage), outboxMessage);
+            } catch (MessagingException e) {
+                failures.put(outboxMessage.getId(), e);
+            }
+        }
+
+        var invalidIds = Set.copyOf(failures.keySet());
+        send(prepared.keySet()).forEach((mimeMessage, failure) ->
+                failures.put(prepared.get(mimeMessage).getId(), failure));
+
+        transactionTemplate.executeWithoutResult(status ->
+                recordResults(batch, leaseUntil, failures, invalidIds));
+        log.info("Finished dispatching {} emails from outbox, failed {}", batch.size(), failures.size());
+        return batch.size();
+    }
+
+    /**
+     * Метод для захвата пачки писем: письма переводятся в статус SENDING до leaseUntil,
+     * чтобы их не отправили другие экземпляры приложения
+     *
+     * @param leaseUntil - время окончания захвата
+     */
+    private List<EmailOutboxMessage> claimBatch(LocalDateTime leaseUntil) {
+        var batch = emailOutboxRepository.lockBatchForDispatch(LocalDateTime.now(), batchSize);
+
+        batch.forEach(outboxMessage -> {
+            outboxMessage.setStatus(OutboxStatus.SENDING);
+            outboxMessage.setLeaseUntil(leaseUntil);
+        });
+
+        return emailOutboxRepository.saveAll(batch);
+    }
+
+    /**
+     * Метод для записи результатов отправки пачки. Письма, захват которых истёк и перешёл
+     * к другому экземпляру приложения, пропускаются
+     *
+     * @param batch      - захваченные письма
+     * @param leaseUntil - время окончания захвата
+     * @param failures   - ошибки неотправленных писем по id
+     * @param invalidIds - id писем, которые не удалось собрать
+     */
+    private void recordResults(List<EmailOutboxMessage> batch,
+                               LocalDateTime leaseUntil,
+                               Map<Long, Exception> failures,
+                               Set<Long> invalidIds) {
+        var now = LocalDateTime.now();
+        var claimed = emailOutboxRepository.findAllById(batch.stream()
+                        .map(EmailOutboxMessage::getId)
+                        .toList())
+                .stream()
+                .filter(outboxMessage -> isClaimed(outboxMessage, leaseUntil))
+                .toList();
+
+        for (var outboxMessage : claimed) {
+            outboxMessage.setLeaseUntil(null);
+            var failure = failures.get(outboxMessage.getId());
+            if (failure == null) {
+                markSent(outboxMessage, now);
+            } else if (invalidIds.contains(outboxMessage.getId())) {
+                markDead(outboxMessage, failure);
+            } else {
+                markFailed(outboxMessage, failure, now);
+            }
+        }
+
+        emailOutboxRepository.saveAll(claimed);
+    }
+
+    /**
+     * Метод для проверки, что письмо всё ещё захвачено текущей отправкой
+     *
+     * @param outboxMessage - запись очереди
+     * @param leaseUntil    - время окончания захвата текущей отправки
+     */
+    private boolean isClaimed(EmailOutboxMessage outboxMessage, LocalDateTime leaseUntil) {
+        if (outboxMessage.getStatus() == OutboxStatus.SENDING && leaseUntil.equals(outboxMessage.getLeaseUntil())) {
+            return true;
+        }
+
+        log.warn("Email to {} was claimed by another dispatcher, result is not recorded",
+                outboxMessage.getRecipient());
+        return false;
+    }
+
+    /**
+     * Метод для паузы после пачки, отправленной быстрее, чем позволяет max-per-second
+     *
+     * @param sent      - количество писем в пачке
+     * @param startedAt - время начала отправки пачки в наносекундах
+     */
+    private void throttle(int sent, long startedAt) {
+        if (maxPerSecond <= 0) {
+            return;
+        }
+
+        var minDuration = TimeUnit.SECONDS.toNanos(sent) / maxPerSecond;
+        try {
+            TimeUnit.NANOSECONDS.sleep(minDuration - (System.nanoTime() - startedAt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Метод для отправки писем через одно SMTP-соединение,
+     * возвращает ошибки для неотправленных писем
+     *
+     * @param messages - письма для отправки
+     */
+    private Map<Object, Exception> send(Collection<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        var sample = Timer.start();
+        try {
+            javaMailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        } finally {
+            sample.stop(sendTimer);
+        }
+
+        return failures;
+    }
+
+    /**
+     * Метод для создания письма из записи очереди
+     *
+     * @param outboxMessage - запись очереди
+     */
+    private MimeMessage createMimeMessage(EmailOutboxMessage outboxMessage) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(outboxMessage.getRecipient());
+        helper.setSubject(outboxMessage.getSubject());
+        helper.setText(outboxMessage.getText(), outboxMessage.getText());
+
+        if (outboxMessage.getAttachments() != null) {
+            for (String path : outboxMessage.getAttachments().split(EmailService.ATTACHMENTS_SEPARATOR)) {
+                var attachment = new File(path);
+                helper.addAttachment(attachment.getName(), attachment);
+            }
+        }
+
+        return message;
+    }
+
+    /**
+     * Метод для отметки письма как отправленного. Текст письма очищается,
+     * так как может содержать персональные данные или ссылку для установки пароля
+     *
+     * @param outboxMessage - запись очереди
+     * @param now           - время отправки
+     */
+    private void markSent(EmailOutboxMessage outboxMessage, LocalDateTime now) {
+        outboxMessage.setStatus(OutboxStatus.SENT);
+        outboxMessage.setSentAt(now);
+        outboxMessage.setText(null);
+        outboxMessage.setLastError(null);
+        sentCounter.increment();
+        log.info("Email sent successfully to {}", outboxMessage.getRecipient());
+    }
+
+    /**
+     * Метод для планирования повторной отправки письма
+     * или отметки его как DEAD после исчерпания попыток
+     *
+     * @param outboxMessage - запись очереди
+     * @param failure       - ошибка отправки
+     * @param now           - время попытки
+     */
+    private void markFailed(EmailOutboxMessage outboxMessage, Exception failure, LocalDateTime now) {
+        outboxMessage.setAttempts(outboxMessage.getAttempts() + 1);
+
+        if (outboxMessage.getAttempts() >= maxAttempts) {
+            markDead(outboxMessage, failure);
+            return;
+        }
+
+        outboxMessage.setStatus(OutboxStatus.PENDING);
+        outboxMessage.setLastError(truncate(failure.getMessage()));
+        outboxMessage.setNextAttemptAt(now.plus(backoff(outboxMessage.getAttempts())));
+        failureCounter.increment();
+        log.warn("Email sent error to {}, attempt {}", outboxMessage.getRecipient(), outboxMessage.getAttempts());
+    }
+
+    /**
+     * Метод для отметки письма как неотправляемого. Текст письма очищается, как и у отправленного
+     *
+     * @param outboxMessage - запись очереди
+     * @param failure       - ошибка отправки
+     */
+    private void markDead(EmailOutboxMessage outboxMessage, Exception failure) {
+        outboxMessage.setStatus(OutboxStatus.DEAD);
+        outboxMessage.setText(null);
+        outboxMessage.setLastError(truncate(failure.getMessage()));
+        deadCounter.increment();
+        log.error("Email to {} moved to dead letters", outboxMessage.getRecipient(), failure);
+    }
+
+    /**
+     * Метод для получения задержки перед следующей попыткой отправки
+     *
+     * @param attempts - количество выполненных попыток
+     */
+    Duration backoff(int attempts) {
+        var delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private Map<Object, Exception> allFailed(Collection<MimeMessage> messages, Exception failure) {
+        Map<Object, Exception> failures = new HashMap<>();
+        messages.forEach(message -> failures.put(message, failure));
+        return failures;
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,66 +1,85 @@
 package ru.mudan.services.notification.email;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import java.io.File;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import ru.mudan.exceptions.NotificationException;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mudan.domain.entity.EmailOutboxMessage;
+import ru.mudan.domain.repositories.EmailOutboxRepository;
 import ru.mudan.services.notification.NotificationService;
 
 /**
- * Класс с бизнес-логикой отправки писем на почту
+ * Класс с бизнес-логикой отправки писем на почту.
+ * Письма сохраняются в очередь email_outbox в транзакции вызывающего кода
+ * и отправляются в фоне классом EmailOutboxDispatcher
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService implements NotificationService<EmailNotificationDetails> {
 
-    private final JavaMailSender javaMailSender;
+    static final String ATTACHMENTS_SEPARATOR = "\n";
+
+    private final EmailOutboxRepository emailOutboxRepository;
 
     /**
-     * Метод для отправки письма на почту
+     * Метод для постановки письма в очередь на отправку
      *
      * @param emailDetails - данные для отправки на почту
      */
     @Override
+    @Transactional
     public void sendNotification(EmailNotificationDetails emailDetails) {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        try {
-            createMimeMessageHelper(message, emailDetails);
-        } catch (MessagingException e) {
-            throw new NotificationException();
-        }
+        emailOutboxRepository.save(toOutboxMessage(emailDetails, LocalDateTime.now()));
+        log.info("Email to {} added to outbox", emailDetails.recipient());
+    }
 
-        try {
-            javaMailSender.send(message);
-            log.info("Email sent successfully to {}", emailDetails.recipient());
-        } catch (MailException e) {
-            log.error("Email sent error to {}", emailDetails.recipient(), e);
-        }
+    /**
+     * Метод для постановки в очередь пачки писем одной пакетной вставкой
+     *
+     * @param emailDetails - данные писем для отправки на почту
+     */
+    @Transactional
+    public void sendNotifications(List<EmailNotificationDetails> emailDetails) {
+        var now = LocalDateTime.now();
+        emailOutboxRepository.saveAll(emailDetails.stream()
+                .map(details -> toOutboxMessage(details, now))
+                .toList());
+        log.info("{} emails added to outbox", emailDetails.size());
     }
 
     /**
-     * Метод для настройки объекта MimeMessageHelper для отправки письма
+     * Метод для создания записи очереди из данных письма
      *
-     * @param message - сообщение для отправки
-     * @param emailDetails - данные для отправки
+     * @param emailDetails - данные для отправки на почту
+     * @param now          - время постановки в очередь
      */
-    private void createMimeMessageHelper(MimeMessage message, EmailNotificationDetails emailDetails)
-            throws MessagingException {
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setTo(emailDetails.recipient());
-        helper.setSubject(emailDetails.subject());
-        helper.setText(emailDetails.text(), emailDetails.text());
+    private EmailOutboxMessage toOutboxMessage(EmailNotificationDetails emailDetails, LocalDateTime now) {
+        return new EmailOutboxMessage(
+                emailDetails.recipient(),
+                emailDetails.subject(),
+                emailDetails.text(),
+                joinAttachments(emailDetails),
+                now
+        );
+    }
 
-        if (emailDetails.attachments() != null) {
-            for (File attachment : emailDetails.attachments()) {
-                helper.addAttachment(attachment.getName(), attachment);
-            }
+    /**
+     * Метод для получения строки с путями к вложениям письма
+     *
+     * @param emailDetails - данные для отправки на почту
+     */
+    private String joinAttachments(EmailNotificationDetails emailDetails) {
+        if (emailDetails.attachments() == null || emailDetails.attachments().isEmpty()) {
+            return null;
         }
+
+        return emailDetails.attachments().stream()
+                .map(File::getAbsolutePath)
+                .collect(Collectors.joining(ATTACHMENTS_SEPARATOR));
     }
 }
@@ -0,0 +1,127 @@
+package ru.mudan.services.parent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.HomeworkRepository;
+import ru.mudan.domain.repositories.ScheduleRepository;
+import ru.mudan.dto.parent.ChildGradeDTO;
+import ru.mudan.dto.parent.ChildHomeworkDTO;
+import ru.mudan.dto.parent.ChildLessonDTO;
+import ru.mudan.dto.parent.ParentDTO;
+import ru.mudan.dto.parent.ParentOverviewDTO;
+import ru.mudan.dto.student.StudentDTO;
+import ru.mudan.services.grades.GradeAnalyticsService;
+import ru.mudan.services.students.StudentService;
+
+/**
+ * Класс для сборки главной страницы родителя: успеваемость, последние оценки,
+ * ближайшие ДЗ и уроки на сегодня сразу по всем детям.
+ * Каждая часть страницы собирается одним запросом по id всех детей или их классов,
+ * поэтому количество запросов не зависит от количества детей.
+ * Собранная страница кэшируется по id родителя на короткое время
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParentOverviewService {
+
+    private final StudentService studentService;
+    private final GradeAnalyticsService gradeAnalyticsService;
+    private final GradeRepository gradeRepository;
+    private final HomeworkRepository homeworkRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final Cache<Long, ParentOverviewDTO> parentOverviewCache;
+
+    @Value("${dashboard.parent.grades-days}")
+    private int gradesDays;
+    @Value("${dashboard.parent.grades-per-child}")
+    private int gradesPerChild;
+    @Value("${dashboard.parent.homeworks-days}")
+    private int homeworksDays;
+
+    /**
+     * Метод для получения главной страницы родителя из кэша или её сборки
+     *
+     * @param parent - родитель
+     * @param today  - текущая дата
+     */
+    public ParentOverviewDTO findOverview(ParentDTO parent, LocalDate today) {
+        return parentOverviewCache.get(parent.id(), id -> buildOverview(parent, today));
+    }
+
+    /**
+     * Метод для сборки главной страницы родителя
+     *
+     * @param parent - родитель
+     * @param today  - текущая дата
+     */
+    private ParentOverviewDTO buildOverview(ParentDTO parent, LocalDate today) {
+        log.info("Started building overview for parent with id={}", parent.id());
+        var students = studentService.getAllStudentsForParent(parent.id());
+        var studentIds = students.stream()
+                .map(StudentDTO::id)
+                .toList();
+        var classIds = students.stream()
+                .map(StudentDTO::classId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        var overview = ParentOverviewDTO.builder()
+                .parent(parent)
+                .students(students)
+                .childrenStats(gradeAnalyticsService.findSummaryForStudents(studentIds, today))
+                .latestGrades(studentIds.isEmpty() ? Map.of() : findLatestGrades(studentIds, today))
+                .upcomingHomeworks(classIds.isEmpty() ? Map.of() : findUpcomingHomeworks(classIds, today))
+                .todayLessons(classIds.isEmpty() ? Map.of() : findTodayLessons(classIds, today))
+                .build();
+        log.info("Finished building overview for parent with id={}", parent.id());
+
+        return overview;
+    }
+
+    /**
+     * Метод для получения последних оценок каждого ребёнка
+     *
+     * @param studentIds - id детей
+     * @param today      - текущая дата
+     */
+    private Map<Long, List<ChildGradeDTO>> findLatestGrades(List<Long> studentIds, LocalDate today) {
+        return gradeRepository.findLatestForStudents(studentIds, today.minusDays(gradesDays)).stream()
+                .collect(Collectors.groupingBy(ChildGradeDTO::studentId, LinkedHashMap::new,
+                        Collectors.collectingAndThen(Collectors.toList(),
+                                grades -> List.copyOf(grades.subList(0, Math.min(grades.size(), gradesPerChild))))));
+    }
+
+    /**
+     * Метод для получения ближайших ДЗ классов детей
+     *
+     * @param classIds - id классов детей
+     * @param today    - текущая дата
+     */
+    private Map<Long, List<ChildHomeworkDTO>> findUpcomingHomeworks(List<Long> classIds, LocalDate today) {
+        return homeworkRepository.findUpcomingForClasses(classIds, today, today.plusDays(homeworksDays)).stream()
+                .collect(Collectors.groupingBy(ChildHomeworkDTO::classId));
+    }
+
+    /**
+     * Метод для получения уроков классов детей на сегодня
+     *
+     * @param classIds - id классов детей
+     * @param today    - текущая дата
+     */
+    private Map<Long, List<ChildLessonDTO>> findTodayLessons(List<Long> classIds, LocalDate today) {
+        return scheduleRepository.findLessonsForClassesOnDay(classIds, today.getDayOfWeek().getValue()).stream()
+                .collect(Collectors.groupingBy(ChildLessonDTO::classId));
+    }
+}
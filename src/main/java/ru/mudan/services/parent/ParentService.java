@@ -2,6 +2,8 @@ package ru.mudan.services.parent;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import ru.mudan.domain.entity.users.Parent;
@@ -10,6 +12,7 @@ import ru.mudan.dto.parent.ParentDTO;
 import ru.mudan.exceptions.entity.not_found.ParentNotFoundException;
 import ru.mudan.facade.parent.ParentFacade;
 import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.util.UserSearch;
 
 /**
  * Класс с описанием бизнес-логики
@@ -45,6 +48,23 @@ public class ParentService {
                 .toList();
     }
 
+    /**
+     * Метод для получения страницы родителей для списка администратора.
+     * Пустой запрос возвращает всех родителей, иначе ищет по ФИО и почте
+     *
+     * @param query    - поисковый запрос
+     * @param pageable - страница и сортировка
+     */
+    public Page<ParentDTO> findPage(String query, Pageable pageable) {
+        var pattern = UserSearch.toPattern(query);
+        var page = UserSearch.toPageable(pageable);
+        var parents = pattern == null
+                ? parentRepository.findAll(page)
+                : parentRepository.search(pattern, page);
+
+        return parents.map(parentFacade::convertEntityToDTO);
+    }
+
     /**
      * Метод для получения родителя по id
      *
@@ -0,0 +1,200 @@
+package ru.mudan.services.reports;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mudan.domain.repositories.ClassRepository;
+import ru.mudan.domain.repositories.GradeAggregateRepository;
+import ru.mudan.dto.reports.ClassAverageDTO;
+import ru.mudan.dto.reports.ClassRankingDTO;
+import ru.mudan.dto.reports.ClassSubjectMarksDTO;
+import ru.mudan.dto.reports.ParallelReportDTO;
+import ru.mudan.dto.reports.ParallelSubjectDTO;
+import ru.mudan.dto.reports.StudentMarksDTO;
+import ru.mudan.dto.reports.StudentRankDTO;
+import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
+import ru.mudan.facade.classes.ClassFacade;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Класс с описанием бизнес-логики отчётов по успеваемости в школе.
+ * Отчёты строятся только по суммам оценок за месяц из grade_aggregates, сами оценки не читаются,
+ * поэтому период отчёта выравнивается по месяцам
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class GradeReportService {
+
+    private final GradeAggregateRepository gradeAggregateRepository;
+    private final ClassRepository classRepository;
+    private final ClassFacade classFacade;
+
+    /**
+     * Метод для получения рейтинга учеников класса по среднему баллу за период
+     *
+     * @param classId - id класса
+     * @param from    - начало периода, по умолчанию начало учебного года
+     * @param to      - конец периода, по умолчанию текущий месяц
+     */
+    public ClassRankingDTO findClassRanking(Long classId, LocalDate from, LocalDate to) {
+        log.info("Started getting grade ranking for class with id={}", classId);
+        var foundClass = classRepository.findById(classId)
+                .orElseThrow(() -> new ClassEntityNotFoundException(classId));
+        var fromMonth = fromMonth(from);
+        var toMonth = toMonth(to);
+
+        var rows = gradeAggregateRepository.findStudentMarksForClass(classId, fromMonth, toMonth);
+        log.info("Finished getting grade ranking for class with id={}", classId);
+
+        return ClassRankingDTO.builder()
+                .classDTO(classFacade.convertEntityToDTO(foundClass))
+                .from(fromMonth)
+                .to(toMonth)
+                .students(rank(rows))
+                .build();
+    }
+
+    /**
+     * Метод для получения средних баллов по предметам в параллели классов за период
+     *
+     * @param number - номер классов параллели
+     * @param from   - начало периода, по умолчанию начало учебного года
+     * @param to     - конец периода, по умолчанию текущий месяц
+     */
+    public ParallelReportDTO findParallelReport(Integer number, LocalDate from, LocalDate to) {
+        log.info("Started getting subject averages for parallel {}", number);
+        var fromMonth = fromMonth(from);
+        var toMonth = toMonth(to);
+
+        var rows = gradeAggregateRepository.findClassSubjectMarksForParallel(number, fromMonth, toMonth);
+        var classes = classAverages(rows);
+        var subjects = subjectAverages(rows, classes);
+        log.info("Finished getting subject averages for parallel {}", number);
+
+        return ParallelReportDTO.builder()
+                .number(number)
+                .from(fromMonth)
+                .to(toMonth)
+                .classes(classes)
+                .subjects(subjects)
+                .build();
+    }
+
+    /**
+     * Метод для построения рейтинга: по убыванию среднего балла, при равном балле выше ученик
+     * с большим количеством оценок, ученики с равным баллом делят место
+     *
+     * @param rows - суммы оценок учеников
+     */
+    private static List<StudentRankDTO> rank(List<StudentMarksDTO> rows) {
+        var sorted = rows.stream()
+                .sorted(Comparator.comparingDouble(StudentMarksDTO::average).reversed()
+                        .thenComparing(StudentMarksDTO::gradesCount, Comparator.reverseOrder())
+                        .thenComparing(StudentMarksDTO::lastname, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(StudentMarksDTO::firstname, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        List<StudentRankDTO> ranking = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            var row = sorted.get(i);
+            var rank = i > 0 && sorted.get(i - 1).average() == row.average() ? ranking.get(i - 1).rank() : i + 1;
+            ranking.add(StudentRankDTO.builder()
+                    .rank(rank)
+                    .studentId(row.studentId())
+                    .firstname(row.firstname())
+                    .lastname(row.lastname())
+                    .gradesCount(row.gradesCount())
+                    .average(row.average())
+                    .build());
+        }
+        return ranking;
+    }
+
+    /**
+     * Метод для вычисления среднего балла каждого класса по всем предметам
+     *
+     * @param rows - суммы оценок классов по предметам
+     */
+    private static List<ClassAverageDTO> classAverages(List<ClassSubjectMarksDTO> rows) {
+        Map<Long, List<ClassSubjectMarksDTO>> byClass = new LinkedHashMap<>();
+        rows.stream()
+                .sorted(Comparator.comparing(ClassSubjectMarksDTO::classLetter,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(row -> byClass.computeIfAbsent(row.classId(), id -> new ArrayList<>()).add(row));
+
+        return byClass.values().stream()
+                .map(GradeReportService::average)
+                .toList();
+    }
+
+    /**
+     * Метод для вычисления среднего балла по каждому предмету в параллели и в каждом её классе
+     *
+     * @param rows    - суммы оценок классов по предметам
+     * @param classes - классы параллели в порядке отчёта
+     */
+    private static List<ParallelSubjectDTO> subjectAverages(List<ClassSubjectMarksDTO> rows,
+                                                            List<ClassAverageDTO> classes) {
+        Map<String, List<ClassSubjectMarksDTO>> bySubject = new TreeMap<>();
+        rows.forEach(row -> bySubject.computeIfAbsent(row.subjectName(), name -> new ArrayList<>()).add(row));
+
+        return bySubject.entrySet().stream()
+                .map(entry -> {
+                    var parallel = average(entry.getValue());
+                    Map<Long, ClassAverageDTO> byClass = new LinkedHashMap<>();
+                    entry.getValue().forEach(row -> byClass.put(row.classId(), average(List.of(row))));
+
+                    return ParallelSubjectDTO.builder()
+                            .subjectName(entry.getKey())
+                            .gradesCount(parallel.gradesCount())
+                            .average(parallel.average())
+                            .classes(classes.stream()
+                                    .map(cl -> byClass.get(cl.classId()))
+                                    .toList())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Метод для вычисления среднего балла по суммам оценок одного класса
+     *
+     * @param rows - суммы оценок класса, не пустой список
+     */
+    private static ClassAverageDTO average(List<ClassSubjectMarksDTO> rows) {
+        long count = 0;
+        long sum = 0;
+        for (var row : rows) {
+            count += row.gradesCount();
+            sum += row.marksSum();
+        }
+
+        var first = rows.getFirst();
+        return ClassAverageDTO.builder()
+                .classId(first.classId())
+                .classNumber(first.classNumber())
+                .classLetter(first.classLetter())
+                .gradesCount(count)
+                .average((double) sum / count)
+                .build();
+    }
+
+    private static LocalDate fromMonth(LocalDate from) {
+        var date = from == null ? SchoolTerm.ofSchoolYear(LocalDate.now()).getFirst().start() : from;
+        return date.withDayOfMonth(1);
+    }
+
+    private static LocalDate toMonth(LocalDate to) {
+        return (to == null ? LocalDate.now() : to).withDayOfMonth(1);
+    }
+}
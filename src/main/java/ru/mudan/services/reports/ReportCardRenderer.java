@@ -0,0 +1,219 @@
+package ru.mudan.services.reports;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import ru.mudan.dto.reports.ReportCardDTO;
+import ru.mudan.dto.reports.ReportCardSubjectDTO;
+import ru.mudan.exceptions.ReportCardRenderingException;
+
+/**
+ * Класс для отрисовки табеля успеваемости ученика в PDF.
+ * Шрифт с кириллицей читается из ресурсов один раз, каждый документ встраивает
+ * только использованные символы, поэтому табели можно отрисовывать параллельно
+ */
+@Component
+public class ReportCardRenderer {
+
+    private static final String REGULAR_FONT = "fonts/DejaVuSans.ttf";
+    private static final String BOLD_FONT = "fonts/DejaVuSans-Bold.ttf";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final String NO_VALUE = "—";
+
+    private static final float MARGIN = 50;
+    private static final float TITLE_SIZE = 16;
+    private static final float TEXT_SIZE = 11;
+    private static final float LINE_HEIGHT = 15;
+    private static final float CELL_PADDING = 4;
+    private static final float FONT_UNITS_PER_EM = 1000;
+    private static final float[] COLUMN_WIDTHS = {150, 235, 55, 55};
+    private static final String[] COLUMN_TITLES = {"Предмет", "Оценки", "Средний", "Итог"};
+    private static final int MARKS_COLUMN = 1;
+    private static final int AVERAGE_COLUMN = 2;
+    private static final int TERM_MARK_COLUMN = 3;
+
+    private final byte[] regularFont;
+    private final byte[] boldFont;
+
+    public ReportCardRenderer() {
+        regularFont = readFont(REGULAR_FONT);
+        boldFont = readFont(BOLD_FONT);
+    }
+
+    /**
+     * Метод для отрисовки табеля успеваемости в PDF
+     *
+     * @param reportCard - табель ученика
+     */
+    public byte[] render(ReportCardDTO reportCard) {
+        try (var document = new PDDocument()) {
+            var page = new Page(document,
+                    PDType0Font.load(document, new ByteArrayInputStream(regularFont), true),
+                    PDType0Font.load(document, new ByteArrayInputStream(boldFont), true));
+
+            page.title("Табель успеваемости");
+            page.line("Ученик: " + fullName(reportCard));
+            page.line("Класс: " + reportCard.className());
+            var term = reportCard.term();
+            page.line(String.format("%d четверть, %s - %s", term.number(),
+                    DATE_FORMAT.format(term.start()), DATE_FORMAT.format(term.end())));
+            page.gap();
+
+            page.row(COLUMN_TITLES, true);
+            for (var subject : reportCard.subjects()) {
+                page.row(cells(subject), false);
+            }
+            page.close();
+
+            var out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new ReportCardRenderingException(reportCard.studentId(), e);
+        }
+    }
+
+    private static String fullName(ReportCardDTO reportCard) {
+        var name = reportCard.lastname() + " " + reportCard.firstname();
+        return reportCard.patronymic() == null ? name : name + " " + reportCard.patronymic();
+    }
+
+    private static String[] cells(ReportCardSubjectDTO subject) {
+        var cells = new String[COLUMN_TITLES.length];
+        cells[0] = subject.subjectName();
+        cells[MARKS_COLUMN] = subject.marks().isEmpty()
+                ? NO_VALUE
+                : subject.marks().stream().map(String::valueOf).collect(Collectors.joining(" "));
+        cells[AVERAGE_COLUMN] = subject.average() == null
+                ? NO_VALUE
+                : String.format(Locale.ROOT, "%.2f", subject.average());
+        cells[TERM_MARK_COLUMN] = subject.termMark() == null ? NO_VALUE : String.valueOf(subject.termMark());
+        return cells;
+    }
+
+    private static byte[] readFont(String path) {
+        try (var in = new ClassPathResource(path).getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Font " + path + " is not available", e);
+        }
+    }
+
+    /**
+     * Текущая страница документа с позицией следующей строки,
+     * строки, не поместившиеся на странице, переносятся на новую
+     */
+    private static final class Page {
+
+        private final PDDocument document;
+        private final PDFont regular;
+        private final PDFont bold;
+        private PDPageContentStream content;
+        private float y;
+
+        private Page(PDDocument document, PDFont regular, PDFont bold) throws IOException {
+            this.document = document;
+            this.regular = regular;
+            this.bold = bold;
+            newPage();
+        }
+
+        private void title(String text) throws IOException {
+            text(bold, TITLE_SIZE, MARGIN, text);
+            y -= LINE_HEIGHT * 2;
+        }
+
+        private void line(String text) throws IOException {
+            text(regular, TEXT_SIZE, MARGIN, text);
+            y -= LINE_HEIGHT;
+        }
+
+        private void gap() {
+            y -= LINE_HEIGHT;
+        }
+
+        private void row(String[] cells, boolean header) throws IOException {
+            var font = header ? bold : regular;
+            List<List<String>> lines = new ArrayList<>(cells.length);
+            var height = 0;
+            for (int i = 0; i < cells.length; i++) {
+                var cellLines = wrap(font, cells[i], COLUMN_WIDTHS[i] - CELL_PADDING * 2);
+                lines.add(cellLines);
+                height = Math.max(height, cellLines.size());
+            }
+            var rowHeight = height * LINE_HEIGHT + CELL_PADDING;
+            if (y - rowHeight < MARGIN) {
+                content.close();
+                newPage();
+            }
+
+            var x = MARGIN;
+            for (int i = 0; i < cells.length; i++) {
+                var lineY = y;
+                for (var cellLine : lines.get(i)) {
+                    text(font, TEXT_SIZE, x + CELL_PADDING, cellLine, lineY - LINE_HEIGHT + CELL_PADDING);
+                    lineY -= LINE_HEIGHT;
+                }
+                content.addRect(x, y - rowHeight, COLUMN_WIDTHS[i], rowHeight);
+                x += COLUMN_WIDTHS[i];
+            }
+            content.stroke();
+            y -= rowHeight;
+        }
+
+        private void close() throws IOException {
+            content.close();
+        }
+
+        private void newPage() throws IOException {
+            var page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            content = new PDPageContentStream(document, page);
+            y = page.getMediaBox().getHeight() - MARGIN;
+        }
+
+        private void text(PDFont font, float size, float x, String text) throws IOException {
+            text(font, size, x, text, y - size);
+        }
+
+        private void text(PDFont font, float size, float x, String text, float baseline) throws IOException {
+            content.beginText();
+            content.setFont(font, size);
+            content.newLineAtOffset(x, baseline);
+            content.showText(text);
+            content.endText();
+        }
+
+        private static List<String> wrap(PDFont font, String text, float width) throws IOException {
+            List<String> lines = new ArrayList<>();
+            var line = new StringBuilder();
+            for (var word : text.split(" ")) {
+                var candidate = line.isEmpty() ? word : line + " " + word;
+                if (!line.isEmpty() && font.getStringWidth(candidate) / FONT_UNITS_PER_EM * TEXT_SIZE > width) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                    line.append(word);
+                } else {
+                    line.setLength(0);
+                    line.append(candidate);
+                }
+            }
+            lines.add(line.toString());
+            return lines;
+        }
+    }
+}
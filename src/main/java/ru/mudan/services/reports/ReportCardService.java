@@ -0,0 +1,193 @@
+package ru.mudan.services.reports;
+
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.repositories.ClassRepository;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.StudentRepository;
+import ru.mudan.dto.reports.ReportCardBatchDTO;
+import ru.mudan.dto.reports.ReportCardDTO;
+import ru.mudan.dto.reports.ReportCardSubjectDTO;
+import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
+import ru.mudan.facade.classes.ClassFacade;
+import ru.mudan.util.SchoolTerm;
+
+/**
+ * Класс с описанием бизнес-логики выгрузки табелей успеваемости класса.
+ * Оценки класса читаются одним потоком в порядке учеников, табель ученика отрисовывается в пуле потоков,
+ * как только прочитаны все его оценки, и записывается в zip-архив сразу в ответ. В памяти одновременно
+ * находятся оценки одного ученика и не больше window отрисованных табелей, независимо от размера класса
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ReportCardService {
+
+    private static final String FILE_EXTENSION = ".pdf";
+
+    private final GradeRepository gradeRepository;
+    private final ClassRepository classRepository;
+    private final StudentRepository studentRepository;
+    private final ClassFacade classFacade;
+    private final ReportCardRenderer reportCardRenderer;
+    private final ExecutorService reportCardExecutor;
+    private final EntityManager entityManager;
+    @Value("${reports.report-cards.window}")
+    private int window;
+
+    /**
+     * Метод для получения класса и четверти выгрузки табелей
+     *
+     * @param classId - id класса
+     * @param date    - дата внутри четверти, по умолчанию текущая четверть
+     */
+    public ReportCardBatchDTO findReportCardBatch(Long classId, LocalDate date) {
+        var foundClass = classRepository.findById(classId)
+                .orElseThrow(() -> new ClassEntityNotFoundException(classId));
+
+        return ReportCardBatchDTO.builder()
+                .classDTO(classFacade.convertEntityToDTO(foundClass))
+                .term(SchoolTerm.of(date == null ? LocalDate.now() : date))
+                .build();
+    }
+
+    /**
+     * Метод для записи табелей всех учеников класса в zip-архив.
+     * Возвращает количество записанных табелей
+     *
+     * @param batch - класс и четверть выгрузки
+     * @param out   - поток ответа для архива
+     */
+    public int writeReportCards(ReportCardBatchDTO batch, OutputStream out) throws IOException {
+        var classId = batch.classDTO().id();
+        log.info("Started writing report cards for class with id={}", classId);
+        var foundClass = classRepository.findById(classId)
+                .orElseThrow(() -> new ClassEntityNotFoundException(classId));
+        var students = studentRepository.findAllByClassEntity(foundClass).stream()
+                .sorted(Comparator.comparing(Student::getId))
+                .toList();
+        var subjectNames = foundClass.getSubjects().stream()
+                .map(Subject::getName)
+                .toList();
+        var term = batch.term();
+
+        Deque<Future<RenderedReportCard>> pending = new ArrayDeque<>(window);
+        try (var grades = gradeRepository.streamAllForClass(classId, term.start(), term.end());
+             var zip = new ZipOutputStream(out)) {
+            var gradeIterator = grades.iterator();
+            var grade = gradeIterator.hasNext() ? gradeIterator.next() : null;
+
+            for (var student : students) {
+                Map<String, List<Integer>> marks = new TreeMap<>();
+                subjectNames.forEach(name -> marks.put(name, new ArrayList<>()));
+
+                while (grade != null && grade.getStudent().getId() <= student.getId()) {
+                    if (grade.getStudent().getId().equals(student.getId()) && grade.getMark() != null) {
+                        marks.computeIfAbsent(grade.getSubject().getName(), name -> new ArrayList<>())
+                                .add(grade.getMark());
+                    }
+                    entityManager.detach(grade);
+                    grade = gradeIterator.hasNext() ? gradeIterator.next() : null;
+                }
+
+                if (pending.size() >= window) {
+                    writeEntry(zip, pending.removeFirst());
+                }
+                var reportCard = toReportCard(student, batch, marks);
+                pending.addLast(reportCardExecutor.submit(() -> render(reportCard)));
+            }
+
+            while (!pending.isEmpty()) {
+                writeEntry(zip, pending.removeFirst());
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+        log.info("Finished writing {} report cards for class with id={}", students.size(), classId);
+
+        return students.size();
+    }
+
+    private RenderedReportCard render(ReportCardDTO reportCard) {
+        var fileName = reportCard.lastname() + " " + reportCard.firstname()
+                + " (" + reportCard.studentId() + ")" + FILE_EXTENSION;
+        return new RenderedReportCard(fileName, reportCardRenderer.render(reportCard));
+    }
+
+    private static void writeEntry(ZipOutputStream zip, Future<RenderedReportCard> future) throws IOException {
+        RenderedReportCard reportCard;
+        try {
+            reportCard = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Report card rendering interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        zip.putNextEntry(new ZipEntry(reportCard.fileName()));
+        zip.write(reportCard.content());
+        zip.closeEntry();
+        zip.flush();
+    }
+
+    private static ReportCardDTO toReportCard(Student student,
+                                              ReportCardBatchDTO batch,
+                                              Map<String, List<Integer>> marks) {
+        List<ReportCardSubjectDTO> subjects = new ArrayList<>(marks.size());
+        marks.forEach((subjectName, subjectMarks) -> {
+            var average = subjectMarks.stream().mapToInt(Integer::intValue).average();
+            subjects.add(ReportCardSubjectDTO.builder()
+                    .subjectName(subjectName)
+                    .marks(subjectMarks)
+                    .average(average.isPresent() ? average.getAsDouble() : null)
+                    .termMark(average.isPresent() ? (int) Math.round(average.getAsDouble()) : null)
+                    .build());
+        });
+
+        return ReportCardDTO.builder()
+                .studentId(student.getId())
+                .firstname(student.getFirstname())
+                .lastname(student.getLastname())
+                .patronymic(student.getPatronymic())
+                .className(batch.classDTO().number() + batch.classDTO().letter())
+                .term(batch.term())
+                .subjects(subjects)
+                .build();
+    }
+
+    /**
+     * Отрисованный табель ученика
+     *
+     * @param fileName - название файла в архиве
+     * @param content  - содержимое PDF
+     */
+    private record RenderedReportCard(String fileName, byte[] content) {
+    }
+}
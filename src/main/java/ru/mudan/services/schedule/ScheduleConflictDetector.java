@@ -0,0 +1,119 @@
+package ru.mudan.services.schedule;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import ru.mudan.domain.entity.Schedule;
+import ru.mudan.domain.repositories.ScheduleRepository;
+import ru.mudan.dto.schedule.ScheduleConflictDTO;
+import ru.mudan.dto.schedule.ScheduleSlotDTO;
+import ru.mudan.exceptions.ScheduleConflictException;
+import ru.mudan.util.enums.DayOfWeek;
+
+/**
+ * Класс для проверки пересечений уроков по кабинету, учителю и классу.
+ * Перед проверкой урока берётся транзакционная advisory-блокировка PostgreSQL на его день недели,
+ * поэтому изменения расписания одного дня проверяются по очереди во всех экземплярах приложения.
+ * Уроки дня загружаются из БД уже под блокировкой и видят все зафиксированные изменения,
+ * блокировка снимается при фиксации или откате транзакции
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleConflictDetector {
+
+    private final ScheduleRepository scheduleRepository;
+    private final MessageSource messageSource;
+    @Value("${schedule.lesson-duration}")
+    private Duration lessonDuration;
+
+    /**
+     * Метод для проверки сохранённого урока на пересечения с уроками того же дня,
+     * при пересечении с другим уроком выбрасывается ScheduleConflictException.
+     * Вызывается в транзакции сохранения урока, блокировка дня удерживается до её завершения
+     *
+     * @param schedule - сохранённая ячейка расписания
+     */
+    public void reserve(Schedule schedule) {
+        var slot = toSlot(schedule);
+        scheduleRepository.lockDayOfWeek(slot.dayOfWeek());
+
+        var dayIndex = new ScheduleConflictIndex(lessonDuration);
+        scheduleRepository.findSlotsOnDay(slot.dayOfWeek()).forEach(dayIndex::put);
+        var conflict = dayIndex.findConflict(slot);
+
+        if (conflict != null) {
+            log.info("Schedule {} conflicts with schedule {} by {}",
+                    slot.scheduleId(), conflict.conflicting().scheduleId(), conflict.type());
+            throw new ScheduleConflictException(conflict.type().getMessageKey(), toMessageArgs(conflict));
+        }
+    }
+
+    /**
+     * Метод для проверки всего расписания школы: все уроки загружаются одним запросом
+     * и добавляются в новый индекс в порядке дня недели и времени начала,
+     * каждое пересечение попадает в отчёт один раз
+     */
+    public List<ScheduleConflictDTO> validateAll() {
+        log.info("Started validating whole timetable");
+        var slots = scheduleRepository.findAllSlots();
+        var validationIndex = new ScheduleConflictIndex(lessonDuration);
+        List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+
+        slots.stream()
+                .sorted(Comparator.comparing(ScheduleSlotDTO::dayOfWeek)
+                        .thenComparing(ScheduleSlotDTO::startTime)
+                        .thenComparing(ScheduleSlotDTO::scheduleId))
+                .forEach(slot -> {
+                    validationIndex.findConflicts(slot).forEach(conflict -> conflicts.add(toDTO(conflict)));
+                    validationIndex.put(slot);
+                });
+
+        log.info("Finished validating whole timetable, lessons {}, conflicts {}", slots.size(), conflicts.size());
+        return conflicts;
+    }
+
+    private ScheduleConflictDTO toDTO(ScheduleConflictIndex.Conflict conflict) {
+        var slot = conflict.slot();
+
+        return ScheduleConflictDTO.builder()
+                .type(conflict.type().name())
+                .scheduleId(slot.scheduleId())
+                .conflictingScheduleId(conflict.conflicting().scheduleId())
+                .dayOfWeek(DayOfWeek.getDayOfWeekByNumber(slot.dayOfWeek()).getName())
+                .startTime(slot.startTime())
+                .description(messageSource.getMessage(conflict.type().getMessageKey(), toMessageArgs(conflict),
+                        LocaleContextHolder.getLocale()))
+                .build();
+    }
+
+    private static Object[] toMessageArgs(ScheduleConflictIndex.Conflict conflict) {
+        var conflicting = conflict.conflicting();
+
+        return new Object[]{
+                String.valueOf(conflict.ownerId()),
+                DayOfWeek.getDayOfWeekByNumber(conflicting.dayOfWeek()).getName(),
+                conflicting.startTime(),
+                conflicting.scheduleId()
+        };
+    }
+
+    private static ScheduleSlotDTO toSlot(Schedule schedule) {
+        var teacher = schedule.getSubject().getTeacher();
+
+        return new ScheduleSlotDTO(
+                schedule.getId(),
+                schedule.getDayOfWeek(),
+                schedule.getStartTime(),
+                schedule.getNumberOfClassroom(),
+                schedule.getClassEntity().getId(),
+                teacher == null ? null : teacher.getId());
+    }
+}
@@ -0,0 +1,166 @@
+package ru.mudan.services.schedule;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import ru.mudan.dto.schedule.ScheduleSlotDTO;
+import ru.mudan.util.enums.ScheduleConflictType;
+
+/**
+ * Индекс уроков для поиска пересечений по кабинету, учителю и классу.
+ * Для каждого кабинета, учителя и класса уроки одного дня хранятся в TreeMap
+ * по секунде начала, поэтому пересечение ищется за O(log n) на каждое измерение.
+ * Индекс строится на время одной проверки и не разделяется между потоками
+ */
+class ScheduleConflictIndex {
+
+    private final int lessonSeconds;
+    private final Map<DimensionKey, TreeMap<Integer, List<ScheduleSlotDTO>>> slotsByDimension = new HashMap<>();
+    private final Map<Long, ScheduleSlotDTO> slotsById = new HashMap<>();
+
+    ScheduleConflictIndex(Duration lessonDuration) {
+        this.lessonSeconds = (int) lessonDuration.toSeconds();
+    }
+
+    /**
+     * Метод для поиска первого урока, пересекающегося со слотом, уроки той же ячейки не учитываются
+     *
+     * @param slot - проверяемый слот
+     */
+    Conflict findConflict(ScheduleSlotDTO slot) {
+        for (var key : keysOf(slot)) {
+            var conflicting = findConflictingSlot(key, slot);
+            if (conflicting != null) {
+                return new Conflict(key.type(), key.ownerId(), slot, conflicting);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Метод для поиска всех уроков, пересекающихся со слотом
+     *
+     * @param slot - проверяемый слот
+     */
+    List<Conflict> findConflicts(ScheduleSlotDTO slot) {
+        List<Conflict> conflicts = new ArrayList<>();
+        for (var key : keysOf(slot)) {
+            overlapping(key, slot).stream()
+                    .filter(other -> !other.scheduleId().equals(slot.scheduleId()))
+                    .forEach(other -> conflicts.add(new Conflict(key.type(), key.ownerId(), slot, other)));
+        }
+        return conflicts;
+    }
+
+    /**
+     * Метод для добавления слота в индекс, предыдущая версия слота с тем же id удаляется
+     *
+     * @param slot - слот
+     */
+    void put(ScheduleSlotDTO slot) {
+        remove(slot.scheduleId());
+        slotsById.put(slot.scheduleId(), slot);
+        for (var key : keysOf(slot)) {
+            slotsByDimension.computeIfAbsent(key, k -> new TreeMap<>())
+                    .computeIfAbsent(slot.startTime().toSecondOfDay(), start -> new ArrayList<>())
+                    .add(slot);
+        }
+    }
+
+    /**
+     * Метод для удаления слота из индекса
+     *
+     * @param scheduleId - id ячейки расписания
+     */
+    void remove(Long scheduleId) {
+        var slot = slotsById.remove(scheduleId);
+        if (slot == null) {
+            return;
+        }
+
+        for (var key : keysOf(slot)) {
+            var slots = slotsByDimension.get(key);
+            var start = slot.startTime().toSecondOfDay();
+            var slotsAtStart = slots.get(start);
+            slotsAtStart.removeIf(other -> other.scheduleId().equals(scheduleId));
+            if (slotsAtStart.isEmpty()) {
+                slots.remove(start);
+            }
+            if (slots.isEmpty()) {
+                slotsByDimension.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Метод для получения слота по id ячейки расписания
+     *
+     * @param scheduleId - id ячейки расписания
+     */
+    ScheduleSlotDTO get(Long scheduleId) {
+        return slotsById.get(scheduleId);
+    }
+
+    private ScheduleSlotDTO findConflictingSlot(DimensionKey key, ScheduleSlotDTO slot) {
+        return overlapping(key, slot).stream()
+                .filter(other -> !other.scheduleId().equals(slot.scheduleId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Метод для получения уроков, которые начинаются раньше, чем через длительность урока
+     * после начала слота, и позже, чем за длительность урока до него
+     *
+     * @param key  - кабинет, учитель или класс в конкретный день
+     * @param slot - проверяемый слот
+     */
+    private List<ScheduleSlotDTO> overlapping(DimensionKey key, ScheduleSlotDTO slot) {
+        var slots = slotsByDimension.get(key);
+        if (slots == null) {
+            return List.of();
+        }
+
+        var start = slot.startTime().toSecondOfDay();
+        return slots.subMap(start - lessonSeconds, false, start + lessonSeconds, false).values().stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private static List<DimensionKey> keysOf(ScheduleSlotDTO slot) {
+        List<DimensionKey> keys = new ArrayList<>(ScheduleConflictType.values().length);
+        if (slot.dayOfWeek() == null || slot.startTime() == null) {
+            return keys;
+        }
+        if (slot.numberOfClassroom() != null) {
+            keys.add(new DimensionKey(ScheduleConflictType.CLASSROOM, slot.numberOfClassroom(), slot.dayOfWeek()));
+        }
+        if (slot.teacherId() != null) {
+            keys.add(new DimensionKey(ScheduleConflictType.TEACHER, slot.teacherId(), slot.dayOfWeek()));
+        }
+        if (slot.classId() != null) {
+            keys.add(new DimensionKey(ScheduleConflictType.CLASS, slot.classId(), slot.dayOfWeek()));
+        }
+        return keys;
+    }
+
+    /**
+     * Кабинет, учитель или класс в конкретный день недели
+     */
+    private record DimensionKey(ScheduleConflictType type, long ownerId, int dayOfWeek) {
+    }
+
+    /**
+     * Пересечение урока с другим уроком
+     *
+     * @param type        - вид пересечения
+     * @param ownerId     - номер кабинета, id учителя или id класса
+     * @param slot        - проверяемый урок
+     * @param conflicting - урок, с которым пересекается проверяемый
+     */
+    record Conflict(ScheduleConflictType type, long ownerId, ScheduleSlotDTO slot, ScheduleSlotDTO conflicting) {
+    }
+}
@@ -1,18 +1,26 @@
 package ru.mudan.services.schedule;
 
-import java.util.Comparator;
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.mudan.domain.entity.Schedule;
+import ru.mudan.domain.entity.Subject;
 import ru.mudan.domain.repositories.ClassRepository;
 import ru.mudan.domain.repositories.ScheduleRepository;
 import ru.mudan.domain.repositories.SubjectsRepository;
+import ru.mudan.dto.schedule.ScheduleConflictDTO;
 import ru.mudan.dto.schedule.ScheduleCreateDTO;
 import ru.mudan.dto.schedule.ScheduleDTO;
 import ru.mudan.dto.schedule.ScheduleUpdateDTO;
+import ru.mudan.dto.schedule.TimetableGenerateDTO;
+import ru.mudan.dto.schedule.TimetableGenerationReportDTO;
+import ru.mudan.dto.schedule.WeekTimetable;
 import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.ScheduleNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
@@ -32,25 +40,38 @@ public class ScheduleService {
     private final ClassRepository classRepository;
     private final SubjectsRepository subjectsRepository;
     private final ScheduleFacade scheduleFacade;
+    private final TimetableCache timetableCache;
+    private final ScheduleConflictDetector scheduleConflictDetector;
+    private final TimetableGenerator timetableGenerator;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * Метод для получения списка ячеек расписания класса
+     * Метод для получения списка ячеек расписания класса, отсортированных по дню недели и времени начала
      *
      * @param classId - id класса
      */
     public List<ScheduleDTO> findAllSchedulesForClass(Long classId) {
-        log.info("Started getting all schedules for class with id={}", classId);
-        var foundClass = classRepository.findById(classId)
-                .orElseThrow(() -> new ClassEntityNotFoundException(classId));
-        var listOfSchedules = foundClass.getSchedules();
-        listOfSchedules.sort(Comparator.comparing(Schedule::getDayOfWeek)
-                .thenComparing(Schedule::getStartTime));
-        log.info("Finished getting all schedules for class with id={}", classId);
-
-        return listOfSchedules
-                .stream()
-                .map(scheduleFacade::convertEntityToDTO)
-                .toList();
+        return findTimetableForClass(classId).lessons();
+    }
+
+    /**
+     * Метод для получения недельного расписания класса, расписание берётся из кэша
+     *
+     * @param classId - id класса
+     */
+    @Transactional(readOnly = true)
+    public WeekTimetable findTimetableForClass(Long classId) {
+        return timetableCache.getForClass(classId, this::loadTimetableForClass);
+    }
+
+    /**
+     * Метод для получения недельного расписания учителя по всем его предметам, расписание берётся из кэша
+     *
+     * @param teacherId - id учителя
+     */
+    @Transactional(readOnly = true)
+    public WeekTimetable findTimetableForTeacher(Long teacherId) {
+        return timetableCache.getForTeacher(teacherId, this::loadTimetableForTeacher);
     }
 
     /**
@@ -66,7 +87,8 @@ public class ScheduleService {
     }
 
     /**
-     * Метод для получения сохранения ячейки расписания
+     * Метод для получения сохранения ячейки расписания,
+     * урок не должен пересекаться с уроками того же кабинета, учителя и класса
      *
      * @param request - входные данные
      */
@@ -89,6 +111,8 @@ public class ScheduleService {
         schedule.setSubject(subjectForSchedule);
 
         scheduleRepository.save(schedule);
+        scheduleConflictDetector.reserve(schedule);
+        evictTimetables(schedule);
         log.info("Finished creating schedule for class with id={} "
                         + "and subject with id={}",
                 request.classId(),
@@ -110,6 +134,8 @@ public class ScheduleService {
         foundSchedule.setStartTime(request.startTime());
         foundSchedule.setNumberOfClassroom(request.numberOfClassroom());
         scheduleRepository.save(foundSchedule);
+        scheduleConflictDetector.reserve(foundSchedule);
+        evictTimetables(foundSchedule);
         log.info("Finished updating schedule with id={}", id);
     }
 
@@ -124,26 +150,140 @@ public class ScheduleService {
                 .orElseThrow(() -> new ScheduleNotFoundException(id));
 
         scheduleRepository.delete(foundSchedule);
+        evictTimetables(foundSchedule);
         log.info("Finished deleting schedule with id={}", id);
     }
 
     /**
-     * Метод для получения ячеек расписания для класса
+     * Метод для получения ячеек расписания по предмету из закэшированного расписания учителя
      *
-     * @param subjectId - id класса
+     * @param subjectId - id предмета
      */
+    @Transactional(readOnly = true)
     public List<ScheduleDTO> findAllBySubjectId(Long subjectId) {
-        log.info("Started getting all schedules for subject with id={}", subjectId);
         var foundSubject = subjectsRepository.findById(subjectId)
                 .orElseThrow(() -> new SubjectNotFoundException(subjectId));
 
-        var teacherSchedule = foundSubject.getSchedules();
-        teacherSchedule.sort((Comparator.comparing(Schedule::getDayOfWeek)
-                .thenComparing(Schedule::getStartTime)));
-        log.info("Finished getting all schedules for subject with id={}", subjectId);
+        if (foundSubject.getTeacher() == null) {
+            return List.of();
+        }
 
-        return teacherSchedule.stream()
-                .map(scheduleFacade::convertEntityToDTO)
+        return findTimetableForTeacher(foundSubject.getTeacher().getId()).lessons().stream()
+                .filter(lesson -> subjectId.equals(lesson.subjectId()))
                 .toList();
     }
+
+    /**
+     * Метод для проверки всего расписания школы на пересечения уроков
+     * по кабинету, учителю и классу
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleConflictDTO> validateTimetable() {
+        return scheduleConflictDetector.validateAll();
+    }
+
+    /**
+     * Метод для автоматического построения расписания всей школы по недельной нагрузке предметов,
+     * текущее расписание заменяется построенным целиком.
+     * Предметы загружаются читающим запросом, решатель работает без открытой транзакции,
+     * а старое расписание заменяется новым в одной короткой транзакции
+     *
+     * @param request - параметры учебного дня
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TimetableGenerationReportDTO generateTimetable(TimetableGenerateDTO request) {
+        log.info("Started generating timetable");
+        var subjects = loadSubjectsForGeneration();
+        var startNanos = System.nanoTime();
+        var schedules = timetableGenerator.generate(subjects, request);
+        var solveTimeMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+        transactionTemplate.executeWithoutResult(status -> replaceTimetable(schedules));
+
+        var report = TimetableGenerationReportDTO.builder()
+                .classCount((int) subjects.stream().map(subject -> subject.getClassEntity().getId()).distinct().count())
+                .lessonCount(schedules.size())
+                .sameDayRepeats(countSameDayRepeats(schedules))
+                .solveTimeMillis(solveTimeMillis)
+                .build();
+        log.info("Finished generating timetable, lessons {}", schedules.size());
+
+        return report;
+    }
+
+    /**
+     * Метод для загрузки предметов с классом и учителем в короткой читающей транзакции
+     */
+    private List<Subject> loadSubjectsForGeneration() {
+        var readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        return readOnlyTransactionTemplate.execute(status -> subjectsRepository.findAllForTimetableGeneration());
+    }
+
+    /**
+     * Метод для замены всего расписания школы построенным
+     *
+     * @param schedules - построенные ячейки расписания
+     */
+    private void replaceTimetable(List<Schedule> schedules) {
+        scheduleRepository.deleteAllInBatch();
+        scheduleRepository.saveAll(schedules);
+        timetableCache.evictAll();
+    }
+
+    /**
+     * Метод для загрузки недельного расписания класса из БД
+     *
+     * @param classId - id класса
+     */
+    private WeekTimetable loadTimetableForClass(Long classId) {
+        log.info("Started loading timetable for class with id={}", classId);
+        if (!classRepository.existsById(classId)) {
+            throw new ClassEntityNotFoundException(classId);
+        }
+
+        var timetable = scheduleFacade.convertEntitiesToWeekTimetable(
+                scheduleRepository.findAllForClassTimetable(classId));
+        log.info("Finished loading timetable for class with id={}", classId);
+
+        return timetable;
+    }
+
+    /**
+     * Метод для загрузки недельного расписания учителя из БД
+     *
+     * @param teacherId - id учителя
+     */
+    private WeekTimetable loadTimetableForTeacher(Long teacherId) {
+        log.info("Started loading timetable for teacher with id={}", teacherId);
+        var timetable = scheduleFacade.convertEntitiesToWeekTimetable(
+                scheduleRepository.findAllForTeacherTimetable(teacherId));
+        log.info("Finished loading timetable for teacher with id={}", teacherId);
+
+        return timetable;
+    }
+
+    private static int countSameDayRepeats(List<Schedule> schedules) {
+        var lessonsBySubjectAndDay = schedules.stream()
+                .collect(Collectors.groupingBy(
+                        schedule -> List.of(schedule.getSubject().getId(), schedule.getDayOfWeek().longValue()),
+                        Collectors.counting()));
+
+        return lessonsBySubjectAndDay.values().stream()
+                .mapToInt(count -> count.intValue() - 1)
+                .sum();
+    }
+
+    /**
+     * Метод для сброса закэшированных расписаний класса и учителя ячейки
+     *
+     * @param schedule - изменённая ячейка расписания
+     */
+    private void evictTimetables(Schedule schedule) {
+        var classId = schedule.getClassEntity() == null ? null : schedule.getClassEntity().getId();
+        var teacher = schedule.getSubject() == null ? null : schedule.getSubject().getTeacher();
+
+        timetableCache.evict(classId, teacher == null ? null : teacher.getId());
+    }
 }
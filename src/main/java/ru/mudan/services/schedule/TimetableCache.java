@@ -0,0 +1,88 @@
+package ru.mudan.services.schedule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.mudan.domain.events.UserDeletedEvent;
+import ru.mudan.dto.schedule.WeekTimetable;
+import ru.mudan.util.enums.Role;
+import static ru.mudan.util.TransactionUtils.afterCommit;
+
+/**
+ * Класс для работы с кэшем недельных расписаний классов и учителей.
+ * Записи сбрасываются после фиксации транзакции, чтобы параллельное чтение
+ * не успело заново закэшировать ещё не зафиксированное состояние
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimetableCache {
+
+    private final Cache<Long, WeekTimetable> classTimetableCache;
+    private final Cache<Long, WeekTimetable> teacherTimetableCache;
+
+    /**
+     * Метод для получения расписания класса из кэша с загрузкой при промахе
+     *
+     * @param classId - id класса
+     * @param loader  - функция загрузки расписания из БД
+     */
+    public WeekTimetable getForClass(Long classId, Function<Long, WeekTimetable> loader) {
+        return classTimetableCache.get(classId, loader);
+    }
+
+    /**
+     * Метод для получения расписания учителя из кэша с загрузкой при промахе
+     *
+     * @param teacherId - id учителя
+     * @param loader    - функция загрузки расписания из БД
+     */
+    public WeekTimetable getForTeacher(Long teacherId, Function<Long, WeekTimetable> loader) {
+        return teacherTimetableCache.get(teacherId, loader);
+    }
+
+    /**
+     * Метод для сброса расписаний класса и учителя, которых коснулось изменение ячейки
+     *
+     * @param classId   - id класса, может быть null
+     * @param teacherId - id учителя, может быть null
+     */
+    public void evict(Long classId, Long teacherId) {
+        afterCommit(() -> {
+            if (classId != null) {
+                classTimetableCache.invalidate(classId);
+            }
+            if (teacherId != null) {
+                teacherTimetableCache.invalidate(teacherId);
+            }
+        });
+    }
+
+    /**
+     * Метод для сброса всех расписаний, используется при каскадном удалении ячеек
+     */
+    public void evictAll() {
+        afterCommit(this::invalidateAll);
+    }
+
+    /**
+     * Метод для сброса всех расписаний после фиксации удаления учителя: БД каскадно удаляет его предметы и уроки
+     *
+     * @param event - событие удаления пользователя
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (event.role() == Role.ROLE_TEACHER) {
+            invalidateAll();
+        }
+    }
+
+    private void invalidateAll() {
+        classTimetableCache.invalidateAll();
+        teacherTimetableCache.invalidateAll();
+        log.info("Timetable caches cleared");
+    }
+}
@@ -0,0 +1,118 @@
+package ru.mudan.services.schedule;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.mudan.domain.entity.Schedule;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.dto.schedule.TimetableGenerateDTO;
+import ru.mudan.exceptions.TimetableGenerationException;
+import ru.mudan.services.schedule.generator.TimetableLesson;
+import ru.mudan.services.schedule.generator.TimetableProblem;
+import ru.mudan.services.schedule.generator.TimetableSolution;
+import ru.mudan.services.schedule.generator.TimetableSolver;
+import ru.mudan.util.enums.DayOfWeek;
+
+/**
+ * Класс для автоматического построения расписания школы по недельной нагрузке предметов.
+ * Каждый час нагрузки предмета становится уроком, решатель расставляет уроки по слотам
+ * так, чтобы у класса и учителя не было двух уроков одновременно и в каждом слоте
+ * хватало кабинетов, и по возможности не ставит один предмет дважды в день
+ */
+@Slf4j
+@Component
+public class TimetableGenerator {
+
+    private static final int SECONDS_IN_DAY = 24 * 60 * 60;
+
+    @Value("${schedule.lesson-duration}")
+    private Duration lessonDuration;
+    @Value("${schedule.generator.parallelism}")
+    private int parallelism;
+
+    /**
+     * Метод для построения расписания, при невозможности расставить уроки
+     * без пересечений выбрасывается TimetableGenerationException
+     *
+     * @param subjects - предметы с классом и недельной нагрузкой
+     * @param request  - параметры учебного дня
+     */
+    public List<Schedule> generate(List<Subject> subjects, TimetableGenerateDTO request) {
+        checkDayFitsIntoCalendarDay(request);
+
+        var solution = solve(subjects, request);
+        if (!solution.isFeasible()) {
+            log.info("Timetable is infeasible, hard violations {}", solution.hardViolations());
+            throw new TimetableGenerationException("schedule.generate.infeasible",
+                    new Object[]{solution.hardViolations()});
+        }
+
+        return toSchedules(subjects, solution, request);
+    }
+
+    /**
+     * Метод для запуска решателя без сохранения результата
+     *
+     * @param subjects - предметы с классом и недельной нагрузкой
+     * @param request  - параметры учебного дня
+     */
+    public TimetableSolution solve(List<Subject> subjects, TimetableGenerateDTO request) {
+        List<TimetableLesson> lessons = new ArrayList<>();
+
+        for (var subject : subjects) {
+            var teacherId = subject.getTeacher() == null ? null : subject.getTeacher().getId();
+            for (int hour = 0; hour < subject.getWeeklyHours(); hour++) {
+                lessons.add(new TimetableLesson(subject.getId(), subject.getClassEntity().getId(), teacherId));
+            }
+        }
+
+        var problem = new TimetableProblem(lessons, DayOfWeek.values().length, request.lessonsPerDay(),
+                request.classroomCount());
+        return new TimetableSolver(parallelism).solve(problem,
+                Duration.ofSeconds(request.timeBudgetSeconds()),
+                ThreadLocalRandom.current().nextLong());
+    }
+
+    private List<Schedule> toSchedules(List<Subject> subjects,
+                                       TimetableSolution solution,
+                                       TimetableGenerateDTO request) {
+        Map<Long, Subject> subjectsById = subjects.stream()
+                .collect(Collectors.toMap(Subject::getId, Function.identity()));
+
+        return solution.assignments().stream()
+                .map(assignment -> {
+                    var subject = subjectsById.get(assignment.lesson().subjectId());
+                    var schedule = new Schedule(
+                            assignment.dayOfWeek(),
+                            startTimeOf(assignment.period(), request),
+                            assignment.classroomNumber());
+                    schedule.setSubject(subject);
+                    schedule.setClassEntity(subject.getClassEntity());
+                    return schedule;
+                })
+                .toList();
+    }
+
+    private LocalTime startTimeOf(int period, TimetableGenerateDTO request) {
+        var step = lessonDuration.plusMinutes(request.breakMinutes());
+        return request.firstLessonStart().plus(step.multipliedBy(period));
+    }
+
+    private void checkDayFitsIntoCalendarDay(TimetableGenerateDTO request) {
+        var lastLessonEnd = request.firstLessonStart().toSecondOfDay()
+                + lessonDuration.multipliedBy(request.lessonsPerDay()).toSeconds()
+                + Duration.ofMinutes(request.breakMinutes()).multipliedBy(request.lessonsPerDay() - 1L).toSeconds();
+
+        if (lastLessonEnd > SECONDS_IN_DAY) {
+            throw new TimetableGenerationException("schedule.generate.day.overflow", new Object[]{});
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ru.mudan.services.schedule.generator;
+
+/**
+ * Лучшее расписание, найденное одним запуском локального поиска
+ *
+ * @param slots          - слот каждого урока
+ * @param hardViolations - количество нарушенных жёстких ограничений
+ * @param softViolations - количество нарушенных мягких ограничений
+ * @param iterations     - количество проверенных ходов
+ */
+record LocalSearchResult(
+        int[] slots,
+        int hardViolations,
+        int softViolations,
+        long iterations
+) {
+
+    int cost() {
+        return hardViolations * LocalSearchRun.HARD_WEIGHT + softViolations;
+    }
+}
@@ -0,0 +1,255 @@
+package ru.mudan.services.schedule.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Один запуск локального поиска: жадное построение начиная с самых загруженных учителей,
+ * затем имитация отжига на переносах уроков в другой слот и обменах слотами
+ * двух уроков одного класса. Стоимость изменения считается за O(1)
+ * по счётчикам нагрузки слотов, поэтому за секунду проверяются миллионы ходов
+ */
+final class LocalSearchRun {
+
+    static final int HARD_WEIGHT = 100;
+    private static final double START_TEMPERATURE = 5.0;
+    private static final double END_TEMPERATURE = 0.05;
+    private static final int TIME_CHECK_MASK = 1023;
+
+    private final TimetableModel model;
+    private final SplittableRandom random;
+    private final int[] slotOf;
+    private final int[] classLoad;
+    private final int[] teacherLoad;
+    private final int[] slotLoad;
+    private final int[] subjectDayLoad;
+    private int hard;
+    private int soft;
+
+    LocalSearchRun(TimetableModel model, long seed) {
+        this.model = model;
+        this.random = new SplittableRandom(seed);
+        this.slotOf = new int[model.lessonCount];
+        this.classLoad = new int[model.classCount * model.slotCount];
+        this.teacherLoad = new int[model.teacherCount * model.slotCount];
+        this.slotLoad = new int[model.slotCount];
+        this.subjectDayLoad = new int[model.subjectCount * model.days];
+    }
+
+    /**
+     * Метод для запуска поиска до истечения времени, до нахождения оптимального
+     * расписания или до сигнала остановки от другого потока
+     *
+     * @param deadlineNanos - момент остановки по System.nanoTime()
+     * @param solved        - флаг, который выставляется, когда любой поток нашёл оптимум
+     */
+    LocalSearchResult solve(long deadlineNanos, AtomicBoolean solved) {
+        construct();
+
+        var best = slotOf.clone();
+        var bestHard = hard;
+        var bestSoft = soft;
+        var startNanos = System.nanoTime();
+        var budgetNanos = Math.max(1, deadlineNanos - startNanos);
+        var temperature = START_TEMPERATURE;
+        long iteration = 0;
+
+        while (!isOptimal(bestHard, bestSoft)) {
+            if ((iteration++ & TIME_CHECK_MASK) == 0) {
+                var now = System.nanoTime();
+                if (now >= deadlineNanos || solved.get()) {
+                    break;
+                }
+                var progress = (double) (now - startNanos) / budgetNanos;
+                temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+            }
+
+            if (tryMove(temperature) && cost() < cost(bestHard, bestSoft)) {
+                System.arraycopy(slotOf, 0, best, 0, slotOf.length);
+                bestHard = hard;
+                bestSoft = soft;
+            }
+        }
+
+        if (isOptimal(bestHard, bestSoft)) {
+            solved.set(true);
+        }
+        return new LocalSearchResult(best, bestHard, bestSoft, iteration);
+    }
+
+    private void construct() {
+        var order = new int[model.lessonCount];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        shuffle(order);
+        sortByTeacherLoad(order);
+
+        for (var lesson : order) {
+            var bestSlot = 0;
+            var bestCost = Integer.MAX_VALUE;
+            var offset = random.nextInt(model.slotCount);
+
+            for (int i = 0; i < model.slotCount; i++) {
+                var slot = (i + offset) % model.slotCount;
+                var addCost = addCost(lesson, slot);
+                if (addCost < bestCost) {
+                    bestCost = addCost;
+                    bestSlot = slot;
+                }
+            }
+            add(lesson, bestSlot);
+        }
+    }
+
+    private boolean tryMove(double temperature) {
+        var lesson = random.nextInt(model.lessonCount);
+        return random.nextBoolean() ? trySwap(lesson, temperature) : tryRelocate(lesson, temperature);
+    }
+
+    private boolean trySwap(int lesson, double temperature) {
+        var classLessons = model.classLessons[model.lessonClass[lesson]];
+        var other = classLessons[random.nextInt(classLessons.length)];
+        if (slotOf[other] == slotOf[lesson]) {
+            return false;
+        }
+
+        var before = cost();
+        swap(lesson, other);
+        if (accept(cost() - before, temperature)) {
+            return true;
+        }
+        swap(lesson, other);
+        return false;
+    }
+
+    private boolean tryRelocate(int lesson, double temperature) {
+        var from = slotOf[lesson];
+        var to = random.nextInt(model.slotCount);
+        if (from == to) {
+            return false;
+        }
+
+        var before = cost();
+        move(lesson, to);
+        if (accept(cost() - before, temperature)) {
+            return true;
+        }
+        move(lesson, from);
+        return false;
+    }
+
+    private boolean accept(int delta, double temperature) {
+        return delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature);
+    }
+
+    private void swap(int first, int second) {
+        var firstSlot = slotOf[first];
+        var secondSlot = slotOf[second];
+        remove(first);
+        remove(second);
+        add(first, secondSlot);
+        add(second, firstSlot);
+    }
+
+    private void move(int lesson, int slot) {
+        remove(lesson);
+        add(lesson, slot);
+    }
+
+    private int addCost(int lesson, int slot) {
+        var result = 0;
+        if (classLoad[classIndex(lesson, slot)] > 0) {
+            result += HARD_WEIGHT;
+        }
+        if (model.lessonTeacher[lesson] != TimetableModel.NO_TEACHER && teacherLoad[teacherIndex(lesson, slot)] > 0) {
+            result += HARD_WEIGHT;
+        }
+        if (slotLoad[slot] >= model.classroomCount) {
+            result += HARD_WEIGHT;
+        }
+        if (subjectDayLoad[subjectDayIndex(lesson, slot)] > 0) {
+            result++;
+        }
+        return result;
+    }
+
+    private void add(int lesson, int slot) {
+        slotOf[lesson] = slot;
+        if (classLoad[classIndex(lesson, slot)]++ > 0) {
+            hard++;
+        }
+        if (model.lessonTeacher[lesson] != TimetableModel.NO_TEACHER && teacherLoad[teacherIndex(lesson, slot)]++ > 0) {
+            hard++;
+        }
+        if (slotLoad[slot]++ >= model.classroomCount) {
+            hard++;
+        }
+        if (subjectDayLoad[subjectDayIndex(lesson, slot)]++ > 0) {
+            soft++;
+        }
+    }
+
+    private void remove(int lesson) {
+        var slot = slotOf[lesson];
+        if (--classLoad[classIndex(lesson, slot)] > 0) {
+            hard--;
+        }
+        if (model.lessonTeacher[lesson] != TimetableModel.NO_TEACHER && --teacherLoad[teacherIndex(lesson, slot)] > 0) {
+            hard--;
+        }
+        if (--slotLoad[slot] >= model.classroomCount) {
+            hard--;
+        }
+        if (--subjectDayLoad[subjectDayIndex(lesson, slot)] > 0) {
+            soft--;
+        }
+    }
+
+    private int classIndex(int lesson, int slot) {
+        return model.lessonClass[lesson] * model.slotCount + slot;
+    }
+
+    private int teacherIndex(int lesson, int slot) {
+        return model.lessonTeacher[lesson] * model.slotCount + slot;
+    }
+
+    private int subjectDayIndex(int lesson, int slot) {
+        return model.lessonSubject[lesson] * model.days + model.dayOf(slot);
+    }
+
+    private int cost() {
+        return cost(hard, soft);
+    }
+
+    private static int cost(int hardViolations, int softViolations) {
+        return hardViolations * HARD_WEIGHT + softViolations;
+    }
+
+    private boolean isOptimal(int hardViolations, int softViolations) {
+        return hardViolations == 0 && softViolations <= model.softLowerBound;
+    }
+
+    private void shuffle(int[] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            var j = random.nextInt(i + 1);
+            var value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private void sortByTeacherLoad(int[] order) {
+        var sorted = Arrays.stream(order).boxed()
+                .sorted((first, second) -> Integer.compare(teacherLessons(second), teacherLessons(first)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        System.arraycopy(sorted, 0, order, 0, order.length);
+    }
+
+    private int teacherLessons(int lesson) {
+        var teacher = model.lessonTeacher[lesson];
+        return teacher == TimetableModel.NO_TEACHER ? 0 : model.teacherLessonCount[teacher];
+    }
+}
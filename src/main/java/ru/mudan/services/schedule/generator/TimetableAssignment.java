@@ -0,0 +1,17 @@
+package ru.mudan.services.schedule.generator;
+
+/**
+ * Урок, поставленный в расписание
+ *
+ * @param lesson          - урок
+ * @param dayOfWeek       - день недели, начиная с 1
+ * @param period          - номер урока в дне, начиная с 0
+ * @param classroomNumber - номер кабинета, начиная с 1
+ */
+public record TimetableAssignment(
+        TimetableLesson lesson,
+        int dayOfWeek,
+        int period,
+        int classroomNumber
+) {
+}
@@ -0,0 +1,16 @@
+package ru.mudan.services.schedule.generator;
+
+/**
+ * Один урок, который нужно поставить в расписание: предмет с недельной нагрузкой
+ * в n часов даёт n таких уроков
+ *
+ * @param subjectId - id предмета
+ * @param classId   - id класса
+ * @param teacherId - id учителя, null если учитель не назначен
+ */
+public record TimetableLesson(
+        Long subjectId,
+        Long classId,
+        Long teacherId
+) {
+}
@@ -0,0 +1,96 @@
+package ru.mudan.services.schedule.generator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Представление задачи в виде плотных массивов индексов, общее для всех потоков решателя.
+ * Классы, учителя и предметы нумеруются подряд с нуля, чтобы счётчики нагрузки
+ * слотов хранились в массивах без хэш-таблиц
+ */
+final class TimetableModel {
+
+    static final int NO_TEACHER = -1;
+
+    final int lessonCount;
+    final int days;
+    final int periodsPerDay;
+    final int slotCount;
+    final int classroomCount;
+    final int classCount;
+    final int teacherCount;
+    final int subjectCount;
+    final int[] lessonClass;
+    final int[] lessonTeacher;
+    final int[] lessonSubject;
+    final int[][] classLessons;
+    final int[] teacherLessonCount;
+    final int softLowerBound;
+
+    TimetableModel(TimetableProblem problem) {
+        var lessons = problem.lessons();
+        Map<Long, Integer> classIndexes = new HashMap<>();
+        Map<Long, Integer> teacherIndexes = new HashMap<>();
+        Map<Long, Integer> subjectIndexes = new HashMap<>();
+
+        lessonCount = lessons.size();
+        days = problem.days();
+        periodsPerDay = problem.periodsPerDay();
+        slotCount = problem.slotCount();
+        classroomCount = problem.classroomCount();
+        lessonClass = new int[lessonCount];
+        lessonTeacher = new int[lessonCount];
+        lessonSubject = new int[lessonCount];
+
+        for (int i = 0; i < lessonCount; i++) {
+            var lesson = lessons.get(i);
+            lessonClass[i] = classIndexes.computeIfAbsent(lesson.classId(), id -> classIndexes.size());
+            lessonSubject[i] = subjectIndexes.computeIfAbsent(lesson.subjectId(), id -> subjectIndexes.size());
+            lessonTeacher[i] = lesson.teacherId() == null
+                    ? NO_TEACHER
+                    : teacherIndexes.computeIfAbsent(lesson.teacherId(), id -> teacherIndexes.size());
+        }
+
+        classCount = classIndexes.size();
+        teacherCount = teacherIndexes.size();
+        subjectCount = subjectIndexes.size();
+        classLessons = groupLessonsByClass();
+        teacherLessonCount = new int[teacherCount];
+        var subjectLessonCount = new int[subjectCount];
+
+        for (int i = 0; i < lessonCount; i++) {
+            if (lessonTeacher[i] != NO_TEACHER) {
+                teacherLessonCount[lessonTeacher[i]]++;
+            }
+            subjectLessonCount[lessonSubject[i]]++;
+        }
+
+        var bound = 0;
+        for (var count : subjectLessonCount) {
+            bound += Math.max(0, count - days);
+        }
+        softLowerBound = bound;
+    }
+
+    int dayOf(int slot) {
+        return slot / periodsPerDay;
+    }
+
+    private int[][] groupLessonsByClass() {
+        List<List<Integer>> grouped = new ArrayList<>(classCount);
+        for (int c = 0; c < classCount; c++) {
+            grouped.add(new ArrayList<>());
+        }
+        for (int i = 0; i < lessonCount; i++) {
+            grouped.get(lessonClass[i]).add(i);
+        }
+
+        var result = new int[classCount][];
+        for (int c = 0; c < classCount; c++) {
+            result[c] = grouped.get(c).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+package ru.mudan.services.schedule.generator;
+
+import java.util.List;
+
+/**
+ * Входные данные для построения недельного расписания школы
+ *
+ * @param lessons        - уроки, которые нужно поставить в расписание
+ * @param days           - количество учебных дней в неделе
+ * @param periodsPerDay  - количество уроков в дне
+ * @param classroomCount - количество кабинетов, в одном слоте не может идти больше уроков
+ */
+public record TimetableProblem(
+        List<TimetableLesson> lessons,
+        int days,
+        int periodsPerDay,
+        int classroomCount
+) {
+
+    /**
+     * Метод для получения количества слотов (день, номер урока) в неделе
+     */
+    public int slotCount() {
+        return days * periodsPerDay;
+    }
+}
@@ -0,0 +1,28 @@
+package ru.mudan.services.schedule.generator;
+
+import java.util.List;
+
+/**
+ * Результат построения расписания
+ *
+ * @param assignments     - уроки с назначенными слотами и кабинетами
+ * @param hardViolations  - количество нарушенных жёстких ограничений: пересечения уроков
+ *                        класса и учителя и нехватка кабинетов в слоте
+ * @param softViolations  - количество нарушенных мягких ограничений: второй урок
+ *                        того же предмета в один день
+ * @param solveTimeMillis - время построения в миллисекундах
+ */
+public record TimetableSolution(
+        List<TimetableAssignment> assignments,
+        int hardViolations,
+        int softViolations,
+        long solveTimeMillis
+) {
+
+    /**
+     * Метод для проверки, что в расписании нет пересечений уроков
+     */
+    public boolean isFeasible() {
+        return hardViolations == 0;
+    }
+}
@@ -0,0 +1,119 @@
+package ru.mudan.services.schedule.generator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Класс для построения недельного расписания школы без пересечений уроков.
+ * На каждом ядре запускается независимый локальный поиск со своим зерном случайных чисел,
+ * все запуски останавливаются по истечении времени или как только один из них нашёл
+ * расписание без нарушений, в ответ попадает лучшее из найденных расписаний
+ */
+@Slf4j
+public class TimetableSolver {
+
+    private final int parallelism;
+
+    /**
+     * Конструктор решателя
+     *
+     * @param parallelism - количество параллельных запусков поиска, 0 - по числу ядер
+     */
+    public TimetableSolver(int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Метод для построения расписания
+     *
+     * @param problem    - уроки, количество дней, уроков в дне и кабинетов
+     * @param timeBudget - максимальное время построения
+     * @param seed       - зерно случайных чисел, одинаковое зерно даёт одинаковые стартовые расписания
+     */
+    public TimetableSolution solve(TimetableProblem problem, Duration timeBudget, long seed) {
+        log.info("Started solving timetable with {} lessons on {} threads", problem.lessons().size(), parallelism);
+        var startNanos = System.nanoTime();
+        var model = new TimetableModel(problem);
+
+        if (model.lessonCount == 0) {
+            return new TimetableSolution(List.of(), 0, 0, 0);
+        }
+
+        var best = runInParallel(model, startNanos + timeBudget.toNanos(), seed);
+        var solveTimeMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+        log.info("Finished solving timetable in {} ms, hard violations {}, soft violations {}",
+                solveTimeMillis, best.hardViolations(), best.softViolations());
+        return new TimetableSolution(
+                toAssignments(problem, model, best.slots()),
+                best.hardViolations(),
+                best.softViolations(),
+                solveTimeMillis);
+    }
+
+    private LocalSearchResult runInParallel(TimetableModel model, long deadlineNanos, long seed) {
+        var solved = new AtomicBoolean();
+        List<Future<LocalSearchResult>> futures = new ArrayList<>(parallelism);
+
+        try (var executor = Executors.newFixedThreadPool(parallelism)) {
+            for (int i = 0; i < parallelism; i++) {
+                var run = new LocalSearchRun(model, seed + i);
+                futures.add(executor.submit(() -> run.solve(deadlineNanos, solved)));
+            }
+
+            List<LocalSearchResult> results = new ArrayList<>(parallelism);
+            for (var future : futures) {
+                results.add(future.get());
+            }
+            return results.stream()
+                    .min(Comparator.comparingInt(LocalSearchResult::cost))
+                    .orElseThrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            solved.set(true);
+            throw new IllegalStateException("Timetable solving was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Timetable solving failed", e.getCause());
+        }
+    }
+
+    /**
+     * Метод для назначения кабинетов: в каждом слоте класс по возможности
+     * получает свой кабинет, иначе первый свободный
+     */
+    private static List<TimetableAssignment> toAssignments(TimetableProblem problem,
+                                                           TimetableModel model,
+                                                           int[] slots) {
+        var occupied = new BitSet[model.slotCount];
+        List<TimetableAssignment> assignments = new ArrayList<>(model.lessonCount);
+
+        for (int i = 0; i < model.lessonCount; i++) {
+            var slot = slots[i];
+            if (occupied[slot] == null) {
+                occupied[slot] = new BitSet(model.classroomCount);
+            }
+
+            var homeRoom = model.lessonClass[i] % model.classroomCount;
+            var room = occupied[slot].get(homeRoom) ? occupied[slot].nextClearBit(0) : homeRoom;
+            if (room >= model.classroomCount) {
+                room = homeRoom;
+            }
+            occupied[slot].set(room);
+
+            assignments.add(new TimetableAssignment(
+                    problem.lessons().get(i),
+                    model.dayOf(slot) + 1,
+                    slot % model.periodsPerDay,
+                    room + 1));
+        }
+        return assignments;
+    }
+}
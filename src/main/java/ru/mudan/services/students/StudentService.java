@@ -3,6 +3,8 @@ package ru.mudan.services.students;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import ru.mudan.domain.entity.users.Student;
@@ -17,6 +19,7 @@ import ru.mudan.exceptions.entity.not_found.StudentNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
 import ru.mudan.facade.student.StudentFacade;
 import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.util.UserSearch;
 
 /**
  * Класс с описанием бизнес-логики
@@ -138,6 +141,25 @@ public class StudentService {
                 .toList();
     }
 
+    /**
+     * Метод для получения страницы учеников для списка администратора.
+     * Пустой запрос возвращает всех учеников, иначе ищет по ФИО и почте
+     *
+     * @param query    - поисковый запрос
+     * @param pageable - страница и сортировка
+     */
+    public Page<StudentDTO> findPage(String query, Pageable pageable) {
+        log.info("Started getting page {} of students by query={}", pageable.getPageNumber(), query);
+        var pattern = UserSearch.toPattern(query);
+        var page = UserSearch.toPageable(pageable);
+        var students = pattern == null
+                ? studentRepository.findAll(page)
+                : studentRepository.search(pattern, page);
+        log.info("Finished getting page {} of students by query={}", pageable.getPageNumber(), query);
+
+        return students.map(studentFacade::convertEntityToDTO);
+    }
+
     /**
      * Метод для получения ученика по id
      *
@@ -3,8 +3,10 @@ package ru.mudan.services.subjects;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.events.MembershipChangedEvent;
 import ru.mudan.domain.repositories.ClassRepository;
 import ru.mudan.domain.repositories.SubjectsRepository;
 import ru.mudan.domain.repositories.TeacherRepository;
@@ -16,6 +18,8 @@ import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
 import ru.mudan.exceptions.entity.not_found.TeacherNotFoundException;
 import ru.mudan.facade.subjects.SubjectFacade;
+import ru.mudan.services.cache.EntityCacheEvictor;
+import ru.mudan.services.schedule.TimetableCache;
 
 /**
  * Класс с описанием бизнес-логики
@@ -30,6 +34,9 @@ public class SubjectService {
     private final SubjectFacade subjectFacade;
     private final SubjectsRepository subjectsRepository;
     private final ClassRepository classRepository;
+    private final TimetableCache timetableCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Метод для получения списка всех предметов
@@ -81,8 +88,10 @@ public class SubjectService {
 
         subjectForSaving.setClassEntity(classForSubject);
         subjectForSaving.setTeacher(teacherForSubject);
+        subjectForSaving.setWeeklyHours(request.weeklyHours() == null ? 0 : request.weeklyHours());
 
         subjectsRepository.save(subjectForSaving);
+        eventPublisher.publishEvent(new MembershipChangedEvent());
         log.info("Finished creating subject with name {}", request.name());
     }
 
@@ -110,6 +119,9 @@ public class SubjectService {
 
         foundSubject.setType(request.type());
         foundSubject.setDescription(request.description());
+        if (request.weeklyHours() != null) {
+            foundSubject.setWeeklyHours(request.weeklyHours());
+        }
 
         subjectsRepository.save(foundSubject);
         log.info("Finished updating subject with id={}", id);
@@ -125,6 +137,9 @@ public class SubjectService {
         var foundSubject = subjectsRepository
                 .findById(id).orElseThrow(() -> new SubjectNotFoundException(id));
         subjectsRepository.delete(foundSubject);
+        timetableCache.evictAll();
+        entityCacheEvictor.evictCascadedAfterCommit();
+        eventPublisher.publishEvent(new MembershipChangedEvent());
         log.info("Finished deleting subject with id={}", id);
     }
 
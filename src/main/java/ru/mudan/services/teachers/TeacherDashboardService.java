@@ -0,0 +1,140 @@
+package ru.mudan.services.teachers;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.HomeworkRepository;
+import ru.mudan.domain.repositories.ScheduleRepository;
+import ru.mudan.domain.repositories.SubjectsRepository;
+import ru.mudan.dto.teacher.DashboardGradeDTO;
+import ru.mudan.dto.teacher.TeacherDTO;
+import ru.mudan.dto.teacher.TeacherDashboardDTO;
+
+/**
+ * Класс для сборки главной страницы учителя: уроки на сегодня, предметы со счётчиками,
+ * ближайшие ДЗ и недавние оценки по всем предметам учителя.
+ * Каждая часть страницы собирается одним запросом по id учителя, запросы выполняются
+ * параллельно в виртуальных потоках, поэтому время сборки близко ко времени самого долгого запроса.
+ * Поток запроса не держит соединение с БД, пока ждёт результатов (spring.jpa.open-in-view выключен),
+ * а количество одновременных запросов всех сборок ограничено dashboard.teacher.max-concurrent-queries
+ */
+@Slf4j
+@Service
+public class TeacherDashboardService {
+
+    private final SubjectsRepository subjectsRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final HomeworkRepository homeworkRepository;
+    private final GradeRepository gradeRepository;
+    private final Executor teacherDashboardExecutor;
+    private final Duration latencyBudget;
+    private final Timer latencyTimer;
+    private final Counter overBudgetCounter;
+
+    @Value("${dashboard.teacher.homeworks-limit}")
+    private int homeworksLimit;
+    @Value("${dashboard.teacher.recent-grades-days}")
+    private int recentGradesDays;
+    @Value("${dashboard.teacher.recent-grades-limit}")
+    private int recentGradesLimit;
+
+    public TeacherDashboardService(SubjectsRepository subjectsRepository,
+                                   ScheduleRepository scheduleRepository,
+                                   HomeworkRepository homeworkRepository,
+                                   GradeRepository gradeRepository,
+                                   Executor teacherDashboardExecutor,
+                                   @Value("${dashboard.teacher.latency-budget}") Duration latencyBudget,
+                                   MeterRegistry meterRegistry) {
+        this.subjectsRepository = subjectsRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.homeworkRepository = homeworkRepository;
+        this.gradeRepository = gradeRepository;
+        this.teacherDashboardExecutor = teacherDashboardExecutor;
+        this.latencyBudget = latencyBudget;
+        this.latencyTimer = Timer.builder("teacher.dashboard.latency")
+                .description("Время сборки главной страницы учителя")
+                .serviceLevelObjectives(latencyBudget)
+                .register(meterRegistry);
+        this.overBudgetCounter = Counter.builder("teacher.dashboard.over-budget")
+                .description("Количество сборок главной страницы учителя дольше допустимого времени")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Метод для сборки главной страницы учителя
+     *
+     * @param teacher - учитель
+     * @param today   - текущая дата
+     */
+    public TeacherDashboardDTO buildDashboard(TeacherDTO teacher, LocalDate today) {
+        log.info("Started building dashboard for teacher with id={}", teacher.id());
+        var startedAt = System.nanoTime();
+        var gradesFrom = today.minusDays(recentGradesDays);
+
+        var subjects = supplyAsync(() -> subjectsRepository.findDashboardSubjects(teacher.id(), today, gradesFrom));
+        var lessons = supplyAsync(() -> scheduleRepository.findTeacherLessonsOnDay(teacher.id(),
+                today.getDayOfWeek().getValue()));
+        var homeworks = supplyAsync(() -> homeworkRepository.findPendingForTeacher(teacher.id(), today,
+                PageRequest.of(0, homeworksLimit)));
+        var grades = supplyAsync(() -> gradeRepository.findRecentForTeacher(teacher.id(), gradesFrom,
+                PageRequest.of(0, recentGradesLimit)));
+
+        try {
+            CompletableFuture.allOf(subjects, lessons, homeworks, grades).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            recordLatency(teacher.id(), System.nanoTime() - startedAt);
+        }
+
+        log.info("Finished building dashboard for teacher with id={}", teacher.id());
+        return TeacherDashboardDTO.builder()
+                .teacher(teacher)
+                .subjects(subjects.join())
+                .todayLessons(lessons.join())
+                .pendingHomeworks(homeworks.join())
+                .recentGrades(grades.join().stream()
+                        .collect(Collectors.groupingBy(DashboardGradeDTO::subjectId, LinkedHashMap::new,
+                                Collectors.toList())))
+                .build();
+    }
+
+    /**
+     * Метод для запуска запроса главной страницы в отдельном виртуальном потоке
+     *
+     * @param query - запрос к БД
+     */
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, teacherDashboardExecutor);
+    }
+
+    /**
+     * Метод для записи времени сборки главной страницы и подсчёта превышений допустимого времени
+     *
+     * @param teacherId - id учителя
+     * @param nanos     - время сборки в наносекундах
+     */
+    private void recordLatency(Long teacherId, long nanos) {
+        var latency = Duration.ofNanos(nanos);
+        latencyTimer.record(latency);
+
+        if (latency.compareTo(latencyBudget) > 0) {
+            overBudgetCounter.increment();
+            log.warn("Dashboard for teacher with id={} built in {} ms, budget {} ms",
+                    teacherId, latency.toMillis(), latencyBudget.toMillis());
+        }
+    }
+}
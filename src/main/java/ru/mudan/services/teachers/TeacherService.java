@@ -3,6 +3,8 @@ package ru.mudan.services.teachers;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import ru.mudan.domain.entity.users.Teacher;
@@ -11,6 +13,7 @@ import ru.mudan.dto.teacher.TeacherDTO;
 import ru.mudan.exceptions.entity.not_found.TeacherNotFoundException;
 import ru.mudan.facade.teacher.TeacherFacade;
 import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.util.UserSearch;
 
 /**
  * Класс с описанием бизнес-логики
@@ -49,6 +52,25 @@ public class TeacherService {
                 .toList();
     }
 
+    /**
+     * Метод для получения страницы учителей для списка администратора.
+     * Пустой запрос возвращает всех учителей, иначе ищет по ФИО и почте
+     *
+     * @param query    - поисковый запрос
+     * @param pageable - страница и сортировка
+     */
+    public Page<TeacherDTO> findPage(String query, Pageable pageable) {
+        log.info("Started getting page {} of teachers by query={}", pageable.getPageNumber(), query);
+        var pattern = UserSearch.toPattern(query);
+        var page = UserSearch.toPageable(pageable);
+        var teachers = pattern == null
+                ? teacherRepository.findAll(page)
+                : teacherRepository.search(pattern, page);
+        log.info("Finished getting page {} of teachers by query={}", pageable.getPageNumber(), query);
+
+        return teachers.map(teacherFacade::convertEntityToDTO);
+    }
+
     /**
      * Метод для получения учителя по id
      *
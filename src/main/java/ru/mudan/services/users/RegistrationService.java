@@ -1,17 +1,27 @@
 package ru.mudan.services.users;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.mudan.domain.entity.users.*;
+import ru.mudan.domain.events.MembershipChangedEvent;
 import ru.mudan.domain.repositories.*;
 import ru.mudan.dto.auth.RegisterUserDTO;
+import ru.mudan.dto.auth.UserImportReportDTO;
+import ru.mudan.dto.auth.UserImportRow;
+import ru.mudan.dto.auth.UserImportRowResultDTO;
 import ru.mudan.exceptions.entity.already_exists.UserAlreadyExistsException;
+import ru.mudan.services.auth.PasswordHashingService;
+import ru.mudan.services.auth.PasswordSetupService;
 import ru.mudan.services.notification.email.EmailNotificationDetails;
 import ru.mudan.services.notification.email.EmailService;
 import ru.mudan.util.enums.Role;
@@ -32,8 +42,13 @@ public class RegistrationService {
     private final StudentRepository studentRepository;
     private final TeacherRepository teacherRepository;
     private final AppUserRepository appUserRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+    private final ClassRepository classRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final PasswordSetupService passwordSetupService;
+    private final UserImportReader userImportReader;
+    private final UserImportValidator userImportValidator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Метод для регистрации администратора
@@ -57,7 +72,7 @@ public class RegistrationService {
         var appUser = getAppUserByRoleUserIdAndEmail(savedAdmin.getId(), Role.ROLE_ADMIN, savedAdmin.getEmail());
 
         appUserRepository.save(appUser);
-        executorService.submit(() -> sendMessage(registerUserDTO));
+        sendMessage(registerUserDTO.email());
         log.info("Finished creating admin with email {}", registerUserDTO.email());
     }
 
@@ -83,7 +98,7 @@ public class RegistrationService {
         var appUser = getAppUserByRoleUserIdAndEmail(savedTeacher.getId(), Role.ROLE_TEACHER, savedTeacher.getEmail());
 
         appUserRepository.save(appUser);
-        executorService.submit(() -> sendMessage(registerUserDTO));
+        sendMessage(registerUserDTO.email());
         log.info("Finished creating teacher with email {}", registerUserDTO.email());
     }
 
@@ -112,6 +127,7 @@ public class RegistrationService {
                     student.setParent(parent);
                 });
             });
+            eventPublisher.publishEvent(new MembershipChangedEvent());
         }
 
         var appUser = getAppUserByRoleUserIdAndEmail(
@@ -120,7 +136,7 @@ public class RegistrationService {
                 savedParent.getEmail()
         );
         appUserRepository.save(appUser);
-        executorService.submit(() -> sendMessage(registerUserDTO));
+        sendMessage(registerUserDTO.email());
         log.info("Finished creating parent with email {}", registerUserDTO.email());
     }
 
@@ -151,10 +167,118 @@ public class RegistrationService {
         );
 
         appUserRepository.save(appUser);
-        executorService.submit(() -> sendMessage(registerUserDTO));
+        sendMessage(registerUserDTO.email());
         log.info("Finished creating student with email {}", registerUserDTO.email());
     }
 
+    /**
+     * Метод для массового импорта учеников и родителей из файла CSV или XLSX.
+     * Корректные строки сохраняются одной транзакцией с пакетной вставкой,
+     * некорректные строки возвращаются в отчёте с описанием ошибок
+     *
+     * @param inputStream - содержимое файла
+     * @param filename    - имя файла
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserImportReportDTO importUsers(InputStream inputStream, String filename) {
+        log.info("Started importing users from file {}", filename);
+        var rows = userImportReader.read(inputStream, filename);
+        var errors = userImportValidator.validate(rows);
+
+        var validRows = rows.stream()
+                .filter(row -> !errors.containsKey(row.rowNumber()))
+                .toList();
+        var hashedPasswords = passwordHashingService.encodeAll(validRows.stream()
+                .map(UserImportRow::password)
+                .toList());
+
+        transactionTemplate.executeWithoutResult(status -> saveImportedUsers(validRows, hashedPasswords));
+
+        var results = rows.stream()
+                .map(row -> UserImportRowResultDTO.builder()
+                        .rowNumber(row.rowNumber())
+                        .email(row.email())
+                        .imported(!errors.containsKey(row.rowNumber()))
+                        .errors(errors.getOrDefault(row.rowNumber(), List.of()))
+                        .build())
+                .toList();
+
+        log.info("Finished importing users from file {}, imported {}, rejected {}",
+                filename, validRows.size(), errors.size());
+
+        return UserImportReportDTO.builder()
+                .total(rows.size())
+                .imported(validRows.size())
+                .rejected(errors.size())
+                .rows(results)
+                .build();
+    }
+
+    /**
+     * Метод для сохранения импортированных родителей, учеников и их учётных записей
+     *
+     * @param rows            - проверенные строки файла
+     * @param hashedPasswords - хэши паролей в порядке строк
+     */
+    private void saveImportedUsers(List<UserImportRow> rows, List<String> hashedPasswords) {
+        Map<String, Parent> parentsByEmail = new HashMap<>();
+        List<Parent> parents = new ArrayList<>();
+        List<Student> students = new ArrayList<>();
+        List<UserImportRow> studentRows = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            var row = rows.get(i);
+            if (UserImportValidator.resolveRole(row) == Role.ROLE_PARENT) {
+                var parent = new Parent(row.firstname(), row.lastname(), row.patronymic(), row.email(),
+                        hashedPasswords.get(i));
+                parents.add(parent);
+                parentsByEmail.put(parent.getEmail(), parent);
+            } else {
+                students.add(new Student(row.firstname(), row.lastname(), row.patronymic(), row.email(),
+                        hashedPasswords.get(i)));
+                studentRows.add(row);
+            }
+        }
+
+        parentRepository.saveAll(parents);
+        parentRepository.findAllByEmailIn(studentRows.stream()
+                        .map(UserImportRow::parentEmail)
+                        .filter(email -> email != null && !parentsByEmail.containsKey(email))
+                        .toList())
+                .forEach(parent -> parentsByEmail.put(parent.getEmail(), parent));
+
+        for (int i = 0; i < students.size(); i++) {
+            var row = studentRows.get(i);
+            var student = students.get(i);
+            if (row.classId() != null) {
+                student.setClassEntity(classRepository.getReferenceById(Long.valueOf(row.classId())));
+            }
+            if (row.parentEmail() != null) {
+                student.setParent(parentsByEmail.get(row.parentEmail()));
+            }
+        }
+
+        studentRepository.saveAll(students);
+        eventPublisher.publishEvent(new MembershipChangedEvent());
+
+        List<AppUser> appUsers = new ArrayList<>(rows.size());
+        parents.forEach(parent -> appUsers.add(
+                getAppUserByRoleUserIdAndEmail(parent.getId(), Role.ROLE_PARENT, parent.getEmail())));
+        students.forEach(student -> appUsers.add(
+                getAppUserByRoleUserIdAndEmail(student.getId(), Role.ROLE_STUDENT, student.getEmail())));
+        appUserRepository.saveAll(appUsers);
+
+        var emails = rows.stream()
+                .map(UserImportRow::email)
+                .toList();
+        var links = passwordSetupService.createSetupLinks(emails);
+        List<EmailNotificationDetails> messages = new ArrayList<>(emails.size());
+        for (int i = 0; i < emails.size(); i++) {
+            messages.add(createRegistrationMessage(emails.get(i), links.get(i)));
+        }
+        emailService.sendNotifications(messages);
+    }
+
     /**
      * Метод для проверки существования пользователя
      *
@@ -185,18 +309,29 @@ public class RegistrationService {
      * @param password - пароль пользователя
      */
     private String encodePassword(String password) {
-        return passwordEncoder.encode(password);
+        return passwordHashingService.encode(password);
     }
 
     /**
-     * Метод для отправки сообщения об успешной регистрации
+     * Метод для постановки в очередь сообщения об успешной регистрации
      *
-     * @param registerUserDTO - входные данные для создания сообщения
+     * @param email - адрес электронной почты пользователя
+     */
+    private void sendMessage(String email) {
+        emailService.sendNotification(createRegistrationMessage(email, passwordSetupService.createSetupLink(email)));
+    }
+
+    /**
+     * Метод для создания сообщения об успешной регистрации. Пароль в письмо не попадает,
+     * вместо него отправляется одноразовая ссылка для установки пароля
+     *
+     * @param email - адрес электронной почты пользователя
+     * @param link  - ссылка для установки пароля
      */
-    private void sendMessage(RegisterUserDTO registerUserDTO) {
-        var emailDetails = EmailNotificationDetails.builder()
+    private EmailNotificationDetails createRegistrationMessage(String email, String link) {
+        return EmailNotificationDetails.builder()
                 .subject("Уведомление о регистрации")
-                .recipient(registerUserDTO.email())
+                .recipient(email)
                 .text("""
                         <!DOCTYPE html>
                         <html lang="ru">
@@ -211,15 +346,15 @@ public class RegistrationService {
                             <h2 style="color: #0078cf;">Здравствуйте, %s!</h2>
                             <p>Вы успешно зарегистрированы на сайте электронного дневника <strong>[сайт]</strong>.</p>
                             <p><strong>Ваш email:</strong> %s</p>
-                            <p><strong>Пароль:</strong> %s</p>
+                            <p>Чтобы задать пароль для входа, перейдите по
+                            <a href="%s" style="color: #0078cf;">ссылке</a>.
+                            Ссылка одноразовая и действует ограниченное время.</p>
                             <p>Для связи с администратором нажмите <a href="[ссылка]" style="color: #0078cf;">здесь</a>.</p>
                           </div>
                         </body>
                         </html>
-                        """.formatted(registerUserDTO.email(), registerUserDTO.email(), registerUserDTO.password()))
+                        """.formatted(email, email, link))
                 .attachments(List.of())
                 .build();
-
-        emailService.sendNotification(emailDetails);
     }
 }
\ No newline at end of file
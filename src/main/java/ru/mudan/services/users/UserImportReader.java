@@ -0,0 +1,213 @@
+package ru.mudan.services.users;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.stereotype.Component;
+import ru.mudan.dto.auth.UserImportRow;
+import ru.mudan.exceptions.ImportFileInvalidException;
+
+/**
+ * Класс для чтения файлов массового импорта пользователей в форматах CSV и XLSX.
+ * Первая строка файла - заголовок с названиями колонок в любом порядке
+ */
+@Component
+public class UserImportReader {
+
+    private static final String ROLE = "role";
+    private static final String LASTNAME = "lastname";
+    private static final String FIRSTNAME = "firstname";
+    private static final String PATRONYMIC = "patronymic";
+    private static final String EMAIL = "email";
+    private static final String PASSWORD = "password";
+    private static final String CLASS_ID = "class_id";
+    private static final String PARENT_EMAIL = "parent_email";
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of(ROLE, LASTNAME, FIRSTNAME, PATRONYMIC, EMAIL, PASSWORD);
+    private static final char QUOTE = '"';
+    private static final String BOM = "\uFEFF";
+
+    /**
+     * Метод для чтения строк файла импорта
+     *
+     * @param inputStream - содержимое файла
+     * @param filename    - имя файла, по расширению которого определяется формат
+     */
+    public List<UserImportRow> read(InputStream inputStream, String filename) {
+        var name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+
+        try {
+            if (name.endsWith(".csv")) {
+                return readCsv(inputStream, filename);
+            }
+            if (name.endsWith(".xlsx")) {
+                return readXlsx(inputStream, filename);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ImportFileInvalidException(filename);
+        }
+
+        throw new ImportFileInvalidException(filename);
+    }
+
+    /**
+     * Метод для построчного чтения CSV-файла, разделитель ';' или ',' определяется по заголовку
+     *
+     * @param inputStream - содержимое файла
+     * @param filename    - имя файла
+     */
+    private List<UserImportRow> readCsv(InputStream inputStream, String filename) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        var header = reader.readLine();
+
+        if (header == null) {
+            throw new ImportFileInvalidException(filename);
+        }
+
+        header = header.startsWith(BOM) ? header.substring(1) : header;
+        var separator = header.indexOf(';') >= 0 ? ';' : ',';
+        var columns = resolveColumns(splitCsvLine(header, separator), filename);
+
+        List<UserImportRow> rows = new ArrayList<>();
+        var rowNumber = 1;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (!line.isBlank()) {
+                rows.add(toRow(rowNumber, splitCsvLine(line, separator), columns));
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * Метод для чтения первого листа XLSX-файла
+     *
+     * @param inputStream - содержимое файла
+     * @param filename    - имя файла
+     */
+    private List<UserImportRow> readXlsx(InputStream inputStream, String filename) throws IOException {
+        try (var workbook = new XSSFWorkbook(inputStream)) {
+            var sheet = workbook.getSheetAt(0);
+            var formatter = new DataFormatter();
+            var header = sheet.getRow(sheet.getFirstRowNum());
+
+            if (header == null) {
+                throw new ImportFileInvalidException(filename);
+            }
+
+            var columns = resolveColumns(readCells(header, formatter), filename);
+            List<UserImportRow> rows = new ArrayList<>();
+
+            for (var row : sheet) {
+                if (row.getRowNum() == header.getRowNum()) {
+                    continue;
+                }
+                var cells = readCells(row, formatter);
+                if (cells.stream().anyMatch(cell -> !cell.isBlank())) {
+                    rows.add(toRow(row.getRowNum() + 1, cells, columns));
+                }
+            }
+
+            return rows;
+        }
+    }
+
+    private List<String> readCells(Row row, DataFormatter formatter) {
+        List<String> cells = new ArrayList<>();
+        for (int i = 0; i < row.getLastCellNum(); i++) {
+            cells.add(formatter.formatCellValue(row.getCell(i)));
+        }
+        return cells;
+    }
+
+    /**
+     * Метод для получения номеров колонок по заголовку файла
+     *
+     * @param header   - значения заголовка
+     * @param filename - имя файла
+     */
+    private Map<String, Integer> resolveColumns(List<String> header, String filename) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new ImportFileInvalidException(filename);
+        }
+
+        return columns;
+    }
+
+    private UserImportRow toRow(int rowNumber, List<String> cells, Map<String, Integer> columns) {
+        return new UserImportRow(
+                rowNumber,
+                cell(cells, columns, ROLE),
+                cell(cells, columns, LASTNAME),
+                cell(cells, columns, FIRSTNAME),
+                cell(cells, columns, PATRONYMIC),
+                cell(cells, columns, EMAIL),
+                cell(cells, columns, PASSWORD),
+                cell(cells, columns, CLASS_ID),
+                cell(cells, columns, PARENT_EMAIL)
+        );
+    }
+
+    private String cell(List<String> cells, Map<String, Integer> columns, String column) {
+        var index = columns.get(column);
+        if (index == null || index >= cells.size()) {
+            return null;
+        }
+
+        var value = cells.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Метод для разбиения строки CSV на значения с учётом кавычек
+     *
+     * @param line      - строка файла
+     * @param separator - разделитель значений
+     */
+    static List<String> splitCsvLine(String line, char separator) {
+        List<String> values = new ArrayList<>();
+        var current = new StringBuilder();
+        var quoted = false;
+        var escaped = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            var symbol = line.charAt(i);
+            if (escaped) {
+                escaped = false;
+            } else if (symbol == QUOTE) {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    current.append(QUOTE);
+                    escaped = true;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (symbol == separator && !quoted) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(symbol);
+            }
+        }
+        values.add(current.toString());
+
+        return values;
+    }
+}
@@ -0,0 +1,194 @@
+package ru.mudan.services.users;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.entity.users.AppUser;
+import ru.mudan.domain.entity.users.Parent;
+import ru.mudan.domain.repositories.AppUserRepository;
+import ru.mudan.domain.repositories.ClassRepository;
+import ru.mudan.domain.repositories.ParentRepository;
+import ru.mudan.dto.auth.RegisterUserDTO;
+import ru.mudan.dto.auth.UserImportRow;
+import ru.mudan.util.enums.Role;
+
+/**
+ * Класс для проверки строк файла массового импорта пользователей.
+ * Существование пользователей, классов и родителей проверяется
+ * одним запросом на весь файл
+ */
+@Component
+@RequiredArgsConstructor
+public class UserImportValidator {
+
+    private final Validator validator;
+    private final MessageSource messageSource;
+    private final AppUserRepository appUserRepository;
+    private final ClassRepository classRepository;
+    private final ParentRepository parentRepository;
+
+    /**
+     * Метод для получения роли пользователя из строки файла, возвращает null для неизвестной роли
+     *
+     * @param row - строка файла
+     */
+    public static Role resolveRole(UserImportRow row) {
+        var role = row.role() == null ? "" : row.role().toUpperCase(Locale.ROOT);
+
+        return switch (role) {
+            case "STUDENT", "УЧЕНИК" -> Role.ROLE_STUDENT;
+            case "PARENT", "РОДИТЕЛЬ" -> Role.ROLE_PARENT;
+            default -> null;
+        };
+    }
+
+    /**
+     * Метод для получения данных регистрации из строки файла
+     *
+     * @param row - строка файла
+     */
+    public static RegisterUserDTO toRegisterUserDTO(UserImportRow row) {
+        return RegisterUserDTO.builder()
+                .firstname(row.firstname())
+                .lastname(row.lastname())
+                .patronymic(row.patronymic())
+                .email(row.email())
+                .password(row.password())
+                .build();
+    }
+
+    /**
+     * Метод для проверки строк файла, возвращает ошибки по номерам строк
+     *
+     * @param rows - строки файла
+     */
+    public Map<Integer, List<String>> validate(List<UserImportRow> rows) {
+        var emailCounts = rows.stream()
+                .map(UserImportRow::email)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        var existingEmails = appUserRepository.findAllByEmailIn(emailCounts.keySet()).stream()
+                .map(AppUser::getEmail)
+                .collect(Collectors.toSet());
+        var existingClassIds = findExistingClassIds(rows);
+
+        Map<Integer, List<String>> errors = new HashMap<>();
+
+        for (var row : rows) {
+            List<String> rowErrors = new ArrayList<>();
+            var role = resolveRole(row);
+
+            if (role == null) {
+                rowErrors.add(message("import.role.invalid", row.role()));
+            }
+
+            validator.validate(toRegisterUserDTO(row)).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .forEach(rowErrors::add);
+
+            if (row.email() != null && emailCounts.get(row.email()) > 1) {
+                rowErrors.add(message("import.email.duplicate", row.email()));
+            }
+            if (existingEmails.contains(row.email())) {
+                rowErrors.add(message("user.already.exists", row.email()));
+            }
+            if (role == Role.ROLE_STUDENT && row.classId() != null) {
+                validateClass(row.classId(), existingClassIds, rowErrors);
+            }
+
+            if (!rowErrors.isEmpty()) {
+                errors.put(row.rowNumber(), rowErrors);
+            }
+        }
+
+        validateParents(rows, errors);
+
+        return errors;
+    }
+
+    /**
+     * Метод для проверки, что родитель каждого ученика есть среди корректных строк файла или в БД
+     *
+     * @param rows   - строки файла
+     * @param errors - ошибки по номерам строк
+     */
+    private void validateParents(List<UserImportRow> rows, Map<Integer, List<String>> errors) {
+        var studentsWithParent = rows.stream()
+                .filter(row -> resolveRole(row) == Role.ROLE_STUDENT && row.parentEmail() != null)
+                .toList();
+
+        if (studentsWithParent.isEmpty()) {
+            return;
+        }
+
+        Set<String> knownParentEmails = rows.stream()
+                .filter(row -> resolveRole(row) == Role.ROLE_PARENT && !errors.containsKey(row.rowNumber()))
+                .map(UserImportRow::email)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        var referencedEmails = studentsWithParent.stream()
+                .map(UserImportRow::parentEmail)
+                .filter(email -> !knownParentEmails.contains(email))
+                .collect(Collectors.toSet());
+        parentRepository.findAllByEmailIn(referencedEmails).stream()
+                .map(Parent::getEmail)
+                .forEach(knownParentEmails::add);
+
+        studentsWithParent.stream()
+                .filter(row -> !knownParentEmails.contains(row.parentEmail()))
+                .forEach(row -> errors.computeIfAbsent(row.rowNumber(), rowNumber -> new ArrayList<>())
+                        .add(message("import.parent.not.found", row.parentEmail())));
+    }
+
+    private void validateClass(String classId, Set<Long> existingClassIds, List<String> rowErrors) {
+        var id = parseClassId(classId);
+
+        if (id == null) {
+            rowErrors.add(message("import.class.invalid", classId));
+        } else if (!existingClassIds.contains(id)) {
+            rowErrors.add(message("class.not.found", id));
+        }
+    }
+
+    private Set<Long> findExistingClassIds(List<UserImportRow> rows) {
+        var classIds = rows.stream()
+                .map(UserImportRow::classId)
+                .map(UserImportValidator::parseClassId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return classRepository.findAllById(classIds).stream()
+                .map(ClassEntity::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static Long parseClassId(String classId) {
+        if (classId == null) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(classId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String message(String code, Object arg) {
+        return messageSource.getMessage(code, new Object[]{arg}, LocaleContextHolder.getLocale());
+    }
+}
@@ -0,0 +1,81 @@
+package ru.mudan.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Учебная четверть. Границы четвертей выровнены по месяцам: сентябрь-октябрь, ноябрь-декабрь,
+ * январь-март и апрель-август, так же четверть оценки вычисляется в миграции db.changelog-7.0.sql
+ *
+ * @param number - номер четверти в учебном году, начиная с 1
+ * @param start  - первый день четверти
+ * @param end    - последний день четверти
+ */
+public record SchoolTerm(
+        int number,
+        LocalDate start,
+        LocalDate end
+) {
+
+    private static final Month[] TERM_FIRST_MONTHS = {Month.SEPTEMBER, Month.NOVEMBER, Month.JANUARY, Month.APRIL};
+
+    /**
+     * Метод для получения четверти, в которую попадает дата
+     *
+     * @param date - дата
+     */
+    public static SchoolTerm of(LocalDate date) {
+        var index = switch (date.getMonth()) {
+            case SEPTEMBER, OCTOBER -> 0;
+            case NOVEMBER, DECEMBER -> 1;
+            case JANUARY, FEBRUARY, MARCH -> 2;
+            default -> TERM_FIRST_MONTHS.length - 1;
+        };
+
+        return ofSchoolYear(date).get(index);
+    }
+
+    /**
+     * Метод для получения всех четвертей учебного года, в который попадает дата
+     *
+     * @param date - дата
+     */
+    public static List<SchoolTerm> ofSchoolYear(LocalDate date) {
+        var firstYear = schoolYearOf(date);
+        List<LocalDate> starts = new ArrayList<>(TERM_FIRST_MONTHS.length + 1);
+        for (var month : TERM_FIRST_MONTHS) {
+            var year = month.compareTo(Month.SEPTEMBER) >= 0 ? firstYear : firstYear + 1;
+            starts.add(YearMonth.of(year, month).atDay(1));
+        }
+        starts.add(YearMonth.of(firstYear + 1, Month.SEPTEMBER).atDay(1));
+
+        List<SchoolTerm> terms = new ArrayList<>(TERM_FIRST_MONTHS.length);
+        for (int i = 0; i < TERM_FIRST_MONTHS.length; i++) {
+            terms.add(new SchoolTerm(i + 1, starts.get(i), starts.get(i + 1).minusDays(1)));
+        }
+        return terms;
+    }
+
+    /**
+     * Метод для получения года, в котором начался учебный год даты.
+     * Так же учебный год вычисляется при секционировании оценок в миграции db.changelog-9.0.sql
+     *
+     * @param date - дата
+     */
+    public static int schoolYearOf(LocalDate date) {
+        return date.getMonth().compareTo(Month.SEPTEMBER) >= 0 ? date.getYear() : date.getYear() - 1;
+    }
+
+    /**
+     * Метод для получения номера дня от начала четверти, первый день четверти имеет номер 0
+     *
+     * @param date - дата внутри четверти
+     */
+    public int dayOf(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(start, date);
+    }
+}
@@ -0,0 +1,32 @@
+package ru.mudan.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Класс с методами для выполнения действий по завершении текущей транзакции
+ */
+@UtilityClass
+public class TransactionUtils {
+
+    /**
+     * Метод для выполнения действия после фиксации текущей транзакции,
+     * без активной транзакции действие выполняется сразу
+     *
+     * @param action - действие
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package ru.mudan.util;
+
+import java.util.Locale;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Класс с методами для постраничного поиска пользователей в списках администратора.
+ * Поиск идёт по строке "фамилия имя отчество" и почте без учёта регистра: короткий запрос
+ * ищется по началу строки, запрос от MIN_SUBSTRING_LENGTH символов - по подстроке.
+ * Оба вида LIKE используют триграммные индексы из db.changelog-11.0.sql
+ */
+@UtilityClass
+public class UserSearch {
+
+    public static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private static final String LASTNAME = "lastname";
+    private static final String FIRSTNAME = "firstname";
+    private static final Set<String> SORT_PROPERTIES = Set.of(LASTNAME, FIRSTNAME, "email");
+    private static final Sort DEFAULT_SORT = Sort.by(LASTNAME, FIRSTNAME);
+    private static final Sort TIE_BREAKER = Sort.by("id");
+
+    /**
+     * Метод для получения шаблона LIKE по поисковому запросу,
+     * возвращает null для пустого запроса
+     *
+     * @param query - поисковый запрос
+     */
+    public static String toPattern(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+
+        var normalized = query.strip().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        var prefix = normalized.length() < MIN_SUBSTRING_LENGTH ? "" : "%";
+
+        return prefix + normalized + "%";
+    }
+
+    /**
+     * Метод для получения страницы с допустимой сортировкой. Сортировка по другим полям отбрасывается,
+     * по умолчанию список сортируется по фамилии и имени, последним ключом всегда идёт id,
+     * чтобы порядок страниц был устойчивым
+     *
+     * @param pageable - запрошенная страница
+     */
+    public static Pageable toPageable(Pageable pageable) {
+        var sort = Sort.by(pageable.getSort().stream()
+                .filter(order -> SORT_PROPERTIES.contains(order.getProperty()))
+                .toList());
+
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                (sort.isSorted() ? sort : DEFAULT_SORT).and(TIE_BREAKER));
+    }
+}
@@ -0,0 +1,9 @@
+package ru.mudan.util.enums;
+
+/**
+ * Виды событий для ежедневной сводки родителю
+ */
+public enum DigestEventKind {
+    GRADE,
+    HOMEWORK
+}
@@ -0,0 +1,11 @@
+package ru.mudan.util.enums;
+
+/**
+ * Статусы писем в очереди на отправку
+ */
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
@@ -0,0 +1,17 @@
+package ru.mudan.util.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Виды пересечений уроков в расписании
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ScheduleConflictType {
+    CLASSROOM("schedule.conflict.classroom"),
+    TEACHER("schedule.conflict.teacher"),
+    CLASS("schedule.conflict.class");
+
+    private final String messageKey;
+}
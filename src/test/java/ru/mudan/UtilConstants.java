@@ -1,22 +1,46 @@
 package ru.mudan;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import lombok.experimental.UtilityClass;
 import ru.mudan.dto.auth.RegisterUserDTO;
 import ru.mudan.dto.classes.ClassDTO;
 import ru.mudan.dto.grades.GradeDTO;
 import ru.mudan.dto.grades.GradeDTOResponse;
+import ru.mudan.dto.grades.GradeStatsDTO;
+import ru.mudan.dto.grades.StudentAnalyticsDTO;
+import ru.mudan.dto.grades.StudentGradeStatsDTO;
+import ru.mudan.dto.grades.SubjectAnalyticsDTO;
+import ru.mudan.dto.grades.SubjectGradeStatsDTO;
 import ru.mudan.dto.homework.HomeworkCreateDTO;
 import ru.mudan.dto.homework.HomeworkDTO;
+import ru.mudan.dto.homework.HomeworkSearchResultDTO;
+import ru.mudan.dto.parent.ChildGradeDTO;
+import ru.mudan.dto.parent.ChildHomeworkDTO;
+import ru.mudan.dto.parent.ChildLessonDTO;
 import ru.mudan.dto.parent.ParentDTO;
+import ru.mudan.dto.parent.ParentOverviewDTO;
+import ru.mudan.dto.reports.ClassAverageDTO;
+import ru.mudan.dto.reports.ClassRankingDTO;
+import ru.mudan.dto.reports.ParallelReportDTO;
+import ru.mudan.dto.reports.ParallelSubjectDTO;
+import ru.mudan.dto.reports.ReportCardBatchDTO;
+import ru.mudan.dto.reports.StudentRankDTO;
 import ru.mudan.dto.schedule.ScheduleCreateDTO;
 import ru.mudan.dto.schedule.ScheduleDTO;
 import ru.mudan.dto.student.StudentDTO;
 import ru.mudan.dto.subjects.SubjectCreateDTO;
 import ru.mudan.dto.subjects.SubjectDTO;
+import ru.mudan.dto.teacher.DashboardGradeDTO;
+import ru.mudan.dto.teacher.DashboardHomeworkDTO;
+import ru.mudan.dto.teacher.DashboardLessonDTO;
+import ru.mudan.dto.teacher.DashboardSubjectDTO;
 import ru.mudan.dto.teacher.TeacherDTO;
+import ru.mudan.dto.teacher.TeacherDashboardDTO;
 import ru.mudan.dto.users.UserUpdateDTO;
+import ru.mudan.util.SchoolTerm;
 
 import static java.time.LocalDate.now;
 
@@ -31,6 +55,8 @@ public class UtilConstants {
     public static final String PARENT_URL ="/parent";
     public static final String STUDENT_URL = "/student";
     public static final String TEACHER_URL = "/teacher";
+    public static final String REPORTS_URL = "/reports";
+    public static final String USERS_URL = "/users";
 
     public static HomeworkDTO getDefaultHomeworkDTO() {
         return HomeworkDTO
@@ -44,6 +70,10 @@ public class UtilConstants {
                 .build();
     }
 
+    public static HomeworkSearchResultDTO getDefaultHomeworkSearchResultDTO() {
+        return new HomeworkSearchResultDTO(1L, "Решить примеры", "На странице 5", now(), "Математика", 6, "А");
+    }
+
     public static SubjectDTO getDefaultSubjectDTO() {
         return SubjectDTO
                 .builder()
@@ -135,6 +165,17 @@ public class UtilConstants {
                 .build();
     }
 
+    public static TeacherDashboardDTO getDefaultTeacherDashboardDTO() {
+        var date = LocalDate.of(2025, 10, 15);
+        return TeacherDashboardDTO.builder()
+                .teacher(getDefaultTeacherDTO())
+                .subjects(List.of(new DashboardSubjectDTO(1L, "Математика", 6, "А", 25L, 2L, 1L)))
+                .todayLessons(List.of(new DashboardLessonDTO(LocalTime.of(8, 30), 101, 1L, "Математика", 6, "А")))
+                .pendingHomeworks(List.of(new DashboardHomeworkDTO(1L, "Решить примеры", date, "Математика", 6, "А")))
+                .recentGrades(Map.of(1L, List.of(new DashboardGradeDTO(1L, 5, date, 1L, "Иванов", "Иван"))))
+                .build();
+    }
+
     public static ParentDTO getDefaultParent() {
         return ParentDTO
                 .builder()
@@ -146,6 +187,21 @@ public class UtilConstants {
                 .build();
     }
 
+    public static ParentOverviewDTO getDefaultParentOverviewDTO() {
+        var date = LocalDate.of(2025, 10, 15);
+        var student = getDefaultStudentDTO();
+        return ParentOverviewDTO.builder()
+                .parent(getDefaultParent())
+                .students(List.of(student))
+                .childrenStats(Map.of(student.id(), getDefaultGradeStatsDTO()))
+                .latestGrades(Map.of(student.id(), List.of(new ChildGradeDTO(1L, 5, date, student.id(), "Математика"))))
+                .upcomingHomeworks(Map.of(student.classId(),
+                        List.of(new ChildHomeworkDTO(1L, "Решить примеры", date, student.classId(), "Математика"))))
+                .todayLessons(Map.of(student.classId(),
+                        List.of(new ChildLessonDTO(LocalTime.of(8, 30), 101, student.classId(), "Физика"))))
+                .build();
+    }
+
     public static GradeDTOResponse getDefaultGradeDTOResponse() {
         return GradeDTOResponse.builder()
                 .id(1L)
@@ -157,6 +213,91 @@ public class UtilConstants {
                 .build();
     }
 
+    public static GradeStatsDTO getDefaultGradeStatsDTO() {
+        return GradeStatsDTO.builder()
+                .count(3)
+                .average(4.0)
+                .median(4.0)
+                .distribution(Map.of(3, 1L, 4, 1L, 5, 1L))
+                .trendPerWeek(0.5)
+                .termMark(4)
+                .build();
+    }
+
+    public static StudentAnalyticsDTO getDefaultStudentAnalyticsDTO() {
+        var terms = SchoolTerm.ofSchoolYear(now());
+        return StudentAnalyticsDTO.builder()
+                .term(SchoolTerm.of(now()))
+                .terms(terms)
+                .summary(getDefaultGradeStatsDTO())
+                .subjects(List.of(SubjectGradeStatsDTO.builder()
+                        .subjectId(1L)
+                        .subjectName("Математика")
+                        .stats(getDefaultGradeStatsDTO())
+                        .termMarks(terms.stream().map(term -> 4).toList())
+                        .build()))
+                .build();
+    }
+
+    public static ReportCardBatchDTO getDefaultReportCardBatchDTO() {
+        return ReportCardBatchDTO.builder()
+                .classDTO(getDefaultClassDTO())
+                .term(SchoolTerm.of(now()))
+                .build();
+    }
+
+    public static ClassRankingDTO getDefaultClassRankingDTO() {
+        return ClassRankingDTO.builder()
+                .classDTO(getDefaultClassDTO())
+                .from(now().withDayOfMonth(1))
+                .to(now().withDayOfMonth(1))
+                .students(List.of(StudentRankDTO.builder()
+                        .rank(1)
+                        .studentId(1L)
+                        .firstname("Иван")
+                        .lastname("Иванов")
+                        .gradesCount(3)
+                        .average(4.0)
+                        .build()))
+                .build();
+    }
+
+    public static ParallelReportDTO getDefaultParallelReportDTO() {
+        var classAverage = ClassAverageDTO.builder()
+                .classId(1L)
+                .classNumber(6)
+                .classLetter("А")
+                .gradesCount(3)
+                .average(4.0)
+                .build();
+        return ParallelReportDTO.builder()
+                .number(6)
+                .from(now().withDayOfMonth(1))
+                .to(now().withDayOfMonth(1))
+                .classes(List.of(classAverage))
+                .subjects(List.of(ParallelSubjectDTO.builder()
+                        .subjectName("Математика")
+                        .gradesCount(3)
+                        .average(4.0)
+                        .classes(List.of(classAverage))
+                        .build()))
+                .build();
+    }
+
+    public static SubjectAnalyticsDTO getDefaultSubjectAnalyticsDTO() {
+        return SubjectAnalyticsDTO.builder()
+                .term(SchoolTerm.of(now()))
+                .summary(getDefaultGradeStatsDTO())
+                .classSummary(getDefaultGradeStatsDTO())
+                .students(List.of(StudentGradeStatsDTO.builder()
+                        .studentId(1L)
+                        .firstname("Иван")
+                        .lastname("Иванов")
+                        .stats(getDefaultGradeStatsDTO())
+                        .build()))
+                .build();
+    }
+
     public RegisterUserDTO getDefaultRegisterUserDTO() {
         return RegisterUserDTO
                 .builder()
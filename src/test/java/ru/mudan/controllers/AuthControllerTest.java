@@ -12,12 +12,16 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.mudan.dto.auth.RegisterUserDTO;
+import ru.mudan.dto.auth.UserImportReportDTO;
 import ru.mudan.services.students.StudentService;
 import ru.mudan.services.users.RegistrationService;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -394,6 +398,51 @@ public class AuthControllerTest extends BaseControllerTest {
                 .andExpect(model().attributeExists("errors"));
     }
 
+    @SneakyThrows
+    @Test
+    @DisplayName("Should return page for importing users")
+    public void getMethodForImportUsers_roleAdmin() {
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTH_URL+"/import")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name(REGISTRATION+"/registration-import"));
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("Should return import report")
+    public void postMethodForImportUsers_roleAdmin() {
+        var file = new MockMultipartFile("file", "users.csv", "text/csv",
+                "role;lastname;firstname;patronymic;email;password".getBytes());
+        var report = UserImportReportDTO.builder()
+                .total(0)
+                .imported(0)
+                .rejected(0)
+                .rows(new ArrayList<>())
+                .build();
+        when(registrationService.importUsers(any(), eq("users.csv"))).thenReturn(report);
+
+        mockMvc.perform(MockMvcRequestBuilders.multipart(AUTH_URL+"/import")
+                        .file(file)
+                        .with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name(REGISTRATION+"/registration-import"))
+                .andExpect(model().attribute("report", report));
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("Should return status 403")
+    @WithMockUser(roles = "STUDENT")
+    public void postMethodForImportUsers_roleStudent() {
+        var file = new MockMultipartFile("file", "users.csv", "text/csv", new byte[0]);
+
+        mockMvc.perform(MockMvcRequestBuilders.multipart(AUTH_URL+"/import")
+                        .file(file)
+                        .with(csrf()))
+                .andExpect(status().is(HttpStatus.FORBIDDEN.value()));
+    }
+
     @SneakyThrows
     private void postRegisterUserValid(String path, HttpStatus forbidden) {
         var payload = getDefaultRegisterUserDTO();
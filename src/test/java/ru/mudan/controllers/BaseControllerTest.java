@@ -7,7 +7,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.mudan.ProjectNaumenApplication;
 
 @AutoConfigureMockMvc
-@SpringBootTest(classes = ProjectNaumenApplication.class)
+@SpringBootTest(classes = ProjectNaumenApplication.class, properties = "scheduling.enabled=false")
 public abstract class BaseControllerTest {
     @Autowired
     protected MockMvc mockMvc;
@@ -18,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.mudan.dto.grades.GradeDTO;
+import ru.mudan.dto.grades.GradePageDTO;
 import ru.mudan.exceptions.base.ApplicationForbiddenException;
 import ru.mudan.exceptions.entity.not_found.*;
 import ru.mudan.services.auth.AuthService;
@@ -196,7 +197,8 @@ public class GradeControllerTest extends BaseControllerTest {
     @SneakyThrows
     public void getAllGradesForExistedStudent_roleAdmin() {
         when(subjectService.findById(any())).thenReturn(getDefaultSubjectDTO());
-        when(gradesService.findAllGradesForStudent(any())).thenReturn(List.of(getDefaultGradeDTO()));
+        when(gradesService.findGradesPageForStudent(any(), any(), any(), any(), any()))
+                .thenReturn(new GradePageDTO(List.of(getDefaultGradeDTO()), null));
         when(studentService.findById(any())).thenReturn(getDefaultStudentDTO());
 
         mockMvc.perform(MockMvcRequestBuilders.get(GRADES_URL + "/all/1")
@@ -206,11 +208,30 @@ public class GradeControllerTest extends BaseControllerTest {
                 .andExpect(model().attributeExists("grades"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @SneakyThrows
+    public void getGradesPageForExistedStudent_roleAdmin() {
+        when(gradesService.findGradesPageForStudent(1L, "2024-09-01_1", 10,
+                LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 7)))
+                .thenReturn(new GradePageDTO(List.of(getDefaultGradeDTO()), "2024-09-02_5"));
+        when(studentService.findById(any())).thenReturn(getDefaultStudentDTO());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GRADES_URL
+                                + "/all/1?after=2024-09-01_1&size=10&from=2024-09-01&to=2024-09-07")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(model().attributeExists("student"))
+                .andExpect(model().attributeExists("grades"))
+                .andExpect(model().attribute("nextCursor", "2024-09-02_5"));
+    }
+
     @Test
     @WithMockUser(roles = "STUDENT")
     @SneakyThrows
     public void getAllGradesForExistedStudent_roleCurrentStudent() {
-        when(gradesService.findAllGradesForStudent(any())).thenReturn(List.of(getDefaultGradeDTO()));
+        when(gradesService.findGradesPageForStudent(any(), any(), any(), any(), any()))
+                .thenReturn(new GradePageDTO(List.of(getDefaultGradeDTO()), null));
         when(studentService.findById(any())).thenReturn(getDefaultStudentDTO());
 
         mockMvc.perform(MockMvcRequestBuilders.get(GRADES_URL + "/all/1")
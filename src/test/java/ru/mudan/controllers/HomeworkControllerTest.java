@@ -2,6 +2,7 @@ package ru.mudan.controllers;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
@@ -12,12 +13,16 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.mudan.dto.homework.HomeworkCreateDTO;
 import ru.mudan.dto.homework.HomeworkDTO;
+import ru.mudan.dto.homework.HomeworkSearchResultDTO;
+import ru.mudan.dto.homework.HomeworkSearchScope;
 import ru.mudan.exceptions.base.ApplicationForbiddenException;
 import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.HomeworkNotFoundException;
@@ -27,7 +32,11 @@ import ru.mudan.services.classes.ClassService;
 import ru.mudan.services.homework.HomeworkService;
 import ru.mudan.services.subjects.SubjectService;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -586,6 +595,60 @@ public class HomeworkControllerTest extends BaseControllerTest {
                 .andExpect(model().attributeExists("error"));
     }
 
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Should return status 200 and found homeworks of student class")
+    public void searchHomeworks_roleStudent() {
+        var scope = new HomeworkSearchScope(false, Set.of(1L), Set.of());
+        var found = new PageImpl<>(List.of(getDefaultHomeworkSearchResultDTO()));
+        when(authService.homeworkSearchScope(any())).thenReturn(scope);
+        when(homeworkService.search(eq("примеры"), eq(scope), any())).thenReturn(found);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(HOMEWORKS_URL + "/search")
+                        .param("q", "примеры")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/homeworks/homeworks-search"))
+                .andExpect(model().attribute("homeworks", found))
+                .andExpect(model().attribute("query", "примеры"))
+                .andExpect(content().string(containsString(getDefaultHomeworkSearchResultDTO().subjectName())));
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should return status 200 and found homework without class")
+    public void searchHomeworks_homeworkWithoutClass_roleAdmin() {
+        var found = new PageImpl<>(List.of(new HomeworkSearchResultDTO(1L, "Решить примеры", "На странице 5",
+                LocalDate.now(), null, null, null)));
+        when(authService.homeworkSearchScope(any())).thenReturn(HomeworkSearchScope.ALL);
+        when(homeworkService.search(eq("примеры"), any(), any())).thenReturn(found);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(HOMEWORKS_URL + "/search")
+                        .param("q", "примеры")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/homeworks/homeworks-search"))
+                .andExpect(content().string(containsString("Решить примеры")))
+                .andExpect(content().string(not(containsString("null"))));
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should return status 200 and empty search page without query")
+    public void searchHomeworks_withoutQuery_roleTeacher() {
+        when(authService.homeworkSearchScope(any())).thenReturn(HomeworkSearchScope.ALL);
+        when(homeworkService.search(isNull(), any(), any())).thenReturn(Page.empty());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(HOMEWORKS_URL + "/search")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/homeworks/homeworks-search"))
+                .andExpect(content().string(not(containsString("По запросу ДЗ не найдено"))));
+    }
+
     @SneakyThrows
     private void checkPutUpdateInvalidHomework(HomeworkDTO homeworkDTO) {
         mockMvc.perform(MockMvcRequestBuilders.put(HOMEWORKS_URL + "/1")
@@ -1,6 +1,5 @@
 package ru.mudan.controllers;
 
-import java.util.List;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -8,9 +7,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import ru.mudan.services.parent.ParentOverviewService;
 import ru.mudan.services.parent.ParentService;
-import ru.mudan.services.students.StudentService;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -22,20 +22,25 @@ public class ParentControllerTest extends BaseControllerTest {
     @MockBean
     private ParentService parentService;
     @MockBean
-    private StudentService studentService;
+    private ParentOverviewService parentOverviewService;
 
     @Test
     @SneakyThrows
     @WithMockUser(roles = "PARENT")
     public void getPageAccountOfParent_roleParent() {
         when(parentService.findParentByAuth(any())).thenReturn(getDefaultParent());
-        when(studentService.getAllStudentsForParent(any())).thenReturn(List.of(getDefaultStudentDTO()));
+        when(parentOverviewService.findOverview(any(), any())).thenReturn(getDefaultParentOverviewDTO());
         mockMvc.perform(MockMvcRequestBuilders.get(PARENT_URL + "/account")
                         .accept(MediaType.TEXT_HTML).with(csrf()))
                 .andExpect(status().is(HttpStatus.OK.value()))
                 .andExpect(view().name("parent/parent-main-page"))
                 .andExpect(model().attributeExists("parent"))
-                .andExpect(model().attributeExists("students"));
+                .andExpect(model().attributeExists("students"))
+                .andExpect(model().attributeExists("childrenStats"))
+                .andExpect(model().attribute("overview", getDefaultParentOverviewDTO()))
+                .andExpect(content().string(containsString("Математика: 5")))
+                .andExpect(content().string(containsString("Решить примеры")))
+                .andExpect(content().string(containsString("Физика")));
     }
 
     @Test
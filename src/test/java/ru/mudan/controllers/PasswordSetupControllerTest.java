@@ -0,0 +1,67 @@
+package ru.mudan.controllers;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import ru.mudan.exceptions.PasswordSetupTokenInvalidException;
+import ru.mudan.services.auth.PasswordSetupService;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class PasswordSetupControllerTest extends BaseControllerTest {
+
+    private static final String SET_PASSWORD = "/set-password";
+    private static final String TOKEN = "token";
+
+    @MockBean
+    private PasswordSetupService passwordSetupService;
+
+    @Test
+    @SneakyThrows
+    public void getSetPasswordPage_anonymous_ok() {
+        mockMvc.perform(MockMvcRequestBuilders.get(SET_PASSWORD).param(TOKEN, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(view().name("set-password"))
+                .andExpect(model().attribute(TOKEN, TOKEN));
+    }
+
+    @Test
+    @SneakyThrows
+    public void postSetPassword_valid_redirectedToLogin() {
+        mockMvc.perform(MockMvcRequestBuilders.post(SET_PASSWORD)
+                        .param(TOKEN, TOKEN)
+                        .param("password", "newPassword1")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login?passwordSet"));
+
+        verify(passwordSetupService).setPassword(TOKEN, "newPassword1");
+    }
+
+    @Test
+    @SneakyThrows
+    public void postSetPassword_shortPassword_notSet() {
+        mockMvc.perform(MockMvcRequestBuilders.post(SET_PASSWORD)
+                        .param(TOKEN, TOKEN)
+                        .param("password", "short")
+                        .with(csrf()))
+                .andExpect(view().name("error/400"));
+
+        verifyNoInteractions(passwordSetupService);
+    }
+
+    @Test
+    @SneakyThrows
+    public void postSetPassword_invalidToken_errorPage() {
+        doThrow(new PasswordSetupTokenInvalidException()).when(passwordSetupService).setPassword(TOKEN, "newPassword1");
+
+        mockMvc.perform(MockMvcRequestBuilders.post(SET_PASSWORD)
+                        .param(TOKEN, TOKEN)
+                        .param("password", "newPassword1")
+                        .with(csrf()))
+                .andExpect(view().name("error/error-app"));
+    }
+}
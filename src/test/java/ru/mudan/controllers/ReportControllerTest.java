@@ -0,0 +1,156 @@
+package ru.mudan.controllers;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
+import ru.mudan.services.classes.ClassService;
+import ru.mudan.services.reports.GradeReportService;
+import ru.mudan.services.reports.ReportCardService;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ru.mudan.UtilConstants.*;
+
+@WithMockUser(roles = "ADMIN")
+public class ReportControllerTest extends BaseControllerTest {
+
+    private static final byte[] REPORT_CARDS_CONTENT = {1, 2, 3};
+
+    @MockBean
+    private GradeReportService gradeReportService;
+    @MockBean
+    private ReportCardService reportCardService;
+    @MockBean
+    private ClassService classService;
+    @MockBean
+    private MessageSource messageSource;
+
+    @Test
+    @SneakyThrows
+    public void getReports_roleAdmin() {
+        when(classService.findAll()).thenReturn(List.of(getDefaultClassDTO()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(REPORTS_URL)
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/reports/reports-index"))
+                .andExpect(model().attribute("parallels", List.of(getDefaultClassDTO().number())));
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "TEACHER")
+    public void getReports_roleTeacher() {
+        mockMvc.perform(MockMvcRequestBuilders.get(REPORTS_URL)
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.FORBIDDEN.value()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getClassRanking_roleAdmin() {
+        when(gradeReportService.findClassRanking(any(), any(), any())).thenReturn(getDefaultClassRankingDTO());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(REPORTS_URL + "/classes/1")
+                        .param("from", "2025-09-01")
+                        .param("to", "2025-12-31")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/reports/class-ranking"))
+                .andExpect(model().attributeExists("ranking"));
+
+        verify(gradeReportService).findClassRanking(1L, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 12, 31));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getClassRanking_classNotExists() {
+        when(gradeReportService.findClassRanking(any(), any(), any())).thenThrow(ClassEntityNotFoundException.class);
+        when(messageSource.getMessage(any(), any(), any())).thenReturn("Класс с id=1 не найден");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(REPORTS_URL + "/classes/1")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(model().attributeExists("error"))
+                .andExpect(model().attributeDoesNotExist("ranking"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getClassReportCards_roleAdmin() {
+        when(reportCardService.findReportCardBatch(any(), any())).thenReturn(getDefaultReportCardBatchDTO());
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(REPORT_CARDS_CONTENT);
+            return 1;
+        }).when(reportCardService).writeReportCards(any(), any());
+
+        var result = mockMvc.perform(MockMvcRequestBuilders.get(REPORTS_URL + "/classes/1/report-cards")
+                        .param("date", "2025-10-15")
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("attachment")))
+                .andExpect(content().bytes(REPORT_CARDS_CONTENT));
+
+        verify(reportCardService).findReportCardBatch(1L, LocalDate.of(2025, 10, 15));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getClassReportCards_classNotExists() {
+        when(reportCardService.findReportCardBatch(any(), any())).thenThrow(ClassEntityNotFoundException.class);
+        when(messageSource.getMessage(any(), any(), any())).thenReturn("Класс с id=1 не найден");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(REPORTS_URL + "/classes/1/report-cards")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(model().attributeExists("error"));
+
+        verify(reportCardService, never()).writeReportCards(any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "TEACHER")
+    public void getClassReportCards_roleTeacher() {
+        mockMvc.perform(MockMvcRequestBuilders.get(REPORTS_URL + "/classes/1/report-cards")
+                        .with(csrf()))
+                .andExpect(status().is(HttpStatus.FORBIDDEN.value()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getParallelReport_roleAdmin() {
+        when(gradeReportService.findParallelReport(any(), any(), any())).thenReturn(getDefaultParallelReportDTO());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(REPORTS_URL + "/parallels/6")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/reports/parallel-subjects"))
+                .andExpect(model().attributeExists("report"));
+
+        verify(gradeReportService).findParallelReport(eq(6), any(), any());
+    }
+}
@@ -15,9 +15,15 @@ import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import ru.mudan.dto.schedule.ScheduleConflictDTO;
 import ru.mudan.dto.schedule.ScheduleCreateDTO;
 import ru.mudan.dto.schedule.ScheduleUpdateDTO;
+import ru.mudan.dto.schedule.TimetableGenerateDTO;
+import ru.mudan.dto.schedule.TimetableGenerationReportDTO;
+import ru.mudan.exceptions.ScheduleConflictException;
+import ru.mudan.exceptions.TimetableGenerationException;
 import ru.mudan.exceptions.base.ApplicationForbiddenException;
 import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.ScheduleNotFoundException;
@@ -51,6 +57,20 @@ public class ScheduleControllerTest extends BaseControllerTest {
             Arguments.of(new ScheduleUpdateDTO(1, LocalTime.now(), 301))
             );
 
+    private static final Supplier<Stream<Arguments>> invalidTimetableGenerateDTOs = () -> Stream.of(
+            Arguments.of(new TimetableGenerateDTO(null, 7, 10, 60, 10)),
+            Arguments.of(new TimetableGenerateDTO(LocalTime.of(8, 30), 0, 10, 60, 10)),
+            Arguments.of(new TimetableGenerateDTO(LocalTime.of(8, 30), 11, 10, 60, 10)),
+            Arguments.of(new TimetableGenerateDTO(LocalTime.of(8, 30), 7, 61, 60, 10)),
+            Arguments.of(new TimetableGenerateDTO(LocalTime.of(8, 30), 7, 10, 0, 10)),
+            Arguments.of(new TimetableGenerateDTO(LocalTime.of(8, 30), 7, 10, 60, 0)),
+            Arguments.of(new TimetableGenerateDTO(LocalTime.of(8, 30), 7, 10, 60, 121))
+            );
+
+    public static Stream<Arguments> provideInvalidTimetableGenerateDTOs() {
+        return invalidTimetableGenerateDTOs.get();
+    }
+
     public static Stream<Arguments> provideInvalidScheduleCreateDTOs() {
         return invalidScheduleCreateDTOs.get();
     }
@@ -301,6 +321,130 @@ public class ScheduleControllerTest extends BaseControllerTest {
                 .andExpect(status().is(HttpStatus.FOUND.value()));
     }
 
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Should return page with conflict error for overlapping schedule")
+    public void postCreateScheduleConflict_roleAdmin() {
+        var payload = getDefaultScheduleCreateDTO();
+        doThrow(new ScheduleConflictException("schedule.conflict.classroom", new Object[]{"1", "Понедельник", "08:00", 1L}))
+                .when(scheduleService).save(any());
+        when(messageSource.getMessage(any(), any(), any())).thenReturn("Кабинет 1 уже занят");
+
+        mockMvc.perform(MockMvcRequestBuilders.post(SCHEDULES_URL)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("dayOfWeek", String.valueOf(payload.dayOfWeek()))
+                        .param("numberOfClassroom", String.valueOf(payload.numberOfClassroom()))
+                        .param("startTime", String.valueOf(payload.startTime()))
+                        .param("classId", String.valueOf(payload.classId()))
+                        .param("subjectId", payload.subjectId().toString())
+                        .with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("error/error-app"))
+                .andExpect(model().attribute("error", "Кабинет 1 уже занят"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getTimetableConflicts_roleAdmin() {
+        when(scheduleService.validateTimetable()).thenReturn(List.of(ScheduleConflictDTO.builder()
+                .type("CLASSROOM")
+                .scheduleId(2L)
+                .conflictingScheduleId(1L)
+                .dayOfWeek("Понедельник")
+                .startTime(LocalTime.of(8, 0))
+                .description("Кабинет 1 уже занят")
+                .build()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SCHEDULES_URL + "/validate")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("schedule/schedule-validate"))
+                .andExpect(model().attributeExists("conflicts"));
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "TEACHER")
+    public void getTimetableConflicts_roleTeacher() {
+        doThrow(ApplicationForbiddenException.class).when(authService).hasRoleAdmin(any());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SCHEDULES_URL + "/validate")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("error/403"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getPageForGeneratingTimetable_roleAdmin() {
+        mockMvc.perform(MockMvcRequestBuilders.get(SCHEDULES_URL + "/generate")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("schedule/schedule-generate"));
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "TEACHER")
+    public void getPageForGeneratingTimetable_roleTeacher() {
+        doThrow(ApplicationForbiddenException.class).when(authService).hasRoleAdmin(any());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SCHEDULES_URL + "/generate")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("error/403"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void postGenerateTimetable_roleAdmin() {
+        when(scheduleService.generateTimetable(any())).thenReturn(TimetableGenerationReportDTO.builder()
+                .classCount(2)
+                .lessonCount(40)
+                .sameDayRepeats(0)
+                .solveTimeMillis(15)
+                .build());
+
+        performPostGenerateTimetable(new TimetableGenerateDTO(LocalTime.of(8, 30), 7, 10, 60, 10))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("schedule/schedule-generate"))
+                .andExpect(model().attributeExists("report"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void postGenerateTimetable_infeasible() {
+        when(scheduleService.generateTimetable(any()))
+                .thenThrow(new TimetableGenerationException("schedule.generate.infeasible", new Object[]{3}));
+
+        performPostGenerateTimetable(new TimetableGenerateDTO(LocalTime.of(8, 30), 1, 10, 1, 10))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("error/error-app"));
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "TEACHER")
+    public void postGenerateTimetable_roleTeacher() {
+        doThrow(ApplicationForbiddenException.class).when(authService).hasRoleAdmin(any());
+
+        performPostGenerateTimetable(new TimetableGenerateDTO(LocalTime.of(8, 30), 7, 10, 60, 10))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("error/403"));
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @DisplayName("Should return status 200 and errors")
+    @MethodSource("provideInvalidTimetableGenerateDTOs")
+    public void postGenerateTimetable_invalid(TimetableGenerateDTO timetableGenerateDTO) {
+        performPostGenerateTimetable(timetableGenerateDTO)
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("error/400"))
+                .andExpect(model().attributeExists("errors"));
+    }
+
     @SneakyThrows
     @ParameterizedTest
     @DisplayName("Should return status 200 and errors")
@@ -365,4 +509,16 @@ public class ScheduleControllerTest extends BaseControllerTest {
                 .andExpect(view().name("error/400"))
                 .andExpect(model().attributeExists("errors"));
     }
+
+    @SneakyThrows
+    private ResultActions performPostGenerateTimetable(TimetableGenerateDTO timetableGenerateDTO) {
+        return mockMvc.perform(MockMvcRequestBuilders.post(SCHEDULES_URL + "/generate")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("firstLessonStart", String.valueOf(timetableGenerateDTO.firstLessonStart()))
+                .param("lessonsPerDay", String.valueOf(timetableGenerateDTO.lessonsPerDay()))
+                .param("breakMinutes", String.valueOf(timetableGenerateDTO.breakMinutes()))
+                .param("classroomCount", String.valueOf(timetableGenerateDTO.classroomCount()))
+                .param("timeBudgetSeconds", String.valueOf(timetableGenerateDTO.timeBudgetSeconds()))
+                .with(csrf()));
+    }
 }
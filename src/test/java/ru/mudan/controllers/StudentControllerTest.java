@@ -8,6 +8,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.mudan.dto.student.StudentDTO;
+import ru.mudan.services.grades.GradeAnalyticsService;
 import ru.mudan.services.students.StudentService;
 import ru.mudan.services.subjects.SubjectService;
 
@@ -26,6 +27,8 @@ public class StudentControllerTest extends BaseControllerTest {
     private StudentService studentService;
     @MockBean
     private SubjectService subjectService;
+    @MockBean
+    private GradeAnalyticsService gradeAnalyticsService;
 
     @Test
     @SneakyThrows
@@ -33,12 +36,14 @@ public class StudentControllerTest extends BaseControllerTest {
     public void getPageAccountOfStudentWith_studentWithClass() {
         when(studentService.findStudentByAuth(any())).thenReturn(getDefaultStudentDTO());
         when(subjectService.findAllSubjectsForClass(any())).thenReturn(List.of(getDefaultSubjectDTO()));
+        when(gradeAnalyticsService.findStudentAnalytics(any(), any())).thenReturn(getDefaultStudentAnalyticsDTO());
         mockMvc.perform(MockMvcRequestBuilders.get(STUDENT_URL + "/account")
                         .accept(MediaType.TEXT_HTML).with(csrf()))
                 .andExpect(status().is(HttpStatus.OK.value()))
                 .andExpect(view().name("student/student-main-page"))
                 .andExpect(model().attributeExists("student"))
-                .andExpect(model().attributeExists("subjects"));
+                .andExpect(model().attributeExists("subjects"))
+                .andExpect(model().attributeExists("analytics"));
     }
 
     @Test
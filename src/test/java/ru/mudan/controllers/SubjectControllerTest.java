@@ -35,20 +35,23 @@ import static ru.mudan.UtilConstants.getDefaultSubjectDTO;
 public class SubjectControllerTest extends BaseControllerTest {
 
     private static final Supplier<Stream<Arguments>> invalidSubjectCreateDTOs = () -> Stream.of(
-            Arguments.of(new SubjectCreateDTO(null, "Базовый", "Предмет про числа", 1L, 1L)),
-            Arguments.of(new SubjectCreateDTO("", "Базовый", "Предмет про числа", 1L, 1L)),
-            Arguments.of(new SubjectCreateDTO("Математикаматематикам", "Базовый", "Предмет про числа", 1L, 1L)),
-            Arguments.of(new SubjectCreateDTO("математика", "Базовый", "Предмет про числа", 1L, 1L)),
-            Arguments.of(new SubjectCreateDTO("Math", "Базовый", "Предмет про числа", 1L, 1L)),
-            Arguments.of(new SubjectCreateDTO("Математика", "", "Предмет про числа", 1L, 1L)),
-            Arguments.of(new SubjectCreateDTO("Математика", null, "Предмет про числа", 1L, 1L)),
-            Arguments.of(new SubjectCreateDTO("Математика", "Базовый", "Предмет про числа", null, 1L)),
-            Arguments.of(new SubjectCreateDTO("Математика", "Базовый", "Предмет про числа", 1L, null))
+            Arguments.of(new SubjectCreateDTO(null, "Базовый", "Предмет про числа", 1L, 1L, 2)),
+            Arguments.of(new SubjectCreateDTO("", "Базовый", "Предмет про числа", 1L, 1L, 2)),
+            Arguments.of(new SubjectCreateDTO("Математикаматематикам", "Базовый", "Предмет про числа", 1L, 1L, 2)),
+            Arguments.of(new SubjectCreateDTO("математика", "Базовый", "Предмет про числа", 1L, 1L, 2)),
+            Arguments.of(new SubjectCreateDTO("Math", "Базовый", "Предмет про числа", 1L, 1L, 2)),
+            Arguments.of(new SubjectCreateDTO("Математика", "", "Предмет про числа", 1L, 1L, 2)),
+            Arguments.of(new SubjectCreateDTO("Математика", null, "Предмет про числа", 1L, 1L, 2)),
+            Arguments.of(new SubjectCreateDTO("Математика", "Базовый", "Предмет про числа", null, 1L, 2)),
+            Arguments.of(new SubjectCreateDTO("Математика", "Базовый", "Предмет про числа", 1L, null, 2)),
+            Arguments.of(new SubjectCreateDTO("Математика", "Базовый", "Предмет про числа", 1L, 1L, 11)),
+            Arguments.of(new SubjectCreateDTO("Математика", "Базовый", "Предмет про числа", 1L, 1L, -1))
     );
 
     private static final Supplier<Stream<Arguments>> invalidSubjectUpdateDTOs = () -> Stream.of(
-            Arguments.of(new SubjectUpdateDTO("", "Предмет про числа")),
-            Arguments.of(new SubjectUpdateDTO(null, "Предмет про числа"))
+            Arguments.of(new SubjectUpdateDTO("", "Предмет про числа", 2)),
+            Arguments.of(new SubjectUpdateDTO(null, "Предмет про числа", 2)),
+            Arguments.of(new SubjectUpdateDTO("Базовый", "Предмет про числа", 11))
     );
 
     public static Stream<Arguments> provideInvalidSubjectCreateDTOs() {
@@ -204,6 +207,7 @@ public class SubjectControllerTest extends BaseControllerTest {
                 .description("Предмет про числа")
                 .classId(1L)
                 .teacherId(1L)
+                .weeklyHours(3)
                 .build();
 
         postCreateSubjectValid(payload);
@@ -276,6 +280,7 @@ public class SubjectControllerTest extends BaseControllerTest {
                 .builder()
                 .type("Факультативный")
                 .description("Тестовое описание")
+                .weeklyHours(2)
                 .build();
 
         putUpdateSubjectValid(payload);
@@ -321,6 +326,7 @@ public class SubjectControllerTest extends BaseControllerTest {
                         .param("description", subjectCreateDTO.description())
                         .param("classId", String.valueOf(subjectCreateDTO.classId()))
                         .param("teacherId", String.valueOf(subjectCreateDTO.teacherId()))
+                        .param("weeklyHours", String.valueOf(subjectCreateDTO.weeklyHours()))
                         .with(csrf()))
                 .andExpect(status().is(HttpStatus.OK.value()))
                 .andExpect(model().attributeExists("errors"));
@@ -339,6 +345,7 @@ public class SubjectControllerTest extends BaseControllerTest {
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("type", subjectUpdateDTO.type())
                         .param("description", subjectUpdateDTO.description())
+                        .param("weeklyHours", String.valueOf(subjectUpdateDTO.weeklyHours()))
                         .with(csrf()))
                 .andExpect(status().is(HttpStatus.OK.value()))
                 .andExpect(model().attributeExists("errors"));
@@ -353,6 +360,7 @@ public class SubjectControllerTest extends BaseControllerTest {
                         .param("description", subjectCreateDTO.description())
                         .param("classId", String.valueOf(subjectCreateDTO.classId()))
                         .param("teacherId", String.valueOf(subjectCreateDTO.teacherId()))
+                        .param("weeklyHours", String.valueOf(subjectCreateDTO.weeklyHours()))
                         .with(csrf()))
                 .andExpect(status().is(HttpStatus.FOUND.value()));
     }
@@ -363,6 +371,7 @@ public class SubjectControllerTest extends BaseControllerTest {
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("type", subjectUpdateDTO.type())
                         .param("description", subjectUpdateDTO.description())
+                        .param("weeklyHours", String.valueOf(subjectUpdateDTO.weeklyHours()))
                         .with(csrf()))
                 .andExpect(status().is(HttpStatus.FOUND.value()));
     }
@@ -9,16 +9,21 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import ru.mudan.dto.schedule.TimetableDayDTO;
+import ru.mudan.dto.schedule.WeekTimetable;
 import ru.mudan.exceptions.base.ApplicationForbiddenException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
 import ru.mudan.services.auth.AuthService;
+import ru.mudan.services.grades.GradeAnalyticsService;
 import ru.mudan.services.grades.GradesService;
 import ru.mudan.services.homework.HomeworkService;
 import ru.mudan.services.schedule.ScheduleService;
 import ru.mudan.services.students.StudentService;
 import ru.mudan.services.subjects.SubjectService;
+import ru.mudan.services.teachers.TeacherDashboardService;
 import ru.mudan.services.teachers.TeacherService;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
@@ -45,19 +50,25 @@ public class TeacherControllerTest extends BaseControllerTest {
     private AuthService authService;
     @MockBean
     private MessageSource messageSource;
+    @MockBean
+    private GradeAnalyticsService gradeAnalyticsService;
+    @MockBean
+    private TeacherDashboardService teacherDashboardService;
 
     @Test
     @SneakyThrows
     public void getPageAccountOfTeacher_roleParent() {
         when(teacherService.findTeacherByAuth(any())).thenReturn(getDefaultTeacherDTO());
-        when(subjectService.getSubjectsForTeacher(any())).thenReturn(List.of(getDefaultSubjectDTO()));
+        when(teacherDashboardService.buildDashboard(any(), any())).thenReturn(getDefaultTeacherDashboardDTO());
 
         mockMvc.perform(MockMvcRequestBuilders.get(TEACHER_URL + "/account")
                         .accept(MediaType.TEXT_HTML).with(csrf()))
                 .andExpect(status().is(HttpStatus.OK.value()))
                 .andExpect(view().name("teacher/teacher-main-page"))
                 .andExpect(model().attributeExists("teacher"))
-                .andExpect(model().attributeExists("subjects"));
+                .andExpect(model().attributeExists("subjects"))
+                .andExpect(model().attribute("dashboard", getDefaultTeacherDashboardDTO()))
+                .andExpect(content().string(containsString("Иванов Иван: 5")));
     }
 
     @Test
@@ -108,6 +119,31 @@ public class TeacherControllerTest extends BaseControllerTest {
                 .andExpect(model().attributeExists("schedules"));
     }
 
+    @Test
+    @SneakyThrows
+    public void getPageWeekScheduleForTeacher_roleTeacher() {
+        var schedule = getDefaultScheduleDTO();
+        when(teacherService.findTeacherByAuth(any())).thenReturn(getDefaultTeacherDTO());
+        when(scheduleService.findTimetableForTeacher(any())).thenReturn(new WeekTimetable(
+                List.of(new TimetableDayDTO(schedule.dayOfWeek(), List.of(schedule))),
+                List.of(schedule)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(TEACHER_URL + "/schedule")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("teacher/schedule/schedule-teacher-week"))
+                .andExpect(model().attributeExists("timetable"));
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "STUDENT")
+    public void getPageWeekScheduleForTeacher_roleStudent() {
+        mockMvc.perform(MockMvcRequestBuilders.get(TEACHER_URL + "/schedule")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.FORBIDDEN.value()));
+    }
+
     @Test
     @SneakyThrows
     public void getPageScheduleForTeacher_roleTeacherAndSubjectDoesNotExists() {
@@ -135,12 +171,14 @@ public class TeacherControllerTest extends BaseControllerTest {
     public void getPageGradesForTeacher_roleTeacherAndSubjectExists() {
         when(subjectService.findById(any())).thenReturn(getDefaultSubjectDTO());
         when(gradesService.findAllBySubjectId(any())).thenReturn(List.of(getDefaultGradeDTOResponse()));
+        when(gradeAnalyticsService.findSubjectAnalytics(any(), any())).thenReturn(getDefaultSubjectAnalyticsDTO());
 
         mockMvc.perform(MockMvcRequestBuilders.get(TEACHER_URL + "/grades/subject/1")
                         .accept(MediaType.TEXT_HTML).with(csrf()))
                 .andExpect(status().is(HttpStatus.OK.value()))
                 .andExpect(view().name("teacher/grades/grades-index"))
-                .andExpect(model().attributeExists("grades"));
+                .andExpect(model().attributeExists("grades"))
+                .andExpect(model().attributeExists("analytics"));
     }
 
     @Test
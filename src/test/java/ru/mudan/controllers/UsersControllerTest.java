@@ -0,0 +1,112 @@
+package ru.mudan.controllers;
+
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import ru.mudan.services.parent.ParentService;
+import ru.mudan.services.students.StudentService;
+import ru.mudan.services.teachers.TeacherService;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ru.mudan.UtilConstants.*;
+
+@WithMockUser(roles = "ADMIN")
+public class UsersControllerTest extends BaseControllerTest {
+
+    @MockBean
+    private StudentService studentService;
+    @MockBean
+    private TeacherService teacherService;
+    @MockBean
+    private ParentService parentService;
+
+    @Test
+    @SneakyThrows
+    public void getAllStudents_withQuery_pageOfFoundStudents() {
+        var page = new PageImpl<>(List.of(getDefaultStudentDTO()), PageRequest.of(1, 1), 3);
+        when(studentService.findPage(eq("иван"), any())).thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(USERS_URL + "/students/all")
+                        .param("q", "иван")
+                        .param("page", "1")
+                        .param("size", "1")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/users/student/student-index"))
+                .andExpect(model().attribute("students", page))
+                .andExpect(model().attribute("query", "иван"))
+                .andExpect(content().string(containsString("2 из 3")));
+
+        var captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(studentService).findPage(eq("иван"), captor.capture());
+
+        assertAll("Grouped assertions for requested page",
+                () -> assertEquals(1, captor.getValue().getPageNumber()),
+                () -> assertEquals(1, captor.getValue().getPageSize()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getAllTeachers_withoutQuery_defaultPageSize() {
+        when(teacherService.findPage(isNull(), any()))
+                .thenReturn(new PageImpl<>(List.of(getDefaultTeacherDTO())));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(USERS_URL + "/teachers/all")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/users/teacher/teacher-index"))
+                .andExpect(model().attributeExists("teachers"));
+
+        var captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(teacherService).findPage(isNull(), captor.capture());
+
+        assertAll("Grouped assertions for default page",
+                () -> assertEquals(0, captor.getValue().getPageNumber()),
+                () -> assertEquals(20, captor.getValue().getPageSize()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getAllParents_tooLargePageSize_limited() {
+        when(parentService.findPage(isNull(), any()))
+                .thenReturn(new PageImpl<>(List.of(getDefaultParent())));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(USERS_URL + "/parents/all")
+                        .param("size", "100000")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(view().name("admin/users/parent/parent-index"));
+
+        var captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(parentService).findPage(isNull(), captor.capture());
+
+        assertEquals(100, captor.getValue().getPageSize());
+    }
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(roles = "TEACHER")
+    public void getAllStudents_roleTeacher() {
+        mockMvc.perform(MockMvcRequestBuilders.get(USERS_URL + "/students/all")
+                        .accept(MediaType.TEXT_HTML).with(csrf()))
+                .andExpect(status().is(HttpStatus.FORBIDDEN.value()));
+    }
+}
@@ -1,17 +1,26 @@
 package ru.mudan.services.integration;
 
+import jakarta.persistence.EntityManagerFactory;
 import java.util.List;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.entity.users.Student;
 import ru.mudan.domain.repositories.*;
 import ru.mudan.dto.classes.ClassDTO;
 import ru.mudan.dto.subjects.SubjectCreateDTO;
+import ru.mudan.exceptions.base.ApplicationForbiddenException;
 import ru.mudan.exceptions.entity.already_exists.ClassAlreadyExistsException;
 import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.StudentNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
+import ru.mudan.services.auth.AuthService;
 import ru.mudan.services.classes.ClassService;
 import ru.mudan.services.subjects.SubjectService;
 import ru.mudan.services.users.RegistrationService;
@@ -37,6 +46,10 @@ public class ClassesServiceIT extends IntegrationTest {
     private AppUserRepository appUserRepository;
     @Autowired
     private TeacherRepository teacherRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private AuthService authService;
 
     @AfterEach
     public void clearTables() {
@@ -216,6 +229,81 @@ public class ClassesServiceIT extends IntegrationTest {
                 () -> assertNotNull(updatedClassFromDB.getSubjects()));
     }
 
+    @Test
+    public void getClassById_servedFromSecondLevelCache() {
+        var classForSaving = getDefaultClassDTO();
+        classService.save(classForSaving);
+        var classId = classRepository.findAll().getFirst().getId();
+
+        classService.findById(classId);
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var foundClass = classService.findById(classId);
+
+        assertAll("Grouped assertions for cached class",
+                () -> assertEquals(classForSaving.letter(), foundClass.letter()),
+                () -> assertEquals(classForSaving.number(), foundClass.number()),
+                () -> assertEquals(0, statistics.getPrepareStatementCount()),
+                () -> assertEquals(1, statistics.getSecondLevelCacheHitCount()));
+    }
+
+    @Test
+    public void updateClassEntity_evictsCachedClassAndSubjects() {
+        classService.save(getDefaultClassDTO());
+        var classId = classRepository.findAll().getFirst().getId();
+
+        registrationService.registerTeacher(getDefaultRegisterUserDTO());
+        var teacherId = appUserRepository.findAll().getFirst().getUserId();
+        subjectService.save(createSubjectDTOByClassIdAndTeacherId(classId, teacherId));
+        var subjectId = subjectsRepository.findAll().getFirst().getId();
+
+        classService.findById(classId);
+        subjectService.findById(subjectId);
+
+        assertAll("Grouped assertions for cached entities",
+                () -> assertTrue(entityManagerFactory.getCache().contains(ClassEntity.class, classId)),
+                () -> assertTrue(entityManagerFactory.getCache().contains(Subject.class, subjectId)));
+
+        var classForUpdating = ClassDTO
+                .builder()
+                .number(8)
+                .letter("Б")
+                .description("Новое описание класса")
+                .build();
+
+        classService.update(classForUpdating, classId);
+
+        var updatedClass = classService.findById(classId);
+        var updatedSubject = subjectService.findById(subjectId);
+
+        assertAll("Grouped assertions for updated class",
+                () -> assertEquals(classForUpdating.number(), updatedClass.number()),
+                () -> assertEquals(classForUpdating.letter(), updatedClass.letter()),
+                () -> assertEquals(classForUpdating.description(), updatedClass.description()),
+                () -> assertTrue(updatedSubject.code().endsWith("8Б")));
+    }
+
+    @Test
+    public void deleteClassById_evictsDetachedSubjects() {
+        classService.save(getDefaultClassDTO());
+        var classId = classRepository.findAll().getFirst().getId();
+
+        registrationService.registerTeacher(getDefaultRegisterUserDTO());
+        var teacherId = appUserRepository.findAll().getFirst().getUserId();
+        subjectService.save(createSubjectDTOByClassIdAndTeacherId(classId, teacherId));
+        var subjectId = subjectsRepository.findAll().getFirst().getId();
+
+        subjectService.findById(subjectId);
+
+        classService.deleteById(classId);
+
+        assertAll("Grouped assertions for subject detached from deleted class",
+                () -> assertFalse(entityManagerFactory.getCache().contains(Subject.class, subjectId)),
+                () -> assertNull(subjectService.findById(subjectId).classId()));
+    }
+
     @Test
     public void deleteClassById_classExisted() {
         var classForSaving = getDefaultClassDTO();
@@ -301,6 +389,84 @@ public class ClassesServiceIT extends IntegrationTest {
         assertThrows(StudentNotFoundException.class, () -> classService.addStudentsToClass(classFromDBId, List.of(10L)));
     }
 
+    @Test
+    public void addStudentsToClass_severalStudentsMovedToAnotherClass() {
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("first@mail.ru"));
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("second@mail.ru"));
+        var studentsIds = studentRepository.findAll().stream()
+                .map(Student::getId)
+                .toList();
+
+        classService.save(ClassDTO.builder()
+                .letter("А")
+                .number(5)
+                .description("Описание")
+                .studentsIds(studentsIds)
+                .build());
+        classService.save(ClassDTO.builder()
+                .letter("А")
+                .number(6)
+                .description("Описание")
+                .build());
+
+        var oldClass = classRepository.findByLetterAndNumber("А", 5).orElseThrow();
+        var newClass = classRepository.findByLetterAndNumber("А", 6).orElseThrow();
+
+        assertEquals(2, studentRepository.findAllByClassEntity(oldClass).size());
+
+        classService.addStudentsToClass(newClass.getId(), studentsIds);
+
+        assertAll("Grouped assertions for moved students",
+                () -> assertTrue(studentRepository.findAllByClassEntity(oldClass).isEmpty()),
+                () -> assertEquals(2, studentRepository.findAllByClassEntity(newClass).size()));
+    }
+
+    @Test
+    public void addStudentsToClass_refreshesCachedAccessOfMovedStudent() {
+        var studentForRegistering = getDefaultRegisterUserDTO();
+        registrationService.registerStudent(studentForRegistering);
+        var studentId = studentRepository.findAll().getFirst().getId();
+        var authentication = new UsernamePasswordAuthenticationToken(studentForRegistering.email(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+
+        classService.save(ClassDTO.builder()
+                .letter("А")
+                .number(5)
+                .description("Описание")
+                .studentsIds(List.of(studentId))
+                .build());
+        classService.save(ClassDTO.builder()
+                .letter("А")
+                .number(6)
+                .description("Описание")
+                .build());
+        var oldClassId = classRepository.findByLetterAndNumber("А", 5).orElseThrow().getId();
+        var newClassId = classRepository.findByLetterAndNumber("А", 6).orElseThrow().getId();
+
+        authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(oldClassId, authentication);
+        assertThrows(ApplicationForbiddenException.class, () -> authService
+                .hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(newClassId, authentication));
+
+        classService.addStudentsToClass(newClassId, List.of(studentId));
+
+        authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(newClassId, authentication);
+        assertThrows(ApplicationForbiddenException.class, () -> authService
+                .hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(oldClassId, authentication));
+    }
+
+    @Test
+    public void addStudentsToClass_oneStudentNotExisted_nothingUpdated() {
+        registrationService.registerStudent(getDefaultRegisterUserDTO());
+        var idOfStudent = appUserRepository.findAll().getFirst().getUserId();
+
+        classService.save(getDefaultClassDTO());
+        var classFromDB = classRepository.findAll().getFirst();
+
+        assertThrows(StudentNotFoundException.class,
+                () -> classService.addStudentsToClass(classFromDB.getId(), List.of(idOfStudent, idOfStudent + 1000)));
+        assertTrue(studentRepository.findAllByClassEntity(classFromDB).isEmpty());
+    }
+
     @Test
     public void addSubjectsToClass_classExisted() {
         var teacherForRegistering = getDefaultRegisterUserDTO();
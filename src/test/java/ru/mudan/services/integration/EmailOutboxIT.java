@@ -0,0 +1,205 @@
+package ru.mudan.services.integration;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.mudan.domain.entity.EmailOutboxMessage;
+import ru.mudan.domain.repositories.AppUserRepository;
+import ru.mudan.domain.repositories.EmailOutboxRepository;
+import ru.mudan.domain.repositories.PasswordSetupTokenRepository;
+import ru.mudan.domain.repositories.TeacherRepository;
+import ru.mudan.services.notification.email.EmailNotificationDetails;
+import ru.mudan.services.notification.email.EmailOutboxCleaner;
+import ru.mudan.services.notification.email.EmailOutboxDispatcher;
+import ru.mudan.services.notification.email.EmailService;
+import ru.mudan.services.users.RegistrationService;
+import ru.mudan.util.enums.OutboxStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.mudan.UtilConstants.*;
+
+public class EmailOutboxIT extends IntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication())
+            .withPerMethodLifecycle(true);
+
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private EmailService emailService;
+    @Autowired
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+    @Autowired
+    private EmailOutboxCleaner emailOutboxCleaner;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private PasswordSetupTokenRepository passwordSetupTokenRepository;
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Value("${outbox.email.max-attempts}")
+    private int maxAttempts;
+    @Value("${outbox.email.retention}")
+    private Duration retention;
+
+    @DynamicPropertySource
+    static void mailProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", ServerSetupTest.SMTP::getPort);
+        registry.add("spring.mail.username", () -> "");
+        registry.add("spring.mail.password", () -> "");
+        registry.add("spring.mail.properties.mail.smtp.auth", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.starttls.enable", () -> "false");
+    }
+
+    /**
+     * Другие тесты регистрируют пользователей и оставляют письма в очереди, а фоновая отправка в тестах выключена
+     */
+    @BeforeEach
+    public void clearOutbox() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @AfterEach
+    public void clearTables() {
+        emailOutboxRepository.deleteAll();
+        passwordSetupTokenRepository.deleteAll();
+        teacherRepository.deleteAll();
+        appUserRepository.deleteAll();
+    }
+
+    @Test
+    public void registerTeacher_emailDeliveredThroughOutbox() throws Exception {
+        var teacherForCreating = getDefaultRegisterUserDTOByEmail("test@mail.ru");
+        registrationService.registerTeacher(teacherForCreating);
+
+        var queued = emailOutboxRepository.findAll().getFirst();
+
+        assertAll("Grouped assertions for queued email",
+                () -> assertEquals(OutboxStatus.PENDING, queued.getStatus()),
+                () -> assertEquals(teacherForCreating.email(), queued.getRecipient()),
+                () -> assertFalse(queued.getText().contains(teacherForCreating.password())),
+                () -> assertTrue(queued.getText().contains("/set-password?token=")),
+                () -> assertEquals(0, greenMail.getReceivedMessages().length));
+
+        emailOutboxDispatcher.dispatchPending();
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+
+        var received = greenMail.getReceivedMessages()[0];
+        var sent = emailOutboxRepository.findById(queued.getId()).get();
+
+        assertAll("Grouped assertions for sent email",
+                () -> assertEquals("Уведомление о регистрации", received.getSubject()),
+                () -> assertEquals(teacherForCreating.email(), received.getAllRecipients()[0].toString()),
+                () -> assertEquals(OutboxStatus.SENT, sent.getStatus()),
+                () -> assertNotNull(sent.getSentAt()),
+                () -> assertNull(sent.getText()));
+    }
+
+    @Test
+    public void dispatchBatch_smtpUnavailable_retryScheduled() {
+        greenMail.stop();
+        emailService.sendNotification(getEmailNotificationDetails());
+
+        var startedAt = LocalDateTime.now();
+        emailOutboxDispatcher.dispatchBatch();
+
+        var failed = emailOutboxRepository.findAll().getFirst();
+
+        assertAll("Grouped assertions for failed email",
+                () -> assertEquals(OutboxStatus.PENDING, failed.getStatus()),
+                () -> assertEquals(1, failed.getAttempts()),
+                () -> assertNotNull(failed.getLastError()),
+                () -> assertTrue(failed.getNextAttemptAt().isAfter(startedAt)));
+    }
+
+    @Test
+    public void dispatchBatch_attemptsExhausted_movedToDead() {
+        greenMail.stop();
+        var outboxMessage = new EmailOutboxMessage("test@mail.ru", "Тема", "Текст", null,
+                LocalDateTime.now().minusMinutes(1));
+        outboxMessage.setAttempts(maxAttempts - 1);
+        emailOutboxRepository.save(outboxMessage);
+
+        emailOutboxDispatcher.dispatchBatch();
+
+        var dead = emailOutboxRepository.findById(outboxMessage.getId()).get();
+
+        assertAll("Grouped assertions for dead email",
+                () -> assertEquals(OutboxStatus.DEAD, dead.getStatus()),
+                () -> assertEquals(maxAttempts, dead.getAttempts()),
+                () -> assertNull(dead.getText()),
+                () -> assertEquals(0, emailOutboxDispatcher.dispatchBatch()));
+    }
+
+    @Test
+    public void dispatchBatch_leaseExpired_emailResent() throws Exception {
+        var expired = saveOutboxMessage(OutboxStatus.SENDING, LocalDateTime.now().minusMinutes(1));
+        expired.setLeaseUntil(LocalDateTime.now().minusSeconds(1));
+        emailOutboxRepository.save(expired);
+        var leased = saveOutboxMessage(OutboxStatus.SENDING, LocalDateTime.now().minusMinutes(1));
+        leased.setLeaseUntil(LocalDateTime.now().plusMinutes(1));
+        emailOutboxRepository.save(leased);
+
+        assertEquals(1, emailOutboxDispatcher.dispatchBatch());
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+
+        var resent = emailOutboxRepository.findById(expired.getId()).get();
+        var stillLeased = emailOutboxRepository.findById(leased.getId()).get();
+
+        assertAll("Grouped assertions for leased emails",
+                () -> assertEquals(1, greenMail.getReceivedMessages().length),
+                () -> assertEquals(OutboxStatus.SENT, resent.getStatus()),
+                () -> assertNull(resent.getLeaseUntil()),
+                () -> assertEquals(OutboxStatus.SENDING, stillLeased.getStatus()),
+                () -> assertNotNull(stillLeased.getLeaseUntil()));
+    }
+
+    @Test
+    public void deleteFinished_onlyOldSentAndDeadEmailsDeleted() {
+        var old = LocalDateTime.now().minus(retention).minusDays(1);
+        var oldSent = saveOutboxMessage(OutboxStatus.SENT, old);
+        var oldDead = saveOutboxMessage(OutboxStatus.DEAD, old);
+        var oldPending = saveOutboxMessage(OutboxStatus.PENDING, old);
+        var recentSent = saveOutboxMessage(OutboxStatus.SENT, LocalDateTime.now());
+
+        emailOutboxCleaner.deleteFinished();
+
+        assertAll("Grouped assertions for outbox retention",
+                () -> assertFalse(emailOutboxRepository.existsById(oldSent.getId())),
+                () -> assertFalse(emailOutboxRepository.existsById(oldDead.getId())),
+                () -> assertTrue(emailOutboxRepository.existsById(oldPending.getId())),
+                () -> assertTrue(emailOutboxRepository.existsById(recentSent.getId())));
+    }
+
+    private EmailOutboxMessage saveOutboxMessage(OutboxStatus status, LocalDateTime createdAt) {
+        var outboxMessage = new EmailOutboxMessage("test@mail.ru", "Тема", "Текст", null, createdAt);
+        outboxMessage.setStatus(status);
+        return emailOutboxRepository.save(outboxMessage);
+    }
+
+    private EmailNotificationDetails getEmailNotificationDetails() {
+        return EmailNotificationDetails.builder()
+                .recipient("test@mail.ru")
+                .subject("Тема")
+                .text("Текст")
+                .attachments(List.of())
+                .build();
+    }
+}
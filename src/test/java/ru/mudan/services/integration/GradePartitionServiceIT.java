@@ -0,0 +1,212 @@
+package ru.mudan.services.integration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.dto.grades.GradeDTO;
+import ru.mudan.exceptions.GradeArchiveExportException;
+import ru.mudan.exceptions.GradeArchiveYearInvalidException;
+import ru.mudan.services.classes.ClassService;
+import ru.mudan.services.grades.GradePartitionService;
+import ru.mudan.services.grades.GradesService;
+import ru.mudan.services.subjects.SubjectService;
+import ru.mudan.services.users.RegistrationService;
+import ru.mudan.util.SchoolTerm;
+
+import static java.time.LocalDate.now;
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.mudan.UtilConstants.*;
+
+public class GradePartitionServiceIT extends IntegrationTest {
+
+    private static final int EXPORTED_YEAR = 2015;
+    private static final int ARCHIVED_YEAR = 2014;
+
+    @Autowired
+    private GradePartitionService gradePartitionService;
+    @Autowired
+    private GradesService gradesService;
+    @Autowired
+    private GradeRepository gradeRepository;
+    @Autowired
+    private SubjectsRepository subjectsRepository;
+    @Autowired
+    private ClassService classService;
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private SubjectService subjectService;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private ClassRepository classRepository;
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private DirtyGradeMonthRepository dirtyGradeMonthRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long subjectId;
+    private Long studentId;
+
+    @BeforeEach
+    public void createSubjectAndStudent() {
+        classService.save(ClassDTO
+                .builder()
+                .number(6)
+                .letter("А")
+                .description("Тестовое описание класса")
+                .build());
+
+        var classId = classRepository.findAll().getFirst().getId();
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("test1@mail.ru"));
+        registrationService.registerTeacher(getDefaultRegisterUserDTOByEmail("test2@mail.ru"));
+        studentId = studentRepository.findAll().getFirst().getId();
+        var teacherId = teacherRepository.findAll().getFirst().getId();
+
+        subjectService.save(createSubjectDTOByClassIdAndTeacherId(classId, teacherId));
+        subjectId = subjectsRepository.findAll().getFirst().getId();
+    }
+
+    @AfterEach
+    public void clearTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS grades_archive_y" + ARCHIVED_YEAR);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS grades_archive_y" + EXPORTED_YEAR);
+        gradeRepository.deleteAll();
+        classRepository.deleteAll();
+        subjectsRepository.deleteAll();
+        studentRepository.deleteAll();
+        appUserRepository.deleteAll();
+        teacherRepository.deleteAll();
+        dirtyGradeMonthRepository.deleteAll();
+    }
+
+    @Test
+    public void createMissingPartitions_gradesMovedFromDefaultPartition() {
+        var dateOfMark = LocalDate.of(ARCHIVED_YEAR, 10, 1);
+        saveGrade(dateOfMark, "Старая оценка");
+
+        var created = gradePartitionService.createMissingPartitions(dateOfMark);
+
+        assertAll("Grouped assertions for created partition",
+                () -> assertTrue(created.contains(ARCHIVED_YEAR)),
+                () -> assertEquals(0, countRows("grades_default")),
+                () -> assertEquals(1, countRows("grades_y" + ARCHIVED_YEAR)),
+                () -> assertTrue(gradePartitionService.createMissingPartitions(dateOfMark).isEmpty()));
+    }
+
+    @Test
+    public void findAllBySubjectId_onlyCurrentSchoolYear() {
+        saveGrade(now(), "Текущая оценка");
+        saveGrade(now().minusYears(1), "Оценка прошлого года");
+
+        var grades = gradesService.findAllBySubjectId(subjectId);
+
+        assertEquals(1, grades.size());
+        assertEquals("Текущая оценка", grades.getFirst().comment());
+    }
+
+    @Test
+    public void archiveSchoolYear_partitionDetached() {
+        var dateOfMark = LocalDate.of(ARCHIVED_YEAR, 10, 1);
+        saveGrade(dateOfMark, "Старая оценка");
+        gradePartitionService.createMissingPartitions(dateOfMark);
+
+        var archiveTable = gradePartitionService.archiveSchoolYear(ARCHIVED_YEAR, null);
+
+        assertAll("Grouped assertions for archived partition",
+                () -> assertEquals("grades_archive_y" + ARCHIVED_YEAR, archiveTable),
+                () -> assertTrue(gradeRepository.findAll().isEmpty()),
+                () -> assertEquals(1, countRows(archiveTable)));
+    }
+
+    @Test
+    public void exportSchoolYear_gradesWrittenToFileAndDropped(@TempDir Path directory) throws IOException {
+        var dateOfMark = LocalDate.of(EXPORTED_YEAR, 12, 1);
+        saveGrade(dateOfMark, "Выгруженная оценка");
+        gradePartitionService.createMissingPartitions(dateOfMark);
+
+        var file = gradePartitionService.exportSchoolYear(EXPORTED_YEAR, directory);
+
+        String content;
+        try (var in = new GZIPInputStream(Files.newInputStream(file))) {
+            content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertAll("Grouped assertions for exported partition",
+                () -> assertTrue(content.startsWith("id,mark,date_of_mark,comment,student_id,subject_id")),
+                () -> assertTrue(content.contains("Выгруженная оценка")),
+                () -> assertTrue(gradeRepository.findAll().isEmpty()),
+                () -> assertNull(jdbcTemplate.queryForObject(
+                        "SELECT to_regclass('grades_archive_y" + EXPORTED_YEAR + "')", String.class)));
+    }
+
+    @Test
+    public void exportSchoolYear_alreadyDetached_archiveTableExported(@TempDir Path directory) throws IOException {
+        var dateOfMark = LocalDate.of(EXPORTED_YEAR, 12, 1);
+        saveGrade(dateOfMark, "Выгруженная оценка");
+        gradePartitionService.createMissingPartitions(dateOfMark);
+        gradePartitionService.archiveSchoolYear(EXPORTED_YEAR, null);
+
+        var file = gradePartitionService.exportSchoolYear(EXPORTED_YEAR, directory);
+
+        String content;
+        try (var in = new GZIPInputStream(Files.newInputStream(file))) {
+            content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertAll("Grouped assertions for export after detach",
+                () -> assertTrue(content.contains("Выгруженная оценка")),
+                () -> assertNull(jdbcTemplate.queryForObject(
+                        "SELECT to_regclass('grades_archive_y" + EXPORTED_YEAR + "')", String.class)));
+    }
+
+    @Test
+    public void exportSchoolYear_fileExists_partitionNotDetached(@TempDir Path directory) throws IOException {
+        var dateOfMark = LocalDate.of(EXPORTED_YEAR, 12, 1);
+        saveGrade(dateOfMark, "Оценка");
+        gradePartitionService.createMissingPartitions(dateOfMark);
+        Files.createFile(directory.resolve("grades_archive_y" + EXPORTED_YEAR + ".csv.gz"));
+
+        assertThrows(GradeArchiveExportException.class,
+                () -> gradePartitionService.exportSchoolYear(EXPORTED_YEAR, directory));
+        assertAll("Grouped assertions for kept partition",
+                () -> assertEquals(1, countRows("grades_y" + EXPORTED_YEAR)),
+                () -> assertEquals(1, gradeRepository.findAll().size()));
+    }
+
+    @Test
+    public void archiveSchoolYear_currentSchoolYear() {
+        var currentYear = SchoolTerm.schoolYearOf(now());
+
+        assertThrows(GradeArchiveYearInvalidException.class,
+                () -> gradePartitionService.archiveSchoolYear(currentYear, null));
+    }
+
+    private void saveGrade(LocalDate dateOfMark, String comment) {
+        gradesService.save(GradeDTO
+                .builder()
+                .mark(5)
+                .subjectId(subjectId)
+                .studentId(studentId)
+                .dateOfMark(dateOfMark)
+                .comment(comment)
+                .build());
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+}
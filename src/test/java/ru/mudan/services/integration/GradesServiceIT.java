@@ -1,5 +1,12 @@
 package ru.mudan.services.integration;
 
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,11 +14,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import ru.mudan.domain.repositories.*;
 import ru.mudan.dto.classes.ClassDTO;
 import ru.mudan.dto.grades.GradeDTO;
+import ru.mudan.exceptions.InvalidCursorException;
 import ru.mudan.exceptions.entity.not_found.GradeNotFoundException;
 import ru.mudan.exceptions.entity.not_found.StudentNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
 import ru.mudan.services.classes.ClassService;
+import ru.mudan.services.grades.GradeAggregateReconciler;
+import ru.mudan.services.grades.GradeAnalyticsService;
 import ru.mudan.services.grades.GradesService;
+import ru.mudan.services.reports.GradeReportService;
 import ru.mudan.services.subjects.SubjectService;
 import ru.mudan.services.users.RegistrationService;
 
@@ -41,6 +52,16 @@ public class GradesServiceIT extends IntegrationTest {
     private TeacherRepository teacherRepository;
     @Autowired
     private GradesService gradesService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private GradeAnalyticsService gradeAnalyticsService;
+    @Autowired
+    private GradeReportService gradeReportService;
+    @Autowired
+    private GradeAggregateReconciler gradeAggregateReconciler;
+    @Autowired
+    private DirtyGradeMonthRepository dirtyGradeMonthRepository;
 
     private GradeDTO createdGrade;
     private Long subjectId;
@@ -88,6 +109,7 @@ public class GradesServiceIT extends IntegrationTest {
         studentRepository.deleteAll();
         appUserRepository.deleteAll();
         teacherRepository.deleteAll();
+        dirtyGradeMonthRepository.deleteAll();
     }
 
     @Test
@@ -161,6 +183,55 @@ public class GradesServiceIT extends IntegrationTest {
                 () -> assertEquals(createdGrade.dateOfMark(), grade.dateOfMark()));
     }
 
+    @Test
+    public void getGradesPage_keysetPagination() {
+        for (int i = 1; i <= 4; i++) {
+            gradesService.save(GradeDTO
+                    .builder()
+                    .mark(5)
+                    .subjectId(subjectId)
+                    .comment("Оценка " + i)
+                    .dateOfMark(now().minusDays(i))
+                    .studentId(studentId)
+                    .build());
+        }
+
+        var firstPage = gradesService.findGradesPageForStudent(studentId, null, 2, null, null);
+        var secondPage = gradesService.findGradesPageForStudent(studentId, firstPage.nextCursor(), 2, null, null);
+        var lastPage = gradesService.findGradesPageForStudent(studentId, secondPage.nextCursor(), 2, null, null);
+
+        assertAll("Grouped assertions for grades pages",
+                () -> assertEquals(2, firstPage.grades().size()),
+                () -> assertEquals(now().minusDays(4), firstPage.grades().getFirst().dateOfMark()),
+                () -> assertNotNull(firstPage.nextCursor()),
+                () -> assertEquals(2, secondPage.grades().size()),
+                () -> assertEquals(now().minusDays(2), secondPage.grades().getFirst().dateOfMark()),
+                () -> assertEquals(1, lastPage.grades().size()),
+                () -> assertEquals(createdGrade.comment(), lastPage.grades().getFirst().comment()),
+                () -> assertNull(lastPage.nextCursor()));
+    }
+
+    @Test
+    public void getGradesPage_dateRange() {
+        var page = gradesService.findGradesPageForStudent(studentId, null, null, now().minusDays(7), now().minusDays(1));
+
+        assertAll("Grouped assertions for grades page",
+                () -> assertTrue(page.grades().isEmpty()),
+                () -> assertNull(page.nextCursor()));
+    }
+
+    @Test
+    public void getGradesPage_invalidCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> gradesService.findGradesPageForStudent(studentId, "cursor", null, null, null));
+    }
+
+    @Test
+    public void getGradesPage_studentNotExists() {
+        assertThrows(StudentNotFoundException.class,
+                () -> gradesService.findGradesPageForStudent(studentId+1, null, null, null, null));
+    }
+
     @Test
     public void getAllGrades_studentNotExists() {
         assertThrows(StudentNotFoundException.class, () -> gradesService.findAllGradesForStudent(studentId+1));
@@ -179,6 +250,25 @@ public class GradesServiceIT extends IntegrationTest {
                 () -> assertEquals(createdGrade.dateOfMark(), grade.dateOfMark()));
     }
 
+    @Test
+    public void getAllGradesBySubject_constantStatementCount() {
+        for (int i = 0; i < 5; i++) {
+            registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student" + i + "@mail.ru"));
+        }
+        studentRepository.findAll()
+                .forEach(st -> gradesService.save(createGradeDTOByStudentIdAndSubjectId(st.getId(), subjectId)));
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var foundGrades = gradesService.findAllBySubjectId(subjectId);
+
+        assertAll("Grouped assertions for statements count",
+                () -> assertEquals(7, foundGrades.size()),
+                () -> assertEquals(2, statistics.getPrepareStatementCount()),
+                () -> assertEquals(0, statistics.getEntityLoadCount()));
+    }
+
     @Test
     public void getAllGradesSubject_subjectNotExists() {
         assertThrows(SubjectNotFoundException.class, () -> gradesService.findAllBySubjectId(subjectId+1));
@@ -231,4 +321,189 @@ public class GradesServiceIT extends IntegrationTest {
         assertThrows(GradeNotFoundException.class, () -> gradesService.deleteById(gradeId+1));
     }
 
+    @Test
+    public void createGrade_addsGradeToStatistics() {
+        gradesService.save(GradeDTO
+                .builder()
+                .mark(5)
+                .subjectId(subjectId)
+                .comment("Отлично")
+                .dateOfMark(now())
+                .studentId(studentId)
+                .build());
+
+        var stats = gradeAnalyticsService.findSubjectAnalytics(subjectId, now()).summary();
+
+        assertAll("Grouped assertions for subject statistics",
+                () -> assertEquals(2, stats.count()),
+                () -> assertEquals(4.5, stats.average()),
+                () -> assertEquals(1L, stats.distribution().get(4)),
+                () -> assertEquals(1L, stats.distribution().get(5)));
+    }
+
+    @Test
+    public void updateGradeById_replacesGradeInStatistics() {
+        gradesService.update(GradeDTO
+                .builder()
+                .mark(2)
+                .subjectId(subjectId)
+                .comment("Плохо")
+                .dateOfMark(now())
+                .studentId(studentId)
+                .build(), gradeId);
+
+        var analytics = gradeAnalyticsService.findStudentAnalytics(studentId, now());
+
+        assertAll("Grouped assertions for student statistics",
+                () -> assertEquals(1, analytics.summary().count()),
+                () -> assertEquals(2.0, analytics.summary().average()),
+                () -> assertEquals(0L, analytics.summary().distribution().get(4)),
+                () -> assertEquals(1, analytics.subjects().size()));
+    }
+
+    @Test
+    public void deleteGradeById_removesGradeFromStatistics() {
+        gradesService.deleteById(gradeId);
+
+        assertEquals(0, gradeAnalyticsService.findSubjectAnalytics(subjectId, now()).summary().count());
+        assertTrue(gradeAnalyticsService.findSummaryForStudents(List.of(studentId), now()).isEmpty());
+    }
+
+    @Test
+    public void updateGradeById_concurrentUpdates_statisticsMatchFinalMark() throws Exception {
+        updateConcurrently(List.of(2, 3, 5, 2, 3, 5, 2, 3));
+
+        var finalMark = gradeRepository.findById(gradeId).orElseThrow().getMark();
+        var stats = gradeAnalyticsService.findSubjectAnalytics(subjectId, now()).summary();
+
+        assertAll("Grouped assertions for statistics after concurrent updates",
+                () -> assertEquals(1, stats.count()),
+                () -> assertEquals(finalMark.doubleValue(), stats.average()),
+                () -> assertEquals(1L, stats.distribution().get(finalMark)));
+    }
+
+    @Test
+    public void createGrade_addsGradeToClassRanking() {
+        var classId = classRepository.findAll().getFirst().getId();
+
+        var ranking = gradeReportService.findClassRanking(classId, now(), now()).students();
+
+        assertAll("Grouped assertions for class ranking",
+                () -> assertEquals(1, ranking.size()),
+                () -> assertEquals(studentId, ranking.getFirst().studentId()),
+                () -> assertEquals(1, ranking.getFirst().gradesCount()),
+                () -> assertEquals(createdGrade.mark().doubleValue(), ranking.getFirst().average()));
+    }
+
+    @Test
+    public void deleteGradeById_removesGradeFromClassRanking() {
+        var classId = classRepository.findAll().getFirst().getId();
+
+        gradesService.deleteById(gradeId);
+
+        assertTrue(gradeReportService.findClassRanking(classId, now(), now()).students().isEmpty());
+    }
+
+    @Test
+    public void updateGradeById_concurrentUpdates_classRankingMatchesFinalMark() throws Exception {
+        var classId = classRepository.findAll().getFirst().getId();
+
+        updateConcurrently(List.of(5, 2, 3, 5, 2, 3, 5, 2));
+
+        var finalMark = gradeRepository.findById(gradeId).orElseThrow().getMark();
+        var ranking = gradeReportService.findClassRanking(classId, now(), now()).students();
+
+        assertAll("Grouped assertions for class ranking after concurrent updates",
+                () -> assertEquals(1, ranking.size()),
+                () -> assertEquals(1, ranking.getFirst().gradesCount()),
+                () -> assertEquals(finalMark.doubleValue(), ranking.getFirst().average()));
+    }
+
+    @Test
+    public void deleteGradeById_concurrentWithUpdate_classRankingEmpty() throws Exception {
+        var classId = classRepository.findAll().getFirst().getId();
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var update = executor.submit(() -> {
+                start.await();
+                gradesService.update(GradeDTO
+                        .builder()
+                        .mark(2)
+                        .subjectId(subjectId)
+                        .comment("Исправлено")
+                        .dateOfMark(now())
+                        .studentId(studentId)
+                        .build(), gradeId);
+                return null;
+            });
+            var delete = executor.submit(() -> {
+                start.await();
+                gradesService.deleteById(gradeId);
+                return null;
+            });
+            start.countDown();
+            delete.get(30, TimeUnit.SECONDS);
+            try {
+                update.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertInstanceOf(GradeNotFoundException.class, e.getCause());
+            }
+        }
+
+        assertTrue(gradeReportService.findClassRanking(classId, now(), now()).students().isEmpty());
+    }
+
+    @Test
+    public void addSubjectsToClass_gradesMovedToNewClassAfterReconciliation() {
+        var oldClassId = classRepository.findAll().getFirst().getId();
+        classService.save(ClassDTO
+                .builder()
+                .number(6)
+                .letter("Б")
+                .description("Тестовое описание класса")
+                .build());
+        var newClassId = classRepository.findAll().stream()
+                .filter(cl -> !cl.getId().equals(oldClassId))
+                .findFirst().orElseThrow().getId();
+
+        classService.addSubjectsToClass(newClassId, List.of(subjectId));
+        assertEquals(1, dirtyGradeMonthRepository.count());
+
+        gradeAggregateReconciler.reconcileDirtyMonths();
+        var parallel = gradeReportService.findParallelReport(6, now(), now());
+
+        assertAll("Grouped assertions for rebuilt aggregates",
+                () -> assertEquals(0, dirtyGradeMonthRepository.count()),
+                () -> assertTrue(gradeReportService.findClassRanking(oldClassId, now(), now()).students().isEmpty()),
+                () -> assertEquals(1, gradeReportService.findClassRanking(newClassId, now(), now()).students().size()),
+                () -> assertEquals(1, parallel.classes().size()),
+                () -> assertEquals(newClassId, parallel.classes().getFirst().classId()));
+    }
+
+    private void updateConcurrently(List<Integer> marks) throws Exception {
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(marks.size())) {
+            var updates = marks.stream()
+                    .map(mark -> executor.submit(() -> {
+                        start.await();
+                        gradesService.update(GradeDTO
+                                .builder()
+                                .mark(mark)
+                                .subjectId(subjectId)
+                                .comment("Исправлено")
+                                .dateOfMark(now())
+                                .studentId(studentId)
+                                .build(), gradeId);
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+
+            for (var update : updates) {
+                update.get(30, TimeUnit.SECONDS);
+            }
+        }
+    }
 }
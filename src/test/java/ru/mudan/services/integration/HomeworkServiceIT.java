@@ -1,11 +1,16 @@
 package ru.mudan.services.integration;
 
+import java.time.LocalDate;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import ru.mudan.domain.repositories.*;
 import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.dto.homework.HomeworkCreateDTO;
+import ru.mudan.dto.homework.HomeworkSearchScope;
 import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.HomeworkNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
@@ -188,4 +193,59 @@ public class HomeworkServiceIT extends IntegrationTest {
 
         assertThrows(HomeworkNotFoundException.class, () -> homeworkService.update(homeworkId+1, hwForUpdate));
     }
+
+    @Test
+    public void search_wordForm_foundByStem() {
+        var found = homeworkService.search("тесты", HomeworkSearchScope.ALL, PageRequest.of(0, 20));
+
+        assertAll("Grouped assertions for found homework",
+                () -> assertEquals(1, found.getTotalElements()),
+                () -> assertEquals(homeworkId, found.getContent().getFirst().id()),
+                () -> assertEquals("Тест пройти", found.getContent().getFirst().title()),
+                () -> assertEquals(6, found.getContent().getFirst().classNumber()));
+    }
+
+    @Test
+    public void search_homeworkWithoutClass_found() {
+        var homework = homeworkRepository.findById(homeworkId).get();
+        homework.setClassEntity(null);
+        homeworkRepository.save(homework);
+
+        var found = homeworkService.search("тест", HomeworkSearchScope.ALL, PageRequest.of(0, 20));
+
+        assertAll("Grouped assertions for homework without class",
+                () -> assertEquals(1, found.getContent().size()),
+                () -> assertEquals(homeworkId, found.getContent().getFirst().id()),
+                () -> assertNull(found.getContent().getFirst().classNumber()));
+    }
+
+    @Test
+    public void search_matchInTitle_rankedAboveMatchInDescription() {
+        homeworkService.save(HomeworkCreateDTO
+                .builder()
+                .title("Параграф 5")
+                .description("Прочитать и пройти тест в конце")
+                .deadline(LocalDate.now().plusDays(1))
+                .subjectId(subjectId)
+                .build());
+
+        var found = homeworkService.search("тест", HomeworkSearchScope.ALL, PageRequest.of(0, 20));
+
+        assertAll("Grouped assertions for ranked homeworks",
+                () -> assertEquals(2, found.getTotalElements()),
+                () -> assertEquals(homeworkId, found.getContent().getFirst().id()));
+    }
+
+    @Test
+    public void search_otherClassScope_notFound() {
+        var classScope = new HomeworkSearchScope(false, Set.of(classId + 1), Set.of());
+        var subjectScope = new HomeworkSearchScope(false, Set.of(), Set.of(subjectId));
+
+        var foundInClass = homeworkService.search("тест", classScope, PageRequest.of(0, 20));
+        var foundInSubject = homeworkService.search("тест", subjectScope, PageRequest.of(0, 20));
+
+        assertAll("Grouped assertions for scoped search",
+                () -> assertEquals(0, foundInClass.getTotalElements()),
+                () -> assertEquals(1, foundInSubject.getTotalElements()));
+    }
 }
@@ -1,5 +1,6 @@
 package ru.mudan.services.integration;
 
+import jakarta.persistence.EntityManagerFactory;
 import liquibase.Liquibase;
 import liquibase.Contexts;
 import liquibase.LabelExpression;
@@ -7,6 +8,9 @@ import liquibase.database.Database;
 import liquibase.database.DatabaseFactory;
 import liquibase.database.jvm.JdbcConnection;
 import liquibase.resource.DirectoryResourceAccessor;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -16,6 +20,7 @@ import org.testcontainers.containers.JdbcDatabaseContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import ru.mudan.ProjectNaumenApplication;
+import ru.mudan.services.auth.AccessSetCache;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -30,6 +35,11 @@ public abstract class IntegrationTest {
 
     public static PostgreSQLContainer<?> POSTGRES;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private AccessSetCache accessSetCache;
+
     static {
         POSTGRES = new PostgreSQLContainer<>("postgres:16")
                 .withDatabaseName("project")
@@ -56,6 +66,23 @@ public abstract class IntegrationTest {
         liquibase.update(new Contexts(), new LabelExpression());
     }
 
+    /**
+     * Тесты очищают таблицы каскадным удалением в БД и TRUNCATE, о которых Hibernate не знает,
+     * поэтому второй уровень кэша сбрасывается после каждого теста
+     */
+    @AfterEach
+    public void evictSecondLevelCache() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+
+    /**
+     * Права пользователей кэшируются по email, а тесты создают пользователей с одними и теми же email
+     */
+    @AfterEach
+    public void clearAccessSetCache() {
+        accessSetCache.invalidateAll();
+    }
+
     @DynamicPropertySource
     static void jdbcProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
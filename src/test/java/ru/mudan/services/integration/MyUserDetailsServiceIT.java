@@ -1,12 +1,20 @@
 package ru.mudan.services.integration;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.AccessSet;
+import ru.mudan.dto.auth.UserPrincipal;
+import ru.mudan.dto.schedule.WeekTimetable;
 import ru.mudan.exceptions.entity.not_found.UserNotFoundException;
 import ru.mudan.services.auth.MyUserDetailsService;
 import ru.mudan.services.users.RegistrationService;
+import ru.mudan.util.enums.Role;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static ru.mudan.UtilConstants.*;
@@ -27,9 +35,18 @@ public class MyUserDetailsServiceIT extends IntegrationTest {
     private AdminRepository adminRepository;
     @Autowired
     private AppUserRepository appUserRepository;
+    @Autowired
+    private Cache<String, UserPrincipal> userDetailsCache;
+    @Autowired
+    private Cache<String, AccessSet> userAccessSetCache;
+    @Autowired
+    private Cache<Long, WeekTimetable> teacherTimetableCache;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @AfterEach
     public void clearTables() {
+        userDetailsCache.invalidateAll();
         parentRepository.deleteAll();
         studentRepository.deleteAll();
         teacherRepository.deleteAll();
@@ -236,4 +253,67 @@ public class MyUserDetailsServiceIT extends IntegrationTest {
                 () -> assertEquals(0, studentRepository.count()),
                 () -> assertThrows(UserNotFoundException.class, () -> myUserDetailsService.loadUserByUsername(studentForCreating.email())));
     }
+
+    @Test
+    public void loadPrincipalByEmail_cachedAfterFirstLoad() {
+        var teacherForCreating = getDefaultRegisterUserDTOByEmail("test@mail.ru");
+        registrationService.registerTeacher(teacherForCreating);
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var principalFirst = myUserDetailsService.loadPrincipalByEmail(teacherForCreating.email());
+        var principalSecond = myUserDetailsService.loadPrincipalByEmail(teacherForCreating.email());
+
+        assertAll("Grouped assertions for cached principal",
+                () -> assertEquals(principalFirst, principalSecond),
+                () -> assertEquals(Role.ROLE_TEACHER, principalSecond.role()),
+                () -> assertEquals(teacherForCreating.email(), principalSecond.getUsername()),
+                () -> assertEquals(2, statistics.getPrepareStatementCount()));
+    }
+
+    @Test
+    public void updateUser_invalidatesCachedPrincipal() {
+        var studentForCreating = getDefaultRegisterUserDTOByEmail("test@mail.ru");
+        registrationService.registerStudent(studentForCreating);
+
+        myUserDetailsService.loadPrincipalByEmail(studentForCreating.email());
+
+        assertNotNull(userDetailsCache.getIfPresent(studentForCreating.email()));
+
+        myUserDetailsService.updateUser(getDefaultUserUpdateDTOByEmail(studentForCreating.email()));
+
+        assertNull(userDetailsCache.getIfPresent(studentForCreating.email()));
+    }
+
+    @Test
+    public void deleteUserByEmail_invalidatesCachedPrincipal() {
+        var parentForCreating = getDefaultRegisterUserDTOByEmail("test@mail.ru");
+        registrationService.registerParent(parentForCreating);
+
+        myUserDetailsService.loadPrincipalByEmail(parentForCreating.email());
+
+        myUserDetailsService.deleteUserByEmail(parentForCreating.email());
+
+        assertAll("Grouped assertions for deleted parent",
+                () -> assertNull(userDetailsCache.getIfPresent(parentForCreating.email())),
+                () -> assertThrows(UserNotFoundException.class,
+                        () -> myUserDetailsService.loadPrincipalByEmail(parentForCreating.email())));
+    }
+
+    @Test
+    public void deleteTeacherByEmail_dependentCachesCleared() {
+        var teacherForCreating = getDefaultRegisterUserDTOByEmail("test@mail.ru");
+        registrationService.registerTeacher(teacherForCreating);
+        var teacherId = teacherRepository.findAll().getFirst().getId();
+
+        userAccessSetCache.put(teacherForCreating.email(), AccessSet.ofTeacher(List.of()));
+        teacherTimetableCache.put(teacherId, new WeekTimetable(List.of(), List.of()));
+
+        myUserDetailsService.deleteUserByEmail(teacherForCreating.email());
+
+        assertAll("Grouped assertions for caches after deleted teacher",
+                () -> assertNull(userAccessSetCache.getIfPresent(teacherForCreating.email())),
+                () -> assertNull(teacherTimetableCache.getIfPresent(teacherId)));
+    }
 }
@@ -0,0 +1,227 @@
+package ru.mudan.services.integration;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.RegisterUserDTO;
+import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.dto.grades.GradeDTO;
+import ru.mudan.dto.homework.HomeworkDTO;
+import ru.mudan.services.classes.ClassService;
+import ru.mudan.services.grades.GradesService;
+import ru.mudan.services.homework.HomeworkService;
+import ru.mudan.services.notification.digest.ParentDigestSender;
+import ru.mudan.services.subjects.SubjectService;
+import ru.mudan.services.users.RegistrationService;
+import ru.mudan.util.enums.OutboxStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.mudan.UtilConstants.*;
+
+public class ParentDigestIT extends IntegrationTest {
+
+    private static final String PARENT_EMAIL = "parent@mail.ru";
+
+    @Autowired
+    private ParentDigestSender parentDigestSender;
+    @Autowired
+    private ParentDigestEventRepository parentDigestEventRepository;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private GradesService gradesService;
+    @Autowired
+    private HomeworkService homeworkService;
+    @Autowired
+    private ClassService classService;
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private SubjectService subjectService;
+    @Autowired
+    private GradeRepository gradeRepository;
+    @Autowired
+    private HomeworkRepository homeworkRepository;
+    @Autowired
+    private SubjectsRepository subjectsRepository;
+    @Autowired
+    private ClassRepository classRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private ParentRepository parentRepository;
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    private List<Long> studentIds;
+    private Long subjectId;
+    private String subjectName;
+
+    @BeforeEach
+    public void createFamilyInClass() {
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student1@mail.ru"));
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student2@mail.ru"));
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student3@mail.ru"));
+        registrationService.registerTeacher(getDefaultRegisterUserDTOByEmail("teacher@mail.ru"));
+        studentIds = studentRepository.findAll().stream()
+                .map(Student::getId)
+                .sorted()
+                .toList();
+
+        classService.save(ClassDTO
+                .builder()
+                .number(6)
+                .letter("А")
+                .description("Тестовое описание класса")
+                .studentsIds(studentIds)
+                .build());
+        var classId = classRepository.findAll().getFirst().getId();
+        var teacherId = teacherRepository.findAll().getFirst().getId();
+        subjectService.save(createSubjectDTOByClassIdAndTeacherId(classId, teacherId));
+        var subject = subjectsRepository.findAll().getFirst();
+        subjectId = subject.getId();
+        subjectName = subject.getName();
+
+        registrationService.registerParent(RegisterUserDTO
+                .builder()
+                .firstname("Анна")
+                .lastname("Максимова")
+                .patronymic("Петровна")
+                .password("test1234")
+                .email(PARENT_EMAIL)
+                .studentsIds(studentIds.subList(0, 2))
+                .build());
+        emailOutboxRepository.deleteAll();
+    }
+
+    @AfterEach
+    public void clearTables() {
+        parentDigestEventRepository.deleteAll();
+        emailOutboxRepository.deleteAll();
+        gradeRepository.deleteAll();
+        homeworkRepository.deleteAll();
+        subjectsRepository.deleteAll();
+        studentRepository.deleteAll();
+        classRepository.deleteAll();
+        parentRepository.deleteAll();
+        teacherRepository.deleteAll();
+        appUserRepository.deleteAll();
+    }
+
+    @Test
+    public void sendDigests_oneEmailPerFamily() {
+        gradesService.save(createGradeDTOByStudentIdAndSubjectId(studentIds.get(0), subjectId));
+        gradesService.save(createGradeDTOByStudentIdAndSubjectId(studentIds.get(1), subjectId));
+        homeworkService.save(createHomeworkCreateDTOBySubjectId(subjectId));
+
+        assertEquals(4, parentDigestEventRepository.count());
+
+        parentDigestSender.sendDigests();
+
+        var queued = emailOutboxRepository.findAll();
+
+        assertAll("Grouped assertions for queued digest",
+                () -> assertEquals(1, queued.size()),
+                () -> assertEquals(PARENT_EMAIL, queued.getFirst().getRecipient()),
+                () -> assertEquals(OutboxStatus.PENDING, queued.getFirst().getStatus()),
+                () -> assertTrue(queued.getFirst().getText().contains(subjectName)),
+                () -> assertTrue(queued.getFirst().getText().contains("Тест пройти")),
+                () -> assertEquals(0, parentDigestEventRepository.count()));
+    }
+
+    @Test
+    public void updateGrade_beforeDigest_eventUpdated() {
+        gradesService.save(createGradeDTOByStudentIdAndSubjectId(studentIds.get(0), subjectId));
+        var grade = gradeRepository.findAll().getFirst();
+        var dateOfMark = LocalDate.now().minusDays(1);
+
+        gradesService.update(GradeDTO
+                .builder()
+                .mark(2)
+                .subjectId(subjectId)
+                .comment("Исправлено")
+                .dateOfMark(dateOfMark)
+                .studentId(studentIds.get(0))
+                .build(), grade.getId());
+
+        var event = parentDigestEventRepository.findAll().getFirst();
+        assertAll("Grouped assertions for updated grade event",
+                () -> assertEquals(grade.getId(), event.getGradeId()),
+                () -> assertEquals(2, event.getMark()),
+                () -> assertEquals(dateOfMark, event.getEventDate()));
+    }
+
+    @Test
+    public void deleteGrade_beforeDigest_eventDeletedAndNoDigest() {
+        gradesService.save(createGradeDTOByStudentIdAndSubjectId(studentIds.get(0), subjectId));
+
+        gradesService.deleteById(gradeRepository.findAll().getFirst().getId());
+        parentDigestSender.sendDigests();
+
+        assertAll("Grouped assertions for deleted grade event",
+                () -> assertEquals(0, parentDigestEventRepository.count()),
+                () -> assertEquals(0, emailOutboxRepository.count()));
+    }
+
+    @Test
+    public void updateHomework_beforeDigest_eventsUpdated() {
+        homeworkService.save(createHomeworkCreateDTOBySubjectId(subjectId));
+        var homework = homeworkRepository.findAll().getFirst();
+        var deadline = LocalDate.now().plusDays(3);
+
+        homeworkService.update(homework.getId(), HomeworkDTO
+                .builder()
+                .title("Новое название")
+                .description("На странице 6")
+                .deadline(deadline)
+                .build());
+
+        var events = parentDigestEventRepository.findAll();
+        assertAll("Grouped assertions for updated homework events",
+                () -> assertEquals(2, events.size()),
+                () -> assertTrue(events.stream().allMatch(event -> homework.getId().equals(event.getHomeworkId()))),
+                () -> assertTrue(events.stream().allMatch(event -> "Новое название".equals(event.getTitle()))),
+                () -> assertTrue(events.stream().allMatch(event -> deadline.equals(event.getEventDate()))));
+    }
+
+    @Test
+    public void deleteHomework_beforeDigest_eventsDeleted() {
+        homeworkService.save(createHomeworkCreateDTOBySubjectId(subjectId));
+        gradesService.save(createGradeDTOByStudentIdAndSubjectId(studentIds.get(0), subjectId));
+
+        homeworkService.delete(homeworkRepository.findAll().getFirst().getId());
+
+        var events = parentDigestEventRepository.findAll();
+        assertAll("Grouped assertions for deleted homework events",
+                () -> assertEquals(1, events.size()),
+                () -> assertNotNull(events.getFirst().getGradeId()));
+    }
+
+    @Test
+    public void sendDigests_studentWithoutParent_noDigest() {
+        gradesService.save(createGradeDTOByStudentIdAndSubjectId(studentIds.get(2), subjectId));
+
+        parentDigestSender.sendDigests();
+
+        assertAll("Grouped assertions for student without parent",
+                () -> assertEquals(0, parentDigestEventRepository.count()),
+                () -> assertEquals(0, emailOutboxRepository.count()));
+    }
+
+    @Test
+    public void sendDigests_eventsAlreadySent_noRepeatedDigest() {
+        gradesService.save(createGradeDTOByStudentIdAndSubjectId(studentIds.get(0), subjectId));
+
+        parentDigestSender.sendDigests();
+        parentDigestSender.sendDigests();
+
+        assertEquals(1, emailOutboxRepository.count());
+    }
+}
@@ -0,0 +1,190 @@
+package ru.mudan.services.integration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.RegisterUserDTO;
+import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.dto.parent.ParentDTO;
+import ru.mudan.dto.parent.ParentOverviewDTO;
+import ru.mudan.services.classes.ClassService;
+import ru.mudan.services.grades.GradesService;
+import ru.mudan.services.homework.HomeworkService;
+import ru.mudan.services.parent.ParentOverviewService;
+import ru.mudan.services.parent.ParentService;
+import ru.mudan.services.schedule.ScheduleService;
+import ru.mudan.services.subjects.SubjectService;
+import ru.mudan.services.users.RegistrationService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.mudan.UtilConstants.*;
+
+public class ParentOverviewIT extends IntegrationTest {
+
+    @Autowired
+    private ParentOverviewService parentOverviewService;
+    @Autowired
+    private ParentService parentService;
+    @Autowired
+    private Cache<Long, ParentOverviewDTO> parentOverviewCache;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private GradesService gradesService;
+    @Autowired
+    private HomeworkService homeworkService;
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private ClassService classService;
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private SubjectService subjectService;
+    @Autowired
+    private ParentDigestEventRepository parentDigestEventRepository;
+    @Autowired
+    private GradeRepository gradeRepository;
+    @Autowired
+    private HomeworkRepository homeworkRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private SubjectsRepository subjectsRepository;
+    @Autowired
+    private ClassRepository classRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private ParentRepository parentRepository;
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    private List<Long> studentIds;
+    private Long classId;
+
+    @BeforeEach
+    public void createFamiliesInClass() {
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student1@mail.ru"));
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student2@mail.ru"));
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student3@mail.ru"));
+        registrationService.registerTeacher(getDefaultRegisterUserDTOByEmail("teacher@mail.ru"));
+        studentIds = studentRepository.findAll().stream()
+                .map(Student::getId)
+                .sorted()
+                .toList();
+
+        classService.save(ClassDTO
+                .builder()
+                .number(6)
+                .letter("А")
+                .description("Тестовое описание класса")
+                .studentsIds(studentIds)
+                .build());
+        classId = classRepository.findAll().getFirst().getId();
+        var teacherId = teacherRepository.findAll().getFirst().getId();
+        subjectService.save(createSubjectDTOByClassIdAndTeacherId(classId, teacherId));
+        var subjectId = subjectsRepository.findAll().getFirst().getId();
+
+        scheduleService.save(createScheduleCreateDTOBySubjectIdAndClassId(subjectId, classId));
+        homeworkService.save(createHomeworkCreateDTOBySubjectId(subjectId));
+        studentIds.forEach(id -> gradesService.save(createGradeDTOByStudentIdAndSubjectId(id, subjectId)));
+
+        registerParent("parent1@mail.ru", studentIds.subList(0, 2));
+        registerParent("parent2@mail.ru", studentIds.subList(2, 3));
+    }
+
+    @AfterEach
+    public void clearTables() {
+        parentOverviewCache.invalidateAll();
+        parentDigestEventRepository.deleteAll();
+        gradeRepository.deleteAll();
+        homeworkRepository.deleteAll();
+        scheduleRepository.deleteAll();
+        subjectsRepository.deleteAll();
+        studentRepository.deleteAll();
+        classRepository.deleteAll();
+        parentRepository.deleteAll();
+        teacherRepository.deleteAll();
+        appUserRepository.deleteAll();
+    }
+
+    @Test
+    public void findOverview_allChildrenOnMonday() {
+        var parent = findParentByEmail("parent1@mail.ru");
+
+        var overview = parentOverviewService.findOverview(parent, LocalDate.now().with(DayOfWeek.MONDAY));
+
+        assertAll("Grouped assertions for parent overview",
+                () -> assertEquals(2, overview.students().size()),
+                () -> assertEquals(2, overview.childrenStats().size()),
+                () -> assertEquals(1, overview.latestGrades().get(studentIds.get(0)).size()),
+                () -> assertEquals(4, overview.latestGrades().get(studentIds.get(1)).getFirst().mark()),
+                () -> assertFalse(overview.latestGrades().containsKey(studentIds.get(2))),
+                () -> assertEquals("Тест пройти", overview.upcomingHomeworks().get(classId).getFirst().title()),
+                () -> assertEquals(1, overview.todayLessons().get(classId).size()));
+    }
+
+    @Test
+    public void findOverview_statementCountNotDependsOnChildrenCount() {
+        var monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        var parentWithTwoChildren = findParentByEmail("parent1@mail.ru");
+        var parentWithOneChild = findParentByEmail("parent2@mail.ru");
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        parentOverviewService.findOverview(parentWithTwoChildren, monday);
+        var twoChildrenStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        parentOverviewService.findOverview(parentWithOneChild, monday);
+        var oneChildStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(oneChildStatements, twoChildrenStatements);
+    }
+
+    @Test
+    public void findOverview_cachedAfterFirstBuild() {
+        var monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        var parent = findParentByEmail("parent1@mail.ru");
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        var built = parentOverviewService.findOverview(parent, monday);
+        statistics.clear();
+        var cached = parentOverviewService.findOverview(parent, monday);
+
+        assertAll("Grouped assertions for cached overview",
+                () -> assertSame(built, cached),
+                () -> assertEquals(0, statistics.getPrepareStatementCount()));
+    }
+
+    private void registerParent(String email, List<Long> childrenIds) {
+        registrationService.registerParent(RegisterUserDTO
+                .builder()
+                .firstname("Анна")
+                .lastname("Максимова")
+                .patronymic("Петровна")
+                .password("test1234")
+                .email(email)
+                .studentsIds(childrenIds)
+                .build());
+    }
+
+    private ParentDTO findParentByEmail(String email) {
+        return parentService.findAllParents().stream()
+                .filter(parent -> parent.email().equals(email))
+                .findFirst()
+                .orElseThrow();
+    }
+}
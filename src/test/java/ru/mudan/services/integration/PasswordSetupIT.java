@@ -0,0 +1,91 @@
+package ru.mudan.services.integration;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.mudan.domain.entity.PasswordSetupToken;
+import ru.mudan.domain.repositories.AppUserRepository;
+import ru.mudan.domain.repositories.EmailOutboxRepository;
+import ru.mudan.domain.repositories.PasswordSetupTokenRepository;
+import ru.mudan.domain.repositories.TeacherRepository;
+import ru.mudan.exceptions.PasswordSetupTokenInvalidException;
+import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.services.auth.PasswordHashingService;
+import ru.mudan.services.auth.PasswordSetupService;
+import ru.mudan.services.users.RegistrationService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.mudan.UtilConstants.*;
+
+public class PasswordSetupIT extends IntegrationTest {
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("set-password\\?token=([A-Za-z0-9_-]+)");
+    private static final String EMAIL = "teacher@mail.ru";
+    private static final String NEW_PASSWORD = "newPassword1";
+
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private PasswordSetupService passwordSetupService;
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+    @Autowired
+    private MyUserDetailsService myUserDetailsService;
+    @Autowired
+    private PasswordSetupTokenRepository passwordSetupTokenRepository;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @AfterEach
+    public void clearTables() {
+        emailOutboxRepository.deleteAll();
+        passwordSetupTokenRepository.deleteAll();
+        teacherRepository.deleteAll();
+        appUserRepository.deleteAll();
+    }
+
+    @Test
+    public void setPassword_linkFromRegistrationEmail_passwordReplacedOnce() {
+        registrationService.registerTeacher(getDefaultRegisterUserDTOByEmail(EMAIL));
+        var token = extractToken(emailOutboxRepository.findAll().getFirst().getText());
+
+        passwordSetupService.setPassword(token, NEW_PASSWORD);
+
+        var hashedPassword = myUserDetailsService.loadPrincipalByEmail(EMAIL).getPassword();
+        var storedToken = passwordSetupTokenRepository.findAll().getFirst();
+
+        assertAll("Grouped assertions for password set by link",
+                () -> assertTrue(passwordHashingService.matches(NEW_PASSWORD, hashedPassword)),
+                () -> assertNotEquals(token, storedToken.getTokenHash()),
+                () -> assertNotNull(storedToken.getUsedAt()),
+                () -> assertThrows(PasswordSetupTokenInvalidException.class,
+                        () -> passwordSetupService.setPassword(token, "otherPassword1")));
+    }
+
+    @Test
+    public void deleteExpiredTokens_onlyExpiredTokensDeleted() {
+        var now = LocalDateTime.now();
+        var expired = passwordSetupTokenRepository.save(
+                new PasswordSetupToken(EMAIL, "a".repeat(64), now.minusDays(4), now.minusDays(1)));
+        var active = passwordSetupTokenRepository.save(
+                new PasswordSetupToken(EMAIL, "b".repeat(64), now, now.plusDays(1)));
+
+        passwordSetupService.deleteExpiredTokens();
+
+        assertAll("Grouped assertions for expired tokens cleanup",
+                () -> assertFalse(passwordSetupTokenRepository.existsById(expired.getId())),
+                () -> assertTrue(passwordSetupTokenRepository.existsById(active.getId())));
+    }
+
+    private String extractToken(String emailText) {
+        var matcher = TOKEN_PATTERN.matcher(emailText);
+        assertTrue(matcher.find(), emailText);
+        return matcher.group(1);
+    }
+}
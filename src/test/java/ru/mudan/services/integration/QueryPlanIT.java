@@ -0,0 +1,153 @@
+package ru.mudan.services.integration;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class QueryPlanIT extends IntegrationTest {
+
+    private static final String TRUNCATE_TABLES = """
+            TRUNCATE grades, homeworks, schedules, subjects, students, parents, teachers, classes, app_users
+            RESTART IDENTITY CASCADE
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public static Stream<Arguments> provideHotQueries() {
+        return Stream.of(
+                Arguments.of("grades",
+                        """
+                        SELECT * FROM grades WHERE student_id = 42 AND subject_id = 42
+                        AND date_of_mark BETWEEN DATE '2021-09-01' AND DATE '2022-08-31'
+                        ORDER BY date_of_mark, id
+                        """),
+                Arguments.of("grades",
+                        """
+                        SELECT * FROM grades WHERE student_id = 42
+                        AND date_of_mark BETWEEN DATE '2021-01-01' AND DATE '2021-12-31'
+                        AND date_of_mark >= DATE '2021-03-01' AND (date_of_mark > DATE '2021-03-01' OR id > 100)
+                        ORDER BY date_of_mark, id LIMIT 21
+                        """),
+                Arguments.of("grades",
+                        """
+                        SELECT g.id, g.mark, g.date_of_mark, g.comment, st.firstname, st.lastname
+                        FROM grades g JOIN students st ON st.id = g.student_id
+                        WHERE g.subject_id = 42 AND g.date_of_mark BETWEEN DATE '2021-09-01' AND DATE '2022-08-31'
+                        ORDER BY g.date_of_mark, g.id
+                        """),
+                Arguments.of("homeworks",
+                        "SELECT * FROM homeworks WHERE class_id = 42 AND subject_id = 42"),
+                Arguments.of("homeworks",
+                        "SELECT id FROM homeworks WHERE search_vector @@ websearch_to_tsquery('russian', 'ДЗ 42')"),
+                Arguments.of("schedules",
+                        "SELECT * FROM schedules WHERE class_id = 42 ORDER BY day_of_week, start_time"),
+                Arguments.of("schedules",
+                        "SELECT * FROM schedules WHERE subject_id = 42"),
+                Arguments.of("students",
+                        "SELECT * FROM students WHERE class_id = 42"),
+                Arguments.of("students",
+                        "SELECT * FROM students WHERE parent_id = 42"),
+                Arguments.of("students",
+                        "SELECT * FROM students WHERE search_name LIKE '%петров%' OR lower(email) LIKE '%петров%'"),
+                Arguments.of("parents",
+                        "SELECT * FROM parents WHERE search_name LIKE 'пе%' OR lower(email) LIKE 'пе%'"),
+                Arguments.of("subjects",
+                        "SELECT * FROM subjects WHERE class_id = 42"),
+                Arguments.of("subjects",
+                        "SELECT * FROM subjects WHERE teacher_id = 42"),
+                Arguments.of("app_users",
+                        "SELECT * FROM app_users WHERE email = 'user42@mail.ru'")
+        );
+    }
+
+    @BeforeAll
+    public void seedDataset() {
+        jdbcTemplate.execute(TRUNCATE_TABLES);
+        jdbcTemplate.execute("""
+                INSERT INTO classes(letter, number, description)
+                SELECT 'А', g % 11 + 1, 'Класс ' || g FROM generate_series(1, 60) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO teachers(firstname, lastname, patronymic, email, hashed_password)
+                SELECT 'Иван', 'Иванов', 'Иванович', 'teacher' || g || '@mail.ru', 'hash'
+                FROM generate_series(1, 100) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO parents(id, firstname, lastname, patronymic, email, hashed_password)
+                SELECT g, 'Иван', 'Иванов', 'Иванович', 'parent' || g || '@mail.ru', 'hash'
+                FROM generate_series(1, 100000) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO students(id, firstname, lastname, patronymic, email, hashed_password, class_id, parent_id)
+                SELECT g, 'Иван', 'Иванов', 'Иванович', 'student' || g || '@mail.ru', 'hash', g % 60 + 1, g
+                FROM generate_series(1, 100000) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO subjects(name, type, code, description, class_id, teacher_id)
+                SELECT 'Предмет', 'Базовый', 'SUBJECT' || g, 'Описание', g % 60 + 1, g % 100 + 1
+                FROM generate_series(1, 600) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO schedules(day_of_week, start_time, number_of_classroom, class_id, subject_id)
+                SELECT g % 5 + 1, TIME '08:00' + (g % 6) * INTERVAL '1 hour', g % 300 + 1, g % 60 + 1, g % 600 + 1
+                FROM generate_series(1, 1800) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO homeworks(title, description, deadline, class_id, subject_id)
+                SELECT 'ДЗ ' || g, 'Описание', DATE '2020-01-01' + g % 1800, g % 60 + 1, g % 600 + 1
+                FROM generate_series(1, 100000) g
+                """);
+        jdbcTemplate.execute("SELECT create_grades_partition(y) FROM generate_series(2019, 2024) y");
+        jdbcTemplate.execute("""
+                INSERT INTO grades(mark, date_of_mark, comment, student_id, subject_id)
+                SELECT g % 4 + 2, DATE '2020-01-01' + g % 1800, 'Комментарий', g % 1500 + 1, g % 600 + 1
+                FROM generate_series(1, 100000) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO app_users(user_id, role_name, email)
+                SELECT g, 'ROLE_STUDENT', 'user' || g || '@mail.ru' FROM generate_series(1, 3100) g
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    public void clearTables() {
+        jdbcTemplate.execute(TRUNCATE_TABLES);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideHotQueries")
+    public void hotQuery_notPlannedAsSequentialScan(String table, String query) {
+        var plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query, String.class));
+
+        assertFalse(plan.contains("Seq Scan on " + table), () -> "Sequential scan planned for query:\n"
+                + query + "\n" + plan);
+    }
+
+    @Test
+    public void dateBoundedGradesQuery_readsOnlyPartitionsOfPeriod() {
+        var plan = String.join("\n", jdbcTemplate.queryForList("""
+                EXPLAIN SELECT * FROM grades WHERE subject_id = 42
+                AND date_of_mark BETWEEN DATE '2021-09-01' AND DATE '2022-08-31'
+                """, String.class));
+
+        assertAll("Grouped assertions for partition pruning",
+                () -> assertTrue(plan.contains("grades_y2021"), plan),
+                () -> assertFalse(plan.contains("grades_y2020"), plan),
+                () -> assertFalse(plan.contains("grades_y2022"), plan),
+                () -> assertFalse(plan.contains("grades_default"), plan));
+    }
+}
@@ -1,6 +1,14 @@
 package ru.mudan.services.integration;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +17,10 @@ import ru.mudan.domain.repositories.*;
 import ru.mudan.dto.classes.ClassDTO;
 import ru.mudan.dto.schedule.ScheduleCreateDTO;
 import ru.mudan.dto.schedule.ScheduleUpdateDTO;
+import ru.mudan.dto.schedule.TimetableGenerateDTO;
+import ru.mudan.dto.schedule.WeekTimetable;
+import ru.mudan.exceptions.ScheduleConflictException;
+import ru.mudan.exceptions.TimetableGenerationException;
 import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
 import ru.mudan.exceptions.entity.not_found.ScheduleNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
@@ -41,6 +53,10 @@ public class ScheduleServiceIT extends IntegrationTest {
     private AppUserRepository appUserRepository;
     @Autowired
     private TeacherRepository teacherRepository;
+    @Autowired
+    private Cache<Long, WeekTimetable> classTimetableCache;
+    @Autowired
+    private Cache<Long, WeekTimetable> teacherTimetableCache;
 
     private Long classId;
     private Long teacherId;
@@ -79,6 +95,76 @@ public class ScheduleServiceIT extends IntegrationTest {
         subjectsRepository.deleteAll();
         teacherRepository.deleteAll();
         appUserRepository.deleteAll();
+        classTimetableCache.invalidateAll();
+        teacherTimetableCache.invalidateAll();
+    }
+
+    @Test
+    public void findTimetableForClass_cachedUntilScheduleChanged() {
+        var timetable = scheduleService.findTimetableForClass(classId);
+
+        assertAll("Grouped assertions for cached timetable",
+                () -> assertEquals(1, timetable.lessons().size()),
+                () -> assertEquals(1, timetable.days().size()),
+                () -> assertSame(timetable, classTimetableCache.getIfPresent(classId)),
+                () -> assertSame(timetable, scheduleService.findTimetableForClass(classId)));
+
+        scheduleService.save(ScheduleCreateDTO.builder()
+                .dayOfWeek(5)
+                .startTime(LocalTime.of(12, 0))
+                .numberOfClassroom(1)
+                .classId(classId)
+                .subjectId(subjectId)
+                .build());
+
+        assertAll("Grouped assertions for evicted timetable",
+                () -> assertNull(classTimetableCache.getIfPresent(classId)),
+                () -> assertEquals(2, scheduleService.findTimetableForClass(classId).lessons().size()));
+    }
+
+    @Test
+    public void findTimetableForTeacher_evictedOnUpdateAndDelete() {
+        var timetable = scheduleService.findTimetableForTeacher(teacherId);
+        var lesson = timetable.lessons().getFirst();
+
+        assertAll("Grouped assertions for teacher timetable",
+                () -> assertEquals(1, timetable.lessons().size()),
+                () -> assertEquals(subjectId, lesson.subjectId()),
+                () -> assertEquals("6А", lesson.className()));
+
+        scheduleService.update(new ScheduleUpdateDTO(3, lesson.startTime(), 42), scheduleId);
+
+        assertEquals(42, scheduleService.findTimetableForTeacher(teacherId).lessons().getFirst().numberOfClassRoom());
+
+        scheduleService.deleteById(scheduleId);
+
+        assertTrue(scheduleService.findTimetableForTeacher(teacherId).isEmpty());
+    }
+
+    @Test
+    public void findTimetableForClass_orderedByDayAndStartTime() {
+        scheduleService.save(ScheduleCreateDTO.builder()
+                .dayOfWeek(2)
+                .startTime(LocalTime.of(10, 0))
+                .numberOfClassroom(1)
+                .classId(classId)
+                .subjectId(subjectId)
+                .build());
+        scheduleService.save(ScheduleCreateDTO.builder()
+                .dayOfWeek(2)
+                .startTime(LocalTime.of(8, 0))
+                .numberOfClassroom(1)
+                .classId(classId)
+                .subjectId(subjectId)
+                .build());
+
+        var days = scheduleService.findTimetableForClass(classId).days();
+
+        assertAll("Grouped assertions for ordered timetable",
+                () -> assertEquals(DayOfWeek.MONDAY.getName(), days.getFirst().dayOfWeek()),
+                () -> assertEquals(DayOfWeek.TUESDAY.getName(), days.getLast().dayOfWeek()),
+                () -> assertEquals(LocalTime.of(8, 0), days.getLast().lessons().getFirst().startTime()),
+                () -> assertEquals(LocalTime.of(10, 0), days.getLast().lessons().getLast().startTime()));
     }
 
     @Test
@@ -86,6 +172,86 @@ public class ScheduleServiceIT extends IntegrationTest {
         assertEquals(1, scheduleRepository.findAll().size());
     }
 
+    @Test
+    public void createSchedule_classroomAlreadyTaken() {
+        var overlapping = ScheduleCreateDTO.builder()
+                .dayOfWeek(scheduleCreateDTO.dayOfWeek())
+                .startTime(scheduleCreateDTO.startTime())
+                .numberOfClassroom(scheduleCreateDTO.numberOfClassroom())
+                .classId(classId)
+                .subjectId(subjectId)
+                .build();
+
+        assertThrows(ScheduleConflictException.class, () -> scheduleService.save(overlapping));
+        assertEquals(1, scheduleRepository.count());
+    }
+
+    @Test
+    public void updateSchedule_conflictRejectedAndRolledBack() {
+        scheduleService.save(ScheduleCreateDTO.builder()
+                .dayOfWeek(4)
+                .startTime(LocalTime.of(10, 0))
+                .numberOfClassroom(2)
+                .classId(classId)
+                .subjectId(subjectId)
+                .build());
+
+        assertThrows(ScheduleConflictException.class,
+                () -> scheduleService.update(new ScheduleUpdateDTO(4, LocalTime.of(10, 30), 1), scheduleId));
+        assertDoesNotThrow(() -> scheduleService.update(new ScheduleUpdateDTO(4, LocalTime.of(10, 45), 1), scheduleId));
+    }
+
+    @Test
+    public void createSchedule_lessonDeletedInOtherTransaction_slotFree() {
+        scheduleRepository.deleteAll();
+
+        assertDoesNotThrow(() -> scheduleService.save(scheduleCreateDTO));
+        assertEquals(1, scheduleRepository.count());
+    }
+
+    @Test
+    public void createSchedule_concurrentSavesOfSameSlot_oneSaved() throws Exception {
+        var sameSlot = ScheduleCreateDTO.builder()
+                .dayOfWeek(5)
+                .startTime(LocalTime.of(12, 0))
+                .numberOfClassroom(7)
+                .classId(classId)
+                .subjectId(subjectId)
+                .build();
+        var saves = 4;
+        var start = new CountDownLatch(1);
+        var conflicts = 0;
+
+        try (var executor = Executors.newFixedThreadPool(saves)) {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < saves; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    scheduleService.save(sameSlot);
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (var result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertInstanceOf(ScheduleConflictException.class, e.getCause());
+                    conflicts++;
+                }
+            }
+        }
+
+        assertEquals(saves - 1, conflicts);
+        assertEquals(2, scheduleRepository.count());
+    }
+
+    @Test
+    public void validateTimetable_noConflicts() {
+        assertTrue(scheduleService.validateTimetable().isEmpty());
+    }
+
     @Test
     public void createSchedule_subjectNotExists() {
         var scheduleCreateDTOWithNotExistedSubjectId = createScheduleCreateDTOBySubjectIdAndClassId(subjectId+1, classId);
@@ -161,6 +327,31 @@ public class ScheduleServiceIT extends IntegrationTest {
         assertThrows(ScheduleNotFoundException.class, () -> scheduleService.update(scheduleForUpdate, scheduleId+1));
     }
 
+    @Test
+    public void generateTimetable_replacesTimetableWithoutConflicts() {
+        setWeeklyHours(3);
+
+        var report = scheduleService.generateTimetable(new TimetableGenerateDTO(LocalTime.of(8, 30), 6, 10, 1, 5));
+
+        assertAll("Grouped assertions for generated timetable",
+                () -> assertEquals(1, report.classCount()),
+                () -> assertEquals(3, report.lessonCount()),
+                () -> assertEquals(0, report.sameDayRepeats()),
+                () -> assertEquals(3, scheduleRepository.count()),
+                () -> assertFalse(scheduleRepository.existsById(scheduleId)),
+                () -> assertTrue(scheduleService.validateTimetable().isEmpty()),
+                () -> assertEquals(3, scheduleService.findTimetableForClass(classId).lessons().size()));
+    }
+
+    @Test
+    public void generateTimetable_notEnoughSlots_keepsTimetable() {
+        setWeeklyHours(6);
+
+        assertThrows(TimetableGenerationException.class,
+                () -> scheduleService.generateTimetable(new TimetableGenerateDTO(LocalTime.of(8, 30), 1, 10, 1, 1)));
+        assertTrue(scheduleRepository.existsById(scheduleId));
+    }
+
     @Test
     public void deleteSchedule_existed() {
         scheduleService.deleteById(scheduleId);
@@ -186,4 +377,10 @@ public class ScheduleServiceIT extends IntegrationTest {
     public void getScheduleById_notExisted() {
         assertThrows(ScheduleNotFoundException.class, () -> scheduleService.findById(scheduleId+1));
     }
+
+    private void setWeeklyHours(int weeklyHours) {
+        var subject = subjectsRepository.findById(subjectId).orElseThrow();
+        subject.setWeeklyHours(weeklyHours);
+        subjectsRepository.save(subject);
+    }
 }
@@ -5,8 +5,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import ru.mudan.domain.entity.users.Student;
 import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.RegisterUserDTO;
 import ru.mudan.exceptions.entity.not_found.ParentNotFoundException;
 import ru.mudan.exceptions.entity.not_found.StudentNotFoundException;
 import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
@@ -213,4 +215,61 @@ public class StudentServiceIT extends IntegrationTest {
                 () -> assertEquals(studentCreated.getEmail(), foundStudent.email()));
     }
 
+    @Test
+    public void findPage_emptyQuery_allStudentsSortedByName() {
+        registerStudent("Анна", "Андреева", "anna@mail.ru");
+
+        var page = studentService.findPage(" ", PageRequest.of(0, 1));
+
+        assertAll("Grouped assertions for first page of students",
+                () -> assertEquals(2, page.getTotalElements()),
+                () -> assertEquals(2, page.getTotalPages()),
+                () -> assertEquals("anna@mail.ru", page.getContent().getFirst().email()));
+    }
+
+    @Test
+    public void findPage_substringOfName_found() {
+        registerStudent("Анна", "Андреева", "anna@mail.ru");
+
+        var page = studentService.findPage("дРеЕв", PageRequest.of(0, 20));
+
+        assertAll("Grouped assertions for found students",
+                () -> assertEquals(1, page.getTotalElements()),
+                () -> assertEquals("anna@mail.ru", page.getContent().getFirst().email()));
+    }
+
+    @Test
+    public void findPage_shortQuery_matchesOnlyBeginning() {
+        registerStudent("Анна", "Андреева", "anna@mail.ru");
+
+        var byBeginning = studentService.findPage("ан", PageRequest.of(0, 20));
+        var byMiddle = studentService.findPage("нд", PageRequest.of(0, 20));
+
+        assertAll("Grouped assertions for short query",
+                () -> assertEquals(1, byBeginning.getTotalElements()),
+                () -> assertEquals(0, byMiddle.getTotalElements()));
+    }
+
+    @Test
+    public void findPage_byEmailWithWildcard_wildcardEscaped() {
+        registerStudent("Анна", "Андреева", "anna_1@mail.ru");
+
+        var page = studentService.findPage("anna_", PageRequest.of(0, 20));
+        var escaped = studentService.findPage("t%t", PageRequest.of(0, 20));
+
+        assertAll("Grouped assertions for email search",
+                () -> assertEquals(1, page.getTotalElements()),
+                () -> assertEquals(0, escaped.getTotalElements()));
+    }
+
+    private void registerStudent(String firstname, String lastname, String email) {
+        registrationService.registerStudent(RegisterUserDTO
+                .builder()
+                .firstname(firstname)
+                .lastname(lastname)
+                .patronymic("Петровна")
+                .password("test1234")
+                .email(email)
+                .build());
+    }
 }
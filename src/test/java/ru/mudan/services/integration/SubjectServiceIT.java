@@ -1,9 +1,11 @@
 package ru.mudan.services.integration;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import ru.mudan.domain.entity.Subject;
 import ru.mudan.domain.repositories.AppUserRepository;
 import ru.mudan.domain.repositories.ClassRepository;
 import ru.mudan.domain.repositories.SubjectsRepository;
@@ -37,6 +39,8 @@ public class SubjectServiceIT extends IntegrationTest {
     private RegistrationService registrationService;
     @Autowired
     private AppUserRepository appUserRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     private Long classId;
     private Long teacherId;
@@ -206,6 +210,31 @@ public class SubjectServiceIT extends IntegrationTest {
                 () -> assertEquals(subjectUpdateDTO.description(), foundSubjectFromDB.getDescription()));
     }
 
+    @Test
+    public void updateSubject_evictsCachedSubject() {
+        subjectService.save(createSubjectDTOByClassIdAndTeacherId(classId, teacherId));
+        var subjectId = subjectsRepository.findAll().getFirst().getId();
+
+        subjectService.findById(subjectId);
+        assertTrue(entityManagerFactory.getCache().contains(Subject.class, subjectId));
+
+        var subjectUpdateDTO = SubjectUpdateDTO
+                .builder()
+                .type("Факультативный")
+                .description("Новое описание")
+                .weeklyHours(4)
+                .build();
+
+        subjectService.update(subjectUpdateDTO, subjectId);
+
+        var foundSubject = subjectService.findById(subjectId);
+
+        assertAll("Grouped assertions for subject read after update",
+                () -> assertEquals(subjectUpdateDTO.type(), foundSubject.type()),
+                () -> assertEquals(subjectUpdateDTO.description(), foundSubject.description()),
+                () -> assertEquals(subjectUpdateDTO.weeklyHours(), foundSubject.weeklyHours()));
+    }
+
     @Test
     public void updateSubject_notExisted() {
         var subjectUpdateDTO = SubjectUpdateDTO
@@ -0,0 +1,169 @@
+package ru.mudan.services.integration;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.classes.ClassDTO;
+import ru.mudan.services.classes.ClassService;
+import ru.mudan.services.grades.GradesService;
+import ru.mudan.services.homework.HomeworkService;
+import ru.mudan.services.schedule.ScheduleService;
+import ru.mudan.services.subjects.SubjectService;
+import ru.mudan.services.teachers.TeacherDashboardService;
+import ru.mudan.services.teachers.TeacherService;
+import ru.mudan.services.users.RegistrationService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static ru.mudan.UtilConstants.*;
+
+public class TeacherDashboardIT extends IntegrationTest {
+
+    @Autowired
+    private TeacherDashboardService teacherDashboardService;
+    @Autowired
+    private TeacherService teacherService;
+    @Autowired
+    private GradesService gradesService;
+    @Autowired
+    private HomeworkService homeworkService;
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private ClassService classService;
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private SubjectService subjectService;
+    @Autowired
+    private ParentDigestEventRepository parentDigestEventRepository;
+    @Autowired
+    private GradeRepository gradeRepository;
+    @Autowired
+    private HomeworkRepository homeworkRepository;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private SubjectsRepository subjectsRepository;
+    @Autowired
+    private ClassRepository classRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private TeacherRepository teacherRepository;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Autowired
+    private MockMvc mockMvc;
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private int poolSize;
+
+    private Long teacherId;
+    private Long subjectId;
+
+    @BeforeEach
+    public void createSubjectWithLessons() {
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student1@mail.ru"));
+        registrationService.registerStudent(getDefaultRegisterUserDTOByEmail("student2@mail.ru"));
+        registrationService.registerTeacher(getDefaultRegisterUserDTOByEmail("teacher@mail.ru"));
+        var studentIds = studentRepository.findAll().stream()
+                .map(Student::getId)
+                .toList();
+
+        classService.save(ClassDTO
+                .builder()
+                .number(6)
+                .letter("А")
+                .description("Тестовое описание класса")
+                .studentsIds(studentIds)
+                .build());
+        var classId = classRepository.findAll().getFirst().getId();
+        teacherId = teacherRepository.findAll().getFirst().getId();
+        subjectService.save(createSubjectDTOByClassIdAndTeacherId(classId, teacherId));
+        subjectId = subjectsRepository.findAll().getFirst().getId();
+
+        scheduleService.save(createScheduleCreateDTOBySubjectIdAndClassId(subjectId, classId));
+        homeworkService.save(createHomeworkCreateDTOBySubjectId(subjectId));
+        gradesService.save(createGradeDTOByStudentIdAndSubjectId(studentIds.getFirst(), subjectId));
+    }
+
+    @AfterEach
+    public void clearTables() {
+        parentDigestEventRepository.deleteAll();
+        gradeRepository.deleteAll();
+        homeworkRepository.deleteAll();
+        scheduleRepository.deleteAll();
+        subjectsRepository.deleteAll();
+        studentRepository.deleteAll();
+        classRepository.deleteAll();
+        teacherRepository.deleteAll();
+        appUserRepository.deleteAll();
+    }
+
+    @Test
+    public void buildDashboard_mondayOfCurrentWeek() {
+        var monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        var teacher = teacherService.findTeacherById(teacherId);
+
+        var dashboard = teacherDashboardService.buildDashboard(teacher, monday);
+
+        var subject = dashboard.subjects().getFirst();
+        assertAll("Grouped assertions for teacher dashboard",
+                () -> assertEquals(1, dashboard.subjects().size()),
+                () -> assertEquals(subjectId, subject.id()),
+                () -> assertEquals(6, subject.classNumber()),
+                () -> assertEquals(2L, subject.studentCount()),
+                () -> assertEquals(1L, subject.pendingHomeworkCount()),
+                () -> assertEquals(1L, subject.recentGradeCount()),
+                () -> assertEquals(1, dashboard.todayLessons().size()),
+                () -> assertEquals("Тест пройти", dashboard.pendingHomeworks().getFirst().title()),
+                () -> assertEquals(1, dashboard.recentGrades().get(subjectId).size()),
+                () -> assertEquals("Максимов", dashboard.recentGrades().get(subjectId).getFirst().studentLastname()));
+    }
+
+    @Test
+    public void buildDashboard_tuesday_noLessons() {
+        var tuesday = LocalDate.now().with(DayOfWeek.TUESDAY);
+        var teacher = teacherService.findTeacherById(teacherId);
+
+        var dashboard = teacherDashboardService.buildDashboard(teacher, tuesday);
+
+        assertTrue(dashboard.todayLessons().isEmpty());
+    }
+
+    @Test
+    public void getTeacherMainPage_moreConcurrentRequestsThanConnections_allCompleted() throws Exception {
+        var requests = poolSize * 2;
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(requests)) {
+            var responses = IntStream.range(0, requests)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(get("/teacher/account")
+                                        .with(user("teacher@mail.ru").roles("TEACHER")))
+                                .andReturn()
+                                .getResponse()
+                                .getStatus();
+                    }))
+                    .toList();
+            start.countDown();
+
+            for (var response : responses) {
+                assertEquals(200, response.get(20, TimeUnit.SECONDS));
+            }
+        }
+    }
+}
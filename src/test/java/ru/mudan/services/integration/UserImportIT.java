@@ -0,0 +1,98 @@
+package ru.mudan.services.integration;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.UserImportRowResultDTO;
+import ru.mudan.exceptions.ImportFileInvalidException;
+import ru.mudan.services.users.RegistrationService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.mudan.UtilConstants.*;
+
+public class UserImportIT extends IntegrationTest {
+
+    private static final String HEADER = "role;lastname;firstname;patronymic;email;password;class_id;parent_email\n";
+
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private ClassRepository classRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private ParentRepository parentRepository;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @AfterEach
+    public void clearTables() {
+        emailOutboxRepository.deleteAll();
+        studentRepository.deleteAll();
+        parentRepository.deleteAll();
+        appUserRepository.deleteAll();
+        classRepository.deleteAll();
+    }
+
+    @Test
+    public void importUsers_validRowsSavedWithClassAndParent() {
+        var classEntity = classRepository.save(new ClassEntity("А", 5, "Описание"));
+        var file = HEADER
+                + "PARENT;Иванов;Иван;Иванович;parent@mail.ru;password;;\n"
+                + "STUDENT;Иванов;Пётр;Иванович;student@mail.ru;password;" + classEntity.getId()
+                + ";parent@mail.ru\n";
+
+        var report = registrationService.importUsers(toInputStream(file), "users.csv");
+
+        var student = studentRepository.findAll().getFirst();
+
+        assertAll("Grouped assertions for imported users",
+                () -> assertEquals(2, report.total()),
+                () -> assertEquals(2, report.imported()),
+                () -> assertEquals(0, report.rejected()),
+                () -> assertEquals(1, parentRepository.count()),
+                () -> assertEquals(2, appUserRepository.count()),
+                () -> assertEquals(2, emailOutboxRepository.count()),
+                () -> assertEquals(classEntity.getId(), student.getClassEntity().getId()),
+                () -> assertEquals("parent@mail.ru", student.getParent().getEmail()));
+    }
+
+    @Test
+    public void importUsers_invalidRowsRejectedOthersSaved() {
+        registrationService.registerParent(getDefaultRegisterUserDTOByEmail("existing@mail.ru"));
+        var file = HEADER
+                + "STUDENT;Петров;Пётр;Петрович;first@mail.ru;password;;existing@mail.ru\n"
+                + "TEACHER;Петров;Пётр;Петрович;teacher@mail.ru;password;;\n"
+                + "PARENT;Петров;Пётр;Петрович;existing@mail.ru;password;;\n"
+                + "STUDENT;Петров;Пётр;Петрович;second@mail.ru;password;999999;\n"
+                + "STUDENT;Петров;Пётр;Петрович;third@mail.ru;password;;missing@mail.ru\n";
+
+        var report = registrationService.importUsers(toInputStream(file), "users.csv");
+
+        assertAll("Grouped assertions for import report",
+                () -> assertEquals(5, report.total()),
+                () -> assertEquals(1, report.imported()),
+                () -> assertEquals(4, report.rejected()),
+                () -> assertTrue(report.rows().getFirst().imported()),
+                () -> assertTrue(report.rows().stream().skip(1).noneMatch(UserImportRowResultDTO::imported)),
+                () -> assertTrue(report.rows().stream().skip(1).allMatch(row -> !row.errors().isEmpty())),
+                () -> assertEquals(1, studentRepository.count()),
+                () -> assertEquals(1, parentRepository.count()));
+    }
+
+    @Test
+    public void importUsers_unsupportedFile() {
+        assertThrows(ImportFileInvalidException.class,
+                () -> registrationService.importUsers(toInputStream("text"), "users.txt"));
+    }
+
+    private static ByteArrayInputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
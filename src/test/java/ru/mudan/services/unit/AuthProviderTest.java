@@ -0,0 +1,116 @@
+package ru.mudan.services.unit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.mudan.config.AuthProvider;
+import ru.mudan.config.SecurityTools;
+import ru.mudan.domain.entity.users.AppUser;
+import ru.mudan.domain.entity.users.Teacher;
+import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.UserPrincipal;
+import ru.mudan.exceptions.PasswordHashingUnavailableException;
+import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.services.auth.PasswordHashingService;
+import ru.mudan.util.enums.Role;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class AuthProviderTest {
+
+    private static final String EMAIL = "teacher@mail.ru";
+    private static final String PASSWORD = "password";
+    private static final long USER_ID = 1L;
+
+    private ExecutorService executor;
+    private TeacherRepository teacherRepository;
+    private Cache<String, UserPrincipal> userDetailsCache;
+    private MyUserDetailsService myUserDetailsService;
+    private PasswordHashingService passwordHashingService;
+    private Teacher teacher;
+
+    @BeforeEach
+    public void createProvider() {
+        var securityTools = new SecurityTools();
+        ReflectionTestUtils.setField(securityTools, "encoderId", "bcrypt");
+        ReflectionTestUtils.setField(securityTools, "bcryptStrength", 6);
+        executor = Executors.newSingleThreadExecutor();
+        passwordHashingService = new PasswordHashingService(securityTools.getPasswordEncoder(), executor);
+        ReflectionTestUtils.setField(passwordHashingService, "timeout", Duration.ofSeconds(5));
+
+        var appUserRepository = mock(AppUserRepository.class);
+        teacherRepository = mock(TeacherRepository.class);
+        teacher = new Teacher("Иван", "Иванов", "Иванович", EMAIL, new BCryptPasswordEncoder(4).encode(PASSWORD));
+        when(appUserRepository.findByEmail(EMAIL)).thenReturn(Optional.of(new AppUser(USER_ID, Role.ROLE_TEACHER,
+                EMAIL)));
+        when(teacherRepository.findById(USER_ID)).thenReturn(Optional.of(teacher));
+
+        userDetailsCache = Caffeine.newBuilder().build();
+        myUserDetailsService = spy(new MyUserDetailsService(mock(AdminRepository.class),
+                mock(ParentRepository.class), mock(StudentRepository.class), teacherRepository, appUserRepository,
+                userDetailsCache, mock(ApplicationEventPublisher.class)));
+    }
+
+    @AfterEach
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void authenticate_legacyHash_passwordReEncodedAndSaved() {
+        var legacyHash = teacher.getPassword();
+
+        var authentication = new AuthProvider(myUserDetailsService, passwordHashingService).authenticate(token());
+
+        verify(myUserDetailsService).updatePassword(eq(EMAIL), argThat(hash -> hash.startsWith("{bcrypt}")));
+        verify(teacherRepository).save(teacher);
+        assertAll("Grouped assertions for upgraded password",
+                () -> assertEquals(EMAIL, authentication.getName()),
+                () -> assertNotEquals(legacyHash, teacher.getPassword()),
+                () -> assertTrue(passwordHashingService.matches(PASSWORD, teacher.getPassword())),
+                () -> assertFalse(passwordHashingService.upgradeEncoding(teacher.getPassword())));
+    }
+
+    @Test
+    public void authenticate_legacyHash_cachedPrincipalInvalidated() {
+        myUserDetailsService.loadPrincipalByEmail(EMAIL);
+        assertNotNull(userDetailsCache.getIfPresent(EMAIL));
+
+        new AuthProvider(myUserDetailsService, passwordHashingService).authenticate(token());
+
+        assertNull(userDetailsCache.getIfPresent(EMAIL));
+    }
+
+    @Test
+    public void authenticate_hashingUnavailableOnUpgrade_loggedIn() {
+        var busyHashingService = mock(PasswordHashingService.class);
+        when(busyHashingService.matches(PASSWORD, teacher.getPassword())).thenReturn(true);
+        when(busyHashingService.upgradeEncoding(teacher.getPassword())).thenReturn(true);
+        when(busyHashingService.encode(PASSWORD)).thenThrow(new PasswordHashingUnavailableException());
+
+        var authentication = new AuthProvider(myUserDetailsService, busyHashingService).authenticate(token());
+
+        verify(myUserDetailsService, never()).updatePassword(any(), any());
+        verify(teacherRepository, never()).save(any());
+        assertAll("Grouped assertions for authentication without upgrade",
+                () -> assertEquals(EMAIL, authentication.getName()),
+                () -> assertTrue(authentication.getAuthorities().stream()
+                        .anyMatch(authority -> authority.getAuthority().equals(Role.ROLE_TEACHER.name()))));
+    }
+
+    private static UsernamePasswordAuthenticationToken token() {
+        return new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD);
+    }
+}
@@ -0,0 +1,182 @@
+package ru.mudan.services.unit;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import ru.mudan.domain.repositories.*;
+import ru.mudan.dto.auth.StudentAccessDTO;
+import ru.mudan.dto.auth.UserPrincipal;
+import ru.mudan.exceptions.base.ApplicationForbiddenException;
+import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
+import ru.mudan.exceptions.entity.not_found.GradeNotFoundException;
+import ru.mudan.exceptions.entity.not_found.StudentNotFoundException;
+import ru.mudan.exceptions.entity.not_found.SubjectNotFoundException;
+import ru.mudan.services.auth.AccessSetCache;
+import ru.mudan.services.auth.AuthService;
+import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.util.enums.Role;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class AuthServiceTest {
+
+    private static final String STUDENT_EMAIL = "student@mail.ru";
+    private static final String PARENT_EMAIL = "parent@mail.ru";
+    private static final String TEACHER_EMAIL = "teacher@mail.ru";
+
+    private MyUserDetailsService myUserDetailsService;
+    private GradeRepository gradeRepository;
+    private SubjectsRepository subjectsRepository;
+    private ClassRepository classRepository;
+    private StudentRepository studentRepository;
+    private AccessSetCache accessSetCache;
+    private AuthService authService;
+
+    @BeforeEach
+    public void createService() {
+        myUserDetailsService = mock(MyUserDetailsService.class);
+        gradeRepository = mock(GradeRepository.class);
+        subjectsRepository = mock(SubjectsRepository.class);
+        classRepository = mock(ClassRepository.class);
+        studentRepository = mock(StudentRepository.class);
+        accessSetCache = new AccessSetCache(Caffeine.newBuilder().build());
+
+        authService = new AuthService(myUserDetailsService, accessSetCache, gradeRepository, subjectsRepository,
+                mock(HomeworkRepository.class), classRepository, studentRepository);
+
+        when(myUserDetailsService.loadPrincipalByEmail(STUDENT_EMAIL))
+                .thenReturn(new UserPrincipal(STUDENT_EMAIL, "hash", Role.ROLE_STUDENT, 1L));
+        when(myUserDetailsService.loadPrincipalByEmail(PARENT_EMAIL))
+                .thenReturn(new UserPrincipal(PARENT_EMAIL, "hash", Role.ROLE_PARENT, 1L));
+        when(myUserDetailsService.loadPrincipalByEmail(TEACHER_EMAIL))
+                .thenReturn(new UserPrincipal(TEACHER_EMAIL, "hash", Role.ROLE_TEACHER, 1L));
+
+        when(studentRepository.findAccessByStudentId(1L)).thenReturn(List.of(
+                new StudentAccessDTO(1L, 10L, 100L),
+                new StudentAccessDTO(1L, 10L, 101L)));
+        when(studentRepository.findAccessByParentId(1L)).thenReturn(List.of(
+                new StudentAccessDTO(1L, 10L, 100L),
+                new StudentAccessDTO(2L, null, null)));
+        when(subjectsRepository.findIdsByTeacherId(1L)).thenReturn(List.of(100L));
+    }
+
+    @Test
+    public void studentInClassWithSubject_checkedWithoutQueriesAfterFirstLoad() {
+        var student = authentication(STUDENT_EMAIL, Role.ROLE_STUDENT);
+
+        assertDoesNotThrow(() -> {
+            authService.hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(1L, 100L, student);
+            authService.hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(1L, 101L, student);
+            authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(10L, student);
+        });
+
+        verify(studentRepository, times(1)).findAccessByStudentId(1L);
+        verify(studentRepository, never()).existsById(any());
+        verify(subjectsRepository, never()).existsById(any());
+        verify(classRepository, never()).existsById(any());
+    }
+
+    @Test
+    public void studentOtherStudent_throwsForbidden() {
+        when(studentRepository.existsById(2L)).thenReturn(true);
+
+        assertThrows(ApplicationForbiddenException.class, () -> authService
+                .hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(2L, 100L,
+                        authentication(STUDENT_EMAIL, Role.ROLE_STUDENT)));
+    }
+
+    @Test
+    public void studentUnknownStudent_throwsNotFound() {
+        assertThrows(StudentNotFoundException.class, () -> authService
+                .hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(3L, 100L,
+                        authentication(STUDENT_EMAIL, Role.ROLE_STUDENT)));
+    }
+
+    @Test
+    public void studentSubjectFromOtherClass_throwsForbidden() {
+        when(subjectsRepository.existsById(200L)).thenReturn(true);
+
+        assertThrows(ApplicationForbiddenException.class, () -> authService
+                .hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(1L, 200L,
+                        authentication(STUDENT_EMAIL, Role.ROLE_STUDENT)));
+    }
+
+    @Test
+    public void studentUnknownSubject_throwsNotFound() {
+        assertThrows(SubjectNotFoundException.class, () -> authService
+                .hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(1L, 200L,
+                        authentication(STUDENT_EMAIL, Role.ROLE_STUDENT)));
+    }
+
+    @Test
+    public void parentChildWithoutClass_allowedForExistingSubject() {
+        when(subjectsRepository.existsById(100L)).thenReturn(true);
+
+        assertDoesNotThrow(() -> authService.hasRoleAdminOrStudentInClassWithSubjectOrParentHasStudentInClass(
+                2L, 100L, authentication(PARENT_EMAIL, Role.ROLE_PARENT)));
+    }
+
+    @Test
+    public void parentClassWithoutChildren_throwsForbidden() {
+        when(classRepository.existsById(11L)).thenReturn(true);
+        var parent = authentication(PARENT_EMAIL, Role.ROLE_PARENT);
+
+        assertDoesNotThrow(() -> authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(10L, parent));
+        assertThrows(ApplicationForbiddenException.class,
+                () -> authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(11L, parent));
+    }
+
+    @Test
+    public void parentUnknownClass_throwsNotFound() {
+        assertThrows(ClassEntityNotFoundException.class, () -> authService
+                .hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(12L,
+                        authentication(PARENT_EMAIL, Role.ROLE_PARENT)));
+    }
+
+    @Test
+    public void teacherGrade_checkedBySubjectOfGrade() {
+        when(gradeRepository.findSubjectIdById(1L)).thenReturn(Optional.of(100L));
+        when(gradeRepository.findSubjectIdById(2L)).thenReturn(Optional.of(200L));
+        when(gradeRepository.existsById(2L)).thenReturn(true);
+        var teacher = authentication(TEACHER_EMAIL, Role.ROLE_TEACHER);
+
+        assertDoesNotThrow(() -> authService.teacherHasGradeOrRoleIsAdmin(1L, teacher));
+        assertThrows(ApplicationForbiddenException.class, () -> authService.teacherHasGradeOrRoleIsAdmin(2L, teacher));
+        assertThrows(GradeNotFoundException.class, () -> authService.teacherHasGradeOrRoleIsAdmin(3L, teacher));
+        verify(subjectsRepository, times(1)).findIdsByTeacherId(1L);
+    }
+
+    @Test
+    public void invalidateAll_reloadsChangedClassMembership() {
+        var student = authentication(STUDENT_EMAIL, Role.ROLE_STUDENT);
+        when(classRepository.existsById(11L)).thenReturn(true);
+        assertThrows(ApplicationForbiddenException.class,
+                () -> authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(11L, student));
+
+        when(studentRepository.findAccessByStudentId(1L)).thenReturn(List.of(new StudentAccessDTO(1L, 11L, null)));
+        accessSetCache.invalidateAll();
+
+        assertDoesNotThrow(() -> authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(11L, student));
+        verify(studentRepository, times(2)).findAccessByStudentId(1L);
+    }
+
+    @Test
+    public void admin_neverLoadsAccessSet() {
+        assertDoesNotThrow(() -> authService.hasRoleAdminOrStudentFromClassOrParentThatHasStudentInClass(
+                10L, authentication("admin@mail.ru", Role.ROLE_ADMIN)));
+
+        verifyNoInteractions(myUserDetailsService, classRepository);
+    }
+
+    private static Authentication authentication(String email, Role role) {
+        return new UsernamePasswordAuthenticationToken(email, null, List.of(new SimpleGrantedAuthority(role.name())));
+    }
+}
@@ -0,0 +1,117 @@
+package ru.mudan.services.unit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import ru.mudan.config.ConnectionLimitingDataSource;
+import ru.mudan.config.VirtualThreadPinningMonitor;
+import ru.mudan.config.VirtualThreadsConfig;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConnectionLimitingDataSourceTest {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMillis(50);
+
+    private DataSource targetDataSource;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    @SneakyThrows
+    public void createDataSource() {
+        targetDataSource = mock(DataSource.class);
+        when(targetDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, ACQUIRE_TIMEOUT);
+    }
+
+    @Test
+    @SneakyThrows
+    public void getConnection_allPermitsTaken_timedOut() {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @SneakyThrows
+    public void close_permitReleasedOnce() {
+        var connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @SneakyThrows
+    public void getConnection_poolFailed_permitReleased() {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @SneakyThrows
+    public void connection_callsDelegated() {
+        var target = mock(Connection.class);
+        when(target.getAutoCommit()).thenReturn(false);
+        when(targetDataSource.getConnection()).thenReturn(target);
+
+        var connection = dataSource.getConnection();
+
+        assertFalse(connection.getAutoCommit());
+        verify(target).getAutoCommit();
+    }
+
+    @Test
+    public void virtualThreadsEnabled_hikariPoolLimited() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+                .withUserConfiguration(VirtualThreadsConfig.class)
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues(
+                        "spring.threads.virtual.enabled=true",
+                        "spring.datasource.url=jdbc:postgresql://localhost:5432/project",
+                        "spring.datasource.hikari.maximum-pool-size=7",
+                        "virtual-threads.pinning-threshold=20ms")
+                .run(context -> {
+                    var limited = assertInstanceOf(ConnectionLimitingDataSource.class,
+                            context.getBean(DataSource.class));
+                    assertAll("Grouped assertions for limited pool",
+                            () -> assertEquals(7, limited.getAvailablePermits()),
+                            () -> assertEquals(7, limited.unwrap(HikariDataSource.class).getMaximumPoolSize()),
+                            () -> assertNotNull(context.getBean(VirtualThreadPinningMonitor.class)),
+                            () -> assertNotNull(context.getBean(MeterRegistry.class)
+                                    .find("db.connections.limiter.waiting").gauge()));
+                });
+    }
+
+    @Test
+    public void virtualThreadsDisabled_hikariPoolNotWrapped() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+                .withUserConfiguration(VirtualThreadsConfig.class)
+                .withPropertyValues("spring.datasource.url=jdbc:postgresql://localhost:5432/project")
+                .run(context -> assertInstanceOf(HikariDataSource.class, context.getBean(DataSource.class)));
+    }
+}
@@ -0,0 +1,91 @@
+package ru.mudan.services.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.mudan.domain.entity.EmailOutboxMessage;
+import ru.mudan.domain.repositories.EmailOutboxRepository;
+import ru.mudan.services.notification.email.EmailOutboxDispatcher;
+import ru.mudan.util.enums.OutboxStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EmailOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private EmailOutboxRepository emailOutboxRepository;
+    private JavaMailSender javaMailSender;
+    private PlatformTransactionManager transactionManager;
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+    private EmailOutboxMessage outboxMessage;
+
+    @BeforeEach
+    public void createDispatcher() {
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        javaMailSender = mock(JavaMailSender.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        emailOutboxDispatcher = new EmailOutboxDispatcher(emailOutboxRepository, javaMailSender, transactionManager,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(emailOutboxDispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(emailOutboxDispatcher, "maxAttempts", 8);
+        ReflectionTestUtils.setField(emailOutboxDispatcher, "retryDelay", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(emailOutboxDispatcher, "maxRetryDelay", Duration.ofHours(1));
+        ReflectionTestUtils.setField(emailOutboxDispatcher, "lease", LEASE);
+
+        outboxMessage = new EmailOutboxMessage("test@mail.ru", "Тема", "Текст", null, LocalDateTime.now());
+        outboxMessage.setId(1L);
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation ->
+                new MimeMessage(Session.getInstance(new Properties())));
+        when(emailOutboxRepository.lockBatchForDispatch(any(), eq(BATCH_SIZE))).thenReturn(List.of(outboxMessage));
+        when(emailOutboxRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(emailOutboxRepository.findAllById(List.of(1L))).thenAnswer(invocation -> List.of(outboxMessage));
+    }
+
+    @Test
+    public void dispatchBatch_emailSentBetweenClaimAndRecordTransactions() {
+        emailOutboxDispatcher.dispatchBatch();
+
+        InOrder inOrder = inOrder(transactionManager, emailOutboxRepository, javaMailSender);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(emailOutboxRepository).lockBatchForDispatch(any(), eq(BATCH_SIZE));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(javaMailSender).send(any(MimeMessage[].class));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(emailOutboxRepository).findAllById(List.of(1L));
+        inOrder.verify(transactionManager).commit(any());
+
+        assertAll("Grouped assertions for recorded email",
+                () -> assertEquals(OutboxStatus.SENT, outboxMessage.getStatus()),
+                () -> assertNull(outboxMessage.getLeaseUntil()),
+                () -> assertNull(outboxMessage.getText()));
+    }
+
+    @Test
+    public void dispatchBatch_leaseTakenOver_resultNotRecorded() {
+        doAnswer(invocation -> {
+            outboxMessage.setLeaseUntil(LocalDateTime.now().plus(LEASE).plusMinutes(1));
+            return null;
+        }).when(javaMailSender).send(any(MimeMessage[].class));
+
+        emailOutboxDispatcher.dispatchBatch();
+
+        assertAll("Grouped assertions for email claimed by another dispatcher",
+                () -> assertEquals(OutboxStatus.SENDING, outboxMessage.getStatus()),
+                () -> assertNull(outboxMessage.getSentAt()));
+        verify(emailOutboxRepository).saveAll(List.of());
+    }
+}
@@ -0,0 +1,98 @@
+package ru.mudan.services.unit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.repositories.ClassRepository;
+import ru.mudan.domain.repositories.GradeAggregateRepository;
+import ru.mudan.dto.reports.ClassSubjectMarksDTO;
+import ru.mudan.dto.reports.StudentMarksDTO;
+import ru.mudan.dto.reports.StudentRankDTO;
+import ru.mudan.exceptions.entity.not_found.ClassEntityNotFoundException;
+import ru.mudan.facade.classes.ClassFacade;
+import ru.mudan.services.reports.GradeReportService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class GradeReportServiceTest {
+
+    private static final double DELTA = 1e-9;
+
+    private GradeAggregateRepository gradeAggregateRepository;
+    private ClassRepository classRepository;
+    private GradeReportService gradeReportService;
+
+    @BeforeEach
+    public void createService() {
+        gradeAggregateRepository = mock(GradeAggregateRepository.class);
+        classRepository = mock(ClassRepository.class);
+        gradeReportService = new GradeReportService(gradeAggregateRepository, classRepository, mock(ClassFacade.class));
+    }
+
+    @Test
+    public void findClassRanking_sortedByAverageWithSharedPlaces() {
+        when(classRepository.findById(1L)).thenReturn(Optional.of(new ClassEntity()));
+        when(gradeAggregateRepository.findStudentMarksForClass(eq(1L), any(), any())).thenReturn(List.of(
+                new StudentMarksDTO(1L, "Иван", "Иванов", 4L, 16L),
+                new StudentMarksDTO(2L, "Пётр", "Петров", 2L, 10L),
+                new StudentMarksDTO(3L, "Анна", "Сидорова", 2L, 8L),
+                new StudentMarksDTO(4L, "Олег", "Орлов", 5L, 15L)));
+
+        var students = gradeReportService.findClassRanking(1L, null, null).students();
+
+        assertEquals(List.of(2L, 1L, 3L, 4L), students.stream().map(StudentRankDTO::studentId).toList());
+        assertEquals(List.of(1, 2, 2, 4), students.stream().map(StudentRankDTO::rank).toList());
+        assertEquals(5.0, students.getFirst().average(), DELTA);
+    }
+
+    @Test
+    public void findClassRanking_periodAlignedToMonths() {
+        when(classRepository.findById(1L)).thenReturn(Optional.of(new ClassEntity()));
+
+        var ranking = gradeReportService.findClassRanking(1L, LocalDate.of(2025, 9, 15), LocalDate.of(2025, 12, 20));
+
+        assertEquals(LocalDate.of(2025, 9, 1), ranking.from());
+        assertEquals(LocalDate.of(2025, 12, 1), ranking.to());
+        verify(gradeAggregateRepository).findStudentMarksForClass(1L, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 12, 1));
+    }
+
+    @Test
+    public void findClassRanking_classNotExists() {
+        when(classRepository.findById(any())).thenReturn(Optional.empty());
+
+        assertThrows(ClassEntityNotFoundException.class, () -> gradeReportService.findClassRanking(1L, null, null));
+        verifyNoInteractions(gradeAggregateRepository);
+    }
+
+    @Test
+    public void findParallelReport_subjectAveragesPerClassAndParallel() {
+        when(gradeAggregateRepository.findClassSubjectMarksForParallel(eq(6), any(), any())).thenReturn(List.of(
+                new ClassSubjectMarksDTO(2L, 6, "Б", "Математика", 2L, 6L),
+                new ClassSubjectMarksDTO(1L, 6, "А", "Математика", 2L, 10L),
+                new ClassSubjectMarksDTO(1L, 6, "А", "Физика", 4L, 12L)));
+
+        var report = gradeReportService.findParallelReport(6, null, null);
+
+        assertEquals(List.of("А", "Б"), report.classes().stream().map(cl -> cl.classLetter()).toList());
+        assertEquals(22.0 / 6, report.classes().getFirst().average(), DELTA);
+        assertEquals(3.0, report.classes().getLast().average(), DELTA);
+
+        var math = report.subjects().getFirst();
+        assertEquals("Математика", math.subjectName());
+        assertEquals(4, math.gradesCount());
+        assertEquals(4.0, math.average(), DELTA);
+        assertEquals(5.0, math.classes().getFirst().average(), DELTA);
+        assertEquals(3.0, math.classes().getLast().average(), DELTA);
+
+        var physics = report.subjects().getLast();
+        assertEquals("Физика", physics.subjectName());
+        assertEquals(3.0, physics.classes().getFirst().average(), DELTA);
+        assertNull(physics.classes().getLast());
+    }
+}
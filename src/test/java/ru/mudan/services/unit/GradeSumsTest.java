@@ -0,0 +1,131 @@
+package ru.mudan.services.unit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.mudan.domain.entity.GradeStatistics;
+import ru.mudan.services.grades.GradeSums;
+import ru.mudan.util.SchoolTerm;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GradeSumsTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void toDTO_averageMedianDistributionAndTermMark() {
+        var stats = GradeSums.of(statistics(new int[]{5, 4, 4, 3}, new int[]{0, 1, 2, 3})).toDTO();
+
+        assertEquals(4, stats.count());
+        assertEquals(4.0, stats.average(), DELTA);
+        assertEquals(4.0, stats.median(), DELTA);
+        assertEquals(Map.of(2, 0L, 3, 1L, 4, 2L, 5, 1L), stats.distribution());
+        assertEquals(4, stats.termMark());
+    }
+
+    @Test
+    public void toDTO_evenCountMedianIsMeanOfMiddleMarks() {
+        var stats = GradeSums.of(statistics(new int[]{3, 5}, new int[]{0, 1})).toDTO();
+
+        assertEquals(4.0, stats.median(), DELTA);
+    }
+
+    @Test
+    public void toDTO_trendIsSlopePerWeek() {
+        var stats = GradeSums.of(statistics(new int[]{3, 5}, new int[]{0, 7})).toDTO();
+
+        assertEquals(2.0, stats.trendPerWeek(), DELTA);
+    }
+
+    @Test
+    public void toDTO_noTrendWhenAllGradesOnSameDay() {
+        var stats = GradeSums.of(statistics(new int[]{2, 5}, new int[]{4, 4})).toDTO();
+
+        assertNull(stats.trendPerWeek());
+        assertEquals(3.5, stats.average(), DELTA);
+    }
+
+    @Test
+    public void toDTO_emptySums() {
+        var stats = new GradeSums().toDTO();
+
+        assertEquals(0, stats.count());
+        assertNull(stats.average());
+        assertNull(stats.median());
+        assertNull(stats.termMark());
+        assertEquals(0L, stats.distribution().get(GradeSums.MAX_MARK));
+    }
+
+    @Test
+    public void sum_equalsSumsOfAllGrades() {
+        var first = statistics(new int[]{5, 5, 2}, new int[]{0, 3, 10});
+        var second = statistics(new int[]{4, 3}, new int[]{1, 20});
+
+        var summed = GradeSums.sum(List.of(first, second)).toDTO();
+        var expected = GradeSums.of(statistics(new int[]{5, 5, 2, 4, 3}, new int[]{0, 3, 10, 1, 20})).toDTO();
+
+        assertEquals(expected, summed);
+    }
+
+    @Test
+    public void schoolTerm_ofDateInEachTerm() {
+        assertEquals(new SchoolTerm(1, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 10, 31)),
+                SchoolTerm.of(LocalDate.of(2025, 10, 15)));
+        assertEquals(new SchoolTerm(2, LocalDate.of(2025, 11, 1), LocalDate.of(2025, 12, 31)),
+                SchoolTerm.of(LocalDate.of(2025, 12, 31)));
+        assertEquals(new SchoolTerm(3, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31)),
+                SchoolTerm.of(LocalDate.of(2026, 2, 10)));
+        assertEquals(new SchoolTerm(4, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 8, 31)),
+                SchoolTerm.of(LocalDate.of(2026, 6, 15)));
+    }
+
+    @Test
+    public void schoolTerm_schoolYearTermsAreContiguous() {
+        var terms = SchoolTerm.ofSchoolYear(LocalDate.of(2026, 3, 1));
+
+        assertEquals(4, terms.size());
+        assertEquals(LocalDate.of(2025, 9, 1), terms.getFirst().start());
+        assertEquals(LocalDate.of(2026, 8, 31), terms.getLast().end());
+        for (int i = 1; i < terms.size(); i++) {
+            assertEquals(terms.get(i - 1).end().plusDays(1), terms.get(i).start());
+        }
+        assertEquals(9, terms.get(2).dayOf(LocalDate.of(2026, 1, 10)));
+    }
+
+    @Test
+    public void schoolTerm_schoolYearStartsInSeptember() {
+        assertEquals(2025, SchoolTerm.schoolYearOf(LocalDate.of(2025, 9, 1)));
+        assertEquals(2025, SchoolTerm.schoolYearOf(LocalDate.of(2026, 8, 31)));
+        assertEquals(2024, SchoolTerm.schoolYearOf(LocalDate.of(2025, 8, 31)));
+    }
+
+    private static GradeStatistics statistics(int[] marks, int[] days) {
+        var statistics = new GradeStatistics();
+        long marksSum = 0;
+        long daysSum = 0;
+        long daysSqSum = 0;
+        long daysMarksSum = 0;
+        var markCounts = new int[GradeSums.MAX_MARK + 1];
+        for (int i = 0; i < marks.length; i++) {
+            marksSum += marks[i];
+            daysSum += days[i];
+            daysSqSum += (long) days[i] * days[i];
+            daysMarksSum += (long) days[i] * marks[i];
+            markCounts[marks[i]]++;
+        }
+
+        ReflectionTestUtils.setField(statistics, "gradesCount", marks.length);
+        ReflectionTestUtils.setField(statistics, "marksSum", marksSum);
+        ReflectionTestUtils.setField(statistics, "mark2Count", markCounts[2]);
+        ReflectionTestUtils.setField(statistics, "mark3Count", markCounts[3]);
+        ReflectionTestUtils.setField(statistics, "mark4Count", markCounts[4]);
+        ReflectionTestUtils.setField(statistics, "mark5Count", markCounts[5]);
+        ReflectionTestUtils.setField(statistics, "daysSum", daysSum);
+        ReflectionTestUtils.setField(statistics, "daysSqSum", daysSqSum);
+        ReflectionTestUtils.setField(statistics, "daysMarksSum", daysMarksSum);
+        return statistics;
+    }
+}
@@ -0,0 +1,132 @@
+package ru.mudan.services.unit;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import ru.mudan.domain.entity.Homework;
+import ru.mudan.domain.entity.ParentDigestEvent;
+import ru.mudan.domain.entity.users.Parent;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.repositories.ParentDigestEventRepository;
+import ru.mudan.services.notification.digest.ParentDigestService;
+import ru.mudan.services.notification.email.EmailNotificationDetails;
+import ru.mudan.services.notification.email.EmailService;
+import ru.mudan.util.enums.DigestEventKind;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ParentDigestServiceTest {
+
+    private static final int BATCH_SIZE = 200;
+    private static final long LAST_EVENT_ID = 100L;
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 15);
+
+    private ParentDigestEventRepository parentDigestEventRepository;
+    private EmailService emailService;
+    private ParentDigestService parentDigestService;
+
+    @BeforeEach
+    public void createService() {
+        parentDigestEventRepository = mock(ParentDigestEventRepository.class);
+        emailService = mock(EmailService.class);
+
+        var templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setCharacterEncoding("UTF-8");
+        var templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        parentDigestService = new ParentDigestService(parentDigestEventRepository, emailService, templateEngine);
+        ReflectionTestUtils.setField(parentDigestService, "batchSize", BATCH_SIZE);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void enqueueNextBatch_oneEmailPerFamily() {
+        var mother = parent(1L, "Анна", "anna@mail.ru");
+        var father = parent(2L, "Пётр", "petr@mail.ru");
+        var son = student(10L, "Иван", "Иванов");
+        var daughter = student(11L, "Мария", "Иванова");
+        var pupil = student(12L, "Олег", "Петров");
+        var parentIds = List.of(1L, 2L);
+        when(parentDigestEventRepository.lockParentsWithEvents(0L, LAST_EVENT_ID, BATCH_SIZE)).thenReturn(parentIds);
+        when(parentDigestEventRepository.findAllForDigest(parentIds, LAST_EVENT_ID)).thenReturn(List.of(
+                event(mother, son, DigestEventKind.GRADE, "Математика", 5, null),
+                event(mother, son, DigestEventKind.HOMEWORK, "Физика", null, "Параграф 12"),
+                event(mother, daughter, DigestEventKind.GRADE, "Химия", 4, null),
+                event(father, pupil, DigestEventKind.HOMEWORK, "История", null, "Доклад")));
+
+        var processed = parentDigestService.enqueueNextBatch(0L, LAST_EVENT_ID, DATE);
+
+        ArgumentCaptor<List<EmailNotificationDetails>> captor = ArgumentCaptor.forClass(List.class);
+        verify(emailService).sendNotifications(captor.capture());
+        var emails = captor.getValue();
+        var motherEmail = emails.getFirst();
+
+        assertAll("Grouped assertions for family digests",
+                () -> assertEquals(parentIds, processed),
+                () -> assertEquals(2, emails.size()),
+                () -> assertEquals("anna@mail.ru", motherEmail.recipient()),
+                () -> assertEquals("Сводка электронного дневника за 15.10.2025", motherEmail.subject()),
+                () -> assertTrue(motherEmail.text().contains("Здравствуйте, Анна!")),
+                () -> assertTrue(motherEmail.text().contains("Иванов Иван")),
+                () -> assertTrue(motherEmail.text().contains("Иванова Мария")),
+                () -> assertTrue(motherEmail.text().contains("Математика")),
+                () -> assertTrue(motherEmail.text().contains("Параграф 12")),
+                () -> assertFalse(motherEmail.text().contains("Петров Олег")),
+                () -> assertEquals("petr@mail.ru", emails.getLast().recipient()),
+                () -> assertTrue(emails.getLast().text().contains("Доклад")));
+        verify(parentDigestEventRepository).deleteAllForDigest(parentIds, LAST_EVENT_ID);
+    }
+
+    @Test
+    public void enqueueNextBatch_noParentsWithEvents() {
+        when(parentDigestEventRepository.lockParentsWithEvents(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+
+        var processed = parentDigestService.enqueueNextBatch(0L, LAST_EVENT_ID, DATE);
+
+        assertTrue(processed.isEmpty());
+        verifyNoInteractions(emailService);
+        verify(parentDigestEventRepository, never()).deleteAllForDigest(any(), anyLong());
+    }
+
+    @Test
+    public void addHomework_withoutClass_noEvents() {
+        parentDigestService.addHomework(new Homework("Параграф 12", "Решить задачи", DATE));
+
+        verifyNoInteractions(parentDigestEventRepository);
+    }
+
+    private static Parent parent(Long id, String firstname, String email) {
+        var parent = new Parent(firstname, "Иванова", null, email, "hash");
+        parent.setId(id);
+        return parent;
+    }
+
+    private static Student student(Long id, String firstname, String lastname) {
+        var student = new Student(firstname, lastname, null, firstname + "@mail.ru", "hash");
+        student.setId(id);
+        return student;
+    }
+
+    private static ParentDigestEvent event(Parent parent, Student student, DigestEventKind kind,
+                                           String subjectName, Integer mark, String title) {
+        var event = new ParentDigestEvent();
+        ReflectionTestUtils.setField(event, "parent", parent);
+        ReflectionTestUtils.setField(event, "student", student);
+        ReflectionTestUtils.setField(event, "kind", kind);
+        ReflectionTestUtils.setField(event, "subjectName", subjectName);
+        ReflectionTestUtils.setField(event, "mark", mark);
+        ReflectionTestUtils.setField(event, "title", title);
+        ReflectionTestUtils.setField(event, "eventDate", DATE);
+        return event;
+    }
+}
@@ -0,0 +1,126 @@
+package ru.mudan.services.unit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.HomeworkRepository;
+import ru.mudan.domain.repositories.ScheduleRepository;
+import ru.mudan.dto.parent.ChildGradeDTO;
+import ru.mudan.dto.parent.ChildHomeworkDTO;
+import ru.mudan.dto.parent.ChildLessonDTO;
+import ru.mudan.dto.parent.ParentOverviewDTO;
+import ru.mudan.dto.student.StudentDTO;
+import ru.mudan.services.grades.GradeAnalyticsService;
+import ru.mudan.services.parent.ParentOverviewService;
+import ru.mudan.services.students.StudentService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static ru.mudan.UtilConstants.getDefaultParent;
+
+public class ParentOverviewServiceTest {
+
+    private static final int GRADES_DAYS = 14;
+    private static final int GRADES_PER_CHILD = 2;
+    private static final int HOMEWORKS_DAYS = 7;
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 10, 15);
+
+    private StudentService studentService;
+    private GradeAnalyticsService gradeAnalyticsService;
+    private GradeRepository gradeRepository;
+    private HomeworkRepository homeworkRepository;
+    private ScheduleRepository scheduleRepository;
+    private Cache<Long, ParentOverviewDTO> cache;
+    private ParentOverviewService parentOverviewService;
+
+    @BeforeEach
+    public void createService() {
+        studentService = mock(StudentService.class);
+        gradeAnalyticsService = mock(GradeAnalyticsService.class);
+        gradeRepository = mock(GradeRepository.class);
+        homeworkRepository = mock(HomeworkRepository.class);
+        scheduleRepository = mock(ScheduleRepository.class);
+        cache = Caffeine.newBuilder().build();
+        parentOverviewService = new ParentOverviewService(studentService, gradeAnalyticsService, gradeRepository,
+                homeworkRepository, scheduleRepository, cache);
+        ReflectionTestUtils.setField(parentOverviewService, "gradesDays", GRADES_DAYS);
+        ReflectionTestUtils.setField(parentOverviewService, "gradesPerChild", GRADES_PER_CHILD);
+        ReflectionTestUtils.setField(parentOverviewService, "homeworksDays", HOMEWORKS_DAYS);
+    }
+
+    @Test
+    public void findOverview_childrenInOneClass_batchedQueries() {
+        var parent = getDefaultParent();
+        when(studentService.getAllStudentsForParent(parent.id())).thenReturn(List.of(
+                createStudent(1L, 10L), createStudent(2L, 10L), createStudent(3L, null)));
+        when(gradeRepository.findLatestForStudents(List.of(1L, 2L, 3L), WEDNESDAY.minusDays(GRADES_DAYS)))
+                .thenReturn(List.of(
+                        new ChildGradeDTO(5L, 5, WEDNESDAY, 1L, "Математика"),
+                        new ChildGradeDTO(4L, 4, WEDNESDAY, 2L, "Физика"),
+                        new ChildGradeDTO(3L, 3, WEDNESDAY, 1L, "Физика"),
+                        new ChildGradeDTO(2L, 2, WEDNESDAY, 1L, "История")));
+        when(homeworkRepository.findUpcomingForClasses(List.of(10L), WEDNESDAY, WEDNESDAY.plusDays(HOMEWORKS_DAYS)))
+                .thenReturn(List.of(new ChildHomeworkDTO(1L, "Решить примеры", WEDNESDAY, 10L, "Математика")));
+        when(scheduleRepository.findLessonsForClassesOnDay(List.of(10L), 3))
+                .thenReturn(List.of(new ChildLessonDTO(LocalTime.of(8, 30), 101, 10L, "Физика")));
+        when(gradeAnalyticsService.findSummaryForStudents(List.of(1L, 2L, 3L), WEDNESDAY)).thenReturn(Map.of());
+
+        var overview = parentOverviewService.findOverview(parent, WEDNESDAY);
+
+        assertAll("Grouped assertions for parent overview",
+                () -> assertEquals(3, overview.students().size()),
+                () -> assertEquals(List.of(5L, 3L), overview.latestGrades().get(1L).stream()
+                        .map(ChildGradeDTO::id)
+                        .toList()),
+                () -> assertEquals(1, overview.latestGrades().get(2L).size()),
+                () -> assertEquals(1, overview.upcomingHomeworks().get(10L).size()),
+                () -> assertEquals(1, overview.todayLessons().get(10L).size()));
+        verify(gradeRepository, times(1)).findLatestForStudents(any(), any());
+        verify(homeworkRepository, times(1)).findUpcomingForClasses(any(), any(), any());
+        verify(scheduleRepository, times(1)).findLessonsForClassesOnDay(any(), any());
+    }
+
+    @Test
+    public void findOverview_noChildren_queriesSkipped() {
+        var parent = getDefaultParent();
+        when(studentService.getAllStudentsForParent(parent.id())).thenReturn(List.of());
+
+        var overview = parentOverviewService.findOverview(parent, WEDNESDAY);
+
+        assertAll("Grouped assertions for empty overview",
+                () -> assertTrue(overview.students().isEmpty()),
+                () -> assertTrue(overview.latestGrades().isEmpty()),
+                () -> assertTrue(overview.upcomingHomeworks().isEmpty()),
+                () -> assertTrue(overview.todayLessons().isEmpty()));
+        verifyNoInteractions(gradeRepository, homeworkRepository, scheduleRepository);
+    }
+
+    @Test
+    public void findOverview_secondCall_returnedFromCache() {
+        var parent = getDefaultParent();
+        when(studentService.getAllStudentsForParent(parent.id())).thenReturn(List.of());
+
+        var built = parentOverviewService.findOverview(parent, WEDNESDAY);
+        var cached = parentOverviewService.findOverview(parent, WEDNESDAY);
+
+        assertSame(built, cached);
+        verify(studentService, times(1)).getAllStudentsForParent(parent.id());
+    }
+
+    private StudentDTO createStudent(Long id, Long classId) {
+        return StudentDTO.builder()
+                .id(id)
+                .firstname("Иван")
+                .lastname("Иванов")
+                .classId(classId)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package ru.mudan.services.unit;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.mudan.config.SecurityTools;
+import ru.mudan.exceptions.PasswordHashingUnavailableException;
+import ru.mudan.services.auth.PasswordHashingService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingServiceTest {
+
+    private static final String PASSWORD = "password";
+
+    private PasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor executor;
+    private PasswordHashingService passwordHashingService;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    public void createService() {
+        var securityTools = new SecurityTools();
+        ReflectionTestUtils.setField(securityTools, "encoderId", "bcrypt");
+        ReflectionTestUtils.setField(securityTools, "bcryptStrength", 6);
+        passwordEncoder = securityTools.getPasswordEncoder();
+
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        passwordHashingService = new PasswordHashingService(passwordEncoder, executor);
+        ReflectionTestUtils.setField(passwordHashingService, "timeout", Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    public void shutdownExecutor() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void encodeAndMatches_withAlgorithmPrefix() {
+        var hash = passwordHashingService.encode(PASSWORD);
+
+        assertAll("Grouped assertions for encoded password",
+                () -> assertTrue(hash.startsWith("{bcrypt}")),
+                () -> assertTrue(passwordHashingService.matches(PASSWORD, hash)),
+                () -> assertFalse(passwordHashingService.matches("wrong_password", hash)),
+                () -> assertFalse(passwordHashingService.upgradeEncoding(hash)));
+    }
+
+    @Test
+    public void matches_legacyHashWithoutPrefix_needsUpgrade() {
+        var legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        assertAll("Grouped assertions for legacy hash",
+                () -> assertTrue(passwordHashingService.matches(PASSWORD, legacyHash)),
+                () -> assertTrue(passwordHashingService.upgradeEncoding(legacyHash)));
+    }
+
+    @Test
+    public void matches_lowerBcryptCost_needsUpgrade() {
+        var weakHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        assertTrue(passwordHashingService.upgradeEncoding(weakHash));
+    }
+
+    @Test
+    public void encode_queueIsFull() {
+        executor.submit(this::awaitRelease);
+        executor.submit(this::awaitRelease);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordHashingService.encode(PASSWORD));
+    }
+
+    @Test
+    public void encode_timeoutExceeded() {
+        executor.submit(this::awaitRelease);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordHashingService.encode(PASSWORD));
+    }
+
+    private boolean awaitRelease() throws InterruptedException {
+        return release.await(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,105 @@
+package ru.mudan.services.unit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mudan.domain.entity.PasswordSetupToken;
+import ru.mudan.domain.repositories.PasswordSetupTokenRepository;
+import ru.mudan.exceptions.PasswordSetupTokenInvalidException;
+import ru.mudan.services.auth.MyUserDetailsService;
+import ru.mudan.services.auth.PasswordHashingService;
+import ru.mudan.services.auth.PasswordSetupService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PasswordSetupServiceTest {
+
+    private static final String BASE_URL = "https://school.example";
+    private static final Duration TOKEN_TTL = Duration.ofHours(72);
+    private static final String EMAIL = "test@mail.ru";
+    private static final String PASSWORD = "password1";
+    private static final String HASHED_PASSWORD = "{bcrypt}hash";
+
+    private PasswordSetupTokenRepository passwordSetupTokenRepository;
+    private PasswordHashingService passwordHashingService;
+    private MyUserDetailsService myUserDetailsService;
+    private PasswordSetupService passwordSetupService;
+
+    @BeforeEach
+    public void createService() {
+        passwordSetupTokenRepository = mock(PasswordSetupTokenRepository.class);
+        passwordHashingService = mock(PasswordHashingService.class);
+        myUserDetailsService = mock(MyUserDetailsService.class);
+        passwordSetupService = new PasswordSetupService(passwordSetupTokenRepository, passwordHashingService,
+                myUserDetailsService, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(passwordSetupService, "baseUrl", BASE_URL);
+        ReflectionTestUtils.setField(passwordSetupService, "tokenTtl", TOKEN_TTL);
+        when(passwordHashingService.encode(PASSWORD)).thenReturn(HASHED_PASSWORD);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createSetupLinks_onlyTokenHashStored() {
+        var links = passwordSetupService.createSetupLinks(List.of(EMAIL, "other@mail.ru"));
+
+        ArgumentCaptor<List<PasswordSetupToken>> captor = ArgumentCaptor.forClass(List.class);
+        verify(passwordSetupTokenRepository).saveAll(captor.capture());
+        var stored = captor.getValue().getFirst();
+        var token = links.getFirst().substring((BASE_URL + "/set-password?token=").length());
+
+        assertAll("Grouped assertions for created links",
+                () -> assertEquals(2, links.size()),
+                () -> assertNotEquals(links.get(0), links.get(1)),
+                () -> assertTrue(links.getFirst().startsWith(BASE_URL + "/set-password?token=")),
+                () -> assertEquals(EMAIL, stored.getEmail()),
+                () -> assertEquals(64, stored.getTokenHash().length()),
+                () -> assertFalse(stored.getTokenHash().contains(token)),
+                () -> assertEquals(stored.getCreatedAt().plus(TOKEN_TTL), stored.getExpiresAt()));
+    }
+
+    @Test
+    public void setPassword_activeToken_passwordUpdatedAndTokenUsed() {
+        var setupToken = createToken(LocalDateTime.now().plusHours(1));
+        when(passwordSetupTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(setupToken));
+
+        passwordSetupService.setPassword("token", PASSWORD);
+
+        assertNotNull(setupToken.getUsedAt());
+        verify(myUserDetailsService).updatePassword(EMAIL, HASHED_PASSWORD);
+        verify(passwordSetupTokenRepository).save(setupToken);
+    }
+
+    @Test
+    public void setPassword_expiredToken_rejected() {
+        var setupToken = createToken(LocalDateTime.now().minusMinutes(1));
+        when(passwordSetupTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(setupToken));
+
+        assertThrows(PasswordSetupTokenInvalidException.class,
+                () -> passwordSetupService.setPassword("token", PASSWORD));
+        verify(myUserDetailsService, never()).updatePassword(any(), any());
+    }
+
+    @Test
+    public void setPassword_usedToken_rejected() {
+        var setupToken = createToken(LocalDateTime.now().plusHours(1));
+        setupToken.setUsedAt(LocalDateTime.now().minusMinutes(1));
+        when(passwordSetupTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(setupToken));
+
+        assertThrows(PasswordSetupTokenInvalidException.class,
+                () -> passwordSetupService.setPassword("token", PASSWORD));
+        verify(myUserDetailsService, never()).updatePassword(any(), any());
+    }
+
+    private PasswordSetupToken createToken(LocalDateTime expiresAt) {
+        return new PasswordSetupToken(EMAIL, "a".repeat(64), expiresAt.minus(TOKEN_TTL), expiresAt);
+    }
+}
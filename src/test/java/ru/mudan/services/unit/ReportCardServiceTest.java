@@ -0,0 +1,168 @@
+package ru.mudan.services.unit;
+
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipInputStream;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.entity.Grade;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.repositories.ClassRepository;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.StudentRepository;
+import ru.mudan.dto.reports.ReportCardBatchDTO;
+import ru.mudan.facade.classes.ClassFacade;
+import ru.mudan.services.reports.ReportCardRenderer;
+import ru.mudan.services.reports.ReportCardService;
+import ru.mudan.util.SchoolTerm;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static ru.mudan.UtilConstants.getDefaultClassDTO;
+
+public class ReportCardServiceTest {
+
+    private static final int WINDOW = 2;
+    private static final SchoolTerm TERM = SchoolTerm.of(LocalDate.of(2025, 10, 15));
+
+    private GradeRepository gradeRepository;
+    private StudentRepository studentRepository;
+    private EntityManager entityManager;
+    private ExecutorService executor;
+    private ReportCardService reportCardService;
+    private Subject math;
+    private Subject physics;
+
+    @BeforeEach
+    public void createService() {
+        gradeRepository = mock(GradeRepository.class);
+        studentRepository = mock(StudentRepository.class);
+        entityManager = mock(EntityManager.class);
+        executor = Executors.newFixedThreadPool(WINDOW);
+        var classRepository = mock(ClassRepository.class);
+
+        math = subject("Математика");
+        physics = subject("Физика");
+        var classEntity = new ClassEntity();
+        classEntity.setSubjects(List.of(physics, math));
+        when(classRepository.findById(1L)).thenReturn(Optional.of(classEntity));
+
+        reportCardService = new ReportCardService(gradeRepository, classRepository, studentRepository,
+                mock(ClassFacade.class), new ReportCardRenderer(), executor, entityManager);
+        ReflectionTestUtils.setField(reportCardService, "window", WINDOW);
+    }
+
+    @AfterEach
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void writeReportCards_pdfForEveryStudentInArchive() throws IOException {
+        var ivanov = student(1L, "Иван", "Иванов");
+        var petrov = student(2L, "Пётр", "Петров");
+        var sidorova = student(4L, "Анна", "Сидорова");
+        var movedStudent = student(3L, "Олег", "Орлов");
+        when(studentRepository.findAllByClassEntity(any())).thenReturn(List.of(sidorova, petrov, ivanov));
+        var grades = List.of(
+                grade(ivanov, math, 5),
+                grade(ivanov, math, 4),
+                grade(ivanov, physics, 3),
+                grade(petrov, physics, 5),
+                grade(movedStudent, math, 2),
+                grade(sidorova, math, 4));
+        when(gradeRepository.streamAllForClass(eq(1L), eq(TERM.start()), eq(TERM.end())))
+                .thenReturn(grades.stream());
+
+        var out = new ByteArrayOutputStream();
+        var written = reportCardService.writeReportCards(batch(), out);
+
+        var files = unzip(out.toByteArray());
+        assertEquals(3, written);
+        assertEquals(List.of("Иванов Иван (1).pdf", "Петров Пётр (2).pdf", "Сидорова Анна (4).pdf"),
+                new ArrayList<>(files.keySet()));
+
+        var ivanovCard = text(files.get("Иванов Иван (1).pdf"));
+        assertAll("Grouped assertions for report card",
+                () -> assertTrue(ivanovCard.contains("Иванов Иван")),
+                () -> assertTrue(ivanovCard.contains("6А")),
+                () -> assertTrue(ivanovCard.contains("1 четверть")),
+                () -> assertTrue(ivanovCard.contains("Математика 5 4 4.50 5")),
+                () -> assertTrue(ivanovCard.contains("Физика 3 3.00 3")));
+        assertTrue(text(files.get("Сидорова Анна (4).pdf")).contains("Физика — — —"));
+        verify(entityManager, times(grades.size())).detach(any());
+    }
+
+    @Test
+    public void writeReportCards_emptyClass() throws IOException {
+        when(studentRepository.findAllByClassEntity(any())).thenReturn(List.of());
+        when(gradeRepository.streamAllForClass(any(), any(), any())).thenReturn(List.<Grade>of().stream());
+
+        var out = new ByteArrayOutputStream();
+
+        assertEquals(0, reportCardService.writeReportCards(batch(), out));
+        assertTrue(unzip(out.toByteArray()).isEmpty());
+    }
+
+    private static ReportCardBatchDTO batch() {
+        return ReportCardBatchDTO.builder()
+                .classDTO(getDefaultClassDTO())
+                .term(TERM)
+                .build();
+    }
+
+    private static Map<String, byte[]> unzip(byte[] archive) throws IOException {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                files.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        return files;
+    }
+
+    private static String text(byte[] pdf) throws IOException {
+        try (var document = Loader.loadPDF(pdf)) {
+            return new PDFTextStripper().getText(document).replaceAll("\\s+", " ");
+        }
+    }
+
+    private static Subject subject(String name) {
+        var subject = new Subject();
+        subject.setName(name);
+        return subject;
+    }
+
+    private static Student student(Long id, String firstname, String lastname) {
+        var student = new Student();
+        student.setId(id);
+        student.setFirstname(firstname);
+        student.setLastname(lastname);
+        return student;
+    }
+
+    private static Grade grade(Student student, Subject subject, int mark) {
+        var grade = new Grade(mark, TERM.start(), null);
+        grade.setStudent(student);
+        grade.setSubject(subject);
+        return grade;
+    }
+}
@@ -0,0 +1,154 @@
+package ru.mudan.services.unit;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.entity.Schedule;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.entity.users.Teacher;
+import ru.mudan.domain.repositories.ScheduleRepository;
+import ru.mudan.dto.schedule.ScheduleConflictDTO;
+import ru.mudan.dto.schedule.ScheduleSlotDTO;
+import ru.mudan.exceptions.ScheduleConflictException;
+import ru.mudan.services.schedule.ScheduleConflictDetector;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ScheduleConflictDetectorTest {
+
+    private static final LocalTime EIGHT = LocalTime.of(8, 0);
+
+    private ScheduleRepository scheduleRepository;
+    private ScheduleConflictDetector scheduleConflictDetector;
+
+    @BeforeEach
+    public void createDetector() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        var messageSource = mock(MessageSource.class);
+        when(messageSource.getMessage(any(), any(), any())).thenReturn("conflict");
+
+        scheduleConflictDetector = new ScheduleConflictDetector(scheduleRepository, messageSource);
+        ReflectionTestUtils.setField(scheduleConflictDetector, "lessonDuration", Duration.ofMinutes(45));
+    }
+
+    @Test
+    public void reserve_sameClassroomOverlapping_throws() {
+        when(scheduleRepository.findSlotsOnDay(1)).thenReturn(List.of(slot(1L, EIGHT, 10, 1L, 1L)));
+
+        var exception = assertThrows(ScheduleConflictException.class,
+                () -> scheduleConflictDetector.reserve(schedule(2L, EIGHT.plusMinutes(30), 10, 2L, 2L)));
+
+        assertEquals("schedule.conflict.classroom", exception.getMessage());
+    }
+
+    @Test
+    public void reserve_sameTeacherOverlapping_throws() {
+        when(scheduleRepository.findSlotsOnDay(1)).thenReturn(List.of(slot(1L, EIGHT, 10, 1L, 1L)));
+
+        var exception = assertThrows(ScheduleConflictException.class,
+                () -> scheduleConflictDetector.reserve(schedule(2L, EIGHT.minusMinutes(44), 11, 2L, 1L)));
+
+        assertEquals("schedule.conflict.teacher", exception.getMessage());
+    }
+
+    @Test
+    public void reserve_sameClassOverlapping_throws() {
+        when(scheduleRepository.findSlotsOnDay(1)).thenReturn(List.of(slot(1L, EIGHT, 10, 1L, 1L)));
+
+        var exception = assertThrows(ScheduleConflictException.class,
+                () -> scheduleConflictDetector.reserve(schedule(2L, EIGHT, 11, 1L, 2L)));
+
+        assertEquals("schedule.conflict.class", exception.getMessage());
+    }
+
+    @Test
+    public void reserve_adjacentLessonsAndOtherDay_reserved() {
+        when(scheduleRepository.findSlotsOnDay(1)).thenReturn(List.of(slot(1L, EIGHT, 10, 1L, 1L)));
+
+        assertDoesNotThrow(() -> scheduleConflictDetector.reserve(schedule(2L, EIGHT.plusMinutes(45), 10, 1L, 1L)));
+        assertDoesNotThrow(() -> scheduleConflictDetector.reserve(schedule(3L, EIGHT.minusMinutes(45), 10, 1L, 1L)));
+
+        var otherDay = schedule(4L, EIGHT, 10, 1L, 1L);
+        otherDay.setDayOfWeek(2);
+        assertDoesNotThrow(() -> scheduleConflictDetector.reserve(otherDay));
+        verify(scheduleRepository).findSlotsOnDay(2);
+        verify(scheduleRepository, never()).findAllSlots();
+    }
+
+    @Test
+    public void reserve_dayLockedBeforeSlotsLoaded() {
+        when(scheduleRepository.findSlotsOnDay(1)).thenReturn(List.of());
+
+        scheduleConflictDetector.reserve(schedule(1L, EIGHT, 10, 1L, 1L));
+
+        var inOrder = inOrder(scheduleRepository);
+        inOrder.verify(scheduleRepository).lockDayOfWeek(1);
+        inOrder.verify(scheduleRepository).findSlotsOnDay(1);
+    }
+
+    @Test
+    public void reserve_updatedScheduleDoesNotConflictWithItself() {
+        when(scheduleRepository.findSlotsOnDay(1)).thenReturn(List.of(slot(1L, EIGHT, 10, 1L, 1L)));
+
+        assertDoesNotThrow(() -> scheduleConflictDetector.reserve(schedule(1L, EIGHT.plusMinutes(10), 10, 1L, 1L)));
+    }
+
+    @Test
+    public void reserve_slotsReloadedOnEachCheck() {
+        when(scheduleRepository.findSlotsOnDay(1))
+                .thenReturn(List.of(slot(1L, EIGHT, 10, 1L, 1L)))
+                .thenReturn(List.of());
+
+        assertThrows(ScheduleConflictException.class,
+                () -> scheduleConflictDetector.reserve(schedule(2L, EIGHT, 10, 2L, 2L)));
+        assertDoesNotThrow(() -> scheduleConflictDetector.reserve(schedule(2L, EIGHT, 10, 2L, 2L)));
+    }
+
+    @Test
+    public void validateAll_reportsEachConflictOnce() {
+        when(scheduleRepository.findAllSlots()).thenReturn(List.of(
+                slot(3L, EIGHT.plusMinutes(20), 10, 3L, 3L),
+                slot(1L, EIGHT, 10, 1L, 1L),
+                slot(2L, EIGHT, 11, 2L, 1L),
+                slot(4L, EIGHT.plusMinutes(45), 10, 1L, 1L)));
+
+        var conflicts = scheduleConflictDetector.validateAll();
+
+        assertAll("Grouped assertions for timetable conflicts",
+                () -> assertEquals(3, conflicts.size()),
+                () -> assertTrue(conflicts.stream().anyMatch(conflict -> conflict.type().equals("TEACHER")
+                        && conflict.scheduleId() == 2L && conflict.conflictingScheduleId() == 1L)),
+                () -> assertEquals(List.of(1L), conflicts.stream()
+                        .filter(conflict -> conflict.scheduleId() == 3L)
+                        .map(ScheduleConflictDTO::conflictingScheduleId)
+                        .toList()),
+                () -> assertTrue(conflicts.stream().anyMatch(conflict -> conflict.scheduleId() == 4L
+                        && conflict.conflictingScheduleId() == 3L)));
+    }
+
+    private static ScheduleSlotDTO slot(Long id, LocalTime startTime, Integer classroom, Long classId, Long teacherId) {
+        return new ScheduleSlotDTO(id, 1, startTime, classroom, classId, teacherId);
+    }
+
+    private static Schedule schedule(Long id, LocalTime startTime, Integer classroom, Long classId, Long teacherId) {
+        var classEntity = new ClassEntity();
+        classEntity.setId(classId);
+        var teacher = new Teacher();
+        teacher.setId(teacherId);
+        var subject = new Subject();
+        subject.setTeacher(teacher);
+
+        var schedule = new Schedule(1, startTime, classroom);
+        schedule.setId(id);
+        schedule.setClassEntity(classEntity);
+        schedule.setSubject(subject);
+        return schedule;
+    }
+}
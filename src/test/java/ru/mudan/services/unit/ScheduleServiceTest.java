@@ -0,0 +1,92 @@
+package ru.mudan.services.unit;
+
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mudan.domain.entity.ClassEntity;
+import ru.mudan.domain.entity.Schedule;
+import ru.mudan.domain.entity.Subject;
+import ru.mudan.domain.repositories.ClassRepository;
+import ru.mudan.domain.repositories.ScheduleRepository;
+import ru.mudan.domain.repositories.SubjectsRepository;
+import ru.mudan.dto.schedule.TimetableGenerateDTO;
+import ru.mudan.facade.schedule.ScheduleFacade;
+import ru.mudan.services.schedule.ScheduleConflictDetector;
+import ru.mudan.services.schedule.ScheduleService;
+import ru.mudan.services.schedule.TimetableCache;
+import ru.mudan.services.schedule.TimetableGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ScheduleServiceTest {
+
+    private static final TimetableGenerateDTO REQUEST = new TimetableGenerateDTO(LocalTime.of(8, 30), 6, 10, 1, 5);
+
+    private ScheduleRepository scheduleRepository;
+    private SubjectsRepository subjectsRepository;
+    private TimetableGenerator timetableGenerator;
+    private PlatformTransactionManager transactionManager;
+    private ScheduleService scheduleService;
+
+    @BeforeEach
+    public void createService() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        subjectsRepository = mock(SubjectsRepository.class);
+        timetableGenerator = mock(TimetableGenerator.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        scheduleService = new ScheduleService(scheduleRepository, mock(ClassRepository.class), subjectsRepository,
+                mock(ScheduleFacade.class), mock(TimetableCache.class), mock(ScheduleConflictDetector.class),
+                timetableGenerator, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    public void generateTimetable_solvedBetweenReadAndWriteTransactions() {
+        var classEntity = new ClassEntity();
+        classEntity.setId(1L);
+        var subject = new Subject();
+        subject.setId(1L);
+        subject.setClassEntity(classEntity);
+        var schedule = new Schedule(1, LocalTime.of(8, 30), 1);
+        schedule.setSubject(subject);
+        schedule.setClassEntity(classEntity);
+        when(subjectsRepository.findAllForTimetableGeneration()).thenReturn(List.of(subject));
+        when(timetableGenerator.generate(List.of(subject), REQUEST)).thenReturn(List.of(schedule));
+
+        var report = scheduleService.generateTimetable(REQUEST);
+
+        var definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        InOrder inOrder = inOrder(transactionManager, subjectsRepository, timetableGenerator, scheduleRepository);
+        inOrder.verify(transactionManager).getTransaction(definitions.capture());
+        inOrder.verify(subjectsRepository).findAllForTimetableGeneration();
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(timetableGenerator).generate(List.of(subject), REQUEST);
+        inOrder.verify(transactionManager).getTransaction(definitions.capture());
+        inOrder.verify(scheduleRepository).deleteAllInBatch();
+        inOrder.verify(scheduleRepository).saveAll(List.of(schedule));
+        inOrder.verify(transactionManager).commit(any());
+
+        assertAll("Grouped assertions for generation transactions",
+                () -> assertTrue(definitions.getAllValues().getFirst().isReadOnly()),
+                () -> assertFalse(definitions.getAllValues().getLast().isReadOnly()),
+                () -> assertEquals(1, report.lessonCount()));
+    }
+
+    @Test
+    public void generateTimetable_infeasible_noWriteTransaction() {
+        when(subjectsRepository.findAllForTimetableGeneration()).thenReturn(List.of());
+        when(timetableGenerator.generate(anyList(), eq(REQUEST))).thenThrow(new IllegalStateException());
+
+        assertThrows(IllegalStateException.class, () -> scheduleService.generateTimetable(REQUEST));
+
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(scheduleRepository, never()).deleteAllInBatch();
+    }
+}
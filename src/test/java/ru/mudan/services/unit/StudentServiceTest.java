@@ -2,31 +2,42 @@ package ru.mudan.services.unit;
 
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import ru.mudan.ProjectNaumenApplication;
 import ru.mudan.domain.entity.users.Student;
+import ru.mudan.domain.repositories.StudentRepository;
 import ru.mudan.util.enums.Role;
 import ru.mudan.services.auth.MyUserDetailsService;
 import ru.mudan.services.students.StudentService;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @AutoConfigureMockMvc
-@SpringBootTest(classes = ProjectNaumenApplication.class)
+@SpringBootTest(classes = ProjectNaumenApplication.class, properties = "scheduling.enabled=false")
 public class StudentServiceTest {
 
     @MockBean
     private MyUserDetailsService myUserDetailsService;
+    @MockBean
+    private StudentRepository studentRepository;
     @Autowired
     private StudentService studentService;
 
@@ -57,4 +68,32 @@ public class StudentServiceTest {
                 () -> assertEquals(student.getPatronymic(), studentDTO.patronymic()),
                 () -> assertEquals(student.getEmail(), studentDTO.email()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findPage_notAllowedSort_replacedWithNameSort() {
+        var requested = PageRequest.of(2, 10, Sort.by("hashedPassword"));
+        when(studentRepository.search(anyString(), any())).thenReturn(Page.empty());
+
+        studentService.findPage(" Ив_% ", requested);
+
+        var captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(studentRepository).search(eq("%ив\\_\\%%"), captor.capture());
+
+        assertAll("Grouped assertions for search page",
+                () -> assertEquals(2, captor.getValue().getPageNumber()),
+                () -> assertEquals(10, captor.getValue().getPageSize()),
+                () -> assertEquals(Sort.by("lastname", "firstname", "id"), captor.getValue().getSort()));
+    }
+
+    @Test
+    public void findPage_shortQuery_prefixPattern() {
+        when(studentRepository.search(anyString(), any())).thenReturn(Page.empty());
+
+        studentService.findPage("Ив", PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "email")));
+
+        var captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(studentRepository).search(eq("ив%"), captor.capture());
+
+        assertEquals(Sort.by(Sort.Order.desc("email"), Sort.Order.asc("id")), captor.getValue().getSort());
+    }
+}
@@ -0,0 +1,116 @@
+package ru.mudan.services.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.mudan.domain.repositories.GradeRepository;
+import ru.mudan.domain.repositories.HomeworkRepository;
+import ru.mudan.domain.repositories.ScheduleRepository;
+import ru.mudan.domain.repositories.SubjectsRepository;
+import ru.mudan.dto.teacher.DashboardGradeDTO;
+import ru.mudan.dto.teacher.DashboardSubjectDTO;
+import ru.mudan.services.teachers.TeacherDashboardService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static ru.mudan.UtilConstants.getDefaultTeacherDTO;
+
+public class TeacherDashboardServiceTest {
+
+    private static final int HOMEWORKS_LIMIT = 10;
+    private static final int RECENT_GRADES_DAYS = 7;
+    private static final int RECENT_GRADES_LIMIT = 50;
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 10, 15);
+
+    private SubjectsRepository subjectsRepository;
+    private ScheduleRepository scheduleRepository;
+    private HomeworkRepository homeworkRepository;
+    private GradeRepository gradeRepository;
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void createMocks() {
+        subjectsRepository = mock(SubjectsRepository.class);
+        scheduleRepository = mock(ScheduleRepository.class);
+        homeworkRepository = mock(HomeworkRepository.class);
+        gradeRepository = mock(GradeRepository.class);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void buildDashboard_allPartsLoadedForTeacher() {
+        var teacher = getDefaultTeacherDTO();
+        var from = WEDNESDAY.minusDays(RECENT_GRADES_DAYS);
+        var math = new DashboardSubjectDTO(1L, "Математика", 6, "А", 25L, 2L, 3L);
+        var physics = new DashboardSubjectDTO(2L, "Физика", 7, "Б", 20L, 0L, 1L);
+        when(subjectsRepository.findDashboardSubjects(teacher.id(), WEDNESDAY, from)).thenReturn(List.of(math, physics));
+        when(gradeRepository.findRecentForTeacher(teacher.id(), from, PageRequest.of(0, RECENT_GRADES_LIMIT)))
+                .thenReturn(List.of(
+                        new DashboardGradeDTO(3L, 5, WEDNESDAY, 1L, "Иванов", "Иван"),
+                        new DashboardGradeDTO(2L, 4, WEDNESDAY, 2L, "Петров", "Пётр"),
+                        new DashboardGradeDTO(1L, 3, from, 1L, "Сидоров", "Олег")));
+
+        var dashboard = createService(Duration.ofSeconds(10)).buildDashboard(teacher, WEDNESDAY);
+
+        assertAll("Grouped assertions for teacher dashboard",
+                () -> assertEquals(teacher, dashboard.teacher()),
+                () -> assertEquals(List.of(math, physics), dashboard.subjects()),
+                () -> assertEquals(List.of(3L, 1L), dashboard.recentGrades().get(1L).stream()
+                        .map(DashboardGradeDTO::id)
+                        .toList()),
+                () -> assertEquals(1, dashboard.recentGrades().get(2L).size()),
+                () -> assertEquals(0, meterRegistry.counter("teacher.dashboard.over-budget").count()),
+                () -> assertEquals(1, meterRegistry.timer("teacher.dashboard.latency").count()));
+        verify(scheduleRepository).findTeacherLessonsOnDay(teacher.id(), 3);
+        verify(homeworkRepository).findPendingForTeacher(teacher.id(), WEDNESDAY, PageRequest.of(0, HOMEWORKS_LIMIT));
+    }
+
+    @Test
+    public void buildDashboard_queryFailed_exceptionRethrown() {
+        when(homeworkRepository.findPendingForTeacher(anyLong(), any(), any()))
+                .thenThrow(new IllegalStateException("Connection is not available"));
+
+        var service = createService(Duration.ofSeconds(10));
+
+        var exception = assertThrows(IllegalStateException.class,
+                () -> service.buildDashboard(getDefaultTeacherDTO(), WEDNESDAY));
+
+        assertAll("Grouped assertions for failed dashboard",
+                () -> assertEquals("Connection is not available", exception.getMessage()),
+                () -> assertEquals(1, meterRegistry.timer("teacher.dashboard.latency").count()));
+    }
+
+    @Test
+    public void buildDashboard_slowerThanBudget_overBudgetCounted() {
+        var service = createService(Duration.ofNanos(1));
+
+        service.buildDashboard(getDefaultTeacherDTO(), WEDNESDAY);
+
+        assertEquals(1, meterRegistry.counter("teacher.dashboard.over-budget").count());
+    }
+
+    private TeacherDashboardService createService(Duration latencyBudget) {
+        var service = new TeacherDashboardService(subjectsRepository, scheduleRepository, homeworkRepository,
+                gradeRepository, executor, latencyBudget, meterRegistry);
+        ReflectionTestUtils.setField(service, "homeworksLimit", HOMEWORKS_LIMIT);
+        ReflectionTestUtils.setField(service, "recentGradesDays", RECENT_GRADES_DAYS);
+        ReflectionTestUtils.setField(service, "recentGradesLimit", RECENT_GRADES_LIMIT);
+        return service;
+    }
+}
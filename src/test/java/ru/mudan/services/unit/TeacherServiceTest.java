@@ -22,7 +22,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 @AutoConfigureMockMvc
-@SpringBootTest(classes = ProjectNaumenApplication.class)
+@SpringBootTest(classes = ProjectNaumenApplication.class, properties = "scheduling.enabled=false")
 public class TeacherServiceTest {
 
     @MockBean
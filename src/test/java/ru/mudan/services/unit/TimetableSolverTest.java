@@ -0,0 +1,106 @@
+package ru.mudan.services.unit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import ru.mudan.services.schedule.generator.TimetableAssignment;
+import ru.mudan.services.schedule.generator.TimetableLesson;
+import ru.mudan.services.schedule.generator.TimetableProblem;
+import ru.mudan.services.schedule.generator.TimetableSolution;
+import ru.mudan.services.schedule.generator.TimetableSolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimetableSolverTest {
+
+    private static final Duration TIME_BUDGET = Duration.ofSeconds(5);
+    private static final int DAYS = 5;
+    private static final int PERIODS = 6;
+
+    private final TimetableSolver timetableSolver = new TimetableSolver(2);
+
+    @Test
+    public void solve_smallSchool_returnsTimetableWithoutConflicts() {
+        var problem = new TimetableProblem(school(8, 6, 4), DAYS, PERIODS, 8);
+
+        var solution = timetableSolver.solve(problem, TIME_BUDGET, 42L);
+
+        assertTrue(solution.isFeasible());
+        assertEquals(problem.lessons().size(), solution.assignments().size());
+        assertNoConflicts(solution);
+    }
+
+    @Test
+    public void solve_subjectHoursNotAboveDays_placesSubjectOncePerDay() {
+        var problem = new TimetableProblem(school(4, 6, 4), DAYS, PERIODS, 4);
+
+        var solution = timetableSolver.solve(problem, TIME_BUDGET, 7L);
+
+        assertTrue(solution.isFeasible());
+        assertEquals(0, solution.softViolations());
+    }
+
+    @Test
+    public void solve_notEnoughClassrooms_returnsInfeasibleTimetable() {
+        var problem = new TimetableProblem(school(3, 2, 1), 1, 2, 2);
+
+        var solution = timetableSolver.solve(problem, Duration.ofMillis(200), 1L);
+
+        assertFalse(solution.isFeasible());
+    }
+
+    @Test
+    public void solve_classHasMoreLessonsThanSlots_returnsInfeasibleTimetable() {
+        List<TimetableLesson> lessons = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            lessons.add(new TimetableLesson(1L, 1L, 1L));
+        }
+
+        var solution = timetableSolver.solve(new TimetableProblem(lessons, 1, 2, 10), Duration.ofMillis(200), 1L);
+
+        assertFalse(solution.isFeasible());
+    }
+
+    @Test
+    public void solve_noLessons_returnsEmptyTimetable() {
+        var solution = timetableSolver.solve(new TimetableProblem(List.of(), DAYS, PERIODS, 1), TIME_BUDGET, 1L);
+
+        assertTrue(solution.isFeasible());
+        assertTrue(solution.assignments().isEmpty());
+    }
+
+    /**
+     * Школа, в которой у каждого класса subjectsPerClass предметов по hoursPerSubject часов,
+     * учитель ведёт один и тот же предмет в двух соседних классах
+     */
+    private static List<TimetableLesson> school(int classCount, int subjectsPerClass, int hoursPerSubject) {
+        List<TimetableLesson> lessons = new ArrayList<>();
+
+        for (long classId = 1; classId <= classCount; classId++) {
+            for (long subject = 1; subject <= subjectsPerClass; subject++) {
+                var subjectId = classId * 100 + subject;
+                var teacherId = (classId - 1) / 2 * 100 + subject;
+                for (int hour = 0; hour < hoursPerSubject; hour++) {
+                    lessons.add(new TimetableLesson(subjectId, classId, teacherId));
+                }
+            }
+        }
+        return lessons;
+    }
+
+    private static void assertNoConflicts(TimetableSolution solution) {
+        Set<String> busy = new HashSet<>();
+
+        for (TimetableAssignment assignment : solution.assignments()) {
+            var slot = assignment.dayOfWeek() + ":" + assignment.period();
+            var lesson = assignment.lesson();
+
+            assertTrue(busy.add("class " + lesson.classId() + " " + slot));
+            assertTrue(busy.add("teacher " + lesson.teacherId() + " " + slot));
+            assertTrue(busy.add("room " + assignment.classroomNumber() + " " + slot));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ru.mudan.services.unit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import ru.mudan.exceptions.ImportFileInvalidException;
+import ru.mudan.services.users.UserImportReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserImportReaderTest {
+
+    private final UserImportReader userImportReader = new UserImportReader();
+
+    @Test
+    public void readCsv_quotedValuesAndSemicolonSeparator() {
+        var file = "﻿role;lastname;firstname;patronymic;email;password;class_id;parent_email\n"
+                + "STUDENT;\"Иванов;Петров\";Иван;Иванович;student@mail.ru;\"pass\"\"word\";1;\n"
+                + "\n"
+                + "PARENT;Иванов;Пётр;Петрович;parent@mail.ru;password;;\n";
+
+        var rows = userImportReader.read(toInputStream(file.getBytes(StandardCharsets.UTF_8)), "users.csv");
+
+        assertAll("Grouped assertions for csv rows",
+                () -> assertEquals(2, rows.size()),
+                () -> assertEquals(2, rows.getFirst().rowNumber()),
+                () -> assertEquals("Иванов;Петров", rows.getFirst().lastname()),
+                () -> assertEquals("pass\"word", rows.getFirst().password()),
+                () -> assertEquals("1", rows.getFirst().classId()),
+                () -> assertNull(rows.getFirst().parentEmail()),
+                () -> assertEquals(4, rows.getLast().rowNumber()),
+                () -> assertEquals("PARENT", rows.getLast().role()));
+    }
+
+    @Test
+    public void readCsv_commaSeparatorWithoutOptionalColumns() {
+        var file = "email,password,role,lastname,firstname,patronymic\n"
+                + "parent@mail.ru,password,PARENT,Иванов,Пётр,Петрович\n";
+
+        var row = userImportReader.read(toInputStream(file.getBytes(StandardCharsets.UTF_8)), "users.CSV")
+                .getFirst();
+
+        assertAll("Grouped assertions for csv row",
+                () -> assertEquals("parent@mail.ru", row.email()),
+                () -> assertEquals("Иванов", row.lastname()),
+                () -> assertNull(row.classId()));
+    }
+
+    @Test
+    public void readXlsx() throws IOException {
+        var file = createWorkbook(List.of(
+                List.of("role", "lastname", "firstname", "patronymic", "email", "password", "class_id"),
+                List.of("STUDENT", "Иванов", "Иван", "Иванович", "student@mail.ru", "password", "7")));
+
+        var rows = userImportReader.read(toInputStream(file), "users.xlsx");
+
+        assertAll("Grouped assertions for xlsx rows",
+                () -> assertEquals(1, rows.size()),
+                () -> assertEquals(2, rows.getFirst().rowNumber()),
+                () -> assertEquals("student@mail.ru", rows.getFirst().email()),
+                () -> assertEquals("7", rows.getFirst().classId()));
+    }
+
+    @Test
+    public void read_missingRequiredColumn() {
+        var file = "role;lastname;firstname;email;password\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(ImportFileInvalidException.class,
+                () -> userImportReader.read(toInputStream(file), "users.csv"));
+    }
+
+    @Test
+    public void read_unsupportedExtension() {
+        assertThrows(ImportFileInvalidException.class,
+                () -> userImportReader.read(toInputStream(new byte[0]), "users.txt"));
+    }
+
+    @Test
+    public void read_corruptedXlsx() {
+        var file = "not a workbook".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(ImportFileInvalidException.class,
+                () -> userImportReader.read(toInputStream(file), "users.xlsx"));
+    }
+
+    private static byte[] createWorkbook(List<List<String>> rows) throws IOException {
+        try (var workbook = new XSSFWorkbook(); var outputStream = new ByteArrayOutputStream()) {
+            var sheet = workbook.createSheet();
+            for (int i = 0; i < rows.size(); i++) {
+                var row = sheet.createRow(i);
+                for (int j = 0; j < rows.get(i).size(); j++) {
+                    row.createCell(j).setCellValue(rows.get(i).get(j));
+                }
+            }
+            workbook.write(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static ByteArrayInputStream toInputStream(byte[] content) {
+        return new ByteArrayInputStream(content);
+    }
+}